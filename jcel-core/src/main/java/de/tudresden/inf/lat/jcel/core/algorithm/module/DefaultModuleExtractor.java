@@ -47,6 +47,7 @@
 package de.tudresden.inf.lat.jcel.core.algorithm.module;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Optional;
@@ -55,21 +56,56 @@ import java.util.TreeSet;
 
 import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
 import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
 import de.tudresden.inf.lat.util.map.OptMap;
 import de.tudresden.inf.lat.util.map.OptMapImpl;
 
 /**
  * An object of this class is a module extractor, i.e. it can extract a subset
- * of axioms that are relevant to answer a query.
+ * of axioms that are relevant to answer a query. The extractor keeps an index
+ * of the axioms by the entities on their left-hand side, so that it can
+ * extract many modules from the same set of axioms. An axiom is indexed by its
+ * classes on the left-hand side, or by its object properties on the left-hand
+ * side if it has no classes there.
  * 
  * @author Julian Mendez
  */
 public class DefaultModuleExtractor {
 
+	private final Set<NormalizedIntegerAxiom> axiomsWithoutEntitiesOnTheLeft;
+	private final OptMap<Integer, Set<DefaultIdentifierCollector>> classMap;
+	private final OptMap<Integer, Set<DefaultIdentifierCollector>> objectPropertyMap;
+
 	/**
-	 * Constructs a new module extractor.
+	 * Constructs a new module extractor without axioms.
 	 */
 	public DefaultModuleExtractor() {
+		this(Collections.emptySet());
+	}
+
+	/**
+	 * Constructs a new module extractor for the given axioms.
+	 * 
+	 * @param setOfAxioms
+	 *            set of axioms
+	 */
+	public DefaultModuleExtractor(Collection<NormalizedIntegerAxiom> setOfAxioms) {
+		Set<DefaultIdentifierCollector> axioms = new HashSet<>();
+		setOfAxioms.forEach(axiom -> axioms.add(new DefaultIdentifierCollector(axiom)));
+
+		this.axiomsWithoutEntitiesOnTheLeft = getAxiomsWithoutEntitiesOnTheLeft(axioms);
+		this.classMap = buildMapOfAxioms(axioms);
+		this.objectPropertyMap = buildMapOfObjectPropertyAxioms(axioms);
+	}
+
+	private static void addToMap(OptMap<Integer, Set<DefaultIdentifierCollector>> map, Integer key,
+			DefaultIdentifierCollector axiom) {
+		Optional<Set<DefaultIdentifierCollector>> optValue = map.get(key);
+		if (!optValue.isPresent()) {
+			optValue = Optional.of(new HashSet<>());
+			map.put(key, optValue.get());
+		}
+		optValue.get().add(axiom);
 	}
 
 	/**
@@ -86,14 +122,30 @@ public class DefaultModuleExtractor {
 		OptMap<Integer, Set<DefaultIdentifierCollector>> map = new OptMapImpl<>(new HashMap<>());
 		normalizedAxioms.forEach(axiom -> {
 			Set<Integer> classesOnTheLeft = axiom.getClassesOnTheLeft();
-			classesOnTheLeft.forEach(classId -> {
-				Optional<Set<DefaultIdentifierCollector>> optValue = map.get(classId);
-				if (!optValue.isPresent()) {
-					optValue = Optional.of(new HashSet<>());
-					map.put(classId, optValue.get());
-				}
-				optValue.get().add(axiom);
-			});
+			classesOnTheLeft.forEach(classId -> addToMap(map, classId, axiom));
+		});
+		return map;
+	}
+
+	/**
+	 * Returns a map that relates an object property with the set of axioms
+	 * where this object property occurs on the left side of the axiom, and no
+	 * class occurs on the left side of the axiom
+	 * 
+	 * @param normalizedAxioms
+	 *            normalized axioms
+	 * @return a map that relates an object property with the set of axioms
+	 *         where this object property occurs on the left side of the axiom,
+	 *         and no class occurs on the left side of the axiom
+	 */
+	OptMap<Integer, Set<DefaultIdentifierCollector>> buildMapOfObjectPropertyAxioms(
+			Set<DefaultIdentifierCollector> normalizedAxioms) {
+		OptMap<Integer, Set<DefaultIdentifierCollector>> map = new OptMapImpl<>(new HashMap<>());
+		normalizedAxioms.forEach(axiom -> {
+			if (axiom.getClassesOnTheLeft().isEmpty()) {
+				Set<Integer> objectPropertiesOnTheLeft = axiom.getObjectPropertiesOnTheLeft();
+				objectPropertiesOnTheLeft.forEach(propertyId -> addToMap(map, propertyId, axiom));
+			}
 		});
 		return map;
 	}
@@ -140,32 +192,50 @@ public class DefaultModuleExtractor {
 	 * @return a module, i.e. a subset of axioms relevant to answer a query
 	 */
 	public Module extractModule(Collection<NormalizedIntegerAxiom> setOfAxioms, Set<Integer> setOfClasses) {
+		return new DefaultModuleExtractor(setOfAxioms).extractModule(setOfClasses);
+	}
 
-		Set<NormalizedIntegerAxiom> newAxioms = new HashSet<>();
-
-		Set<DefaultIdentifierCollector> axioms = new HashSet<>();
-		setOfAxioms.forEach(axiom -> axioms.add(new DefaultIdentifierCollector(axiom)));
-
-		newAxioms.addAll(getAxiomsWithoutEntitiesOnTheLeft(axioms));
+	/**
+	 * Returns a module of the axioms of this extractor, i.e. a subset of axioms
+	 * relevant to answer a query about the subsumers of the given classes. The
+	 * top class is always visited, since it subsumes every class.
+	 * 
+	 * @param setOfClasses
+	 *            set of classes
+	 * @return a module of the axioms of this extractor
+	 */
+	public Module extractModule(Set<Integer> setOfClasses) {
 
-		OptMap<Integer, Set<DefaultIdentifierCollector>> map = buildMapOfAxioms(axioms);
+		Set<NormalizedIntegerAxiom> newAxioms = new HashSet<>();
+		newAxioms.addAll(this.axiomsWithoutEntitiesOnTheLeft);
 
 		Set<Integer> visitedClasses = new TreeSet<>();
+		Set<Integer> visitedObjectProperties = new TreeSet<>();
 		Set<Integer> classesToVisit = new TreeSet<>();
+		Set<Integer> objectPropertiesToVisit = new TreeSet<>();
 		classesToVisit.addAll(setOfClasses);
-		int resultSize = -1;
-		while (newAxioms.size() > resultSize) {
-			resultSize = newAxioms.size();
+		classesToVisit.add(IntegerEntityManager.topClassId);
+		newAxioms.forEach(axiom -> {
+			classesToVisit.addAll(axiom.getClassesInSignature());
+			objectPropertiesToVisit.addAll(axiom.getObjectPropertiesInSignature());
+		});
 
-			Set<DefaultIdentifierCollector> axiomsToVisit = getAxiomsWithClassesOnTheLeft(classesToVisit, map);
+		while (!classesToVisit.isEmpty() || !objectPropertiesToVisit.isEmpty()) {
+			Set<DefaultIdentifierCollector> axiomsToVisit = new HashSet<>();
+			axiomsToVisit.addAll(getAxiomsWithClassesOnTheLeft(classesToVisit, this.classMap));
+			axiomsToVisit.addAll(getAxiomsWithClassesOnTheLeft(objectPropertiesToVisit, this.objectPropertyMap));
 			visitedClasses.addAll(classesToVisit);
+			visitedObjectProperties.addAll(objectPropertiesToVisit);
 			classesToVisit.clear();
+			objectPropertiesToVisit.clear();
 
 			axiomsToVisit.forEach(axiom -> {
 				classesToVisit.addAll(axiom.getClassesOnTheRight());
+				objectPropertiesToVisit.addAll(axiom.getObjectPropertiesOnTheRight());
 				newAxioms.add(axiom.getAxiom());
 			});
 			classesToVisit.removeAll(visitedClasses);
+			objectPropertiesToVisit.removeAll(visitedObjectProperties);
 		}
 
 		Set<Integer> entities = new TreeSet<>();
@@ -0,0 +1,185 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.rulebased;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import de.tudresden.inf.lat.jcel.core.completion.common.ClassifierStatus;
+import de.tudresden.inf.lat.jcel.core.graph.VNode;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.ExtendedOntology;
+
+/**
+ * An object of this class is a view of a classifier status whose ontology
+ * only has the axioms that are not in a base layer. The sets S and R are the
+ * ones of the underlying status. The completion rules are applied with this
+ * view to the entries copied from a saturated base layer, because the rule
+ * applications that only use axioms of the base layer were already done when
+ * the base layer was saturated.
+ * 
+ * @see SaturatedLayer
+ * 
+ * @author Julian Mendez
+ */
+class BaseLayerClassifierStatus implements ClassifierStatus {
+
+	private final ExtendedOntology deltaOntology;
+	private final ClassifierStatus status;
+
+	/**
+	 * Constructs a new view of a classifier status.
+	 * 
+	 * @param status
+	 *            classifier status
+	 * @param deltaOntology
+	 *            ontology with the axioms that are not in the base layer
+	 */
+	BaseLayerClassifierStatus(ClassifierStatus status, ExtendedOntology deltaOntology) {
+		Objects.requireNonNull(status);
+		Objects.requireNonNull(deltaOntology);
+		this.status = status;
+		this.deltaOntology = deltaOntology;
+	}
+
+	@Override
+	public boolean addNewREntry(int propertyId, int leftClassId, int rightClassId) {
+		return this.status.addNewREntry(propertyId, leftClassId, rightClassId);
+	}
+
+	@Override
+	public boolean addNewSEntry(int subClassId, int superClassId) {
+		return this.status.addNewSEntry(subClassId, superClassId);
+	}
+
+	@Override
+	public boolean contains(VNode node) {
+		return this.status.contains(node);
+	}
+
+	@Override
+	public int createOrGetNodeId(VNode node) {
+		return this.status.createOrGetNodeId(node);
+	}
+
+	@Override
+	public Object getClassGraphMonitor() {
+		return this.status.getClassGraphMonitor();
+	}
+
+	/**
+	 * Returns the ontology with the axioms that are not in the base layer.
+	 * 
+	 * @return the ontology with the axioms that are not in the base layer
+	 */
+	@Override
+	public ExtendedOntology getExtendedOntology() {
+		return this.deltaOntology;
+	}
+
+	@Override
+	public Collection<Integer> getFirstBySecond(int objectProperty, int rightClass) {
+		return this.status.getFirstBySecond(objectProperty, rightClass);
+	}
+
+	@Override
+	public int getInverseObjectPropertyOf(int propertyId) {
+		return this.status.getInverseObjectPropertyOf(propertyId);
+	}
+
+	@Override
+	public Optional<VNode> getNode(int nodeId) {
+		return this.status.getNode(nodeId);
+	}
+
+	@Override
+	public Collection<Integer> getObjectPropertiesByFirst(int className) {
+		return this.status.getObjectPropertiesByFirst(className);
+	}
+
+	@Override
+	public Collection<Integer> getObjectPropertiesBySecond(int className) {
+		return this.status.getObjectPropertiesBySecond(className);
+	}
+
+	@Override
+	public Set<Integer> getObjectPropertiesWithFunctionalAncestor(int objectProperty) {
+		return this.status.getObjectPropertiesWithFunctionalAncestor(objectProperty);
+	}
+
+	@Override
+	public Object getRelationSetMonitor() {
+		return this.status.getRelationSetMonitor();
+	}
+
+	@Override
+	public Collection<Integer> getSecondByFirst(int objectProperty, int leftClass) {
+		return this.status.getSecondByFirst(objectProperty, leftClass);
+	}
+
+	@Override
+	public Collection<Integer> getSubObjectProperties(int objectProperty) {
+		return this.status.getSubObjectProperties(objectProperty);
+	}
+
+	@Override
+	public Collection<Integer> getSubsumers(int subClass) {
+		return this.status.getSubsumers(subClass);
+	}
+
+	@Override
+	public Collection<Integer> getSuperObjectProperties(int objectProperty) {
+		return this.status.getSuperObjectProperties(objectProperty);
+	}
+
+	@Override
+	public int mergeFunctionalSuccessors(int functionalProperty, int classId, Collection<Integer> nodes) {
+		return this.status.mergeFunctionalSuccessors(functionalProperty, classId, nodes);
+	}
+
+}
@@ -49,21 +49,31 @@ package de.tudresden.inf.lat.jcel.core.algorithm.rulebased;
 import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.IntPredicate;
 
 import de.tudresden.inf.lat.jcel.core.completion.common.ClassifierStatus;
 import de.tudresden.inf.lat.jcel.core.completion.common.REntry;
 import de.tudresden.inf.lat.jcel.core.completion.common.SEntry;
+import de.tudresden.inf.lat.jcel.core.graph.CompactIntegerRelationMap;
+import de.tudresden.inf.lat.jcel.core.graph.CompactIntegerSubsumerGraph;
+import de.tudresden.inf.lat.jcel.core.graph.IntegerRelationMap;
+import de.tudresden.inf.lat.jcel.core.graph.IntegerRenumbering;
 import de.tudresden.inf.lat.jcel.core.graph.IntegerRelationMapImpl;
 import de.tudresden.inf.lat.jcel.core.graph.IntegerSubsumerBidirectionalGraphImpl;
+import de.tudresden.inf.lat.jcel.core.graph.IntegerSubsumerGraph;
 import de.tudresden.inf.lat.jcel.core.graph.IntegerSubsumerGraphImpl;
 import de.tudresden.inf.lat.jcel.core.graph.VNode;
 import de.tudresden.inf.lat.jcel.core.graph.VNodeImpl;
@@ -71,6 +81,7 @@ import de.tudresden.inf.lat.jcel.coreontology.axiom.ExtendedOntology;
 import de.tudresden.inf.lat.jcel.coreontology.axiom.RI2Axiom;
 import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
 import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerNamePool;
 import de.tudresden.inf.lat.util.map.OptMap;
 import de.tudresden.inf.lat.util.map.OptMapImpl;
 
@@ -81,6 +92,23 @@ import de.tudresden.inf.lat.util.map.OptMapImpl;
  */
 public class ClassifierStatusImpl implements ClassifierStatus {
 
+	/**
+	 * Successors of a class through sub-properties of a functional object
+	 * property that have already been merged, together with the node that
+	 * represents all of them.
+	 */
+	private static class MergedSuccessors {
+
+		private final Set<Integer> members = new HashSet<>();
+		private int representative;
+
+		MergedSuccessors(int representative) {
+			this.representative = representative;
+			this.members.add(representative);
+		}
+
+	}
+
 	private static final String COMMA_SEPARATOR = ",";
 
 	private static final int bottomClassId = IntegerEntityManager.bottomClassId;
@@ -88,11 +116,27 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 	private static final int topClassId = IntegerEntityManager.topClassId;
 	private static final int topObjectPropertyId = IntegerEntityManager.topObjectPropertyId;
 
+	private boolean bottomFilterActive = true;
 	private IntegerSubsumerGraphImpl classGraph = null;
 	private final OptMap<Integer, Set<Integer>> cognateFunctPropMap = new OptMapImpl<>(new HashMap<>());
+	private CompactIntegerSubsumerGraph compactClassGraph = null;
+	private CompactIntegerRelationMap compactRelationSet = null;
+	private boolean duplicateFilterActive = true;
 	private final ExtendedOntology extendedOntology;
+	private long filteredREntriesByBottom = 0;
+	private long filteredREntriesByR = 0;
+	private long filteredREntriesBySeen = 0;
+	private long filteredSEntriesByS = 0;
+	private long filteredSEntriesBySeen = 0;
 	private IntegerEntityManager entityManager = null;
+	private final IntPredicate indexedByFirst;
+	private final IntPredicate indexedBySecond;
 	private final OptMap<VNodeImpl, Integer> invNodeSet = new OptMapImpl<>(new HashMap<>());
+	private final OptMap<Integer, OptMap<Integer, MergedSuccessors>> mergedSuccessorMap = new OptMapImpl<>(
+			new HashMap<>());
+	private long mergedSuccessorNodes = 0;
+	private final OptMap<Integer, Set<MergedSuccessors>> mergedSuccessorsByMember = new OptMapImpl<>(
+			new HashMap<>());
 	private final Object monitorClassGraph = new Object();
 	private final Object monitorRelationSet = new Object();
 	private final Object monitorSetQsubR = new Object();
@@ -100,8 +144,10 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 	private final OptMap<Integer, VNodeImpl> nodeSet = new OptMapImpl<>(new HashMap<>());
 	private IntegerSubsumerBidirectionalGraphImpl objectPropertyGraph = null;
 	private IntegerRelationMapImpl relationSet = null;
-	private final Set<REntry> setQsubR = new TreeSet<>();
-	private final Set<SEntry> setQsubS = new TreeSet<>();
+	private final EntryScheduler scheduler;
+	private final SeenEntryCache seenREntries = new SeenEntryCache();
+	private final SeenEntryCache seenSEntries = new SeenEntryCache();
+	private boolean successorMergingActive = true;
 
 	/**
 	 * Constructs a new classifier status.
@@ -112,10 +158,53 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 	 *            extended ontology
 	 */
 	public ClassifierStatusImpl(IntegerEntityManager generator, ExtendedOntology ontology) {
+		this(generator, ontology, new EntrySchedulerImpl(SchedulingStrategy.SORTED, QueuePriority.LARGER_QUEUE, ontology));
+	}
+
+	/**
+	 * Constructs a new classifier status.
+	 * 
+	 * @param generator
+	 *            identifier generator
+	 * @param ontology
+	 *            extended ontology
+	 * @param scheduler
+	 *            scheduler of the entries to be processed
+	 */
+	public ClassifierStatusImpl(IntegerEntityManager generator, ExtendedOntology ontology, EntryScheduler scheduler) {
+		this(generator, ontology, scheduler, property -> true, property -> true);
+	}
+
+	/**
+	 * Constructs a new classifier status that indexes the pairs of each
+	 * object property in the set R only by the components given by the
+	 * predicates.
+	 * 
+	 * @param generator
+	 *            identifier generator
+	 * @param ontology
+	 *            extended ontology
+	 * @param scheduler
+	 *            scheduler of the entries to be processed
+	 * @param indexedByFirst
+	 *            tells whether the pairs of an object property are indexed by
+	 *            their first component
+	 * @param indexedBySecond
+	 *            tells whether the pairs of an object property are indexed by
+	 *            their second component
+	 */
+	public ClassifierStatusImpl(IntegerEntityManager generator, ExtendedOntology ontology, EntryScheduler scheduler,
+			IntPredicate indexedByFirst, IntPredicate indexedBySecond) {
 		Objects.requireNonNull(generator);
 		Objects.requireNonNull(ontology);
+		Objects.requireNonNull(scheduler);
+		Objects.requireNonNull(indexedByFirst);
+		Objects.requireNonNull(indexedBySecond);
 		this.entityManager = generator;
 		this.extendedOntology = ontology;
+		this.scheduler = scheduler;
+		this.indexedByFirst = indexedByFirst;
+		this.indexedBySecond = indexedBySecond;
 
 		createClassGraph();
 		createObjectPropertyGraph();
@@ -127,8 +216,23 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 	@Override
 	public boolean addNewREntry(int propertyId, int leftClassId, int rightClassId) {
 		boolean ret = false;
-		synchronized (this.monitorSetQsubR) {
-			ret = this.setQsubR.add(new REntryImpl(propertyId, leftClassId, rightClassId));
+		REntry entry = new REntryImpl(propertyId, leftClassId, rightClassId);
+		if (this.bottomFilterActive && isEquivalentToBottom(leftClassId)) {
+			synchronized (this.monitorSetQsubR) {
+				this.filteredREntriesByBottom++;
+			}
+		} else if (this.duplicateFilterActive && this.seenREntries.checkAndAdd(entry)) {
+			synchronized (this.monitorSetQsubR) {
+				this.filteredREntriesBySeen++;
+			}
+		} else if (this.duplicateFilterActive && containsR(propertyId, leftClassId, rightClassId)) {
+			synchronized (this.monitorSetQsubR) {
+				this.filteredREntriesByR++;
+			}
+		} else {
+			synchronized (this.monitorSetQsubR) {
+				ret = this.scheduler.addREntry(entry);
+			}
 		}
 		return ret;
 	}
@@ -136,8 +240,19 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 	@Override
 	public boolean addNewSEntry(int subClassId, int superClassId) {
 		boolean ret = false;
-		synchronized (this.monitorSetQsubS) {
-			ret = this.setQsubS.add(new SEntryImpl(subClassId, superClassId));
+		SEntry entry = new SEntryImpl(subClassId, superClassId);
+		if (this.duplicateFilterActive && this.seenSEntries.checkAndAdd(entry)) {
+			synchronized (this.monitorSetQsubS) {
+				this.filteredSEntriesBySeen++;
+			}
+		} else if (this.duplicateFilterActive && containsS(subClassId, superClassId)) {
+			synchronized (this.monitorSetQsubS) {
+				this.filteredSEntriesByS++;
+			}
+		} else {
+			synchronized (this.monitorSetQsubS) {
+				ret = this.scheduler.addSEntry(entry);
+			}
 		}
 		return ret;
 	}
@@ -162,6 +277,43 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 		return ret;
 	}
 
+	/**
+	 * Adds a new triplet to the set R, where the property is transitive, and
+	 * adds all the triplets needed to keep the relation of that property
+	 * transitively closed. This assumes that the relation was transitively
+	 * closed before, so every class reaching the left class and every class
+	 * reachable from the right class are found in one step.
+	 * 
+	 * @param property
+	 *            transitive property
+	 * @param leftClass
+	 *            left class
+	 * @param rightClass
+	 *            right class
+	 * @return the triplets that were effectively added
+	 */
+	public List<REntry> addToRWithTransitiveClosure(int property, int leftClass, int rightClass) {
+		List<REntry> ret = new ArrayList<>();
+		synchronized (this.monitorRelationSet) {
+			if (!this.relationSet.contains(property, leftClass, rightClass)) {
+				List<Integer> sources = new ArrayList<>();
+				sources.add(leftClass);
+				sources.addAll(this.relationSet.getBySecond(property, leftClass));
+				List<Integer> targets = new ArrayList<>();
+				targets.add(rightClass);
+				targets.addAll(this.relationSet.getByFirst(property, rightClass));
+				sources.forEach(source -> {
+					targets.forEach(target -> {
+						if (this.relationSet.add(property, source, target)) {
+							ret.add(new REntryImpl(property, source, target));
+						}
+					});
+				});
+			}
+		}
+		return ret;
+	}
+
 	/**
 	 * Adds a new pair to the set S.
 	 * 
@@ -177,6 +329,13 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 		synchronized (this.monitorClassGraph) {
 			ret = this.classGraph.addAncestor(subClass, superClass);
 		}
+		if (ret) {
+			this.mergedSuccessorsByMember.get(subClass).ifPresent(set -> set.forEach(merged -> {
+				if (merged.representative != subClass) {
+					addNewSEntry(merged.representative, superClass);
+				}
+			}));
+		}
 		return ret;
 	}
 
@@ -190,6 +349,100 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 		return ret;
 	}
 
+	/**
+	 * Tells whether the given triplet is in the set R.
+	 * 
+	 * @param property
+	 *            property
+	 * @param leftClass
+	 *            left class
+	 * @param rightClass
+	 *            right class
+	 * @return <code>true</code> if and only if the triplet is in the set R
+	 */
+	public boolean containsR(int property, int leftClass, int rightClass) {
+		boolean ret = false;
+		synchronized (this.monitorRelationSet) {
+			ret = getRelationMap().contains(property, leftClass, rightClass);
+		}
+		return ret;
+	}
+
+	/**
+	 * Tells whether the given pair is in the set S. If the subclass is
+	 * equivalent to bottom, the pair is considered to be in S, since adding
+	 * it would not have any effect.
+	 * 
+	 * @param subClass
+	 *            sub class
+	 * @param superClass
+	 *            super class
+	 * @return <code>true</code> if and only if the pair is in the set S
+	 */
+	public boolean containsS(int subClass, int superClass) {
+		boolean ret = false;
+		synchronized (this.monitorClassGraph) {
+			ret = getSubsumerGraph().containsPair(subClass, superClass);
+		}
+		return ret;
+	}
+
+	/**
+	 * Replaces the set S and the set R by immutable compact copies. This
+	 * should be done only after the saturation and after the last filtering of
+	 * these sets, since the completion rules cannot be applied anymore. The
+	 * compact copies are returned by {@link #getSubsumerGraph()} and
+	 * {@link #getRelationMap()}.
+	 */
+	public void compact() {
+		compact(new IntegerRenumbering());
+	}
+
+	private void compact(IntegerRenumbering renumbering) {
+		synchronized (this.monitorClassGraph) {
+			if (Objects.nonNull(this.classGraph)) {
+				this.compactClassGraph = new CompactIntegerSubsumerGraph(this.classGraph, renumbering);
+				this.classGraph = null;
+			}
+		}
+		synchronized (this.monitorRelationSet) {
+			if (Objects.nonNull(this.relationSet)) {
+				this.compactRelationSet = new CompactIntegerRelationMap(this.relationSet, renumbering);
+				this.relationSet = null;
+			}
+		}
+	}
+
+	/**
+	 * Replaces the set S and the set R by immutable compact copies, like
+	 * {@link #compact()}, but storing the classes with dense identifiers. The
+	 * dense identifiers are assigned first to the classes in the given order,
+	 * and then to the remaining classes of S and R in ascending order. Classes
+	 * that are close in the given order get close dense identifiers, which
+	 * makes the delta encoding of the rows shorter.
+	 * 
+	 * @param preferredOrder
+	 *            classes in the order their dense identifiers are assigned
+	 */
+	public void compact(List<Integer> preferredOrder) {
+		Objects.requireNonNull(preferredOrder);
+		List<Integer> order = new ArrayList<>(preferredOrder);
+		synchronized (this.monitorClassGraph) {
+			if (Objects.nonNull(this.classGraph)) {
+				order.addAll(new TreeSet<>(this.classGraph.getElements()));
+			}
+		}
+		synchronized (this.monitorRelationSet) {
+			if (Objects.nonNull(this.relationSet)) {
+				Set<Integer> elements = new TreeSet<>();
+				this.relationSet.getElements()
+						.forEach(relationId -> elements.addAll(this.relationSet.get(relationId).getElements()));
+				order.addAll(elements);
+			}
+		}
+		compact(new IntegerRenumbering(order));
+	}
+
 	private void createClassGraph() {
 		synchronized (this.monitorClassGraph) {
 			this.classGraph = new IntegerSubsumerGraphImpl(bottomClassId, topClassId);
@@ -259,7 +512,7 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 	private void createRelationSet() {
 		Collection<Integer> collection = getObjectPropertyGraph().getElements();
 		synchronized (this.monitorRelationSet) {
-			this.relationSet = new IntegerRelationMapImpl();
+			this.relationSet = new IntegerRelationMapImpl(this.indexedByFirst, this.indexedBySecond);
 			collection.forEach(index -> this.relationSet.add(index));
 		}
 	}
@@ -268,12 +521,41 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 		getExtendedOntology().getClassSet().forEach(classId -> createOrGetNodeId(new VNodeImpl(classId)));
 	}
 
+	/**
+	 * Stops filtering the R-entries whose left class is equivalent to bottom
+	 * before they are added to the queue. This is only used to compare the
+	 * classification with and without the filter.
+	 */
+	void deactivateBottomFilter() {
+		this.bottomFilterActive = false;
+	}
+
+	/**
+	 * Stops filtering the entries that were already seen, or that are already
+	 * in S or R, before they are added to the queues. This is only used to
+	 * compare the classification with and without the filter.
+	 */
+	void deactivateDuplicateFilter() {
+		this.duplicateFilterActive = false;
+	}
+
+	/**
+	 * Makes each merge of successors through a functional object property
+	 * create or get the node of the given successors, without extending the
+	 * node that represents the successors merged before. This is only used to
+	 * compare the classification with and without the representative nodes.
+	 */
+	void deactivateSuccessorMerging() {
+		this.successorMergingActive = false;
+	}
+
 	/**
 	 * Deletes the class graph.
 	 */
 	protected void deleteClassGraph() {
 		synchronized (this.monitorClassGraph) {
 			this.classGraph = null;
+			this.compactClassGraph = null;
 		}
 	}
 
@@ -285,9 +567,10 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 	}
 
 	/**
-	 * Returns the class graph.
+	 * Returns the class graph that is modified during the saturation. This is
+	 * <code>null</code> after {@link #compact()}.
 	 * 
-	 * @return the class graph
+	 * @return the class graph that is modified during the saturation
 	 */
 	protected IntegerSubsumerGraphImpl getClassGraph() {
 		return this.classGraph;
@@ -306,7 +589,7 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 	public long getDeepSizeOfR() {
 		long ret;
 		synchronized (this.monitorRelationSet) {
-			ret = this.relationSet.getDeepSize();
+			ret = isCompact() ? this.compactRelationSet.getDeepSize() : this.relationSet.getDeepSize();
 		}
 		return ret;
 	}
@@ -319,7 +602,7 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 	public long getDeepSizeOfS() {
 		long ret;
 		synchronized (this.monitorClassGraph) {
-			ret = this.classGraph.getDeepSize();
+			ret = isCompact() ? this.compactClassGraph.getDeepSize() : this.classGraph.getDeepSize();
 		}
 		return ret;
 	}
@@ -343,7 +626,104 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 	public Collection<Integer> getFirstBySecond(int propertyId, int classId) {
 		Collection<Integer> ret = new TreeSet<>();
 		synchronized (this.monitorRelationSet) {
-			ret.addAll(this.relationSet.getBySecond(propertyId, classId));
+			ret.addAll(getRelationMap().getBySecond(propertyId, classId));
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the classes that were found to be equivalent to the given class,
+	 * including the given class. The equivalent classes are only kept during
+	 * the saturation.
+	 * 
+	 * @param classId
+	 *            class
+	 * @return the classes that were found to be equivalent to the given class
+	 * @throws IllegalStateException
+	 *             if the set S has been replaced by its compact copy
+	 */
+	public List<Integer> getEquivalentClasses(int classId) {
+		List<Integer> ret = new ArrayList<>();
+		synchronized (this.monitorClassGraph) {
+			if (isCompact()) {
+				throw new IllegalStateException("The equivalent classes are not available after compaction.");
+			}
+			ret.addAll(this.classGraph.getEquivalentElements(classId));
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the number of R-entries that were not added to the queue because
+	 * their left class is equivalent to bottom.
+	 * 
+	 * @return the number of R-entries that were not added to the queue because
+	 *         their left class is equivalent to bottom
+	 */
+	public long getFilteredREntriesByBottom() {
+		long ret = 0;
+		synchronized (this.monitorSetQsubR) {
+			ret = this.filteredREntriesByBottom;
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the number of R-entries that were not added to the queue because
+	 * they were already in the set R.
+	 * 
+	 * @return the number of R-entries that were not added to the queue because
+	 *         they were already in the set R
+	 */
+	public long getFilteredREntriesByR() {
+		long ret = 0;
+		synchronized (this.monitorSetQsubR) {
+			ret = this.filteredREntriesByR;
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the number of R-entries that were not added to the queue because
+	 * they had already been added before.
+	 * 
+	 * @return the number of R-entries that were not added to the queue because
+	 *         they had already been added before
+	 */
+	public long getFilteredREntriesBySeen() {
+		long ret = 0;
+		synchronized (this.monitorSetQsubR) {
+			ret = this.filteredREntriesBySeen;
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the number of S-entries that were not added to the queue because
+	 * they were already in the set S.
+	 * 
+	 * @return the number of S-entries that were not added to the queue because
+	 *         they were already in the set S
+	 */
+	public long getFilteredSEntriesByS() {
+		long ret = 0;
+		synchronized (this.monitorSetQsubS) {
+			ret = this.filteredSEntriesByS;
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the number of S-entries that were not added to the queue because
+	 * they had already been added before.
+	 * 
+	 * @return the number of S-entries that were not added to the queue because
+	 *         they had already been added before
+	 */
+	public long getFilteredSEntriesBySeen() {
+		long ret = 0;
+		synchronized (this.monitorSetQsubS) {
+			ret = this.filteredSEntriesBySeen;
 		}
 		return ret;
 	}
@@ -362,6 +742,17 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 		return this.entityManager.createOrGetInverseObjectPropertyOf(propertyId);
 	}
 
+	/**
+	 * Returns the number of nodes that were created to merge successors
+	 * through functional object properties.
+	 * 
+	 * @return the number of nodes that were created to merge successors
+	 *         through functional object properties
+	 */
+	public long getMergedSuccessorNodes() {
+		return this.mergedSuccessorNodes;
+	}
+
 	@Override
 	public Optional<VNode> getNode(int nodeId) {
 		Optional<VNodeImpl> node = this.nodeSet.get(nodeId);
@@ -372,6 +763,14 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 		return ret;
 	}
 
+	private VNode getNodeOrFail(int nodeId) {
+		Optional<VNode> ret = getNode(nodeId);
+		if (!ret.isPresent()) {
+			throw new IllegalStateException("Node not found in internal structure '" + nodeId + "'.");
+		}
+		return ret.get();
+	}
+
 	/**
 	 * Returns the number of R-entries to be processed.
 	 * 
@@ -380,7 +779,7 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 	public int getNumberOfREntries() {
 		int ret = 0;
 		synchronized (this.monitorSetQsubR) {
-			ret = this.setQsubR.size();
+			ret = this.scheduler.getNumberOfREntries();
 		}
 		return ret;
 	}
@@ -394,7 +793,7 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 	public int getNumberOfSEntries() {
 		int ret = 0;
 		synchronized (this.monitorSetQsubS) {
-			ret = this.setQsubS.size();
+			ret = this.scheduler.getNumberOfSEntries();
 		}
 		return ret;
 	}
@@ -403,7 +802,7 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 	public Collection<Integer> getObjectPropertiesByFirst(int cA) {
 		Collection<Integer> ret = new TreeSet<>();
 		synchronized (this.monitorRelationSet) {
-			ret.addAll(this.relationSet.getRelationsByFirst(cA));
+			ret.addAll(getRelationMap().getRelationsByFirst(cA));
 		}
 		return ret;
 	}
@@ -412,7 +811,7 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 	public Collection<Integer> getObjectPropertiesBySecond(int cA) {
 		Collection<Integer> ret = new TreeSet<>();
 		synchronized (this.monitorRelationSet) {
-			ret.addAll(this.relationSet.getRelationsBySecond(cA));
+			ret.addAll(getRelationMap().getRelationsBySecond(cA));
 		}
 		return ret;
 	}
@@ -438,9 +837,20 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 	}
 
 	/**
-	 * Returns the set of relations.
+	 * Returns the set R, either as it is modified during the saturation or as
+	 * its compact copy after {@link #compact()}.
 	 * 
-	 * @return the set of relations
+	 * @return the set R
+	 */
+	protected IntegerRelationMap getRelationMap() {
+		return isCompact() ? this.compactRelationSet : this.relationSet;
+	}
+
+	/**
+	 * Returns the set of relations that is modified during the saturation.
+	 * This is <code>null</code> after {@link #compact()}.
+	 * 
+	 * @return the set of relations that is modified during the saturation
 	 */
 	protected IntegerRelationMapImpl getRelationSet() {
 		return this.relationSet;
@@ -451,11 +861,20 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 		return this.monitorRelationSet;
 	}
 
+	/**
+	 * Returns the scheduler of the entries to be processed.
+	 * 
+	 * @return the scheduler of the entries to be processed
+	 */
+	public EntryScheduler getScheduler() {
+		return this.scheduler;
+	}
+
 	@Override
 	public Collection<Integer> getSecondByFirst(int propertyId, int classId) {
 		Collection<Integer> ret = new TreeSet<>();
 		synchronized (this.monitorRelationSet) {
-			ret.addAll(this.relationSet.getByFirst(propertyId, classId));
+			ret.addAll(getRelationMap().getByFirst(propertyId, classId));
 		}
 		return ret;
 	}
@@ -474,11 +893,21 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 		return Collections.unmodifiableCollection(this.objectPropertyGraph.getSubsumees(objectProperty));
 	}
 
+	/**
+	 * Returns the set S, either as it is modified during the saturation or as
+	 * its compact copy after {@link #compact()}.
+	 * 
+	 * @return the set S
+	 */
+	protected IntegerSubsumerGraph getSubsumerGraph() {
+		return isCompact() ? this.compactClassGraph : this.classGraph;
+	}
+
 	@Override
 	public Collection<Integer> getSubsumers(int classId) {
 		Collection<Integer> ret = null;
 		synchronized (this.monitorClassGraph) {
-			ret = this.classGraph.getSubsumers(classId);
+			ret = getSubsumerGraph().getSubsumers(classId);
 		}
 		return ret;
 	}
@@ -488,6 +917,140 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 		return Collections.unmodifiableCollection(this.objectPropertyGraph.getSubsumers(objectProperty));
 	}
 
+	/**
+	 * Tells whether the set S and the set R have been replaced by their
+	 * compact copies.
+	 * 
+	 * @return <code>true</code> if and only if the set S and the set R have
+	 *         been replaced by their compact copies
+	 */
+	public boolean isCompact() {
+		return Objects.nonNull(this.compactClassGraph) || Objects.nonNull(this.compactRelationSet);
+	}
+
+	/**
+	 * Tells whether the given class is equivalent to bottom.
+	 * 
+	 * @param classId
+	 *            class
+	 * @return <code>true</code> if and only if the given class is equivalent
+	 *         to bottom
+	 */
+	public boolean isEquivalentToBottom(int classId) {
+		boolean ret = false;
+		synchronized (this.monitorClassGraph) {
+			ret = isCompact() ? this.compactClassGraph.isEquivalentToBottom(classId)
+					: this.classGraph.isEquivalentToBottom(classId);
+		}
+		return ret;
+	}
+
+	/**
+	 * Tells whether the next entry to be processed should be an S-entry.
+	 * 
+	 * @return <code>true</code> if the next entry to be processed should be
+	 *         an S-entry, <code>false</code> if it should be an R-entry
+	 */
+	public boolean isSEntryNext() {
+		boolean ret = false;
+		synchronized (this.monitorSetQsubS) {
+			synchronized (this.monitorSetQsubR) {
+				ret = this.scheduler.isSEntryNext();
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Makes two classes equivalent, so that they share the same set of
+	 * subsumers.
+	 * 
+	 * @param firstClass
+	 *            first class
+	 * @param secondClass
+	 *            second class
+	 * @return a map that assigns to each class the subsumers that it did not
+	 *         have before
+	 */
+	public OptMap<Integer, Set<Integer>> makeEquivalent(int firstClass, int secondClass) {
+		OptMap<Integer, Set<Integer>> ret = null;
+		synchronized (this.monitorClassGraph) {
+			ret = this.classGraph.makeEquivalent(firstClass, secondClass);
+		}
+		return ret;
+	}
+
+	@Override
+	public int mergeFunctionalSuccessors(int functionalProperty, int classId, Collection<Integer> nodes) {
+		Objects.requireNonNull(nodes);
+		if (nodes.isEmpty()) {
+			throw new IllegalArgumentException("No nodes to merge.");
+		}
+		int ret = 0;
+		if (this.successorMergingActive) {
+			ret = mergeIntoRepresentative(functionalProperty, classId, nodes);
+		} else {
+			ret = mergeIntoNewNode(nodes);
+		}
+		return ret;
+	}
+
+	private int mergeIntoNewNode(Collection<Integer> nodes) {
+		VNodeImpl newNode = new VNodeImpl(topClassId);
+		nodes.forEach(node -> newNode.addExistentialsOf(getNodeOrFail(node)));
+		boolean inV = contains(newNode);
+		int ret = createOrGetNodeId(newNode);
+		if (!inV) {
+			this.mergedSuccessorNodes++;
+		}
+		nodes.forEach(node -> getSubsumers(node).forEach(p -> addNewSEntry(ret, p)));
+		return ret;
+	}
+
+	private int mergeIntoRepresentative(int functionalProperty, int classId, Collection<Integer> nodes) {
+		Optional<OptMap<Integer, MergedSuccessors>> optMap = this.mergedSuccessorMap.get(classId);
+		if (!optMap.isPresent()) {
+			optMap = Optional.of(new OptMapImpl<>(new HashMap<>()));
+			this.mergedSuccessorMap.put(classId, optMap.get());
+		}
+		Optional<MergedSuccessors> optMerged = optMap.get().get(functionalProperty);
+		if (!optMerged.isPresent()) {
+			optMerged = Optional.of(new MergedSuccessors(nodes.iterator().next()));
+			optMap.get().put(functionalProperty, optMerged.get());
+			registerMergedMember(optMerged.get().representative, optMerged.get());
+		}
+		MergedSuccessors merged = optMerged.get();
+
+		List<Integer> newMembers = new ArrayList<>();
+		nodes.forEach(node -> {
+			if (!merged.members.contains(node)) {
+				newMembers.add(node);
+			}
+		});
+
+		if (!newMembers.isEmpty()) {
+			int representative = merged.representative;
+			VNodeImpl newNode = new VNodeImpl(topClassId);
+			newNode.addExistentialsOf(getNodeOrFail(representative));
+			newMembers.forEach(node -> newNode.addExistentialsOf(getNodeOrFail(node)));
+			boolean inV = contains(newNode);
+			int v = createOrGetNodeId(newNode);
+			if (!inV) {
+				this.mergedSuccessorNodes++;
+			}
+			if (v != representative) {
+				getSubsumers(representative).forEach(p -> addNewSEntry(v, p));
+			}
+			merged.members.addAll(newMembers);
+			merged.members.add(v);
+			merged.representative = v;
+			newMembers.forEach(node -> registerMergedMember(node, merged));
+			registerMergedMember(v, merged);
+		}
+		nodes.forEach(node -> getSubsumers(node).forEach(p -> addNewSEntry(merged.representative, p)));
+		return merged.representative;
+	}
+
 	private void makeTransitiveClosure(IntegerSubsumerBidirectionalGraphImpl graph) {
 		boolean hasChanged = true;
 		while (hasChanged) {
@@ -510,6 +1073,58 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 		}
 	}
 
+	/**
+	 * Makes equivalent to bottom all the classes that reach the given class
+	 * through the set R, and all the classes that were found to be equivalent
+	 * to any of them. The given class must already be equivalent to bottom.
+	 * The predecessors are found using the index of R by second component,
+	 * without adding entries to the queues.
+	 * 
+	 * @param classId
+	 *            class that is equivalent to bottom
+	 * @return the classes that became equivalent to bottom
+	 */
+	public List<Integer> propagateBottom(int classId) {
+		List<Integer> ret = new ArrayList<>();
+		Deque<Integer> toVisit = new ArrayDeque<>();
+		toVisit.add(classId);
+		while (!toVisit.isEmpty()) {
+			int current = toVisit.removeFirst();
+			Set<Integer> predecessors = new TreeSet<>();
+			predecessors.addAll(getEquivalentClasses(current));
+			synchronized (this.monitorRelationSet) {
+				this.relationSet.getRelationsBySecond(current).forEach(
+						property -> predecessors.addAll(this.relationSet.getBySecond(property, current)));
+			}
+			predecessors.forEach(predecessor -> {
+				if (addToS(predecessor, bottomClassId)) {
+					ret.add(predecessor);
+					toVisit.addLast(predecessor);
+				}
+			});
+		}
+		return ret;
+	}
+
+	/**
+	 * Records that the given node has been merged into the node that
+	 * represents the given successors, so that the subsumers that the node
+	 * gets afterwards are also added to the representative.
+	 * 
+	 * @param node
+	 *            merged node
+	 * @param merged
+	 *            merged successors
+	 */
+	private void registerMergedMember(int node, MergedSuccessors merged) {
+		Optional<Set<MergedSuccessors>> optSet = this.mergedSuccessorsByMember.get(node);
+		if (!optSet.isPresent()) {
+			optSet = Optional.of(new HashSet<>());
+			this.mergedSuccessorsByMember.put(node, optSet.get());
+		}
+		optSet.get().add(merged);
+	}
+
 	/**
 	 * Returns the next R-entry and removes it from the set to be processed.
 	 * 
@@ -521,12 +1136,7 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 	public REntry removeNextREntry() {
 		REntry ret = null;
 		synchronized (this.monitorSetQsubR) {
-			if (this.setQsubR.isEmpty()) {
-				throw new NoSuchElementException();
-			}
-
-			ret = this.setQsubR.iterator().next();
-			this.setQsubR.remove(ret);
+			ret = this.scheduler.removeNextREntry();
 		}
 		return ret;
 	}
@@ -541,25 +1151,21 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 	public SEntry removeNextSEntry() {
 		SEntry ret = null;
 		synchronized (this.monitorSetQsubS) {
-			if (this.setQsubS.isEmpty()) {
-				throw new NoSuchElementException();
-			}
-
-			ret = this.setQsubS.iterator().next();
-			this.setQsubS.remove(ret);
+			ret = this.scheduler.removeNextSEntry();
 		}
 		return ret;
 	}
 
 	public void outputSetS(Writer output) throws IOException {
 		BufferedWriter writer = new BufferedWriter(output);
-		Collection<Integer> concepts = this.classGraph.getElements();
+		IntegerSubsumerGraph graph = getSubsumerGraph();
+		Collection<Integer> concepts = graph.getElements();
 		for (Integer concept : concepts) {
-			Collection<Integer> subsumers = this.classGraph.getSubsumers(concept);
+			Collection<Integer> subsumers = graph.getSubsumers(concept);
 			for (Integer subsumer : subsumers) {
-				writer.write(this.entityManager.getName(concept));
+				writeName(writer, concept);
 				writer.write(COMMA_SEPARATOR);
-				writer.write(this.entityManager.getName(subsumer));
+				writeName(writer, subsumer);
 				writer.newLine();
 			}
 		}
@@ -568,22 +1174,46 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 
 	public void outputSetR(Writer output) throws IOException {
 		BufferedWriter writer = new BufferedWriter(output);
-		Collection<Integer> concepts = this.classGraph.getElements();
+		IntegerRelationMap relationMap = getRelationMap();
+		Collection<Integer> concepts = getSubsumerGraph().getElements();
 		for (Integer concept : concepts) {
-			Collection<Integer> relations = this.relationSet.getRelationsByFirst(concept);
+			Collection<Integer> relations = relationMap.getRelationsByFirst(concept);
 			for (Integer relation : relations) {
-				Collection<Integer> otherConcepts = this.relationSet.getByFirst(relation, concept);
+				Collection<Integer> otherConcepts = relationMap.getByFirst(relation, concept);
 				for (Integer otherConcept : otherConcepts) {
-					writer.write(this.entityManager.getName(concept));
-					writer.write(COMMA_SEPARATOR);
-					writer.write(this.entityManager.getName(relation));
-					writer.write(COMMA_SEPARATOR);
-					writer.write(this.entityManager.getName(otherConcept));
-					writer.newLine();
+					writeTriple(writer, relation, concept, otherConcept);
+				}
+			}
+		}
+		for (Integer relation : relationMap.getElements()) {
+			if (!isCompact() && !this.relationSet.isIndexedByFirst(relation)) {
+				for (Integer concept : concepts) {
+					Collection<Integer> otherConcepts = this.relationSet.getBySecond(relation, concept);
+					for (Integer otherConcept : otherConcepts) {
+						writeTriple(writer, relation, otherConcept, concept);
+					}
 				}
 			}
 		}
 		writer.flush();
 	}
 
+	private void writeName(BufferedWriter writer, int identifier) throws IOException {
+		IntegerNamePool namePool = this.entityManager.getNamePool();
+		if (namePool.contains(identifier)) {
+			namePool.writeName(identifier, writer);
+		} else {
+			writer.write(this.entityManager.getName(identifier));
+		}
+	}
+
+	private void writeTriple(BufferedWriter writer, int relation, int first, int second) throws IOException {
+		writeName(writer, first);
+		writer.write(COMMA_SEPARATOR);
+		writeName(writer, relation);
+		writer.write(COMMA_SEPARATOR);
+		writeName(writer, second);
+		writer.newLine();
+	}
+
 }
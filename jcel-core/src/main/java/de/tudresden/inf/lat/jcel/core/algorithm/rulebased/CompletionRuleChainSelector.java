@@ -47,8 +47,11 @@
 package de.tudresden.inf.lat.jcel.core.algorithm.rulebased;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.IntPredicate;
 
 import de.tudresden.inf.lat.jcel.core.completion.basic.CR1SRule;
 import de.tudresden.inf.lat.jcel.core.completion.basic.CR2SRule;
@@ -57,7 +60,6 @@ import de.tudresden.inf.lat.jcel.core.completion.basic.CR4RRule;
 import de.tudresden.inf.lat.jcel.core.completion.basic.CR4SRule;
 import de.tudresden.inf.lat.jcel.core.completion.basic.CR5RRule;
 import de.tudresden.inf.lat.jcel.core.completion.basic.CR6RRule;
-import de.tudresden.inf.lat.jcel.core.completion.basic.CR6RTrRule;
 import de.tudresden.inf.lat.jcel.core.completion.basic.CR7RRule;
 import de.tudresden.inf.lat.jcel.core.completion.basic.CR7SRule;
 import de.tudresden.inf.lat.jcel.core.completion.common.RObserverRule;
@@ -72,6 +74,7 @@ import de.tudresden.inf.lat.jcel.core.completion.ext.CR7RExtRule;
 import de.tudresden.inf.lat.jcel.core.completion.ext.CR8RExtRule;
 import de.tudresden.inf.lat.jcel.core.completion.ext.CR8SExtRule;
 import de.tudresden.inf.lat.jcel.core.completion.ext.CR9RExtRule;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.ExtendedOntology;
 import de.tudresden.inf.lat.jcel.coreontology.datatype.OntologyExpressivity;
 
 /**
@@ -83,9 +86,13 @@ import de.tudresden.inf.lat.jcel.coreontology.datatype.OntologyExpressivity;
  */
 public class CompletionRuleChainSelector {
 
+	private boolean bottomRulesActive = false;
 	private RChain chainR = new RChain(new ArrayList<>());
 	private SChain chainS = new SChain(new ArrayList<>());
 	private final OntologyExpressivity expressivity;
+	private boolean extendedRulesActive = false;
+	private boolean propertyChainRulesActive = false;
+	private boolean transitiveClosureActive = false;
 
 	/**
 	 * Constructs a new ontology preprocessor.
@@ -114,6 +121,7 @@ public class CompletionRuleChainSelector {
 	}
 
 	private void activateBottomRules() {
+		this.bottomRulesActive = true;
 		List<SObserverRule> listS = new ArrayList<>();
 		listS.addAll(this.chainS.getList());
 		listS.add(new CR7SRule());
@@ -126,6 +134,7 @@ public class CompletionRuleChainSelector {
 	}
 
 	private void activateExtendedRules() {
+		this.extendedRulesActive = true;
 		List<SObserverRule> listS = new ArrayList<>();
 		listS.addAll(this.chainS.getList());
 		listS.add(new CR1SRule());
@@ -163,6 +172,7 @@ public class CompletionRuleChainSelector {
 	}
 
 	private void activatePropertyChainRules() {
+		this.propertyChainRulesActive = true;
 		List<RObserverRule> listR = new ArrayList<>();
 		listR.addAll(this.chainR.getList());
 		listR.add(new CR6RRule());
@@ -186,10 +196,76 @@ public class CompletionRuleChainSelector {
 	}
 
 	private void activateTransitivePropertyRules() {
-		List<RObserverRule> listR = new ArrayList<>();
-		listR.addAll(this.chainR.getList());
-		listR.add(new CR6RTrRule());
-		this.chainR = new RChain(listR);
+		this.transitiveClosureActive = true;
+	}
+
+	/**
+	 * Returns a predicate that tells whether the set R has to index the pairs
+	 * of an object property by their first component. This is needed for the
+	 * object properties whose successors are read by the selected rules. The
+	 * extended rules read the successors of all the object properties through
+	 * the object property hierarchy, and so does the processing of nominals.
+	 * 
+	 * @param ontology
+	 *            extended ontology
+	 * @return a predicate that tells whether the set R has to index the pairs
+	 *         of an object property by their first component
+	 */
+	public IntPredicate getObjectPropertiesIndexedByFirst(ExtendedOntology ontology) {
+		Objects.requireNonNull(ontology);
+		IntPredicate ret = property -> true;
+		if (!this.extendedRulesActive && !getOntologyExpressivity().hasNominal()
+				&& !getOntologyExpressivity().hasIndividual()) {
+			Set<Integer> set = new HashSet<>();
+			if (this.propertyChainRulesActive) {
+				ontology.getObjectPropertySet().forEach(property -> {
+					ontology.getRI3AxiomsByLeft(property).forEach(axiom -> {
+						set.add(axiom.getRightSubProperty());
+						set.add(axiom.getSuperProperty());
+					});
+				});
+			}
+			if (this.transitiveClosureActive) {
+				set.addAll(ontology.getTransitiveObjectProperties());
+			}
+			ret = set::contains;
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns a predicate that tells whether the set R has to index the pairs
+	 * of an object property by their second component. This is needed for the
+	 * object properties whose predecessors are read by the selected rules. The
+	 * rules for bottom read the predecessors of all the object properties.
+	 * 
+	 * @param ontology
+	 *            extended ontology
+	 * @return a predicate that tells whether the set R has to index the pairs
+	 *         of an object property by their second component
+	 */
+	public IntPredicate getObjectPropertiesIndexedBySecond(ExtendedOntology ontology) {
+		Objects.requireNonNull(ontology);
+		IntPredicate ret = property -> true;
+		if (!this.extendedRulesActive && !this.bottomRulesActive) {
+			Set<Integer> set = new HashSet<>();
+			ontology.getObjectPropertySet().forEach(property -> {
+				if (!ontology.getGCI3rAxioms(property).isEmpty()) {
+					set.add(property);
+				}
+				if (this.propertyChainRulesActive) {
+					ontology.getRI3AxiomsByLeft(property).forEach(axiom -> {
+						set.add(axiom.getLeftSubProperty());
+						set.add(axiom.getSuperProperty());
+					});
+				}
+			});
+			if (this.transitiveClosureActive) {
+				set.addAll(ontology.getTransitiveObjectProperties());
+			}
+			ret = set::contains;
+		}
+		return ret;
 	}
 
 	/**
@@ -219,4 +295,46 @@ public class CompletionRuleChainSelector {
 		return this.chainS;
 	}
 
+	/**
+	 * Tells whether the extended completion rules are used, i.e. the rules for
+	 * inverse and functional object properties.
+	 * 
+	 * @return <code>true</code> if and only if the extended completion rules
+	 *         are used
+	 */
+	public boolean isExtendedRulesActive() {
+		return this.extendedRulesActive;
+	}
+
+	/**
+	 * Tells whether the processor has to keep the relations of transitive
+	 * object properties transitively closed when adding them to the set R.
+	 * This replaces the rule CR6RTrRule, which composes the relations one at
+	 * a time through the queue of R-entries.
+	 * 
+	 * @return <code>true</code> if and only if the processor has to keep the
+	 *         relations of transitive object properties transitively closed
+	 */
+	public boolean isTransitiveClosureActive() {
+		return this.transitiveClosureActive;
+	}
+
+	/**
+	 * Tells whether this selector and the given one choose the same
+	 * completion rules, even if they were created for different
+	 * expressivities.
+	 * 
+	 * @param other
+	 *            other selector
+	 * @return <code>true</code> if and only if both selectors choose the same
+	 *         completion rules
+	 */
+	public boolean usesSameRules(CompletionRuleChainSelector other) {
+		Objects.requireNonNull(other);
+		return (this.bottomRulesActive == other.bottomRulesActive)
+				&& (this.extendedRulesActive == other.extendedRulesActive)
+				&& (this.propertyChainRulesActive == other.propertyChainRulesActive)
+				&& (this.transitiveClosureActive == other.transitiveClosureActive);
+	}
+
 }
@@ -0,0 +1,142 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.rulebased;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+import de.tudresden.inf.lat.jcel.core.completion.common.XEntry;
+import de.tudresden.inf.lat.util.map.OptMap;
+import de.tudresden.inf.lat.util.map.OptMapImpl;
+
+/**
+ * An object of this class is a queue of entries that groups the entries by
+ * context. The context of an entry is the class whose subsumers or successors
+ * are being derived. This queue keeps returning entries of the same context
+ * while there are any, including the ones added in the meantime. After that,
+ * it continues with the context that was pending for the longest time.
+ *
+ * @param <T>
+ *            type of entries
+ *
+ * @author Julian Mendez
+ */
+public class ContextAffineEntryQueue<T extends XEntry> implements EntryQueue<T> {
+
+	private final OptMap<Integer, Deque<T>> contextMap = new OptMapImpl<>(new LinkedHashMap<>());
+	private final ToIntFunction<T> contextFunction;
+	private int currentContext = 0;
+	private final Set<T> pending = new HashSet<>();
+
+	/**
+	 * Constructs a new context-affine entry queue.
+	 *
+	 * @param contextFunction
+	 *            function that returns the context of an entry
+	 */
+	public ContextAffineEntryQueue(ToIntFunction<T> contextFunction) {
+		Objects.requireNonNull(contextFunction);
+		this.contextFunction = contextFunction;
+	}
+
+	@Override
+	public boolean add(T entry) {
+		Objects.requireNonNull(entry);
+		boolean ret = this.pending.add(entry);
+		if (ret) {
+			int context = this.contextFunction.applyAsInt(entry);
+			Optional<Deque<T>> optDeque = this.contextMap.get(context);
+			if (!optDeque.isPresent()) {
+				optDeque = Optional.of(new ArrayDeque<>());
+				this.contextMap.put(context, optDeque.get());
+			}
+			optDeque.get().addLast(entry);
+		}
+		return ret;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.pending.isEmpty();
+	}
+
+	@Override
+	public T remove() {
+		if (this.pending.isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		Optional<Deque<T>> optDeque = this.contextMap.get(this.currentContext);
+		if (!optDeque.isPresent()) {
+			this.currentContext = this.contextMap.keySet().iterator().next();
+			optDeque = this.contextMap.get(this.currentContext);
+		}
+		T ret = optDeque.get().removeFirst();
+		if (optDeque.get().isEmpty()) {
+			this.contextMap.remove(this.currentContext);
+		}
+		this.pending.remove(ret);
+		return ret;
+	}
+
+	@Override
+	public int size() {
+		return this.pending.size();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName();
+	}
+
+}
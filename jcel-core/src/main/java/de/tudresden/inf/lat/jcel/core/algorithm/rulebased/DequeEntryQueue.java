@@ -0,0 +1,120 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.rulebased;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import de.tudresden.inf.lat.jcel.core.completion.common.XEntry;
+
+/**
+ * An object of this class is a queue of entries that returns the entries
+ * either in the order they were added (first in, first out) or in the reverse
+ * order (last in, first out).
+ *
+ * @param <T>
+ *            type of entries
+ *
+ * @author Julian Mendez
+ */
+public class DequeEntryQueue<T extends XEntry> implements EntryQueue<T> {
+
+	private final Deque<T> deque = new ArrayDeque<>();
+	private final boolean lastInFirstOut;
+	private final Set<T> pending = new HashSet<>();
+
+	/**
+	 * Constructs a new entry queue.
+	 *
+	 * @param lastInFirstOut
+	 *            <code>true</code> if the last added entry is returned first,
+	 *            <code>false</code> if the first added entry is returned first
+	 */
+	public DequeEntryQueue(boolean lastInFirstOut) {
+		this.lastInFirstOut = lastInFirstOut;
+	}
+
+	@Override
+	public boolean add(T entry) {
+		Objects.requireNonNull(entry);
+		boolean ret = this.pending.add(entry);
+		if (ret) {
+			this.deque.addLast(entry);
+		}
+		return ret;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.deque.isEmpty();
+	}
+
+	@Override
+	public T remove() {
+		if (this.deque.isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		T ret = this.lastInFirstOut ? this.deque.removeLast() : this.deque.removeFirst();
+		this.pending.remove(ret);
+		return ret;
+	}
+
+	@Override
+	public int size() {
+		return this.deque.size();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + (this.lastInFirstOut ? "(LIFO)" : "(FIFO)");
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.rulebased;
+
+import java.util.NoSuchElementException;
+
+import de.tudresden.inf.lat.jcel.core.completion.common.XEntry;
+
+/**
+ * An object implementing this interface is a queue of entries to be processed
+ * by the completion rules. The order in which the entries are returned depends
+ * on the implementation. An entry that is already in the queue is not added
+ * again.
+ *
+ * @param <T>
+ *            type of entries
+ *
+ * @author Julian Mendez
+ */
+public interface EntryQueue<T extends XEntry> {
+
+	/**
+	 * Adds an entry to this queue.
+	 *
+	 * @param entry
+	 *            entry
+	 * @return <code>true</code> if and only if the entry was added, i.e. it
+	 *         was not already in the queue
+	 */
+	boolean add(T entry);
+
+	/**
+	 * Tells whether this queue is empty.
+	 *
+	 * @return <code>true</code> if and only if this queue is empty
+	 */
+	boolean isEmpty();
+
+	/**
+	 * Returns the next entry and removes it from this queue.
+	 *
+	 * @return the next entry
+	 * @throws NoSuchElementException
+	 *             if this queue is empty
+	 */
+	T remove();
+
+	/**
+	 * Returns the number of entries in this queue.
+	 *
+	 * @return the number of entries in this queue
+	 */
+	int size();
+
+}
@@ -0,0 +1,187 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.rulebased;
+
+import java.util.NoSuchElementException;
+
+import de.tudresden.inf.lat.jcel.core.completion.common.REntry;
+import de.tudresden.inf.lat.jcel.core.completion.common.SEntry;
+
+/**
+ * An object implementing this interface decides the order in which S-entries
+ * and R-entries are processed by the completion rules. It also keeps metrics
+ * about the queues, which can be used to compare scheduling strategies.
+ *
+ * @author Julian Mendez
+ */
+public interface EntryScheduler {
+
+	/**
+	 * Adds an R-entry to be processed.
+	 *
+	 * @param entry
+	 *            R-entry
+	 * @return <code>true</code> if and only if the entry was added, i.e. it
+	 *         was not already waiting to be processed
+	 */
+	boolean addREntry(REntry entry);
+
+	/**
+	 * Adds an S-entry to be processed.
+	 *
+	 * @param entry
+	 *            S-entry
+	 * @return <code>true</code> if and only if the entry was added, i.e. it
+	 *         was not already waiting to be processed
+	 */
+	boolean addSEntry(SEntry entry);
+
+	/**
+	 * Returns the number of R-entries that were added to the queue.
+	 *
+	 * @return the number of R-entries that were added to the queue
+	 */
+	long getAddedREntries();
+
+	/**
+	 * Returns the number of S-entries that were added to the queue.
+	 *
+	 * @return the number of S-entries that were added to the queue
+	 */
+	long getAddedSEntries();
+
+	/**
+	 * Returns the number of R-entries waiting to be processed.
+	 *
+	 * @return the number of R-entries waiting to be processed
+	 */
+	int getNumberOfREntries();
+
+	/**
+	 * Returns the number of S-entries waiting to be processed.
+	 *
+	 * @return the number of S-entries waiting to be processed
+	 */
+	int getNumberOfSEntries();
+
+	/**
+	 * Returns the maximum number of R-entries that were waiting at the same
+	 * time.
+	 *
+	 * @return the maximum number of R-entries that were waiting at the same
+	 *         time
+	 */
+	int getPeakREntries();
+
+	/**
+	 * Returns the maximum number of S-entries that were waiting at the same
+	 * time.
+	 *
+	 * @return the maximum number of S-entries that were waiting at the same
+	 *         time
+	 */
+	int getPeakSEntries();
+
+	/**
+	 * Returns the policy used to choose between S-entries and R-entries.
+	 *
+	 * @return the policy used to choose between S-entries and R-entries
+	 */
+	QueuePriority getPriority();
+
+	/**
+	 * Returns the number of R-entries that were not added because they were
+	 * already waiting to be processed.
+	 *
+	 * @return the number of R-entries that were not added because they were
+	 *         already waiting to be processed
+	 */
+	long getRepeatedREntries();
+
+	/**
+	 * Returns the number of S-entries that were not added because they were
+	 * already waiting to be processed.
+	 *
+	 * @return the number of S-entries that were not added because they were
+	 *         already waiting to be processed
+	 */
+	long getRepeatedSEntries();
+
+	/**
+	 * Returns the strategy used to order the entries.
+	 *
+	 * @return the strategy used to order the entries
+	 */
+	SchedulingStrategy getStrategy();
+
+	/**
+	 * Tells whether the next entry to be processed should be an S-entry.
+	 *
+	 * @return <code>true</code> if the next entry to be processed should be
+	 *         an S-entry, <code>false</code> if it should be an R-entry
+	 */
+	boolean isSEntryNext();
+
+	/**
+	 * Returns the next R-entry and removes it from the queue.
+	 *
+	 * @return the next R-entry
+	 * @throws NoSuchElementException
+	 *             if there are no R-entries
+	 */
+	REntry removeNextREntry();
+
+	/**
+	 * Returns the next S-entry and removes it from the queue.
+	 *
+	 * @return the next S-entry
+	 * @throws NoSuchElementException
+	 *             if there are no S-entries
+	 */
+	SEntry removeNextSEntry();
+
+}
@@ -0,0 +1,234 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.rulebased;
+
+import java.util.Objects;
+
+import de.tudresden.inf.lat.jcel.core.completion.common.REntry;
+import de.tudresden.inf.lat.jcel.core.completion.common.SEntry;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.ExtendedOntology;
+import de.tudresden.inf.lat.util.map.OptMap;
+
+/**
+ * An object of this class keeps the queues of S-entries and R-entries, using a
+ * given scheduling strategy. This class is not thread-safe.
+ *
+ * @author Julian Mendez
+ */
+public class EntrySchedulerImpl implements EntryScheduler {
+
+	private long addedREntries = 0;
+	private long addedSEntries = 0;
+	private int peakREntries = 0;
+	private int peakSEntries = 0;
+	private final QueuePriority priority;
+	private final EntryQueue<REntry> queueR;
+	private final EntryQueue<SEntry> queueS;
+	private long repeatedREntries = 0;
+	private long repeatedSEntries = 0;
+	private final SchedulingStrategy strategy;
+
+	/**
+	 * Constructs a new entry scheduler.
+	 *
+	 * @param strategy
+	 *            strategy used to order the entries
+	 * @param priority
+	 *            policy used to choose between S-entries and R-entries
+	 * @param ontology
+	 *            extended ontology, used by the strategies that depend on the
+	 *            told class hierarchy
+	 */
+	public EntrySchedulerImpl(SchedulingStrategy strategy, QueuePriority priority, ExtendedOntology ontology) {
+		Objects.requireNonNull(strategy);
+		Objects.requireNonNull(priority);
+		Objects.requireNonNull(ontology);
+		this.strategy = strategy;
+		this.priority = priority;
+
+		if (strategy.equals(SchedulingStrategy.FIFO)) {
+			this.queueS = new DequeEntryQueue<>(false);
+			this.queueR = new DequeEntryQueue<>(false);
+
+		} else if (strategy.equals(SchedulingStrategy.LIFO)) {
+			this.queueS = new DequeEntryQueue<>(true);
+			this.queueR = new DequeEntryQueue<>(true);
+
+		} else if (strategy.equals(SchedulingStrategy.CONTEXT_AFFINE)) {
+			this.queueS = new ContextAffineEntryQueue<>(entry -> entry.getSubClass());
+			this.queueR = new ContextAffineEntryQueue<>(entry -> entry.getLeftClass());
+
+		} else if (strategy.equals(SchedulingStrategy.TOLD_HIERARCHY)) {
+			OptMap<Integer, Integer> rankMap = new ToldHierarchy(ontology).computeRank();
+			this.queueS = new RankedEntryQueue<>(entry -> entry.getSubClass(), rankMap);
+			this.queueR = new RankedEntryQueue<>(entry -> entry.getLeftClass(), rankMap);
+
+		} else {
+			this.queueS = new SortedEntryQueue<>();
+			this.queueR = new SortedEntryQueue<>();
+
+		}
+	}
+
+	@Override
+	public boolean addREntry(REntry entry) {
+		Objects.requireNonNull(entry);
+		boolean ret = this.queueR.add(entry);
+		if (ret) {
+			this.addedREntries++;
+			this.peakREntries = Math.max(this.peakREntries, this.queueR.size());
+		} else {
+			this.repeatedREntries++;
+		}
+		return ret;
+	}
+
+	@Override
+	public boolean addSEntry(SEntry entry) {
+		Objects.requireNonNull(entry);
+		boolean ret = this.queueS.add(entry);
+		if (ret) {
+			this.addedSEntries++;
+			this.peakSEntries = Math.max(this.peakSEntries, this.queueS.size());
+		} else {
+			this.repeatedSEntries++;
+		}
+		return ret;
+	}
+
+	@Override
+	public long getAddedREntries() {
+		return this.addedREntries;
+	}
+
+	@Override
+	public long getAddedSEntries() {
+		return this.addedSEntries;
+	}
+
+	@Override
+	public int getNumberOfREntries() {
+		return this.queueR.size();
+	}
+
+	@Override
+	public int getNumberOfSEntries() {
+		return this.queueS.size();
+	}
+
+	@Override
+	public int getPeakREntries() {
+		return this.peakREntries;
+	}
+
+	@Override
+	public int getPeakSEntries() {
+		return this.peakSEntries;
+	}
+
+	@Override
+	public QueuePriority getPriority() {
+		return this.priority;
+	}
+
+	@Override
+	public long getRepeatedREntries() {
+		return this.repeatedREntries;
+	}
+
+	@Override
+	public long getRepeatedSEntries() {
+		return this.repeatedSEntries;
+	}
+
+	@Override
+	public SchedulingStrategy getStrategy() {
+		return this.strategy;
+	}
+
+	@Override
+	public boolean isSEntryNext() {
+		boolean ret = false;
+		if (this.queueR.isEmpty()) {
+			ret = !this.queueS.isEmpty();
+		} else if (this.queueS.isEmpty()) {
+			ret = false;
+		} else if (this.priority.equals(QueuePriority.S_ENTRIES_FIRST)) {
+			ret = true;
+		} else if (this.priority.equals(QueuePriority.R_ENTRIES_FIRST)) {
+			ret = false;
+		} else {
+			ret = this.queueS.size() > this.queueR.size();
+		}
+		return ret;
+	}
+
+	@Override
+	public REntry removeNextREntry() {
+		return this.queueR.remove();
+	}
+
+	@Override
+	public SEntry removeNextSEntry() {
+		return this.queueS.remove();
+	}
+
+	@Override
+	public String toString() {
+		StringBuffer sbuf = new StringBuffer();
+		sbuf.append(this.strategy);
+		sbuf.append(" ");
+		sbuf.append(this.priority);
+		sbuf.append(" (S: ");
+		sbuf.append(this.queueS);
+		sbuf.append(", R: ");
+		sbuf.append(this.queueR);
+		sbuf.append(")");
+		return sbuf.toString();
+	}
+
+}
@@ -0,0 +1,152 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.rulebased;
+
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+import de.tudresden.inf.lat.jcel.core.completion.common.XEntry;
+import de.tudresden.inf.lat.util.map.OptMap;
+
+/**
+ * An object of this class is a queue of entries that returns first the entries
+ * whose context has the lowest rank. Entries with the same rank are returned in
+ * the order they were added. Contexts without rank are returned last.
+ *
+ * @param <T>
+ *            type of entries
+ *
+ * @author Julian Mendez
+ */
+public class RankedEntryQueue<T extends XEntry> implements EntryQueue<T> {
+
+	private class RankedEntry implements Comparable<RankedEntry> {
+
+		private final T entry;
+		private final int rank;
+		private final long sequenceNumber;
+
+		RankedEntry(T entry, int rank, long sequenceNumber) {
+			this.entry = entry;
+			this.rank = rank;
+			this.sequenceNumber = sequenceNumber;
+		}
+
+		@Override
+		public int compareTo(RankedEntry other) {
+			int ret = Integer.compare(this.rank, other.rank);
+			if (ret == 0) {
+				ret = Long.compare(this.sequenceNumber, other.sequenceNumber);
+			}
+			return ret;
+		}
+
+	}
+
+	private final ToIntFunction<T> contextFunction;
+	private final Set<T> pending = new HashSet<>();
+	private final PriorityQueue<RankedEntry> queue = new PriorityQueue<>();
+	private final OptMap<Integer, Integer> rankMap;
+	private long sequenceNumber = 0;
+
+	/**
+	 * Constructs a new ranked entry queue.
+	 *
+	 * @param contextFunction
+	 *            function that returns the context of an entry
+	 * @param rankMap
+	 *            map that assigns a rank to each context
+	 */
+	public RankedEntryQueue(ToIntFunction<T> contextFunction, OptMap<Integer, Integer> rankMap) {
+		Objects.requireNonNull(contextFunction);
+		Objects.requireNonNull(rankMap);
+		this.contextFunction = contextFunction;
+		this.rankMap = rankMap;
+	}
+
+	@Override
+	public boolean add(T entry) {
+		Objects.requireNonNull(entry);
+		boolean ret = this.pending.add(entry);
+		if (ret) {
+			int rank = this.rankMap.get(this.contextFunction.applyAsInt(entry)).orElse(Integer.MAX_VALUE);
+			this.queue.add(new RankedEntry(entry, rank, this.sequenceNumber));
+			this.sequenceNumber++;
+		}
+		return ret;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.queue.isEmpty();
+	}
+
+	@Override
+	public T remove() {
+		if (this.queue.isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		T ret = this.queue.poll().entry;
+		this.pending.remove(ret);
+		return ret;
+	}
+
+	@Override
+	public int size() {
+		return this.queue.size();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName();
+	}
+
+}
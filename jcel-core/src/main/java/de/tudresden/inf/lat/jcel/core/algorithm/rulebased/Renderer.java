@@ -53,8 +53,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
-import java.util.TreeSet;
 
 import de.tudresden.inf.lat.jcel.core.graph.IntegerBinaryRelation;
 import de.tudresden.inf.lat.jcel.core.graph.IntegerRelationMap;
@@ -102,12 +100,6 @@ public class Renderer {
 
 	public static final String subClassOf = "isA";
 
-	private Set<String> getNames(Collection<Integer> identifiers, IntegerEntityManager entityManager) {
-		Set<String> ret = new TreeSet<>();
-		identifiers.forEach(id -> ret.add(entityManager.getName(id)));
-		return ret;
-	}
-
 	/**
 	 * Renders set R using Turtle syntax.
 	 *
@@ -129,23 +121,20 @@ public class Renderer {
 
 		boolean ret = false;
 		TurtleRenderer renderer = new TurtleRenderer(output);
-		renderer.loadPrefixes(getNames(setR.getElements(), entityManager));
+		List<Integer> listOfPropertyIds = sortByName(setR.getElements(), entityManager);
+		renderer.loadPrefixes(entityManager.getNamePool(), listOfPropertyIds);
 		renderer.renderPrefixes();
 
-		List<Integer> listOfPropertyIds = sortByName(setR.getElements(), entityManager);
 		for (int propertyId : listOfPropertyIds) {
 
 			IntegerBinaryRelation relation = setR.get(propertyId);
-			String propertyName = entityManager.getName(propertyId);
 			List<Integer> listOfLeftClassIds = sortByName(relation.getElements(), entityManager);
 			for (int leftClassId : listOfLeftClassIds) {
 
-				String leftClassName = entityManager.getName(leftClassId);
 				List<Integer> listOfRightClassIds = sortByName(relation.getByFirst(leftClassId), entityManager);
 				for (int rightClassId : listOfRightClassIds) {
 
-					String rightClassName = entityManager.getName(rightClassId);
-					renderer.renderTriple(propertyName, leftClassName, rightClassName);
+					renderer.renderTriple(entityManager, propertyId, leftClassId, rightClassId);
 
 					ret = true;
 				}
@@ -175,18 +164,16 @@ public class Renderer {
 
 		boolean ret = false;
 		TurtleRenderer renderer = new TurtleRenderer(output);
-		renderer.loadPrefixes(getNames(setS.getElements(), entityManager));
+		List<Integer> listOfSubClassIds = sortByName(setS.getElements(), entityManager);
+		renderer.loadPrefixes(entityManager.getNamePool(), listOfSubClassIds);
 		renderer.renderPrefixes();
 
-		List<Integer> listOfSubClassIds = sortByName(setS.getElements(), entityManager);
 		for (int subClassId : listOfSubClassIds) {
 
-			String subClassName = entityManager.getName(subClassId);
 			List<Integer> listOfSuperClassIds = sortByName(setS.getSubsumers(subClassId), entityManager);
 			for (int superClassId : listOfSuperClassIds) {
 
-				String superClassName = entityManager.getName(superClassId);
-				renderer.renderTriple(subClassOf, subClassName, superClassName);
+				renderer.renderTriple(entityManager, subClassOf, subClassId, superClassId);
 
 				ret = true;
 			}
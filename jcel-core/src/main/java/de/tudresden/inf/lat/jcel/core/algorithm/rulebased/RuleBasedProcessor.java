@@ -49,9 +49,12 @@ package de.tudresden.inf.lat.jcel.core.algorithm.rulebased;
 import java.io.IOException;
 import java.io.Writer;
 import java.util.AbstractMap;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -69,6 +72,7 @@ import de.tudresden.inf.lat.jcel.core.completion.common.SEntry;
 import de.tudresden.inf.lat.jcel.core.graph.IntegerBinaryRelation;
 import de.tudresden.inf.lat.jcel.core.graph.IntegerHierarchicalGraph;
 import de.tudresden.inf.lat.jcel.core.graph.IntegerHierarchicalGraphImpl;
+import de.tudresden.inf.lat.jcel.core.graph.IntegerRelationMapImpl;
 import de.tudresden.inf.lat.jcel.core.graph.IntegerSubsumerGraph;
 import de.tudresden.inf.lat.jcel.core.graph.IntegerSubsumerGraphImpl;
 import de.tudresden.inf.lat.jcel.core.saturation.SubPropertyNormalizer;
@@ -123,28 +127,52 @@ public class RuleBasedProcessor implements Processor {
 
 	private static final Logger logger = Logger.getLogger(RuleBasedProcessor.class.getName());
 
+	private static final int bottomClassId = IntegerEntityManager.bottomClassId;
 	private static final long loggingFrequency = 0x1000000;
 	private static final long threadWaitingTime = 0x20;
-	private static final Integer topClassId = IntegerEntityManager.topClassId;
 
+	private final Optional<SaturatedLayer> baseLayer;
+	private boolean baseLayerActive = false;
+	private long baseLayerREntries = 0;
+	private long baseLayerSEntries = 0;
+	private long bottomPropagatedClasses = 0;
+	private boolean bottomPruningActive = true;
 	private RChain chainR = null;
 	private SChain chainS = null;
+	private final CompletionRuleChainSelector chainSelector;
 	private IntegerHierarchicalGraph classHierarchy = null;
+	private long collapsedClasses = 0;
 	private IntegerHierarchicalGraph dataPropertyHierarchy = null;
 	private OptMap<Integer, Set<Integer>> directTypes = null;
+	private final Set<NormalizedIntegerAxiom> deltaAxiomSet = new HashSet<>();
+	private long discardedREntries = 0;
+	private long discardedSEntries = 0;
+	private boolean duplicateFilterActive = true;
 	private final IntegerEntityManager entityManager;
+	private boolean equivalenceCollapsingActive = true;
 	private final NormalizedIntegerAxiomFactory factory;
 	private boolean isReady = false;
 	private long iteration = 0;
 	private long loggingCount = loggingFrequency;
 	private final boolean multiThreadedMode = false;
 	private IntegerHierarchicalGraph objectPropertyHierarchy = null;
+	private final Deque<Integer> pendingToldClasses = new ArrayDeque<>();
+	private final QueuePriority queuePriority;
+	private long redundantREntries = 0;
+	private long redundantSEntries = 0;
+	private boolean renumberingActive = false;
 	private OptMap<Integer, Set<Integer>> sameIndividualMap = null;
+	private final SchedulingStrategy schedulingStrategy;
 	private ClassifierStatusImpl status = null;
+	private boolean successorMergingActive = true;
 	private WorkerThreadR threadR1 = null;
 	private WorkerThreadR threadR2 = null;
 	private WorkerThreadS threadS1 = null;
 	private WorkerThreadS threadS2 = null;
+	private long toldPairs = 0;
+	private OptMap<Integer, int[]> toldSubsumerMap = null;
+	private final boolean transitiveClosureActive;
+	private long transitiveClosureEntries = 0;
 
 	/**
 	 * Constructs a new rule-based processor.
@@ -165,31 +193,163 @@ public class RuleBasedProcessor implements Processor {
 	public RuleBasedProcessor(Set<Integer> originalObjectProperties, Set<Integer> originalClasses,
 			Set<NormalizedIntegerAxiom> normalizedAxiomSet, OntologyExpressivity expressivity,
 			NormalizedIntegerAxiomFactory factory, IntegerEntityManager entityManager) {
+		this(originalObjectProperties, originalClasses, normalizedAxiomSet, expressivity, factory, entityManager,
+				SchedulingStrategy.SORTED, QueuePriority.LARGER_QUEUE);
+	}
+
+	/**
+	 * Constructs a new rule-based processor using the given scheduling
+	 * strategy.
+	 * 
+	 * @param originalObjectProperties
+	 *            set of original object properties
+	 * @param originalClasses
+	 *            set of original classes
+	 * @param normalizedAxiomSet
+	 *            set of normalized axioms
+	 * @param expressivity
+	 *            expressivity
+	 * @param factory
+	 *            factory of normalized integer axioms
+	 * @param entityManager
+	 *            entity manager
+	 * @param schedulingStrategy
+	 *            strategy used to order the entries to be processed
+	 * @param queuePriority
+	 *            policy used to choose between S-entries and R-entries
+	 */
+	public RuleBasedProcessor(Set<Integer> originalObjectProperties, Set<Integer> originalClasses,
+			Set<NormalizedIntegerAxiom> normalizedAxiomSet, OntologyExpressivity expressivity,
+			NormalizedIntegerAxiomFactory factory, IntegerEntityManager entityManager,
+			SchedulingStrategy schedulingStrategy, QueuePriority queuePriority) {
+		this(originalObjectProperties, originalClasses, normalizedAxiomSet, expressivity, factory, entityManager,
+				schedulingStrategy, queuePriority, Optional.empty());
+	}
+
+	/**
+	 * Constructs a new rule-based processor that classifies the axioms of a
+	 * saturated base layer together with the given axioms. The processor
+	 * starts with the sets S and R of the base layer, which is not modified,
+	 * and only applies the completion rules to those entries with the given
+	 * axioms. If the base layer cannot be used for the given axioms, all the
+	 * axioms are classified from the beginning.
+	 * 
+	 * @param originalObjectProperties
+	 *            set of original object properties that are not in the base
+	 *            layer
+	 * @param originalClasses
+	 *            set of original classes that are not in the base layer
+	 * @param normalizedAxiomSet
+	 *            set of normalized axioms that are not in the base layer
+	 * @param expressivity
+	 *            expressivity of all the axioms
+	 * @param factory
+	 *            factory of normalized integer axioms
+	 * @param entityManager
+	 *            entity manager
+	 * @param baseLayer
+	 *            saturated base layer
+	 * @see SaturatedLayer#isApplicable(CompletionRuleChainSelector, Set)
+	 */
+	public RuleBasedProcessor(Set<Integer> originalObjectProperties, Set<Integer> originalClasses,
+			Set<NormalizedIntegerAxiom> normalizedAxiomSet, OntologyExpressivity expressivity,
+			NormalizedIntegerAxiomFactory factory, IntegerEntityManager entityManager, SaturatedLayer baseLayer) {
+		this(originalObjectProperties, originalClasses, normalizedAxiomSet, expressivity, factory, entityManager,
+				SchedulingStrategy.SORTED, QueuePriority.LARGER_QUEUE, Optional.of(baseLayer));
+	}
+
+	private RuleBasedProcessor(Set<Integer> originalObjectProperties, Set<Integer> originalClasses,
+			Set<NormalizedIntegerAxiom> normalizedAxiomSet, OntologyExpressivity expressivity,
+			NormalizedIntegerAxiomFactory factory, IntegerEntityManager entityManager,
+			SchedulingStrategy schedulingStrategy, QueuePriority queuePriority, Optional<SaturatedLayer> baseLayer) {
 		Objects.requireNonNull(originalObjectProperties);
 		Objects.requireNonNull(originalClasses);
 		Objects.requireNonNull(normalizedAxiomSet);
 		Objects.requireNonNull(expressivity);
 		Objects.requireNonNull(factory);
 		Objects.requireNonNull(entityManager);
+		Objects.requireNonNull(schedulingStrategy);
+		Objects.requireNonNull(queuePriority);
+		Objects.requireNonNull(baseLayer);
 		this.factory = factory;
 		this.entityManager = entityManager;
+		this.schedulingStrategy = schedulingStrategy;
+		this.queuePriority = queuePriority;
+		this.baseLayer = baseLayer;
 
-		CompletionRuleChainSelector selector = new CompletionRuleChainSelector(expressivity);
-		selector.activateProfiler();
-		this.chainR = selector.getRChain();
-		this.chainS = selector.getSChain();
+		this.chainSelector = new CompletionRuleChainSelector(expressivity);
+		this.chainSelector.activateProfiler();
+		this.chainR = this.chainSelector.getRChain();
+		this.chainS = this.chainSelector.getSChain();
+		this.transitiveClosureActive = this.chainSelector.isTransitiveClosureActive();
 
-		preProcess(createExtendedOntology(originalObjectProperties, originalClasses, normalizedAxiomSet));
+		Set<Integer> objectPropertySet = new HashSet<>(originalObjectProperties);
+		Set<Integer> classSet = new HashSet<>(originalClasses);
+		Set<NormalizedIntegerAxiom> axiomSet = new HashSet<>(normalizedAxiomSet);
+		if (baseLayer.isPresent()) {
+			objectPropertySet.addAll(baseLayer.get().getObjectProperties());
+			classSet.addAll(baseLayer.get().getClasses());
+			axiomSet.addAll(baseLayer.get().getSaturatedAxiomSet());
+		}
+		Set<NormalizedIntegerAxiom> saturatedAxiomSet = new SubPropertyNormalizer(getOntologyObjectFactory(),
+				getEntityManager()).apply(axiomSet);
+		if (baseLayer.isPresent()) {
+			this.deltaAxiomSet.addAll(saturatedAxiomSet);
+			this.deltaAxiomSet.removeAll(baseLayer.get().getSaturatedAxiomSet());
+		}
+
+		preProcess(createExtendedOntology(objectPropertySet, classSet, saturatedAxiomSet));
+	}
+
+	/**
+	 * Makes the processor store the sets S and R, once the classification is
+	 * finished, with dense class identifiers assigned in the order of the told
+	 * hierarchy. This does not change the identifiers returned by any method.
+	 */
+	public void activateRenumbering() {
+		this.renumberingActive = true;
 	}
 
 	public void addAxioms(Set<NormalizedIntegerAxiom> normalizedAxiomSet) {
 		Objects.requireNonNull(normalizedAxiomSet);
 		logger.fine("adding axioms ...");
 		this.status.getExtendedOntology().load(normalizedAxiomSet);
+		if (this.baseLayer.isPresent()) {
+			normalizedAxiomSet.stream().filter(axiom -> !this.baseLayer.get().getSaturatedAxiomSet().contains(axiom))
+					.forEach(axiom -> this.deltaAxiomSet.add(axiom));
+		}
 		preProcess(this.status.getExtendedOntology());
 		logger.fine("processor reset.");
 	}
 
+	/**
+	 * Makes the given classes share the same set of subsumers if each one
+	 * subsumes the other one. The S-chain is applied to the subsumers that
+	 * each equivalent class did not have before.
+	 * 
+	 * @param subClass
+	 *            sub class
+	 * @param superClass
+	 *            super class
+	 */
+	private void collapseEquivalentClasses(int subClass, int superClass) {
+		if (this.equivalenceCollapsingActive && subClass != superClass
+				&& !this.status.isEquivalentToBottom(superClass)
+				&& this.status.containsS(superClass, subClass)
+				&& !this.status.getEquivalentClasses(subClass).contains(superClass)) {
+			this.collapsedClasses++;
+			OptMap<Integer, Set<Integer>> newSubsumers = this.status.makeEquivalent(subClass, superClass);
+			newSubsumers.keySet().forEach(equivalentClass -> {
+				newSubsumers.get(equivalentClass).get().forEach(subsumer -> {
+					if (!this.status.isEquivalentToBottom(equivalentClass)) {
+						this.chainS.apply(this.status, equivalentClass, subsumer);
+						this.iteration++;
+					}
+				});
+			});
+		}
+	}
+
 	/**
 	 * @param hierarchicalGraph
 	 *            graph containing direct subsumers
@@ -264,6 +424,59 @@ public class RuleBasedProcessor implements Processor {
 		return ret;
 	}
 
+	/**
+	 * Applies to the classifier status the optimizations that were turned
+	 * off.
+	 */
+	private void configureStatus() {
+		if (!this.bottomPruningActive) {
+			this.status.deactivateBottomFilter();
+		}
+		if (!this.duplicateFilterActive) {
+			this.status.deactivateDuplicateFilter();
+		}
+		if (!this.successorMergingActive) {
+			this.status.deactivateSuccessorMerging();
+		}
+	}
+
+	/**
+	 * Returns a copy of the set R as a list of entries. The copy is only
+	 * complete before the post-processing.
+	 * 
+	 * @return a copy of the set R as a list of entries
+	 */
+	List<REntry> copySetR() {
+		List<REntry> ret = new ArrayList<>();
+		IntegerRelationMapImpl relationSet = this.status.getRelationSet();
+		relationSet.getElements().forEach(property -> {
+			IntegerBinaryRelation relation = relationSet.get(property);
+			if (relationSet.isIndexedByFirst(property)) {
+				relation.getElements().forEach(leftClass -> relation.getByFirst(leftClass)
+						.forEach(rightClass -> ret.add(new REntryImpl(property, leftClass, rightClass))));
+			} else {
+				relation.getElements().forEach(rightClass -> relation.getBySecond(rightClass)
+						.forEach(leftClass -> ret.add(new REntryImpl(property, leftClass, rightClass))));
+			}
+		});
+		return ret;
+	}
+
+	/**
+	 * Returns a copy of the set S as a list of entries. The copy is only
+	 * complete before the post-processing, which removes the auxiliary
+	 * classes.
+	 * 
+	 * @return a copy of the set S as a list of entries
+	 */
+	List<SEntry> copySetS() {
+		List<SEntry> ret = new ArrayList<>();
+		IntegerSubsumerGraph classGraph = getClassGraph();
+		classGraph.getElements().forEach(subClass -> classGraph.getSubsumers(subClass)
+				.forEach(superClass -> ret.add(new SEntryImpl(subClass, superClass))));
+		return ret;
+	}
+
 	/**
 	 * Convenience method to create a map entry. This method returns a map
 	 * entry.
@@ -279,10 +492,7 @@ public class RuleBasedProcessor implements Processor {
 	}
 
 	private ExtendedOntology createExtendedOntology(Set<Integer> originalObjectPropertySet,
-			Set<Integer> originalClassSet, Set<NormalizedIntegerAxiom> axioms) {
-		SubPropertyNormalizer subPropNormalizer = new SubPropertyNormalizer(getOntologyObjectFactory(),
-				getEntityManager());
-		Set<NormalizedIntegerAxiom> saturatedNormalizedAxiomSet = subPropNormalizer.apply(axioms);
+			Set<Integer> originalClassSet, Set<NormalizedIntegerAxiom> saturatedNormalizedAxiomSet) {
 		ExtendedOntology extendedOntology = new ExtendedOntologyImpl();
 		extendedOntology.load(saturatedNormalizedAxiomSet);
 		originalObjectPropertySet.forEach(elem -> extendedOntology.addObjectProperty(elem));
@@ -290,13 +500,57 @@ public class RuleBasedProcessor implements Processor {
 		return extendedOntology;
 	}
 
+	/**
+	 * Turns off the pruning of the classes that are equivalent to bottom. The
+	 * entries of these classes are processed, and bottom is propagated by the
+	 * completion rules instead of in bulk. This is only used to compare the
+	 * classification with and without the optimization, and must be called
+	 * before the processing starts.
+	 */
+	void deactivateBottomPruning() {
+		this.bottomPruningActive = false;
+		configureStatus();
+	}
+
+	/**
+	 * Turns off the filter of the entries that were already seen, or that are
+	 * already in S or R. This is only used to compare the classification with
+	 * and without the optimization, and must be called before the processing
+	 * starts.
+	 */
+	void deactivateDuplicateFilter() {
+		this.duplicateFilterActive = false;
+		configureStatus();
+	}
+
+	/**
+	 * Turns off the collapsing of equivalent classes during the saturation.
+	 * This is only used to compare the classification with and without the
+	 * optimization, and must be called before the processing starts.
+	 */
+	void deactivateEquivalenceCollapsing() {
+		this.equivalenceCollapsingActive = false;
+	}
+
+	/**
+	 * Turns off the representative nodes of the successors merged through a
+	 * functional object property. Each merge then creates or gets the node of
+	 * the merged successors. This is only used to compare the classification
+	 * with and without the optimization, and must be called before the
+	 * processing starts.
+	 */
+	void deactivateSuccessorMerging() {
+		this.successorMergingActive = false;
+		configureStatus();
+	}
+
 	/**
 	 * Returns the class graph.
 	 * 
 	 * @return the class graph.
 	 */
 	protected IntegerSubsumerGraph getClassGraph() {
-		return this.status.getClassGraph();
+		return this.status.getSubsumerGraph();
 	}
 
 	@Override
@@ -327,6 +581,10 @@ public class RuleBasedProcessor implements Processor {
 				"" + getEntityManager().getEntities(IntegerEntityType.OBJECT_PROPERTY, true).size()));
 		ret.add(createEntry("chain S", this.chainS.toString()));
 		ret.add(createEntry("chain R", this.chainR.toString()));
+		ret.add(createEntry("transitive closure", "" + this.transitiveClosureActive));
+		ret.add(createEntry("scheduler", this.status.getScheduler().toString()));
+		ret.add(createEntry("told hierarchy renumbering", "" + this.renumberingActive));
+		ret.add(createEntry("base layer", "" + this.baseLayerActive));
 		return ret;
 	}
 
@@ -407,7 +665,7 @@ public class RuleBasedProcessor implements Processor {
 	 */
 	protected IntegerBinaryRelation getRelation(Integer relationId) {
 		Objects.requireNonNull(relationId);
-		return this.status.getRelationSet().get(relationId);
+		return this.status.getRelationMap().get(relationId);
 	}
 
 	/**
@@ -416,7 +674,7 @@ public class RuleBasedProcessor implements Processor {
 	 * @return the set of all relation ids
 	 */
 	protected Set<Integer> getRelationIdSet() {
-		return Collections.unmodifiableSet(this.status.getRelationSet().getElements());
+		return Collections.unmodifiableSet(this.status.getRelationMap().getElements());
 	}
 
 	@Override
@@ -441,6 +699,29 @@ public class RuleBasedProcessor implements Processor {
 		ret.add(createEntry("R", "" + this.status.getDeepSizeOfR()));
 		ret.add(createEntry("V", "" + this.status.getSizeOfV()));
 		ret.add(createEntry("subV", "" + this.status.getDeepSizeOfV()));
+		EntryScheduler scheduler = this.status.getScheduler();
+		ret.add(createEntry("added Q_S", "" + scheduler.getAddedSEntries()));
+		ret.add(createEntry("added Q_R", "" + scheduler.getAddedREntries()));
+		ret.add(createEntry("repeated Q_S", "" + scheduler.getRepeatedSEntries()));
+		ret.add(createEntry("repeated Q_R", "" + scheduler.getRepeatedREntries()));
+		ret.add(createEntry("peak Q_S", "" + scheduler.getPeakSEntries()));
+		ret.add(createEntry("peak Q_R", "" + scheduler.getPeakREntries()));
+		ret.add(createEntry("told S", "" + this.toldPairs));
+		ret.add(createEntry("base layer S", "" + this.baseLayerSEntries));
+		ret.add(createEntry("base layer R", "" + this.baseLayerREntries));
+		ret.add(createEntry("filtered Q_S (seen)", "" + this.status.getFilteredSEntriesBySeen()));
+		ret.add(createEntry("filtered Q_R (seen)", "" + this.status.getFilteredREntriesBySeen()));
+		ret.add(createEntry("filtered Q_S (in S)", "" + this.status.getFilteredSEntriesByS()));
+		ret.add(createEntry("filtered Q_R (in R)", "" + this.status.getFilteredREntriesByR()));
+		ret.add(createEntry("filtered Q_R (bottom)", "" + this.status.getFilteredREntriesByBottom()));
+		ret.add(createEntry("discarded Q_S (bottom)", "" + this.discardedSEntries));
+		ret.add(createEntry("discarded Q_R (bottom)", "" + this.discardedREntries));
+		ret.add(createEntry("bottom propagated", "" + this.bottomPropagatedClasses));
+		ret.add(createEntry("collapsed classes", "" + this.collapsedClasses));
+		ret.add(createEntry("transitive closure R", "" + this.transitiveClosureEntries));
+		ret.add(createEntry("merged successors", "" + this.status.getMergedSuccessorNodes()));
+		ret.add(createEntry("redundant S", "" + this.redundantSEntries));
+		ret.add(createEntry("redundant R", "" + this.redundantREntries));
 		return ret;
 	}
 
@@ -464,6 +745,11 @@ public class RuleBasedProcessor implements Processor {
 
 		removeAuxiliaryNominals();
 		this.classHierarchy = new IntegerHierarchicalGraphImpl(this.status.getClassGraph());
+		if (this.renumberingActive) {
+			this.status.compact(new ToldHierarchy(this.status.getExtendedOntology()).computeOrder());
+		} else {
+			this.status.compact();
+		}
 	};
 
 	/**
@@ -478,16 +764,44 @@ public class RuleBasedProcessor implements Processor {
 	 */
 	protected void preProcess(ExtendedOntology ontology) {
 		logger.fine("configuring processor ...");
+		ontology.freeze();
 
 		this.isReady = false;
-		this.status = new ClassifierStatusImpl(getEntityManager(), ontology);
+		this.baseLayerREntries = 0;
+		this.baseLayerSEntries = 0;
+		this.bottomPropagatedClasses = 0;
+		this.collapsedClasses = 0;
+		this.toldPairs = 0;
+		this.transitiveClosureEntries = 0;
+		this.discardedREntries = 0;
+		this.discardedSEntries = 0;
+		this.redundantREntries = 0;
+		this.redundantSEntries = 0;
+		this.status = new ClassifierStatusImpl(getEntityManager(), ontology,
+				new EntrySchedulerImpl(this.schedulingStrategy, this.queuePriority, ontology),
+				this.chainSelector.getObjectPropertiesIndexedByFirst(ontology),
+				this.chainSelector.getObjectPropertiesIndexedBySecond(ontology));
+		configureStatus();
 		this.dataPropertyHierarchy = new IntegerHierarchicalGraphImpl(new IntegerSubsumerGraphImpl(
 				IntegerEntityManager.bottomDataPropertyId, IntegerEntityManager.topDataPropertyId));
-		Set<Integer> classNameSet = new HashSet<>();
-		classNameSet.addAll(this.status.getExtendedOntology().getClassSet());
-		classNameSet.forEach(className -> {
-			this.status.addNewSEntry(className, className);
-			this.status.addNewSEntry(className, topClassId);
+		this.pendingToldClasses.clear();
+		this.baseLayerActive = this.baseLayer.isPresent()
+				&& this.baseLayer.get().isApplicable(this.chainSelector, this.deltaAxiomSet);
+		if (this.baseLayerActive) {
+			seedBaseLayer(this.baseLayer.get());
+		}
+		this.toldSubsumerMap = new ToldHierarchy(ontology).computeToldSubsumers();
+		this.toldSubsumerMap.keySet().stream().sorted().forEach(className -> {
+			if (this.baseLayerActive) {
+				this.toldSubsumerMap.put(className, Arrays.stream(this.toldSubsumerMap.get(className).get())
+						.filter(subsumer -> !this.status.containsS(className, subsumer)).toArray());
+			}
+			for (int subsumer : this.toldSubsumerMap.get(className).get()) {
+				if (this.status.addToS(className, subsumer)) {
+					this.toldPairs++;
+				}
+			}
+			this.pendingToldClasses.addLast(className);
 		});
 
 		logger.fine("processor configured.");
@@ -510,7 +824,9 @@ public class RuleBasedProcessor implements Processor {
 	@Override
 	public boolean process() {
 		boolean ret = false;
-		if (this.multiThreadedMode) {
+		if (!this.pendingToldClasses.isEmpty()) {
+			ret = processToldSubsumers();
+		} else if (this.multiThreadedMode) {
 			ret = processMultiThreaded();
 		} else {
 			ret = processSingleThreaded();
@@ -632,11 +948,37 @@ public class RuleBasedProcessor implements Processor {
 			int property = entry.getProperty();
 			int leftClass = entry.getLeftClass();
 			int rightClass = entry.getRightClass();
-			boolean applied = this.status.addToR(property, leftClass, rightClass);
-			if (applied) {
-				this.chainR.apply(this.status, property, leftClass, rightClass);
-				this.loggingCount--;
-				this.iteration++;
+			if (this.bottomPruningActive && this.status.isEquivalentToBottom(leftClass)) {
+				this.discardedREntries++;
+			} else {
+				if (this.transitiveClosureActive
+						&& this.status.getExtendedOntology().getTransitiveObjectProperties().contains(property)) {
+					List<REntry> newEntries = this.status.addToRWithTransitiveClosure(property, leftClass,
+							rightClass);
+					if (newEntries.isEmpty()) {
+						this.redundantREntries++;
+					} else {
+						this.transitiveClosureEntries += newEntries.size() - 1;
+						newEntries.forEach(newEntry -> {
+							if (!this.bottomPruningActive
+									|| !this.status.isEquivalentToBottom(newEntry.getLeftClass())) {
+								this.chainR.apply(this.status, newEntry.getProperty(), newEntry.getLeftClass(),
+										newEntry.getRightClass());
+								this.iteration++;
+							}
+						});
+						this.loggingCount--;
+					}
+				} else {
+					boolean applied = this.status.addToR(property, leftClass, rightClass);
+					if (applied) {
+						this.chainR.apply(this.status, property, leftClass, rightClass);
+						this.loggingCount--;
+						this.iteration++;
+					} else {
+						this.redundantREntries++;
+					}
+				}
 			}
 		}
 		return ret;
@@ -653,11 +995,32 @@ public class RuleBasedProcessor implements Processor {
 			ret = true;
 			int subClass = entry.getSubClass();
 			int superClass = entry.getSuperClass();
-			boolean applied = this.status.addToS(subClass, superClass);
-			if (applied) {
-				this.chainS.apply(this.status, subClass, superClass);
-				this.loggingCount--;
-				this.iteration++;
+			if (this.bottomPruningActive && this.status.isEquivalentToBottom(subClass)) {
+				this.discardedSEntries++;
+			} else {
+				boolean applied = this.status.addToS(subClass, superClass);
+				if (applied) {
+					if (this.bottomPruningActive && superClass == bottomClassId) {
+						List<Integer> newBottomClasses = this.status.propagateBottom(subClass);
+						this.bottomPropagatedClasses += newBottomClasses.size();
+						this.chainS.apply(this.status, subClass, superClass);
+						newBottomClasses.forEach(newBottomClass -> {
+							this.chainS.apply(this.status, newBottomClass, bottomClassId);
+							this.iteration++;
+						});
+					} else {
+						this.status.getEquivalentClasses(subClass).forEach(equivalentClass -> {
+							if (!this.bottomPruningActive || !this.status.isEquivalentToBottom(equivalentClass)) {
+								this.chainS.apply(this.status, equivalentClass, superClass);
+							}
+						});
+						collapseEquivalentClasses(subClass, superClass);
+					}
+					this.loggingCount--;
+					this.iteration++;
+				} else {
+					this.redundantSEntries++;
+				}
 			}
 		}
 		return ret;
@@ -671,7 +1034,7 @@ public class RuleBasedProcessor implements Processor {
 				logger.fine(showConfigurationInfo());
 				this.isReady = true;
 			} else {
-				if (this.status.getNumberOfSEntries() > this.status.getNumberOfREntries()) {
+				if (this.status.isSEntryNext()) {
 					processSEntries();
 				} else {
 					processREntries();
@@ -681,6 +1044,30 @@ public class RuleBasedProcessor implements Processor {
 		return !this.isReady;
 	}
 
+	/**
+	 * Applies the S-chain to the told subsumers of the next class that was
+	 * loaded in the set S during the pre-processing.
+	 * 
+	 * @return <code>true</code> if and only if a class was processed
+	 */
+	private boolean processToldSubsumers() {
+		boolean ret = false;
+		if (!this.pendingToldClasses.isEmpty()) {
+			ret = true;
+			int className = this.pendingToldClasses.removeFirst();
+			int[] subsumers = this.toldSubsumerMap.remove(className).get();
+			for (int subsumer : subsumers) {
+				if (!this.status.isEquivalentToBottom(className)) {
+					this.chainS.apply(this.status, className, subsumer);
+					collapseEquivalentClasses(className, subsumer);
+					this.loggingCount--;
+					this.iteration++;
+				}
+			}
+		}
+		return ret;
+	}
+
 	private void removeAuxiliaryClassesExceptNominals() {
 		Set<Integer> reqClasses = new HashSet<>();
 		getClassGraph().getElements().forEach(elem -> {
@@ -713,6 +1100,62 @@ public class RuleBasedProcessor implements Processor {
 		this.status.getObjectPropertyGraph().retainAll(reqObjectProperties);
 	}
 
+	/**
+	 * Saturates the axioms without post-processing them, so that the sets S
+	 * and R still have the auxiliary classes and can be copied.
+	 */
+	void saturate() {
+		while (processToldSubsumers()) {
+		}
+		while ((this.status.getNumberOfSEntries() > 0) || (this.status.getNumberOfREntries() > 0)) {
+			if (this.status.isSEntryNext()) {
+				processSEntries();
+			} else {
+				processREntries();
+			}
+		}
+	}
+
+	/**
+	 * Adds the entries of a saturated base layer to the sets S and R, and
+	 * applies the completion rules to them using only the axioms that are not
+	 * in the base layer. The rule applications that only use axioms of the
+	 * base layer were already done when the layer was saturated. The entries
+	 * created by the rules are processed as usual.
+	 * 
+	 * @param layer
+	 *            saturated base layer
+	 */
+	private void seedBaseLayer(SaturatedLayer layer) {
+		layer.getSEntries().forEach(entry -> {
+			if (this.status.addToS(entry.getSubClass(), entry.getSuperClass())) {
+				this.baseLayerSEntries++;
+			}
+		});
+		layer.getREntries().forEach(entry -> {
+			if (this.status.addToR(entry.getProperty(), entry.getLeftClass(), entry.getRightClass())) {
+				this.baseLayerREntries++;
+			}
+		});
+
+		ExtendedOntology deltaOntology = new ExtendedOntologyImpl();
+		deltaOntology.load(this.deltaAxiomSet);
+		deltaOntology.freeze();
+		BaseLayerClassifierStatus deltaStatus = new BaseLayerClassifierStatus(this.status, deltaOntology);
+		layer.getSEntries().forEach(entry -> {
+			if (!this.status.isEquivalentToBottom(entry.getSubClass())) {
+				this.chainS.apply(deltaStatus, entry.getSubClass(), entry.getSuperClass());
+				this.iteration++;
+			}
+		});
+		layer.getREntries().forEach(entry -> {
+			if (!this.status.isEquivalentToBottom(entry.getLeftClass())) {
+				this.chainR.apply(deltaStatus, entry.getProperty(), entry.getLeftClass(), entry.getRightClass());
+				this.iteration++;
+			}
+		});
+	}
+
 	public String showConfigurationInfo() {
 		StringBuffer sbuf = new StringBuffer();
 		getConfigurationInfo().forEach(entry -> {
@@ -0,0 +1,281 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.rulebased;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import de.tudresden.inf.lat.jcel.core.completion.common.REntry;
+import de.tudresden.inf.lat.jcel.core.completion.common.SEntry;
+import de.tudresden.inf.lat.jcel.core.saturation.SubPropertyNormalizer;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.FunctObjectPropAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.GCI0Axiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.GCI1Axiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.GCI2Axiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.GCI3Axiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NominalAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomFactory;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomVisitor;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.RI1Axiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.RI2Axiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.RI3Axiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.RangeAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.OntologyExpressivity;
+
+/**
+ * An object of this class is a read-only copy of the sets S and R of a set of
+ * axioms that has been saturated. It is taken before the post-processing, so
+ * it also has the auxiliary classes. <br>
+ * A saturated layer can be used as the base layer of a
+ * {@link RuleBasedProcessor} that classifies the axioms of the layer together
+ * with other axioms. That processor starts with the entries of the layer, and
+ * only applies the completion rules to them with the axioms that are not in
+ * the layer. This is only possible if both use the same completion rules
+ * without the extended rules, and if the other axioms do not change the
+ * object property hierarchy of the layer, i.e. they only have class axioms.
+ * Otherwise, the processor classifies all the axioms without the layer.
+ * 
+ * @author Julian Mendez
+ */
+public class SaturatedLayer {
+
+	/**
+	 * An object of this class tells whether a normalized axiom can be added to
+	 * the axioms of a saturated layer without saturating the layer again.
+	 */
+	private static class DeltaAxiomFilter implements NormalizedIntegerAxiomVisitor<Boolean> {
+
+		DeltaAxiomFilter() {
+		}
+
+		@Override
+		public Boolean visit(FunctObjectPropAxiom axiom) {
+			return false;
+		}
+
+		@Override
+		public Boolean visit(GCI0Axiom axiom) {
+			return true;
+		}
+
+		@Override
+		public Boolean visit(GCI1Axiom axiom) {
+			return true;
+		}
+
+		@Override
+		public Boolean visit(GCI2Axiom axiom) {
+			return true;
+		}
+
+		@Override
+		public Boolean visit(GCI3Axiom axiom) {
+			return true;
+		}
+
+		@Override
+		public Boolean visit(NominalAxiom axiom) {
+			return true;
+		}
+
+		@Override
+		public Boolean visit(RangeAxiom axiom) {
+			return false;
+		}
+
+		@Override
+		public Boolean visit(RI1Axiom axiom) {
+			return false;
+		}
+
+		@Override
+		public Boolean visit(RI2Axiom axiom) {
+			return axiom.getSubProperty() == axiom.getSuperProperty();
+		}
+
+		@Override
+		public Boolean visit(RI3Axiom axiom) {
+			return false;
+		}
+
+	}
+
+	private final CompletionRuleChainSelector chainSelector;
+	private final Set<Integer> classSet;
+	private final Set<Integer> objectPropertySet;
+	private final List<REntry> rEntries;
+	private final Set<NormalizedIntegerAxiom> saturatedAxiomSet;
+	private final List<SEntry> sEntries;
+
+	/**
+	 * Constructs a new saturated layer by saturating the given axioms with the
+	 * completion rules chosen for the given expressivity. The expressivity
+	 * should be the one of the axioms that will be classified with this layer,
+	 * so that the processor uses the same completion rules.
+	 * 
+	 * @param originalObjectProperties
+	 *            set of original object properties
+	 * @param originalClasses
+	 *            set of original classes
+	 * @param normalizedAxiomSet
+	 *            set of normalized axioms
+	 * @param expressivity
+	 *            expressivity
+	 * @param factory
+	 *            factory of normalized integer axioms
+	 * @param entityManager
+	 *            entity manager
+	 */
+	public SaturatedLayer(Set<Integer> originalObjectProperties, Set<Integer> originalClasses,
+			Set<NormalizedIntegerAxiom> normalizedAxiomSet, OntologyExpressivity expressivity,
+			NormalizedIntegerAxiomFactory factory, IntegerEntityManager entityManager) {
+		Objects.requireNonNull(originalObjectProperties);
+		Objects.requireNonNull(originalClasses);
+		Objects.requireNonNull(normalizedAxiomSet);
+		Objects.requireNonNull(expressivity);
+		Objects.requireNonNull(factory);
+		Objects.requireNonNull(entityManager);
+		this.objectPropertySet = Collections.unmodifiableSet(new HashSet<>(originalObjectProperties));
+		this.classSet = Collections.unmodifiableSet(new HashSet<>(originalClasses));
+		this.chainSelector = new CompletionRuleChainSelector(expressivity);
+		this.saturatedAxiomSet = Collections
+				.unmodifiableSet(new SubPropertyNormalizer(factory, entityManager).apply(normalizedAxiomSet));
+
+		RuleBasedProcessor processor = new RuleBasedProcessor(this.objectPropertySet, this.classSet,
+				this.saturatedAxiomSet, expressivity, factory, entityManager);
+		processor.saturate();
+		this.sEntries = Collections.unmodifiableList(processor.copySetS());
+		this.rEntries = Collections.unmodifiableList(processor.copySetR());
+	}
+
+	/**
+	 * Returns the selector of the completion rules used to saturate this
+	 * layer.
+	 * 
+	 * @return the selector of the completion rules used to saturate this layer
+	 */
+	public CompletionRuleChainSelector getChainSelector() {
+		return this.chainSelector;
+	}
+
+	/**
+	 * Returns the original classes of this layer.
+	 * 
+	 * @return the original classes of this layer
+	 */
+	public Set<Integer> getClasses() {
+		return this.classSet;
+	}
+
+	/**
+	 * Returns the original object properties of this layer.
+	 * 
+	 * @return the original object properties of this layer
+	 */
+	public Set<Integer> getObjectProperties() {
+		return this.objectPropertySet;
+	}
+
+	/**
+	 * Returns the entries of the set R.
+	 * 
+	 * @return the entries of the set R
+	 */
+	public List<REntry> getREntries() {
+		return this.rEntries;
+	}
+
+	/**
+	 * Returns the axioms of this layer after saturating the object property
+	 * axioms.
+	 * 
+	 * @return the axioms of this layer after saturating the object property
+	 *         axioms
+	 */
+	public Set<NormalizedIntegerAxiom> getSaturatedAxiomSet() {
+		return this.saturatedAxiomSet;
+	}
+
+	/**
+	 * Returns the entries of the set S.
+	 * 
+	 * @return the entries of the set S
+	 */
+	public List<SEntry> getSEntries() {
+		return this.sEntries;
+	}
+
+	/**
+	 * Tells whether a processor can start from this layer to classify the
+	 * axioms of this layer together with the given axioms.
+	 * 
+	 * @param selector
+	 *            selector of the completion rules of the processor
+	 * @param deltaAxiomSet
+	 *            saturated axioms that are not in this layer
+	 * @return <code>true</code> if and only if a processor can start from this
+	 *         layer
+	 */
+	public boolean isApplicable(CompletionRuleChainSelector selector, Set<NormalizedIntegerAxiom> deltaAxiomSet) {
+		Objects.requireNonNull(selector);
+		Objects.requireNonNull(deltaAxiomSet);
+		DeltaAxiomFilter filter = new DeltaAxiomFilter();
+		return !selector.isExtendedRulesActive() && this.chainSelector.usesSameRules(selector)
+				&& deltaAxiomSet.stream().allMatch(axiom -> axiom.accept(filter));
+	}
+
+	@Override
+	public String toString() {
+		return "S=" + this.sEntries.size() + " R=" + this.rEntries.size();
+	}
+
+}
@@ -0,0 +1,120 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.rulebased;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import de.tudresden.inf.lat.jcel.core.completion.common.XEntry;
+
+/**
+ * An object of this class remembers entries that have already been added to
+ * the queues. It is a table of fixed size, where each entry can only be stored
+ * in one slot. Storing an entry overwrites the entry that was in the same slot
+ * before. Therefore, this cache can forget entries, but it never reports an
+ * entry as seen if it was not added. This class is thread-safe.
+ *
+ * @author Julian Mendez
+ */
+public class SeenEntryCache {
+
+	public static final int defaultSizeExponent = 16;
+
+	private final int mask;
+	private final AtomicReferenceArray<XEntry> table;
+
+	/**
+	 * Constructs a new cache of seen entries using the default size.
+	 */
+	public SeenEntryCache() {
+		this(defaultSizeExponent);
+	}
+
+	/**
+	 * Constructs a new cache of seen entries.
+	 *
+	 * @param sizeExponent
+	 *            the cache has 2 to the power of this number slots
+	 */
+	public SeenEntryCache(int sizeExponent) {
+		if (sizeExponent < 0 || sizeExponent > 30) {
+			throw new IllegalArgumentException("Invalid size exponent: '" + sizeExponent + "'.");
+		}
+		this.table = new AtomicReferenceArray<>(1 << sizeExponent);
+		this.mask = (1 << sizeExponent) - 1;
+	}
+
+	/**
+	 * Stores the given entry and tells whether it was already stored.
+	 *
+	 * @param entry
+	 *            entry
+	 * @return <code>true</code> if and only if the entry was already stored
+	 */
+	public boolean checkAndAdd(XEntry entry) {
+		Objects.requireNonNull(entry);
+		int hash = entry.hashCode();
+		int index = (hash ^ (hash >>> 16)) & this.mask;
+		XEntry previous = this.table.getAndSet(index, entry);
+		return entry.equals(previous);
+	}
+
+	/**
+	 * Returns the number of slots of this cache.
+	 *
+	 * @return the number of slots of this cache
+	 */
+	public int getSize() {
+		return this.table.length();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "(" + getSize() + ")";
+	}
+
+}
@@ -0,0 +1,325 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.rulebased;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+
+import de.tudresden.inf.lat.jcel.coreontology.axiom.ExtendedOntology;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
+import de.tudresden.inf.lat.util.map.OptMap;
+import de.tudresden.inf.lat.util.map.OptMapImpl;
+
+/**
+ * An object of this class is the told class hierarchy of an ontology, i.e. the
+ * subsumptions given by the GCI0 axioms. The hierarchy is traversed only once,
+ * when the object is constructed, to find its strongly connected components.
+ * The components are kept in topological order, with superclasses first, and
+ * both the told subsumers and the rank of each class are derived from that
+ * order, and so is the order used to renumber the classes. The bottom class is
+ * not considered, since unsatisfiability is handled by the completion rules. The top class is only included as a key if it
+ * belongs to the ontology.
+ *
+ * @author Julian Mendez
+ */
+public class ToldHierarchy {
+
+	private static final int bottomClassId = IntegerEntityManager.bottomClassId;
+	private static final int topClassId = IntegerEntityManager.topClassId;
+
+	private final int[] classIds;
+	private final int[] component;
+	private final List<int[]> componentMembers = new ArrayList<>();
+	private final boolean includesTopClass;
+	private final int[][] superClassIndices;
+
+	/**
+	 * Constructs the told class hierarchy of an ontology.
+	 *
+	 * @param ontology
+	 *            extended ontology
+	 */
+	public ToldHierarchy(ExtendedOntology ontology) {
+		Objects.requireNonNull(ontology);
+		TreeSet<Integer> classSet = new TreeSet<>(ontology.getClassSet());
+		this.includesTopClass = classSet.contains(topClassId);
+		classSet.add(topClassId);
+		classSet.remove(bottomClassId);
+
+		this.classIds = classSet.stream().mapToInt(classId -> classId).toArray();
+		OptMap<Integer, Integer> indexMap = new OptMapImpl<>(new HashMap<>());
+		for (int index = 0; index < this.classIds.length; index++) {
+			indexMap.put(this.classIds[index], index);
+		}
+
+		this.superClassIndices = new int[this.classIds.length][];
+		for (int index = 0; index < this.classIds.length; index++) {
+			int subClass = this.classIds[index];
+			this.superClassIndices[index] = ontology.getGCI0Axioms(subClass).stream() //
+					.mapToInt(axiom -> axiom.getSuperClass()) //
+					.filter(superClass -> superClass != subClass) //
+					.mapToObj(superClass -> indexMap.get(superClass)) //
+					.filter(optIndex -> optIndex.isPresent()) //
+					.mapToInt(optIndex -> optIndex.get()) //
+					.distinct().toArray();
+		}
+
+		this.component = new int[this.classIds.length];
+		computeComponents();
+	}
+
+	/**
+	 * Finds the strongly connected components of the told hierarchy with an
+	 * iterative version of Tarjan's algorithm. Since the edges go from
+	 * subclasses to superclasses, each component is completed after the
+	 * components of its superclasses.
+	 */
+	private void computeComponents() {
+		int size = this.classIds.length;
+		int[] visitIndex = new int[size];
+		int[] lowLink = new int[size];
+		int[] nextEdge = new int[size];
+		boolean[] onStack = new boolean[size];
+		int[] componentStack = new int[size];
+		int[] callStack = new int[size];
+		Arrays.fill(visitIndex, -1);
+		int counter = 0;
+		int componentStackSize = 0;
+
+		for (int root = 0; root < size; root++) {
+			if (visitIndex[root] == -1) {
+				int callStackSize = 0;
+				callStack[callStackSize++] = root;
+				visitIndex[root] = counter;
+				lowLink[root] = counter;
+				counter++;
+				componentStack[componentStackSize++] = root;
+				onStack[root] = true;
+
+				while (callStackSize > 0) {
+					int node = callStack[callStackSize - 1];
+					if (nextEdge[node] < this.superClassIndices[node].length) {
+						int next = this.superClassIndices[node][nextEdge[node]];
+						nextEdge[node]++;
+						if (visitIndex[next] == -1) {
+							callStack[callStackSize++] = next;
+							visitIndex[next] = counter;
+							lowLink[next] = counter;
+							counter++;
+							componentStack[componentStackSize++] = next;
+							onStack[next] = true;
+						} else if (onStack[next]) {
+							lowLink[node] = Math.min(lowLink[node], visitIndex[next]);
+						}
+
+					} else {
+						callStackSize--;
+						if (callStackSize > 0) {
+							int parent = callStack[callStackSize - 1];
+							lowLink[parent] = Math.min(lowLink[parent], lowLink[node]);
+						}
+						if (lowLink[node] == visitIndex[node]) {
+							int componentId = this.componentMembers.size();
+							int start = componentStackSize;
+							do {
+								start--;
+								onStack[componentStack[start]] = false;
+								this.component[componentStack[start]] = componentId;
+							} while (componentStack[start] != node);
+							this.componentMembers.add(Arrays.copyOfRange(componentStack, start, componentStackSize));
+							componentStackSize = start;
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Computes an order of the classes that follows the told hierarchy. The
+	 * order starts with the bottom class and the top class, and continues with
+	 * a depth-first traversal from the classes that do not have told
+	 * superclasses down to their told subclasses, so that each told subtree is
+	 * contiguous. Siblings are visited in ascending order. Classes that are
+	 * only reachable through a cycle are traversed at the end.
+	 *
+	 * @return the classes of the ontology, including the bottom class and the
+	 *         top class, in told hierarchy order
+	 */
+	public List<Integer> computeOrder() {
+		int size = this.classIds.length;
+		int topIndex = Arrays.binarySearch(this.classIds, topClassId);
+		int[] numberOfSubClasses = new int[size];
+		boolean[] hasSuperClass = new boolean[size];
+		for (int index = 0; index < size; index++) {
+			if (index != topIndex) {
+				for (int superClassIndex : this.superClassIndices[index]) {
+					if (superClassIndex != topIndex) {
+						numberOfSubClasses[superClassIndex]++;
+						hasSuperClass[index] = true;
+					}
+				}
+			}
+		}
+
+		int[][] subClassIndices = new int[size][];
+		for (int index = 0; index < size; index++) {
+			subClassIndices[index] = new int[numberOfSubClasses[index]];
+			numberOfSubClasses[index] = 0;
+		}
+		for (int index = 0; index < size; index++) {
+			if (index != topIndex) {
+				for (int superClassIndex : this.superClassIndices[index]) {
+					if (superClassIndex != topIndex) {
+						subClassIndices[superClassIndex][numberOfSubClasses[superClassIndex]] = index;
+						numberOfSubClasses[superClassIndex]++;
+					}
+				}
+			}
+		}
+
+		List<Integer> ret = new ArrayList<>();
+		ret.add(bottomClassId);
+		ret.add(topClassId);
+		boolean[] visited = new boolean[size];
+		visited[topIndex] = true;
+		for (int root = 0; root < size; root++) {
+			if (!hasSuperClass[root]) {
+				visit(root, subClassIndices, visited, ret);
+			}
+		}
+		for (int root = 0; root < size; root++) {
+			visit(root, subClassIndices, visited, ret);
+		}
+		return ret;
+	}
+
+	/**
+	 * Computes a rank for each class, such that every class has a greater rank
+	 * than its told superclasses, except those in the same cycle of told
+	 * subsumptions. Classes in the same cycle have the same rank.
+	 *
+	 * @return a map that assigns a rank to each class
+	 */
+	public OptMap<Integer, Integer> computeRank() {
+		OptMap<Integer, Integer> ret = new OptMapImpl<>(new HashMap<>());
+		for (int index = 0; index < this.classIds.length; index++) {
+			if (this.includesTopClass || this.classIds[index] != topClassId) {
+				ret.put(this.classIds[index], this.component[index]);
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Computes the told subsumers of each class, i.e. the reflexive and
+	 * transitive closure of the told hierarchy, plus the top class. The
+	 * subsumers of each component are computed as the union of the subsumers
+	 * of its direct superclasses. Classes in the same strongly connected
+	 * component share the same array.
+	 *
+	 * @return a map that assigns to each class its told subsumers, sorted in
+	 *         ascending order
+	 */
+	public OptMap<Integer, int[]> computeToldSubsumers() {
+		List<int[]> componentSubsumers = new ArrayList<>();
+		BitSet union = new BitSet(this.classIds.length);
+		int topIndex = Arrays.binarySearch(this.classIds, topClassId);
+		for (int componentId = 0; componentId < this.componentMembers.size(); componentId++) {
+			union.clear();
+			union.set(topIndex);
+			for (int member : this.componentMembers.get(componentId)) {
+				union.set(member);
+				for (int superClassIndex : this.superClassIndices[member]) {
+					if (this.component[superClassIndex] != componentId) {
+						for (int subsumer : componentSubsumers.get(this.component[superClassIndex])) {
+							union.set(subsumer);
+						}
+					}
+				}
+			}
+			componentSubsumers.add(union.stream().toArray());
+		}
+
+		OptMap<Integer, int[]> ret = new OptMapImpl<>(new HashMap<>());
+		List<int[]> componentClassIds = new ArrayList<>();
+		componentSubsumers.forEach(indices -> componentClassIds
+				.add(Arrays.stream(indices).map(index -> this.classIds[index]).toArray()));
+		for (int index = 0; index < this.classIds.length; index++) {
+			if (this.includesTopClass || this.classIds[index] != topClassId) {
+				ret.put(this.classIds[index], componentClassIds.get(this.component[index]));
+			}
+		}
+		return ret;
+	}
+
+	private void visit(int root, int[][] subClassIndices, boolean[] visited, List<Integer> order) {
+		Deque<Integer> stack = new ArrayDeque<>();
+		stack.push(root);
+		while (!stack.isEmpty()) {
+			int current = stack.pop();
+			if (!visited[current]) {
+				visited[current] = true;
+				order.add(this.classIds[current]);
+				for (int pos = subClassIndices[current].length - 1; pos >= 0; pos--) {
+					int subClass = subClassIndices[current][pos];
+					if (!visited[subClass]) {
+						stack.push(subClass);
+					}
+				}
+			}
+		}
+	}
+
+}
@@ -52,16 +52,24 @@ import java.io.Writer;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeMap;
 
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerNamePool;
 import de.tudresden.inf.lat.util.map.OptMap;
 import de.tudresden.inf.lat.util.map.OptMapImpl;
 
 /**
  * An object of this class creates a stream in a particular case of Turtle
- * (Terse RDF Triple Language).
+ * (Terse RDF Triple Language). Entities can be given by name, or by
+ * identifier, in which case the namespaces of the name pool of the entity
+ * manager are used as prefixes. The name of each identifier is parsed only
+ * once, to check that the abbreviation refers to the same URI.
  *
  * @author Julian Mendez
  */
@@ -79,6 +87,9 @@ public class TurtleRenderer {
 	private static final String uriDelimiterLeft = "<";
 	private static final String uriDelimiterRight = ">";
 	private final OptMap<String, String> mapOfPrefixes = new OptMapImpl<>(new TreeMap<>());
+	private final Set<Integer> namespacesLoaded = new HashSet<>();
+	private final OptMap<Integer, String> namespacePrefixes = new OptMapImpl<>(new HashMap<>());
+	private final OptMap<Integer, Boolean> shortcutValidity = new OptMapImpl<>(new HashMap<>());
 
 	private final BufferedWriter output;
 
@@ -139,6 +150,36 @@ public class TurtleRenderer {
 		return ret;
 	}
 
+	/**
+	 * Tells whether the name of the given identifier can be written as its
+	 * namespace prefix followed by its local name. This is the case if the
+	 * name is parsed as a URI with that namespace as prefix and that local
+	 * name. The result is cached for each identifier.
+	 *
+	 * @param namePool
+	 *            name pool
+	 * @param identifier
+	 *            identifier
+	 * @return <code>true</code> if and only if the name of the given
+	 *         identifier can be written with the prefix of its namespace
+	 */
+	private boolean isShortcutValid(IntegerNamePool namePool, int identifier) {
+		Optional<Boolean> optValid = this.shortcutValidity.get(identifier);
+		if (!optValid.isPresent()) {
+			boolean valid = false;
+			String namespace = namePool.getNamespace(namePool.getNamespaceId(identifier));
+			String localName = namePool.getLocalName(identifier);
+			try {
+				URI uri = new URI(namespace + localName);
+				valid = getPrefix(uri).equals(namespace) && localName.equals(getName(uri));
+			} catch (URISyntaxException e) {
+			}
+			optValid = Optional.of(valid);
+			this.shortcutValidity.put(identifier, valid);
+		}
+		return optValid.get();
+	}
+
 	/**
 	 * Loads a set of names and gets the prefixes from these names.
 	 *
@@ -163,6 +204,45 @@ public class TurtleRenderer {
 		return ret;
 	}
 
+	/**
+	 * Loads the namespaces of the names of the given identifiers as prefixes.
+	 * Each namespace of the name pool is parsed only once. A namespace is used
+	 * as a prefix only if it is the same prefix that would be found by parsing
+	 * the names.
+	 *
+	 * @param namePool
+	 *            name pool
+	 * @param identifiers
+	 *            identifiers
+	 * @return <code>true</code> if and only if at least one prefix has been
+	 *         found
+	 */
+	public boolean loadPrefixes(IntegerNamePool namePool, Collection<Integer> identifiers) {
+		Objects.requireNonNull(namePool);
+		Objects.requireNonNull(identifiers);
+		boolean ret = false;
+		for (int identifier : identifiers) {
+			if (namePool.contains(identifier)) {
+				int namespaceId = namePool.getNamespaceId(identifier);
+				if (this.namespacesLoaded.add(namespaceId)) {
+					String namespace = namePool.getNamespace(namespaceId);
+					try {
+						String prefix = getPrefix(new URI(namespace + namePool.getLocalName(identifier)));
+						if ((prefix.length() > 0) && !this.mapOfPrefixes.containsKey(prefix)) {
+							this.mapOfPrefixes.put(prefix, prefixBeginning + this.mapOfPrefixes.keySet().size());
+							ret = true;
+						}
+						if (prefix.equals(namespace)) {
+							this.namespacePrefixes.put(namespaceId, this.mapOfPrefixes.get(prefix).get());
+						}
+					} catch (URISyntaxException e) {
+					}
+				}
+			}
+		}
+		return ret;
+	}
+
 	/**
 	 * Renders the prefixes with their abbreviations.
 	 *
@@ -212,4 +292,78 @@ public class TurtleRenderer {
 		this.output.flush();
 	}
 
+	/**
+	 * Renders a triple with entities given by their identifiers, trying to
+	 * replace prefixes by their abbreviations.
+	 *
+	 * @param entityManager
+	 *            entity manager
+	 * @param predicate
+	 *            predicate
+	 * @param subject
+	 *            subject
+	 * @param object
+	 *            object
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 */
+	public void renderTriple(IntegerEntityManager entityManager, String predicate, int subject, int object)
+			throws IOException {
+		Objects.requireNonNull(entityManager);
+		Objects.requireNonNull(predicate);
+		writeEntity(entityManager, subject);
+		this.output.write(separator);
+		this.output.write(getTurtleEntity(predicate));
+		this.output.write(separator);
+		writeEntity(entityManager, object);
+		this.output.write(space);
+		this.output.write(lineEnd);
+		this.output.newLine();
+		this.output.flush();
+	}
+
+	/**
+	 * Renders a triple with entities given by their identifiers, trying to
+	 * replace prefixes by their abbreviations.
+	 *
+	 * @param entityManager
+	 *            entity manager
+	 * @param predicate
+	 *            predicate
+	 * @param subject
+	 *            subject
+	 * @param object
+	 *            object
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 */
+	public void renderTriple(IntegerEntityManager entityManager, int predicate, int subject, int object)
+			throws IOException {
+		Objects.requireNonNull(entityManager);
+		writeEntity(entityManager, subject);
+		this.output.write(separator);
+		writeEntity(entityManager, predicate);
+		this.output.write(separator);
+		writeEntity(entityManager, object);
+		this.output.write(space);
+		this.output.write(lineEnd);
+		this.output.newLine();
+		this.output.flush();
+	}
+
+	private void writeEntity(IntegerEntityManager entityManager, int identifier) throws IOException {
+		IntegerNamePool namePool = entityManager.getNamePool();
+		Optional<String> optPrefixId = Optional.empty();
+		if (namePool.contains(identifier)) {
+			optPrefixId = this.namespacePrefixes.get(namePool.getNamespaceId(identifier));
+		}
+		if (optPrefixId.isPresent() && isShortcutValid(namePool, identifier)) {
+			this.output.write(optPrefixId.get());
+			this.output.write(prefixSeparator);
+			this.output.write(namePool.getLocalName(identifier));
+		} else {
+			this.output.write(getTurtleEntity(entityManager.getName(identifier)));
+		}
+	}
+
 }
@@ -95,10 +95,7 @@ public class CR1SRule implements SObserverRule {
 	private boolean applyRule(ExtendedOntology ontology, Function<Integer, Function<Integer, Boolean>> queue, int x,
 			int a) {
 		CompletionRuleMonitor ret = new CompletionRuleMonitor();
-		ontology.getGCI0Axioms(a).forEach(axiom -> {
-			int b = axiom.getSuperClass();
-			ret.or(queue.apply(x).apply(b));
-		});
+		ontology.forEachGCI0SuperClass(a, b -> ret.or(queue.apply(x).apply(b)));
 		return ret.get();
 	}
 
@@ -99,20 +99,10 @@ public class CR2SRule implements SObserverRule {
 	private boolean applyRule(ClassifierStatus status, int x, int a) {
 		CompletionRuleMonitor ret = new CompletionRuleMonitor();
 		Collection<Integer> subsumersOfX = status.getSubsumers(x);
-		status.getExtendedOntology().getGCI1Axioms(a).forEach(axiom -> {
-			boolean valid = true;
-
-			if (a == axiom.getRightSubClass()) {
-				valid = valid && subsumersOfX.contains(axiom.getLeftSubClass());
-			} else {
-				valid = valid && subsumersOfX.contains(axiom.getRightSubClass());
-			}
-
-			if (valid) {
-				int b = axiom.getSuperClass();
+		status.getExtendedOntology().forEachGCI1Operands(a, (otherClass, b) -> {
+			if (subsumersOfX.contains(otherClass)) {
 				ret.or(status.addNewSEntry(x, b));
 			}
-
 		});
 		return ret.get();
 	}
@@ -94,11 +94,7 @@ public class CR3SRule implements SObserverRule {
 	private boolean applyRule(ExtendedOntology ontology,
 			Function<Integer, Function<Integer, Function<Integer, Boolean>>> queue, int x, int a) {
 		CompletionRuleMonitor ret = new CompletionRuleMonitor();
-		ontology.getGCI2Axioms(a).forEach(axiom -> {
-			int r = axiom.getPropertyInSuperClass();
-			int b = axiom.getClassInSuperClass();
-			ret.or(queue.apply(r).apply(x).apply(b));
-		});
+		ontology.forEachGCI2Operands(a, (r, b) -> ret.or(queue.apply(r).apply(x).apply(b)));
 		return ret.get();
 	}
 
@@ -87,9 +87,8 @@ public class CR4SRule implements SObserverRule {
 	private boolean applyRule(ClassifierStatus status, int y, int a) {
 		CompletionRuleMonitor ret = new CompletionRuleMonitor();
 		status.getObjectPropertiesBySecond(y).forEach(r -> {
-			status.getExtendedOntology().getGCI3rAAxioms(r, a).forEach(axiom -> {
+			status.getExtendedOntology().forEachGCI3rASuperClass(r, a, b -> {
 				status.getFirstBySecond(r, y).forEach(x -> {
-					int b = axiom.getSuperClass();
 					ret.or(status.addNewSEntry(x, b));
 				});
 			});
@@ -46,11 +46,19 @@
 
 package de.tudresden.inf.lat.jcel.core.completion.basic;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntFunction;
 
 import de.tudresden.inf.lat.jcel.core.completion.common.ClassifierStatus;
 import de.tudresden.inf.lat.jcel.core.completion.common.CompletionRuleMonitor;
 import de.tudresden.inf.lat.jcel.core.completion.common.RObserverRule;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.RI3Axiom;
+import de.tudresden.inf.lat.util.map.OptMap;
+import de.tudresden.inf.lat.util.map.OptMapImpl;
 
 /**
  * 
@@ -68,6 +76,10 @@ import de.tudresden.inf.lat.jcel.core.completion.common.RObserverRule;
  * <b>then</b> R(t) := R(t) &cup; {(X, Z)}</li>
  * </ul>
  * 
+ * The axioms that share the given property are composed as a join: the row of
+ * each joined property and of each target property is retrieved only once, and
+ * a pair is only added if it is not already in the row of the target property.
+ * 
  * @author Julian Mendez
  */
 public class CR6RRule implements RObserverRule {
@@ -89,28 +101,69 @@ public class CR6RRule implements RObserverRule {
 
 	private boolean apply1(ClassifierStatus status, int r, int x, int y) {
 		CompletionRuleMonitor ret = new CompletionRuleMonitor();
-		status.getExtendedOntology().getRI3AxiomsByLeft(r).forEach(axiom -> {
-			int s = axiom.getRightSubProperty();
-			int t = axiom.getSuperProperty();
-			status.getSecondByFirst(s, y).forEach(z -> {
-				ret.or(status.addNewREntry(t, x, z));
+		Set<RI3Axiom> axioms = status.getExtendedOntology().getRI3AxiomsByLeft(r);
+		if (!axioms.isEmpty()) {
+			OptMap<Integer, Collection<Integer>> joinRows = new OptMapImpl<>(new HashMap<>());
+			OptMap<Integer, Collection<Integer>> targetRows = new OptMapImpl<>(new HashMap<>());
+			axioms.forEach(axiom -> {
+				int s = axiom.getRightSubProperty();
+				int t = axiom.getSuperProperty();
+				Collection<Integer> joinRow = getRow(joinRows, s, property -> status.getSecondByFirst(property, y));
+				Collection<Integer> targetRow = getRow(targetRows, t, property -> status.getSecondByFirst(property, x));
+				joinRow.forEach(z -> {
+					if (targetRow.add(z)) {
+						ret.or(status.addNewREntry(t, x, z));
+					}
+				});
 			});
-		});
+		}
 		return ret.get();
 	}
 
 	private boolean apply2(ClassifierStatus status, int s, int y, int z) {
 		CompletionRuleMonitor ret = new CompletionRuleMonitor();
-		status.getExtendedOntology().getRI3AxiomsByRight(s).forEach(axiom -> {
-			int r = axiom.getLeftSubProperty();
-			int t = axiom.getSuperProperty();
-			status.getFirstBySecond(r, y).forEach(x -> {
-				ret.or(status.addNewREntry(t, x, z));
+		Set<RI3Axiom> axioms = status.getExtendedOntology().getRI3AxiomsByRight(s);
+		if (!axioms.isEmpty()) {
+			OptMap<Integer, Collection<Integer>> joinRows = new OptMapImpl<>(new HashMap<>());
+			OptMap<Integer, Collection<Integer>> targetRows = new OptMapImpl<>(new HashMap<>());
+			axioms.forEach(axiom -> {
+				int r = axiom.getLeftSubProperty();
+				int t = axiom.getSuperProperty();
+				Collection<Integer> joinRow = getRow(joinRows, r, property -> status.getFirstBySecond(property, y));
+				Collection<Integer> targetRow = getRow(targetRows, t, property -> status.getFirstBySecond(property, z));
+				joinRow.forEach(x -> {
+					if (targetRow.add(x)) {
+						ret.or(status.addNewREntry(t, x, z));
+					}
+				});
 			});
-		});
+		}
 		return ret.get();
 	}
 
+	/**
+	 * Returns the row of the given property, retrieving it only the first time
+	 * it is requested. The rows are copies, so they can be extended with the
+	 * pairs that are added while composing.
+	 * 
+	 * @param rows
+	 *            rows already retrieved
+	 * @param property
+	 *            object property
+	 * @param rowFunction
+	 *            function that retrieves the row of a property
+	 * @return the row of the given property
+	 */
+	private Collection<Integer> getRow(OptMap<Integer, Collection<Integer>> rows, int property,
+			IntFunction<Collection<Integer>> rowFunction) {
+		Optional<Collection<Integer>> optRow = rows.get(property);
+		if (!optRow.isPresent()) {
+			optRow = Optional.of(rowFunction.apply(property));
+			rows.put(property, optRow.get());
+		}
+		return optRow.get();
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		return (Objects.nonNull(o)) && getClass().equals(o.getClass());
@@ -227,4 +227,23 @@ public interface ClassifierStatus {
 	 */
 	Collection<Integer> getSuperObjectProperties(int objectProperty);
 
+	/**
+	 * Merges the given nodes with the nodes that were merged before as
+	 * successors of the given class through sub-properties of the given
+	 * functional object property. The nodes of each class and functional
+	 * object property are represented by a single node, which is replaced
+	 * only when a node that was not merged before brings new existentials.
+	 * The subsumers of the merged nodes are added to the representative.
+	 * 
+	 * @param functionalProperty
+	 *            functional object property
+	 * @param classId
+	 *            class whose successors are merged
+	 * @param nodes
+	 *            successors to be merged, which must be nodes of the form
+	 *            (\u22A4 , &psi;)
+	 * @return the node that represents all the successors merged so far
+	 */
+	int mergeFunctionalSuccessors(int functionalProperty, int classId, Collection<Integer> nodes);
+
 }
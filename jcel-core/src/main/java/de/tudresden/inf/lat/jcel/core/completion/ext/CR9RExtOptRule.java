@@ -46,7 +46,7 @@
 
 package de.tudresden.inf.lat.jcel.core.completion.ext;
 
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -55,7 +55,6 @@ import de.tudresden.inf.lat.jcel.core.completion.common.ClassifierStatus;
 import de.tudresden.inf.lat.jcel.core.completion.common.CompletionRuleMonitor;
 import de.tudresden.inf.lat.jcel.core.completion.common.RObserverRule;
 import de.tudresden.inf.lat.jcel.core.graph.VNode;
-import de.tudresden.inf.lat.jcel.core.graph.VNodeImpl;
 import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
 
 /**
@@ -78,6 +77,11 @@ import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
  * </ul>
  * <br>
  * 
+ * The merged nodes are kept per class and functional object property, so
+ * that only the successors that were not merged before are added to the node
+ * that represents them.
+ * <br>
+ * 
  * @author Julian Mendez
  */
 public class CR9RExtOptRule implements RObserverRule {
@@ -96,50 +100,43 @@ public class CR9RExtOptRule implements RObserverRule {
 
 	private boolean applyRule(ClassifierStatus status, int r1, int x, int y) {
 		CompletionRuleMonitor ret = new CompletionRuleMonitor();
-		Optional<VNode> optPsiNode = status.getNode(y);
-		if (!optPsiNode.isPresent()) {
-			throw new IllegalStateException("Node not found in internal structure '" + y + "'.");
-		}
-		if (optPsiNode.get().getClassId() == IntegerEntityManager.topClassId) {
+		if (isTopNode(status, y)) {
+			Set<Integer> functionalProperties = status.getExtendedOntology().getFunctionalObjectProperties();
+			status.getSuperObjectProperties(r1).forEach(s -> {
+				if (functionalProperties.contains(s)) {
+					Set<Integer> valid = new LinkedHashSet<>();
+					Set<Integer> properties = new LinkedHashSet<>();
+					valid.add(y);
+					properties.add(r1);
+					status.getSubObjectProperties(s).forEach(r2 -> {
+						status.getSecondByFirst(r2, x).forEach(yi -> {
+							if (isTopNode(status, yi)) {
+								valid.add(yi);
+								properties.add(r2);
+							}
+						});
+					});
 
-			Set<Integer> valid = new HashSet<>();
-			valid.add(y);
-			status.getObjectPropertiesWithFunctionalAncestor(r1).forEach(r2 -> {
-				status.getSecondByFirst(r2, x).forEach(yi -> {
-					Optional<VNode> optPhiNode = status.getNode(yi);
-					if (!optPhiNode.isPresent()) {
-						throw new IllegalStateException("Node not found in internal structure '" + yi + "'.");
+					if (valid.size() > 1) {
+						int v = status.mergeFunctionalSuccessors(s, x, valid);
+						properties.forEach(ri -> {
+							ret.or(status.addNewREntry(ri, x, v));
+						});
 					}
-					if (optPhiNode.get().getClassId() == IntegerEntityManager.topClassId) {
-						valid.add(yi);
-					}
-				});
+				}
 			});
-
-			if (valid.size() > 1) {
-				VNodeImpl newNode = new VNodeImpl(IntegerEntityManager.topClassId);
-				valid.forEach(yi -> {
-					Optional<VNode> optPhiNode = status.getNode(yi);
-					if (!optPsiNode.isPresent()) {
-						throw new IllegalStateException("Node not found in internal structure '" + yi + "'.");
-					}
-					newNode.addExistentialsOf(optPhiNode.get());
-				});
-				int v = status.createOrGetNodeId(newNode);
-				valid.forEach(yi -> {
-
-					status.getSubsumers(yi).forEach(p -> {
-						ret.or(status.addNewSEntry(v, p));
-					});
-
-					ret.or(status.addNewREntry(r1, x, v));
-				});
-			}
-
 		}
 		return ret.get();
 	}
 
+	private boolean isTopNode(ClassifierStatus status, int nodeId) {
+		Optional<VNode> optNode = status.getNode(nodeId);
+		if (!optNode.isPresent()) {
+			throw new IllegalStateException("Node not found in internal structure '" + nodeId + "'.");
+		}
+		return optNode.get().getClassId() == IntegerEntityManager.topClassId;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		return (Objects.nonNull(o)) && getClass().equals(o.getClass());
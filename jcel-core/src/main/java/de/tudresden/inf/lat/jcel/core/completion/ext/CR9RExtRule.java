@@ -46,14 +46,15 @@
 
 package de.tudresden.inf.lat.jcel.core.completion.ext;
 
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import de.tudresden.inf.lat.jcel.core.completion.common.ClassifierStatus;
 import de.tudresden.inf.lat.jcel.core.completion.common.CompletionRuleMonitor;
 import de.tudresden.inf.lat.jcel.core.completion.common.RObserverRule;
 import de.tudresden.inf.lat.jcel.core.graph.VNode;
-import de.tudresden.inf.lat.jcel.core.graph.VNodeImpl;
 import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
 
 /**
@@ -72,6 +73,11 @@ import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
  * </ul>
  * <br>
  * 
+ * The merged nodes are kept per class and functional object property, so
+ * that a pair is merged into the node that already represents the successors
+ * merged before, instead of creating a new node for each pair.
+ * <br>
+ * 
  * @author Julian Mendez
  */
 public class CR9RExtRule implements RObserverRule {
@@ -90,41 +96,33 @@ public class CR9RExtRule implements RObserverRule {
 
 	private boolean applyRule(ClassifierStatus status, int r1, int x, int y) {
 		CompletionRuleMonitor ret = new CompletionRuleMonitor();
-		Optional<VNode> optPsiNode = status.getNode(y);
-		if (!optPsiNode.isPresent()) {
-			throw new IllegalStateException("Node not found in internal structure '" + y + "'.");
-		}
-		if (optPsiNode.get().getClassId() == IntegerEntityManager.topClassId) {
-			status.getObjectPropertiesWithFunctionalAncestor(r1).forEach(r2 -> {
-				status.getSecondByFirst(r2, x).forEach(z -> {
-					Optional<VNode> optPhiNode = status.getNode(z);
-					if (!optPsiNode.isPresent()) {
-						throw new IllegalStateException("Node not found in internal structure '" + z + "'.");
-					}
-					if (optPhiNode.get().getClassId() == IntegerEntityManager.topClassId) {
-						if (y != z) {
-							VNodeImpl newNode = new VNodeImpl(IntegerEntityManager.topClassId);
-							newNode.addExistentialsOf(optPsiNode.get());
-							newNode.addExistentialsOf(optPhiNode.get());
-							int v = status.createOrGetNodeId(newNode);
-
-							status.getSubsumers(y).forEach(p -> {
-								ret.or(status.addNewSEntry(v, p));
-							});
-
-							status.getSubsumers(z).forEach(p -> {
-								ret.or(status.addNewSEntry(v, p));
-							});
-
-							ret.or(status.addNewREntry(r1, x, v));
-						}
-					}
-				});
+		if (isTopNode(status, y)) {
+			Set<Integer> functionalProperties = status.getExtendedOntology().getFunctionalObjectProperties();
+			status.getSuperObjectProperties(r1).forEach(s -> {
+				if (functionalProperties.contains(s)) {
+					status.getSubObjectProperties(s).forEach(r2 -> {
+						status.getSecondByFirst(r2, x).forEach(z -> {
+							if (y != z && isTopNode(status, z)) {
+								int v = status.mergeFunctionalSuccessors(s, x, Arrays.asList(y, z));
+								ret.or(status.addNewREntry(r1, x, v));
+								ret.or(status.addNewREntry(r2, x, v));
+							}
+						});
+					});
+				}
 			});
 		}
 		return ret.get();
 	}
 
+	private boolean isTopNode(ClassifierStatus status, int nodeId) {
+		Optional<VNode> optNode = status.getNode(nodeId);
+		if (!optNode.isPresent()) {
+			throw new IllegalStateException("Node not found in internal structure '" + nodeId + "'.");
+		}
+		return optNode.get().getClassId() == IntegerEntityManager.topClassId;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		return (Objects.nonNull(o)) && getClass().equals(o.getClass());
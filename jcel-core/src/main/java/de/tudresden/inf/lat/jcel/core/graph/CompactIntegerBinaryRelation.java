@@ -0,0 +1,246 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.graph;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import de.tudresden.inf.lat.util.map.OptMap;
+import de.tudresden.inf.lat.util.map.OptMapImpl;
+
+/**
+ * This class implements an immutable binary relation. It is a compact copy of
+ * a binary relation that is not going to be modified anymore. The pairs are
+ * always indexed by their first component, and they are indexed by their
+ * second component only if the original relation was.
+ *
+ * @author Julian Mendez
+ */
+public class CompactIntegerBinaryRelation implements IntegerBinaryRelation {
+
+	private final CompactIntegerRows byFirstComp;
+	private final Optional<CompactIntegerRows> bySecondComp;
+
+	/**
+	 * Constructs a compact copy of the given binary relation.
+	 *
+	 * @param relation
+	 *            binary relation
+	 * @param indexedByFirst
+	 *            <code>true</code> if the given relation can be efficiently
+	 *            traversed by its first component
+	 * @param indexedBySecond
+	 *            <code>true</code> if the given relation can be efficiently
+	 *            traversed by its second component, and that index has to be
+	 *            kept
+	 */
+	public CompactIntegerBinaryRelation(IntegerBinaryRelation relation, boolean indexedByFirst,
+			boolean indexedBySecond) {
+		this(relation, indexedByFirst, indexedBySecond, new IntegerRenumbering());
+	}
+
+	/**
+	 * Constructs a compact copy of the given binary relation that stores the
+	 * elements with their dense identifiers.
+	 *
+	 * @param relation
+	 *            binary relation
+	 * @param indexedByFirst
+	 *            <code>true</code> if the given relation can be efficiently
+	 *            traversed by its first component
+	 * @param indexedBySecond
+	 *            <code>true</code> if the given relation can be efficiently
+	 *            traversed by its second component, and that index has to be
+	 *            kept
+	 * @param renumbering
+	 *            renumbering that gives a dense identifier to every element
+	 */
+	public CompactIntegerBinaryRelation(IntegerBinaryRelation relation, boolean indexedByFirst,
+			boolean indexedBySecond, IntegerRenumbering renumbering) {
+		Objects.requireNonNull(relation);
+		Objects.requireNonNull(renumbering);
+		Set<Integer> elements = relation.getElements();
+		if (indexedByFirst) {
+			this.byFirstComp = new CompactIntegerRows(elements, relation::getByFirst, renumbering);
+		} else {
+			this.byFirstComp = invert(elements, relation::getBySecond, renumbering);
+		}
+		if (indexedBySecond) {
+			this.bySecondComp = Optional.of(new CompactIntegerRows(elements, relation::getBySecond, renumbering));
+		} else {
+			this.bySecondComp = Optional.empty();
+		}
+	}
+
+	@Override
+	public boolean contains(int first, int second) {
+		return this.byFirstComp.contains(first, second);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		boolean ret = (this == o);
+		if (!ret && (o instanceof IntegerBinaryRelation)) {
+			IntegerBinaryRelation other = (IntegerBinaryRelation) o;
+			ret = getElements().equals(other.getElements());
+
+			ret = ret && getElements().stream().allMatch(elem -> getByFirst(elem).equals(other.getByFirst(elem)));
+		}
+		return ret;
+	}
+
+	@Override
+	public Collection<Integer> getByFirst(int first) {
+		return this.byFirstComp.get(first);
+	}
+
+	@Override
+	public Collection<Integer> getBySecond(int second) {
+		Collection<Integer> ret;
+		if (this.bySecondComp.isPresent()) {
+			ret = this.bySecondComp.get().get(second);
+		} else {
+			Collection<Integer> found = new ArraySet();
+			this.byFirstComp.getKeys().forEach(key -> {
+				if (this.byFirstComp.contains(key, second)) {
+					found.add(key);
+				}
+			});
+			ret = Collections.unmodifiableCollection(found);
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the number of bytes used to encode the pairs.
+	 *
+	 * @return the number of bytes used to encode the pairs
+	 */
+	public long getDataSize() {
+		long ret = this.byFirstComp.getDataSize();
+		if (this.bySecondComp.isPresent()) {
+			ret += this.bySecondComp.get().getDataSize();
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the number of elements in the indexes, without counting the
+	 * keys.
+	 *
+	 * @return the number of elements in the indexes, without counting the
+	 *         keys
+	 */
+	public long getDeepSize() {
+		long ret = this.byFirstComp.getDeepSize();
+		if (this.bySecondComp.isPresent()) {
+			ret += this.bySecondComp.get().getDeepSize();
+		}
+		return ret;
+	}
+
+	@Override
+	public Set<Integer> getElements() {
+		return this.byFirstComp.getKeys();
+	}
+
+	@Override
+	public int hashCode() {
+		return getElements().hashCode();
+	}
+
+	private CompactIntegerRows invert(Set<Integer> elements, IntFunction<Collection<Integer>> rowFunction,
+			IntegerRenumbering renumbering) {
+		OptMap<Integer, Collection<Integer>> inverse = new OptMapImpl<>(new HashMap<>());
+		elements.forEach(elem -> rowFunction.apply(elem).forEach(other -> {
+			Optional<Collection<Integer>> optRow = inverse.get(other);
+			if (!optRow.isPresent()) {
+				optRow = Optional.of(new ArraySet());
+				inverse.put(other, optRow.get());
+			}
+			optRow.get().add(elem);
+		}));
+		return new CompactIntegerRows(elements, elem -> inverse.get(elem).orElse(Collections.emptySet()),
+				renumbering);
+	}
+
+	/**
+	 * Tells whether the pairs of this binary relation are indexed by their
+	 * second component.
+	 *
+	 * @return <code>true</code> if and only if the pairs of this binary
+	 *         relation are indexed by their second component
+	 */
+	public boolean isIndexedBySecond() {
+		return this.bySecondComp.isPresent();
+	}
+
+	@Override
+	public String toString() {
+		StringBuffer sbuf = new StringBuffer();
+		Set<Integer> elements = getElements();
+		sbuf.append("[");
+		elements.forEach(firstComponent -> {
+			Collection<Integer> connectedElem = getByFirst(firstComponent);
+			connectedElem.forEach(secondComponent -> {
+				sbuf.append(" (");
+				sbuf.append(firstComponent);
+				sbuf.append(",");
+				sbuf.append(secondComponent);
+				sbuf.append(")");
+			});
+		});
+		sbuf.append(" ]");
+		return sbuf.toString();
+	}
+
+}
@@ -0,0 +1,232 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.graph;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import de.tudresden.inf.lat.util.map.OptMap;
+import de.tudresden.inf.lat.util.map.OptMapImpl;
+
+/**
+ * This class implements an immutable map of binary relations. It is a compact
+ * copy of a map of binary relations that is not going to be modified anymore,
+ * for example after the saturation. Every relation is indexed by its first
+ * component. The relations using a particular element are not stored, but
+ * found by looking up the element in each relation.
+ *
+ * @author Julian Mendez
+ */
+public class CompactIntegerRelationMap implements IntegerRelationMap {
+
+	private final OptMap<Integer, CompactIntegerBinaryRelation> relationMap = new OptMapImpl<>(new HashMap<>());
+
+	/**
+	 * Constructs a compact copy of the given map of binary relations. The
+	 * relations that are indexed by their second component in the given map
+	 * keep that index.
+	 *
+	 * @param map
+	 *            map of binary relations
+	 */
+	public CompactIntegerRelationMap(IntegerRelationMapImpl map) {
+		this(map, new IntegerRenumbering());
+	}
+
+	/**
+	 * Constructs a compact copy of the given map of binary relations that
+	 * stores the elements of the relations with their dense identifiers. The
+	 * relation identifiers are not renumbered.
+	 *
+	 * @param map
+	 *            map of binary relations
+	 * @param renumbering
+	 *            renumbering that gives a dense identifier to every element of
+	 *            every relation
+	 */
+	public CompactIntegerRelationMap(IntegerRelationMapImpl map, IntegerRenumbering renumbering) {
+		Objects.requireNonNull(map);
+		Objects.requireNonNull(renumbering);
+		map.getElements().forEach(relationId -> this.relationMap.put(relationId,
+				new CompactIntegerBinaryRelation(map.get(relationId), map.isIndexedByFirst(relationId),
+						map.isIndexedBySecond(relationId), renumbering)));
+	}
+
+	@Override
+	public boolean contains(int relationId) {
+		return this.relationMap.containsKey(relationId);
+	}
+
+	@Override
+	public boolean contains(int relationId, int first, int second) {
+		boolean ret = false;
+		Optional<CompactIntegerBinaryRelation> optRelation = this.relationMap.get(relationId);
+		if (optRelation.isPresent()) {
+			ret = optRelation.get().contains(first, second);
+		}
+		return ret;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		boolean ret = (this == o);
+		if (!ret && (o instanceof IntegerRelationMap)) {
+			IntegerRelationMap other = (IntegerRelationMap) o;
+			ret = getElements().equals(other.getElements());
+
+			ret = ret && getElements().stream().allMatch(elem -> get(elem).equals(other.get(elem)));
+		}
+		return ret;
+	}
+
+	@Override
+	public IntegerBinaryRelation get(int relationId) {
+		IntegerBinaryRelation ret = null;
+		if (this.relationMap.get(relationId).isPresent()) {
+			ret = this.relationMap.get(relationId).get();
+		} else {
+			ret = new IntegerBinaryRelationImpl();
+		}
+		return ret;
+	}
+
+	@Override
+	public Collection<Integer> getByFirst(int relationId, int first) {
+		Collection<Integer> ret = Collections.emptySet();
+		Optional<CompactIntegerBinaryRelation> optRelation = this.relationMap.get(relationId);
+		if (optRelation.isPresent()) {
+			ret = optRelation.get().getByFirst(first);
+		}
+		return ret;
+	}
+
+	@Override
+	public Collection<Integer> getBySecond(int relationId, int second) {
+		Collection<Integer> ret = Collections.emptySet();
+		Optional<CompactIntegerBinaryRelation> optRelation = this.relationMap.get(relationId);
+		if (optRelation.isPresent()) {
+			ret = optRelation.get().getBySecond(second);
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the number of bytes used to encode the pairs of all the
+	 * relations.
+	 *
+	 * @return the number of bytes used to encode the pairs of all the
+	 *         relations
+	 */
+	public long getDataSize() {
+		return this.relationMap.keySet().stream() //
+				.map(key -> this.relationMap.get(key).get().getDataSize()) //
+				.reduce(0L, (accum, elem) -> (accum + elem));
+	}
+
+	/**
+	 * Returns the number of elements in the indexes of all the relations,
+	 * without counting the keys.
+	 *
+	 * @return the number of elements in the indexes of all the relations,
+	 *         without counting the keys
+	 */
+	public long getDeepSize() {
+		return this.relationMap.keySet().stream() //
+				.map(key -> this.relationMap.get(key).get().getDeepSize()) //
+				.reduce(0L, (accum, elem) -> (accum + elem));
+	}
+
+	@Override
+	public Set<Integer> getElements() {
+		return Collections.unmodifiableSet(this.relationMap.keySet());
+	}
+
+	@Override
+	public Collection<Integer> getRelationsByFirst(int first) {
+		Collection<Integer> ret = new ArraySet();
+		this.relationMap.keySet().forEach(relationId -> {
+			if (!this.relationMap.get(relationId).get().getByFirst(first).isEmpty()) {
+				ret.add(relationId);
+			}
+		});
+		return Collections.unmodifiableCollection(ret);
+	}
+
+	@Override
+	public Collection<Integer> getRelationsBySecond(int second) {
+		Collection<Integer> ret = new ArraySet();
+		this.relationMap.keySet().forEach(relationId -> {
+			CompactIntegerBinaryRelation relation = this.relationMap.get(relationId).get();
+			if (relation.isIndexedBySecond() && !relation.getBySecond(second).isEmpty()) {
+				ret.add(relationId);
+			}
+		});
+		return Collections.unmodifiableCollection(ret);
+	}
+
+	@Override
+	public int hashCode() {
+		return this.relationMap.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		StringBuffer sbuf = new StringBuffer();
+		getElements().forEach(relationId -> {
+			sbuf.append(relationId);
+			sbuf.append(" ");
+			sbuf.append(this.relationMap.get(relationId).get().toString());
+			sbuf.append("\n");
+		});
+		return sbuf.toString();
+	}
+
+}
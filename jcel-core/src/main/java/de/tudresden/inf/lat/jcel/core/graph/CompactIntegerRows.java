@@ -0,0 +1,341 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.graph;
+
+import java.io.ByteArrayOutputStream;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+/**
+ * An object of this class is an immutable map from integers to sorted sets of
+ * non-negative integers. The rows are stored in compressed sparse row layout:
+ * a sorted array of keys, an array of offsets and a single array of bytes.
+ * Each row is stored as its size followed by the differences between
+ * consecutive values, and every number is written in a variable-length
+ * encoding of 7 bits per byte. The keys and the values can be stored with the
+ * dense identifiers given by an {@link IntegerRenumbering}, in which case the
+ * rows are sorted by dense identifier, and the identifiers are translated back
+ * when the rows are read.
+ *
+ * @author Julian Mendez
+ */
+public class CompactIntegerRows {
+
+	private class Row extends AbstractSet<Integer> {
+
+		private final int size;
+		private final int start;
+
+		Row(int start, int size) {
+			this.start = start;
+			this.size = size;
+		}
+
+		@Override
+		public boolean contains(Object elem) {
+			boolean ret = false;
+			if ((elem instanceof Integer) && renumbering.contains((Integer) elem)) {
+				int value = renumbering.getDenseId((Integer) elem);
+				RowIterator it = new RowIterator(this.start, this.size);
+				boolean passed = false;
+				while (it.hasNext() && !ret && !passed) {
+					int current = it.nextDenseId();
+					ret = (current == value);
+					passed = (current > value);
+				}
+			}
+			return ret;
+		}
+
+		@Override
+		public Iterator<Integer> iterator() {
+			return new RowIterator(this.start, this.size);
+		}
+
+		@Override
+		public int size() {
+			return this.size;
+		}
+
+	}
+
+	private class RowIterator implements Iterator<Integer> {
+
+		private int current = 0;
+		private int position;
+		private int remaining;
+
+		RowIterator(int position, int remaining) {
+			this.position = position;
+			this.remaining = remaining;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.remaining > 0;
+		}
+
+		@Override
+		public Integer next() {
+			return renumbering.getOriginalId(nextDenseId());
+		}
+
+		int nextDenseId() {
+			if (this.remaining <= 0) {
+				throw new NoSuchElementException();
+			}
+			int delta = 0;
+			int shift = 0;
+			int b;
+			do {
+				b = data[this.position];
+				this.position++;
+				delta |= (b & payloadMask) << shift;
+				shift += payloadBits;
+			} while ((b & continuationBit) != 0);
+			this.current += delta;
+			this.remaining--;
+			return this.current;
+		}
+
+	}
+
+	private static final int continuationBit = 0x80;
+	private static final int payloadBits = 7;
+	private static final int payloadMask = 0x7F;
+
+	private final byte[] data;
+	private final long deepSize;
+	private final Set<Integer> keySet;
+	private final int[] keys;
+	private final int[] offsets;
+	private final IntegerRenumbering renumbering;
+
+	/**
+	 * Constructs a new immutable map of rows.
+	 *
+	 * @param keys
+	 *            keys
+	 * @param rowFunction
+	 *            function that returns the row of each key
+	 * @throws IllegalArgumentException
+	 *             if a row contains a negative value
+	 */
+	public CompactIntegerRows(Collection<Integer> keys, IntFunction<Collection<Integer>> rowFunction) {
+		this(keys, rowFunction, new IntegerRenumbering());
+	}
+
+	/**
+	 * Constructs a new immutable map of rows that stores the keys and the
+	 * values with their dense identifiers.
+	 *
+	 * @param keys
+	 *            keys
+	 * @param rowFunction
+	 *            function that returns the row of each key
+	 * @param renumbering
+	 *            renumbering that gives the dense identifiers
+	 * @throws IllegalArgumentException
+	 *             if a key or a value does not have a dense identifier
+	 */
+	public CompactIntegerRows(Collection<Integer> keys, IntFunction<Collection<Integer>> rowFunction,
+			IntegerRenumbering renumbering) {
+		Objects.requireNonNull(keys);
+		Objects.requireNonNull(rowFunction);
+		Objects.requireNonNull(renumbering);
+		this.renumbering = renumbering;
+		this.keys = toSortedDenseArray(keys);
+		this.offsets = new int[this.keys.length];
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		long size = 0;
+		for (int index = 0; index < this.keys.length; index++) {
+			int[] row = toSortedDenseArray(rowFunction.apply(renumbering.getOriginalId(this.keys[index])));
+			this.offsets[index] = output.size();
+			writeUnsigned(output, row.length);
+			int previous = 0;
+			for (int value : row) {
+				writeUnsigned(output, value - previous);
+				previous = value;
+			}
+			size += row.length;
+		}
+		this.data = output.toByteArray();
+		this.deepSize = size;
+		this.keySet = new AbstractSet<Integer>() {
+
+			@Override
+			public boolean contains(Object elem) {
+				return (elem instanceof Integer) && containsKey((Integer) elem);
+			}
+
+			@Override
+			public Iterator<Integer> iterator() {
+				return Arrays.stream(CompactIntegerRows.this.keys).map(renumbering::getOriginalId).iterator();
+			}
+
+			@Override
+			public int size() {
+				return CompactIntegerRows.this.keys.length;
+			}
+
+		};
+	}
+
+	/**
+	 * Tells whether the row of the given key contains the given value.
+	 *
+	 * @param key
+	 *            key
+	 * @param value
+	 *            value
+	 * @return <code>true</code> if and only if the row of the given key
+	 *         contains the given value
+	 */
+	public boolean contains(int key, int value) {
+		return get(key).contains(value);
+	}
+
+	/**
+	 * Tells whether the given key has a row, possibly empty.
+	 *
+	 * @param key
+	 *            key
+	 * @return <code>true</code> if and only if the given key has a row
+	 */
+	public boolean containsKey(int key) {
+		return getKeyIndex(key) >= 0;
+	}
+
+	/**
+	 * Returns the row of the given key, or an empty set if the key does not
+	 * have a row. The values are decoded while they are traversed.
+	 *
+	 * @param key
+	 *            key
+	 * @return the row of the given key, or an empty set if the key does not
+	 *         have a row
+	 */
+	public Set<Integer> get(int key) {
+		Set<Integer> ret = Collections.emptySet();
+		int index = getKeyIndex(key);
+		if (index >= 0) {
+			RowIterator sizeReader = new RowIterator(this.offsets[index], 1);
+			int size = sizeReader.nextDenseId();
+			ret = new Row(sizeReader.position, size);
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the number of bytes used to encode the rows, without counting
+	 * the keys and the offsets.
+	 *
+	 * @return the number of bytes used to encode the rows
+	 */
+	public int getDataSize() {
+		return this.data.length;
+	}
+
+	/**
+	 * Returns the number of values in all the rows, without counting the keys.
+	 *
+	 * @return the number of values in all the rows
+	 */
+	public long getDeepSize() {
+		return this.deepSize;
+	}
+
+	private int getKeyIndex(int key) {
+		int ret = -1;
+		if (this.renumbering.contains(key)) {
+			ret = Arrays.binarySearch(this.keys, this.renumbering.getDenseId(key));
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the keys in ascending order of their dense identifiers.
+	 *
+	 * @return the keys in ascending order of their dense identifiers
+	 */
+	public Set<Integer> getKeys() {
+		return this.keySet;
+	}
+
+	@Override
+	public String toString() {
+		StringBuffer sbuf = new StringBuffer();
+		for (int key : getKeys()) {
+			sbuf.append(key);
+			sbuf.append(" : ");
+			get(key).forEach(elem -> sbuf.append(elem + " "));
+			sbuf.append("\n");
+		}
+		return sbuf.toString();
+	}
+
+	private int[] toSortedDenseArray(Collection<Integer> collection) {
+		return collection.stream().mapToInt(this.renumbering::getDenseId).sorted().distinct().toArray();
+	}
+
+	private static void writeUnsigned(ByteArrayOutputStream output, int value) {
+		int rest = value;
+		while ((rest & ~payloadMask) != 0) {
+			output.write((rest & payloadMask) | continuationBit);
+			rest >>>= payloadBits;
+		}
+		output.write(rest);
+	}
+
+}
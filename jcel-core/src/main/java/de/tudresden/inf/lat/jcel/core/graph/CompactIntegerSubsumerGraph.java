@@ -0,0 +1,206 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.graph;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+
+/**
+ * This class implements an immutable subsumer graph. It is a compact copy of
+ * a subsumer graph that is not going to be modified anymore, for example after
+ * the saturation. The subsumers of each vertex are kept delta-encoded in a
+ * {@link CompactIntegerRows}.
+ *
+ * @author Julian Mendez
+ */
+public class CompactIntegerSubsumerGraph implements IntegerSubsumerGraph {
+
+	private final int bottomElement;
+	private final int[] equivToBottom;
+	private final CompactIntegerRows setS;
+	private final int topElement;
+
+	/**
+	 * Constructs a compact copy of the given subsumer graph.
+	 *
+	 * @param graph
+	 *            subsumer graph
+	 */
+	public CompactIntegerSubsumerGraph(IntegerSubsumerGraphImpl graph) {
+		this(graph, new IntegerRenumbering());
+	}
+
+	/**
+	 * Constructs a compact copy of the given subsumer graph that stores the
+	 * vertices with their dense identifiers.
+	 *
+	 * @param graph
+	 *            subsumer graph
+	 * @param renumbering
+	 *            renumbering that gives a dense identifier to every vertex
+	 */
+	public CompactIntegerSubsumerGraph(IntegerSubsumerGraphImpl graph, IntegerRenumbering renumbering) {
+		Objects.requireNonNull(graph);
+		Objects.requireNonNull(renumbering);
+		this.bottomElement = graph.getBottomElement();
+		this.topElement = graph.getTopElement();
+		this.equivToBottom = graph.getElements().stream().filter(elem -> graph.isEquivalentToBottom(elem))
+				.mapToInt(Integer::intValue).sorted().toArray();
+		this.setS = new CompactIntegerRows(graph.getElements(),
+				elem -> graph.isEquivalentToBottom(elem) ? Collections.emptySet() : graph.getSubsumers(elem),
+				renumbering);
+	}
+
+	@Override
+	public boolean containsPair(int subsumee, int subsumer) {
+		boolean ret = false;
+		if (isEquivalentToBottom(subsumee)) {
+			ret = this.setS.containsKey(subsumer);
+		} else {
+			ret = this.setS.contains(subsumee, subsumer);
+		}
+		return ret;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		boolean ret = (this == o);
+		if (!ret && (o instanceof IntegerSubsumerGraph)) {
+			IntegerSubsumerGraph other = (IntegerSubsumerGraph) o;
+			ret = (getBottomElement() == other.getBottomElement()) && (getTopElement() == other.getTopElement())
+					&& getElements().equals(other.getElements());
+			ret = ret && getElements().stream().allMatch(elem -> getSubsumers(elem).equals(other.getSubsumers(elem)));
+		}
+		return ret;
+	}
+
+	@Override
+	public int getBottomElement() {
+		return this.bottomElement;
+	}
+
+	/**
+	 * Returns the number of bytes used to encode the subsumers.
+	 *
+	 * @return the number of bytes used to encode the subsumers
+	 */
+	public int getDataSize() {
+		return this.setS.getDataSize();
+	}
+
+	/**
+	 * Returns the number of subsumers of all the vertices, without counting
+	 * the vertices that are equivalent to the bottom element.
+	 *
+	 * @return the number of subsumers of all the vertices
+	 */
+	public long getDeepSize() {
+		return this.setS.getDeepSize();
+	}
+
+	@Override
+	public Collection<Integer> getElements() {
+		return this.setS.getKeys();
+	}
+
+	@Override
+	public Collection<Integer> getSubsumers(int vertex) {
+		Collection<Integer> ret;
+		if (isEquivalentToBottom(vertex)) {
+			ret = getElements();
+		} else {
+			ret = this.setS.get(vertex);
+		}
+		return ret;
+	}
+
+	@Override
+	public int getTopElement() {
+		return this.topElement;
+	}
+
+	@Override
+	public int hashCode() {
+		return getElements().hashCode();
+	}
+
+	/**
+	 * Tells whether the given vertex is equivalent to the bottom element.
+	 *
+	 * @param vertex
+	 *            vertex
+	 * @return <code>true</code> if and only if the given vertex is equivalent
+	 *         to the bottom element
+	 */
+	public boolean isEquivalentToBottom(int vertex) {
+		return Arrays.binarySearch(this.equivToBottom, vertex) >= 0;
+	}
+
+	@Override
+	public String toString() {
+		StringBuffer ret = new StringBuffer();
+		ret.append("equivalent to bottom: ");
+		Arrays.stream(this.equivToBottom).forEach(elem -> ret.append(" " + elem));
+		ret.append("\n");
+		getElements().forEach(id -> {
+			Collection<Integer> related = getSubsumers(id);
+			if (isEquivalentToBottom(id)) {
+				ret.append("* ");
+			}
+			ret.append(id);
+			ret.append(" (");
+			ret.append(related.size());
+			ret.append(") : ");
+			related.forEach(elem -> ret.append(elem + " "));
+			ret.append("\n");
+		});
+		return ret.toString();
+	}
+
+}
@@ -64,11 +64,35 @@ public class IntegerBinaryRelationImpl implements IntegerBinaryRelation {
 
 	private final OptMap<Integer, Collection<Integer>> byFirstComp = new OptMapImpl<>(new ConcurrentHashMap<>());
 	private final OptMap<Integer, Collection<Integer>> bySecondComp = new OptMapImpl<>(new ConcurrentHashMap<>());
+	private final boolean indexedByFirst;
+	private final boolean indexedBySecond;
 
 	/**
 	 * Constructs an empty binary relation.
 	 */
 	public IntegerBinaryRelationImpl() {
+		this(true, true);
+	}
+
+	/**
+	 * Constructs an empty binary relation that keeps only the given indexes.
+	 * At least one index must be kept. The pairs can still be retrieved by a
+	 * component that is not indexed, but that requires traversing the other
+	 * index.
+	 *
+	 * @param indexedByFirst
+	 *            <code>true</code> if the pairs are indexed by their first
+	 *            component
+	 * @param indexedBySecond
+	 *            <code>true</code> if the pairs are indexed by their second
+	 *            component
+	 */
+	public IntegerBinaryRelationImpl(boolean indexedByFirst, boolean indexedBySecond) {
+		if (!indexedByFirst && !indexedBySecond) {
+			throw new IllegalArgumentException("At least one index must be kept.");
+		}
+		this.indexedByFirst = indexedByFirst;
+		this.indexedBySecond = indexedBySecond;
 	}
 
 	/**
@@ -82,8 +106,12 @@ public class IntegerBinaryRelationImpl implements IntegerBinaryRelation {
 	 */
 	public boolean add(int elem) {
 		boolean ret = false;
-		ret |= addTo(elem, this.byFirstComp);
-		ret |= addTo(elem, this.bySecondComp);
+		if (this.indexedByFirst) {
+			ret |= addTo(elem, this.byFirstComp);
+		}
+		if (this.indexedBySecond) {
+			ret |= addTo(elem, this.bySecondComp);
+		}
 		return ret;
 	}
 
@@ -102,26 +130,28 @@ public class IntegerBinaryRelationImpl implements IntegerBinaryRelation {
 		ret |= add(first);
 		ret |= add(second);
 
-		Optional<Collection<Integer>> optByFirst = this.byFirstComp.get(first);
-		if (!optByFirst.isPresent()) {
-			throw new IllegalStateException("Element is not present in the relation: '" + first + "'.");
-		}
+		if (this.indexedByFirst && this.indexedBySecond) {
+			Collection<Integer> byFirst = getIndexed(this.byFirstComp, first);
+			Collection<Integer> bySecond = getIndexed(this.bySecondComp, second);
 
-		Optional<Collection<Integer>> optBySecond = this.bySecondComp.get(second);
-		if (!optBySecond.isPresent()) {
-			throw new IllegalStateException("Element is not present in the relation: '" + second + "'.");
-		}
+			boolean found = false;
+			if (byFirst.size() < bySecond.size()) {
+				found = byFirst.contains(second);
+			} else {
+				found = bySecond.contains(first);
+			}
+
+			if (!found) {
+				ret |= byFirst.add(second);
+				ret |= bySecond.add(first);
+			}
+
+		} else if (this.indexedByFirst) {
+			ret |= getIndexed(this.byFirstComp, first).add(second);
 
-		boolean found = false;
-		if (optByFirst.get().size() < optBySecond.get().size()) {
-			found = optByFirst.get().contains(second);
 		} else {
-			found = optBySecond.get().contains(first);
-		}
+			ret |= getIndexed(this.bySecondComp, second).add(first);
 
-		if (!found) {
-			ret |= optByFirst.get().add(second);
-			ret |= optBySecond.get().add(first);
 		}
 
 		return ret;
@@ -139,8 +169,13 @@ public class IntegerBinaryRelationImpl implements IntegerBinaryRelation {
 	@Override
 	public boolean contains(int first, int second) {
 		boolean ret = false;
-		Optional<Collection<Integer>> byFirst = this.byFirstComp.get(first);
-		ret = (byFirst.isPresent()) && byFirst.get().contains(second);
+		if (this.indexedByFirst) {
+			Optional<Collection<Integer>> byFirst = this.byFirstComp.get(first);
+			ret = (byFirst.isPresent()) && byFirst.get().contains(second);
+		} else {
+			Optional<Collection<Integer>> bySecond = this.bySecondComp.get(second);
+			ret = (bySecond.isPresent()) && bySecond.get().contains(first);
+		}
 		return ret;
 	}
 
@@ -159,9 +194,13 @@ public class IntegerBinaryRelationImpl implements IntegerBinaryRelation {
 	@Override
 	public Collection<Integer> getByFirst(int first) {
 		Collection<Integer> ret = Collections.emptySet();
-		Optional<Collection<Integer>> optSet = this.byFirstComp.get(first);
-		if (optSet.isPresent()) {
-			ret = Collections.unmodifiableCollection(optSet.get());
+		if (this.indexedByFirst) {
+			Optional<Collection<Integer>> optSet = this.byFirstComp.get(first);
+			if (optSet.isPresent()) {
+				ret = Collections.unmodifiableCollection(optSet.get());
+			}
+		} else {
+			ret = Collections.unmodifiableCollection(getNotIndexed(this.bySecondComp, first));
 		}
 		return ret;
 	}
@@ -169,9 +208,13 @@ public class IntegerBinaryRelationImpl implements IntegerBinaryRelation {
 	@Override
 	public Collection<Integer> getBySecond(int second) {
 		Collection<Integer> ret = Collections.emptySet();
-		Optional<Collection<Integer>> optSet = this.bySecondComp.get(second);
-		if (optSet.isPresent()) {
-			ret = Collections.unmodifiableCollection(optSet.get());
+		if (this.indexedBySecond) {
+			Optional<Collection<Integer>> optSet = this.bySecondComp.get(second);
+			if (optSet.isPresent()) {
+				ret = Collections.unmodifiableCollection(optSet.get());
+			}
+		} else {
+			ret = Collections.unmodifiableCollection(getNotIndexed(this.byFirstComp, second));
 		}
 		return ret;
 	}
@@ -200,12 +243,52 @@ public class IntegerBinaryRelationImpl implements IntegerBinaryRelation {
 
 	@Override
 	public Set<Integer> getElements() {
-		return this.byFirstComp.keySet();
+		return this.indexedByFirst ? this.byFirstComp.keySet() : this.bySecondComp.keySet();
+	}
+
+	private Collection<Integer> getIndexed(OptMap<Integer, Collection<Integer>> map, int elem) {
+		Optional<Collection<Integer>> ret = map.get(elem);
+		if (!ret.isPresent()) {
+			throw new IllegalStateException("Element is not present in the relation: '" + elem + "'.");
+		}
+		return ret.get();
+	}
+
+	private Collection<Integer> getNotIndexed(OptMap<Integer, Collection<Integer>> map, int elem) {
+		Collection<Integer> ret = new ArraySet();
+		map.keySet().forEach(key -> {
+			if (map.get(key).get().contains(elem)) {
+				ret.add(key);
+			}
+		});
+		return ret;
 	}
 
 	@Override
 	public int hashCode() {
-		return this.byFirstComp.hashCode();
+		return getElements().hashCode();
+	}
+
+	/**
+	 * Tells whether the pairs of this binary relation are indexed by their
+	 * first component.
+	 *
+	 * @return <code>true</code> if and only if the pairs of this binary
+	 *         relation are indexed by their first component
+	 */
+	public boolean isIndexedByFirst() {
+		return this.indexedByFirst;
+	}
+
+	/**
+	 * Tells whether the pairs of this binary relation are indexed by their
+	 * second component.
+	 *
+	 * @return <code>true</code> if and only if the pairs of this binary
+	 *         relation are indexed by their second component
+	 */
+	public boolean isIndexedBySecond() {
+		return this.indexedBySecond;
 	}
 
 	@Override
@@ -218,16 +218,18 @@ public class IntegerHierarchicalGraphImpl implements IntegerHierarchicalGraph {
 				}
 				get(this.parents, elem).addAll(otherGraph.getParents(elem));
 
-				if (!this.equivalents.get(elem).isPresent()) {
-					this.equivalents.put(elem, new HashSet<>());
-				}
 				if (!this.representative.get(elem).isPresent()) {
+					Set<Integer> equiv = new TreeSet<>();
+					equiv.add(elem);
+					this.equivalents.put(elem, equiv);
 					this.representative.put(elem, elem);
 				}
-				otherGraph.getEquivalents(elem).forEach(otherElem -> makeEquivalent(elem, otherElem));
 
 			});
 
+			otherSet.forEach(elem -> otherGraph.getEquivalents(elem)
+					.forEach(otherElem -> makeEquivalent(elem, otherElem)));
+
 		} else {
 			throw new IllegalArgumentException("Both graphs have different bottom element or different top element.");
 		}
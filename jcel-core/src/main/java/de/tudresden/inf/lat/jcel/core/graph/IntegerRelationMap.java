@@ -125,7 +125,9 @@ public interface IntegerRelationMap {
 	 * @param first
 	 *            first component
 	 * @return the collection of relations which use a particular first
-	 *         component, or an empty set if there are none.
+	 *         component, or an empty set if there are none. Implementations
+	 *         that do not index every relation by its first component may
+	 *         leave out the relations that are not indexed.
 	 */
 	Collection<Integer> getRelationsByFirst(int first);
 
@@ -136,7 +138,9 @@ public interface IntegerRelationMap {
 	 * @param second
 	 *            second component
 	 * @return the collection of relations which use a particular second
-	 *         component, or an empty set if there are none.
+	 *         component, or an empty set if there are none. Implementations
+	 *         that do not index every relation by its second component may
+	 *         leave out the relations that are not indexed.
 	 */
 	Collection<Integer> getRelationsBySecond(int second);
 
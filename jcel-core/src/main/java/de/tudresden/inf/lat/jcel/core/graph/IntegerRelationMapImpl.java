@@ -48,9 +48,11 @@ package de.tudresden.inf.lat.jcel.core.graph;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntPredicate;
 
 import de.tudresden.inf.lat.util.map.OptMap;
 import de.tudresden.inf.lat.util.map.OptMapImpl;
@@ -66,11 +68,31 @@ public class IntegerRelationMapImpl implements IntegerRelationMap {
 	private final OptMap<Integer, Collection<Integer>> relationSetByFirst = new OptMapImpl<>(new ConcurrentHashMap<>());
 	private final OptMap<Integer, Collection<Integer>> relationSetBySecond = new OptMapImpl<>(
 			new ConcurrentHashMap<>());
+	private final IntPredicate indexedByFirst;
+	private final IntPredicate indexedBySecond;
 
 	/**
 	 * Constructs an empty map of binary relations.
 	 */
 	public IntegerRelationMapImpl() {
+		this(relationId -> true, relationId -> true);
+	}
+
+	/**
+	 * Constructs an empty map of binary relations that indexes each relation
+	 * only by the components given by the predicates. A relation that is not
+	 * indexed by any component is indexed by its first component.
+	 *
+	 * @param indexedByFirst
+	 *            tells whether a relation is indexed by its first component
+	 * @param indexedBySecond
+	 *            tells whether a relation is indexed by its second component
+	 */
+	public IntegerRelationMapImpl(IntPredicate indexedByFirst, IntPredicate indexedBySecond) {
+		Objects.requireNonNull(indexedByFirst);
+		Objects.requireNonNull(indexedBySecond);
+		this.indexedByFirst = indexedByFirst;
+		this.indexedBySecond = indexedBySecond;
 	}
 
 	/**
@@ -84,7 +106,7 @@ public class IntegerRelationMapImpl implements IntegerRelationMap {
 	public boolean add(int relationId) {
 		boolean ret = false;
 		if (!this.relationMap.containsKey(relationId)) {
-			this.relationMap.put(relationId, new IntegerBinaryRelationImpl());
+			this.relationMap.put(relationId, createRelation(relationId));
 			ret = true;
 		}
 		return ret;
@@ -105,27 +127,31 @@ public class IntegerRelationMapImpl implements IntegerRelationMap {
 		boolean ret = false;
 		Optional<IntegerBinaryRelationImpl> optRelation = this.relationMap.get(relationId);
 		if (!optRelation.isPresent()) {
-			optRelation = Optional.of(new IntegerBinaryRelationImpl());
+			optRelation = Optional.of(createRelation(relationId));
 			this.relationMap.put(relationId, optRelation.get());
 			ret = true;
 		}
 		ret |= optRelation.get().add(first, second);
 
-		Optional<Collection<Integer>> optByFirst = this.relationSetByFirst.get(first);
-		if (!optByFirst.isPresent()) {
-			optByFirst = Optional.of(new ArraySet());
-			this.relationSetByFirst.put(first, optByFirst.get());
-			ret = true;
+		if (optRelation.get().isIndexedByFirst()) {
+			Optional<Collection<Integer>> optByFirst = this.relationSetByFirst.get(first);
+			if (!optByFirst.isPresent()) {
+				optByFirst = Optional.of(new ArraySet());
+				this.relationSetByFirst.put(first, optByFirst.get());
+				ret = true;
+			}
+			ret |= optByFirst.get().add(relationId);
 		}
-		ret |= optByFirst.get().add(relationId);
 
-		Optional<Collection<Integer>> optBySecond = this.relationSetBySecond.get(second);
-		if (!optBySecond.isPresent()) {
-			optBySecond = Optional.of(new ArraySet());
-			this.relationSetBySecond.put(second, optBySecond.get());
-			ret = true;
+		if (optRelation.get().isIndexedBySecond()) {
+			Optional<Collection<Integer>> optBySecond = this.relationSetBySecond.get(second);
+			if (!optBySecond.isPresent()) {
+				optBySecond = Optional.of(new ArraySet());
+				this.relationSetBySecond.put(second, optBySecond.get());
+				ret = true;
+			}
+			ret |= optBySecond.get().add(relationId);
 		}
-		ret |= optBySecond.get().add(relationId);
 
 		return ret;
 	}
@@ -145,6 +171,10 @@ public class IntegerRelationMapImpl implements IntegerRelationMap {
 		return ret;
 	}
 
+	private IntegerBinaryRelationImpl createRelation(int relationId) {
+		return new IntegerBinaryRelationImpl(isIndexedByFirst(relationId), isIndexedBySecond(relationId));
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		boolean ret = (this == o);
@@ -242,6 +272,34 @@ public class IntegerRelationMapImpl implements IntegerRelationMap {
 		return this.relationMap.hashCode();
 	}
 
+	/**
+	 * Tells whether the given relation is indexed by its first component. Only
+	 * the relations indexed by their first component are returned by
+	 * {@link #getRelationsByFirst(int)}.
+	 *
+	 * @param relationId
+	 *            relation id
+	 * @return <code>true</code> if and only if the given relation is indexed
+	 *         by its first component
+	 */
+	public boolean isIndexedByFirst(int relationId) {
+		return this.indexedByFirst.test(relationId) || !this.indexedBySecond.test(relationId);
+	}
+
+	/**
+	 * Tells whether the given relation is indexed by its second component.
+	 * Only the relations indexed by their second component are returned by
+	 * {@link #getRelationsBySecond(int)}.
+	 *
+	 * @param relationId
+	 *            relation id
+	 * @return <code>true</code> if and only if the given relation is indexed
+	 *         by its second component
+	 */
+	public boolean isIndexedBySecond(int relationId) {
+		return this.indexedBySecond.test(relationId);
+	}
+
 	@Override
 	public String toString() {
 		StringBuffer sbuf = new StringBuffer();
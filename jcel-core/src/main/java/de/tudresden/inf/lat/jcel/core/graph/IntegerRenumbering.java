@@ -0,0 +1,194 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.graph;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * An object of this class is a translation table between identifiers and
+ * dense identifiers. The dense identifiers are consecutive numbers starting
+ * from 0, assigned in a given order. The identity renumbering assigns to each
+ * non-negative identifier the same number.
+ *
+ * @author Julian Mendez
+ */
+public class IntegerRenumbering {
+
+	private static final int absent = -1;
+
+	private final int[] denseIds;
+	private final boolean identity;
+	private final int[] originalIds;
+
+	/**
+	 * Constructs the identity renumbering.
+	 */
+	public IntegerRenumbering() {
+		this.identity = true;
+		this.denseIds = new int[0];
+		this.originalIds = new int[0];
+	}
+
+	/**
+	 * Constructs a new renumbering that assigns dense identifiers in the given
+	 * order. Identifiers that appear more than once keep the dense identifier
+	 * of their first occurrence.
+	 *
+	 * @param order
+	 *            identifiers in the order their dense identifiers are assigned
+	 * @throws IllegalArgumentException
+	 *             if an identifier is negative
+	 */
+	public IntegerRenumbering(Collection<Integer> order) {
+		Objects.requireNonNull(order);
+		this.identity = false;
+		int maxId = absent;
+		for (int originalId : order) {
+			if (originalId < 0) {
+				throw new IllegalArgumentException("Negative identifiers cannot be renumbered: '" + originalId + "'.");
+			}
+			maxId = Math.max(maxId, originalId);
+		}
+		this.denseIds = new int[maxId + 1];
+		Arrays.fill(this.denseIds, absent);
+		int[] originals = new int[order.size()];
+		int size = 0;
+		for (int originalId : order) {
+			if (this.denseIds[originalId] == absent) {
+				this.denseIds[originalId] = size;
+				originals[size] = originalId;
+				size++;
+			}
+		}
+		this.originalIds = Arrays.copyOf(originals, size);
+	}
+
+	/**
+	 * Tells whether the given identifier has a dense identifier.
+	 *
+	 * @param originalId
+	 *            identifier
+	 * @return <code>true</code> if and only if the given identifier has a
+	 *         dense identifier
+	 */
+	public boolean contains(int originalId) {
+		boolean ret = false;
+		if (this.identity) {
+			ret = (originalId >= 0);
+		} else {
+			ret = (originalId >= 0) && (originalId < this.denseIds.length)
+					&& (this.denseIds[originalId] != absent);
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the dense identifier of the given identifier.
+	 *
+	 * @param originalId
+	 *            identifier
+	 * @return the dense identifier of the given identifier
+	 * @throws IllegalArgumentException
+	 *             if the given identifier does not have a dense identifier
+	 */
+	public int getDenseId(int originalId) {
+		if (!contains(originalId)) {
+			throw new IllegalArgumentException("Identifier has not been renumbered: '" + originalId + "'.");
+		}
+		return this.identity ? originalId : this.denseIds[originalId];
+	}
+
+	/**
+	 * Returns the identifier that has the given dense identifier.
+	 *
+	 * @param denseId
+	 *            dense identifier
+	 * @return the identifier that has the given dense identifier
+	 */
+	public int getOriginalId(int denseId) {
+		return this.identity ? denseId : this.originalIds[denseId];
+	}
+
+	/**
+	 * Tells whether this is the identity renumbering.
+	 *
+	 * @return <code>true</code> if and only if this is the identity
+	 *         renumbering
+	 */
+	public boolean isIdentity() {
+		return this.identity;
+	}
+
+	/**
+	 * Returns the number of dense identifiers, or 0 for the identity
+	 * renumbering.
+	 *
+	 * @return the number of dense identifiers
+	 */
+	public int size() {
+		return this.originalIds.length;
+	}
+
+	@Override
+	public String toString() {
+		StringBuffer sbuf = new StringBuffer();
+		if (this.identity) {
+			sbuf.append("identity");
+		} else {
+			for (int denseId = 0; denseId < this.originalIds.length; denseId++) {
+				sbuf.append(this.originalIds[denseId]);
+				sbuf.append("->");
+				sbuf.append(denseId);
+				sbuf.append(" ");
+			}
+		}
+		return sbuf.toString();
+	}
+
+}
@@ -48,10 +48,12 @@ package de.tudresden.inf.lat.jcel.core.graph;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 
 import de.tudresden.inf.lat.util.map.OptMap;
@@ -68,6 +70,7 @@ public class IntegerSubsumerGraphImpl implements IntegerSubsumerGraph {
 
 	private final int bottomElement;
 	private final Collection<Integer> emptyCollection = Collections.unmodifiableCollection(new ArraySet());
+	private final IntegerUnionFind equivalentElements = new IntegerUnionFind();
 	private final Set<Integer> equivToBottom = new HashSet<>();
 	private final OptMap<Integer, Collection<Integer>> setS = new OptMapImpl<>(new ConcurrentHashMap<>());
 	private final int topElement;
@@ -135,6 +138,16 @@ public class IntegerSubsumerGraphImpl implements IntegerSubsumerGraph {
 		return ret;
 	}
 
+	private void addNewSubsumers(OptMap<Integer, Set<Integer>> map, Collection<Integer> members,
+			Set<Integer> newSubsumers, Collection<Integer> sharedSet) {
+		members.stream().filter(member -> !this.equivToBottom.contains(member)).forEach(member -> {
+			this.setS.put(member, sharedSet);
+			if (!newSubsumers.isEmpty()) {
+				map.put(member, newSubsumers);
+			}
+		});
+	}
+
 	@Override
 	public boolean containsPair(int subsumee, int subsumer) {
 		return getSubsumers(subsumee).contains(subsumer);
@@ -176,6 +189,18 @@ public class IntegerSubsumerGraphImpl implements IntegerSubsumerGraph {
 		return Collections.unmodifiableSet(this.setS.keySet());
 	}
 
+	/**
+	 * Returns the elements that were made equivalent to the given element,
+	 * including the given element.
+	 * 
+	 * @param vertex
+	 *            vertex
+	 * @return the elements that were made equivalent to the given element
+	 */
+	public Collection<Integer> getEquivalentElements(int vertex) {
+		return this.equivalentElements.getMembers(vertex);
+	}
+
 	@Override
 	public Collection<Integer> getSubsumers(int vertex) {
 		Optional<Collection<Integer>> optSet;
@@ -197,11 +222,62 @@ public class IntegerSubsumerGraphImpl implements IntegerSubsumerGraph {
 		return this.topElement;
 	}
 
+	/**
+	 * Makes two elements equivalent. After this, all the elements equivalent
+	 * to any of them share the same set of subsumers, which is the union of
+	 * both sets. Elements equivalent to the bottom element are not merged.
+	 * 
+	 * @param first
+	 *            first element
+	 * @param second
+	 *            second element
+	 * @return a map that assigns to each element the subsumers that it did not
+	 *         have before
+	 */
+	public OptMap<Integer, Set<Integer>> makeEquivalent(int first, int second) {
+		OptMap<Integer, Set<Integer>> ret = new OptMapImpl<>(new HashMap<>());
+		if (!this.equivToBottom.contains(first) && !this.equivToBottom.contains(second)
+				&& !this.equivalentElements.isSameSet(first, second)) {
+			add(first);
+			add(second);
+			Collection<Integer> firstSet = this.setS.get(first).get();
+			Collection<Integer> secondSet = this.setS.get(second).get();
+			Collection<Integer> largerSet = firstSet.size() >= secondSet.size() ? firstSet : secondSet;
+
+			Set<Integer> newForFirst = new TreeSet<>();
+			secondSet.stream().filter(elem -> !firstSet.contains(elem)).forEach(elem -> newForFirst.add(elem));
+			Set<Integer> newForSecond = new TreeSet<>();
+			firstSet.stream().filter(elem -> !secondSet.contains(elem)).forEach(elem -> newForSecond.add(elem));
+
+			if (largerSet == firstSet) {
+				firstSet.addAll(newForFirst);
+			} else {
+				secondSet.addAll(newForSecond);
+			}
+			addNewSubsumers(ret, this.equivalentElements.getMembers(first), newForFirst, largerSet);
+			addNewSubsumers(ret, this.equivalentElements.getMembers(second), newForSecond, largerSet);
+			this.equivalentElements.union(first, second);
+		}
+		return ret;
+	}
+
 	@Override
 	public int hashCode() {
 		return this.setS.hashCode();
 	}
 
+	/**
+	 * Tells whether the given vertex is equivalent to the bottom element.
+	 * 
+	 * @param vertex
+	 *            vertex
+	 * @return <code>true</code> if and only if the given vertex is equivalent
+	 *         to the bottom element
+	 */
+	public boolean isEquivalentToBottom(int vertex) {
+		return this.equivToBottom.contains(vertex);
+	}
+
 	/**
 	 * Retains only the elements contained in the collection.
 	 *
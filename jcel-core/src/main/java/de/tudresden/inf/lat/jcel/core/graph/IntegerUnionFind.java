@@ -0,0 +1,193 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.graph;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import de.tudresden.inf.lat.util.map.OptMap;
+import de.tudresden.inf.lat.util.map.OptMapImpl;
+
+/**
+ * An object of this class is a partition of integers in disjoint sets, also
+ * known as union-find structure. The representative of each set is its
+ * smallest element. An element that was never joined to another element is
+ * alone in its set. This class is not thread-safe.
+ * 
+ * @author Julian Mendez
+ */
+public class IntegerUnionFind {
+
+	private final OptMap<Integer, List<Integer>> members = new OptMapImpl<>(new HashMap<>());
+	private final OptMap<Integer, Integer> parent = new OptMapImpl<>(new HashMap<>());
+
+	/**
+	 * Constructs a new union-find structure where each element is alone in its
+	 * set.
+	 */
+	public IntegerUnionFind() {
+	}
+
+	/**
+	 * Returns the representative of the set that contains the given element.
+	 * 
+	 * @param elem
+	 *            element
+	 * @return the representative of the set that contains the given element
+	 */
+	public int find(int elem) {
+		int root = elem;
+		Optional<Integer> optParent = this.parent.get(root);
+		while (optParent.isPresent()) {
+			root = optParent.get();
+			optParent = this.parent.get(root);
+		}
+		int current = elem;
+		while (current != root) {
+			int next = this.parent.get(current).get();
+			this.parent.put(current, root);
+			current = next;
+		}
+		return root;
+	}
+
+	/**
+	 * Returns the elements of the set that contains the given element.
+	 * 
+	 * @param elem
+	 *            element
+	 * @return the elements of the set that contains the given element
+	 */
+	public Collection<Integer> getMembers(int elem) {
+		Optional<List<Integer>> optMembers = this.members.get(find(elem));
+		Collection<Integer> ret = Collections.singletonList(elem);
+		if (optMembers.isPresent()) {
+			ret = Collections.unmodifiableList(optMembers.get());
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns all the sets that have more than one element, each one
+	 * identified by its representative.
+	 * 
+	 * @return all the sets that have more than one element
+	 */
+	public Set<Integer> getRepresentatives() {
+		return Collections.unmodifiableSet(this.members.keySet());
+	}
+
+	/**
+	 * Tells whether the given elements are in the same set.
+	 * 
+	 * @param first
+	 *            first element
+	 * @param second
+	 *            second element
+	 * @return <code>true</code> if and only if the given elements are in the
+	 *         same set
+	 */
+	public boolean isSameSet(int first, int second) {
+		return find(first) == find(second);
+	}
+
+	/**
+	 * Joins the sets that contain the given elements.
+	 * 
+	 * @param first
+	 *            first element
+	 * @param second
+	 *            second element
+	 * @return <code>true</code> if and only if the sets were different before
+	 *         joining them
+	 */
+	public boolean union(int first, int second) {
+		int firstRoot = find(first);
+		int secondRoot = find(second);
+		boolean ret = (firstRoot != secondRoot);
+		if (ret) {
+			int root = Math.min(firstRoot, secondRoot);
+			int other = Math.max(firstRoot, secondRoot);
+			this.parent.put(other, root);
+			List<Integer> rootMembers = getMembersOfRoot(root);
+			List<Integer> otherMembers = getMembersOfRoot(other);
+			List<Integer> larger = rootMembers.size() >= otherMembers.size() ? rootMembers : otherMembers;
+			List<Integer> smaller = rootMembers.size() >= otherMembers.size() ? otherMembers : rootMembers;
+			larger.addAll(smaller);
+			this.members.remove(other);
+			this.members.put(root, larger);
+		}
+		return ret;
+	}
+
+	private List<Integer> getMembersOfRoot(int root) {
+		Optional<List<Integer>> optMembers = this.members.get(root);
+		if (!optMembers.isPresent()) {
+			optMembers = Optional.of(new ArrayList<>());
+			optMembers.get().add(root);
+		}
+		return optMembers.get();
+	}
+
+	@Override
+	public String toString() {
+		StringBuffer sbuf = new StringBuffer();
+		this.members.keySet().forEach(root -> {
+			sbuf.append(root);
+			sbuf.append(" ");
+			sbuf.append(this.members.get(root).get());
+			sbuf.append("\n");
+		});
+		return sbuf.toString();
+	}
+
+}
@@ -46,13 +46,28 @@
 
 package de.tudresden.inf.lat.jcel.core.saturation;
 
+import java.util.ArrayDeque;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Logger;
 
+import de.tudresden.inf.lat.jcel.coreontology.axiom.FunctObjectPropAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
 import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
 import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomFactory;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.RI2Axiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.RI3Axiom;
 import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
+import de.tudresden.inf.lat.util.map.OptMap;
+import de.tudresden.inf.lat.util.map.OptMapImpl;
 
 /**
  * This class models a normalizer that saturates an ontology with object
@@ -67,15 +82,43 @@ import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
  * <li>SR-4 : r \u2291 s, f(s) \u219D f(r)</li>
  * </ul>
  *
+ * The rules are applied only to the axioms about object properties. Rules SR-1
+ * and SR-2 are applied with a worklist, where each new RI-2 axiom is combined
+ * only with the RI-2 axioms indexed by its object properties. The other axioms
+ * are passed through. The result is the same as the one obtained by applying
+ * {@link SR0Rule}, {@link SR1AndSR2Rules}, {@link SR3Rule} and {@link SR4Rule}
+ * one after the other.
+ *
  * @author Julian Mendez
  *
  */
 public class SubPropertyNormalizer implements SaturationRule {
 
-	private final SaturationRule sr0;
-	private final SaturationRule sr1sr2;
-	private final SaturationRule sr3;
-	private final SaturationRule sr4;
+	/**
+	 * Name used in the time report for the addition of r \u2291 r.
+	 */
+	public static final String sr0Name = "SR-0";
+
+	/**
+	 * Name used in the time report for rules SR-1 and SR-2.
+	 */
+	public static final String sr1sr2Name = "SR-1 SR-2";
+
+	/**
+	 * Name used in the time report for rule SR-3.
+	 */
+	public static final String sr3Name = "SR-3";
+
+	/**
+	 * Name used in the time report for rule SR-4.
+	 */
+	public static final String sr4Name = "SR-4";
+
+	private static final Logger logger = Logger.getLogger(SubPropertyNormalizer.class.getName());
+
+	private final IntegerEntityManager entityManager;
+	private final NormalizedIntegerAxiomFactory factory;
+	private final Map<String, Long> timeByRule = new LinkedHashMap<>();
 
 	/**
 	 * Constructs a new normalizer of sub object properties.
@@ -87,15 +130,14 @@ public class SubPropertyNormalizer implements SaturationRule {
 	 */
 	public SubPropertyNormalizer(NormalizedIntegerAxiomFactory factory, IntegerEntityManager entityManager) {
 		Objects.requireNonNull(factory);
-		this.sr0 = new SR0Rule(factory);
-		this.sr1sr2 = new SR1AndSR2Rules(factory, entityManager);
-		this.sr3 = new SR3Rule(factory, entityManager);
-		this.sr4 = new SR4Rule(factory);
+		Objects.requireNonNull(entityManager);
+		this.factory = factory;
+		this.entityManager = entityManager;
 	}
 
 	/**
-	 * Saturates a set of normalized axioms by applying rules SR-1, SR-2, SR-3,
-	 * SR-4 and SR-5.
+	 * Saturates a set of normalized axioms by applying rules SR-1, SR-2, SR-3
+	 * and SR-4.
 	 *
 	 * @param originalSet
 	 *            set of normalized axioms to be saturated
@@ -104,8 +146,127 @@ public class SubPropertyNormalizer implements SaturationRule {
 	@Override
 	public Set<NormalizedIntegerAxiom> apply(Set<NormalizedIntegerAxiom> originalSet) {
 		Objects.requireNonNull(originalSet);
-		return Collections
-				.unmodifiableSet(this.sr4.apply(this.sr3.apply(this.sr1sr2.apply(this.sr0.apply(originalSet)))));
+		this.timeByRule.clear();
+		Set<NormalizedIntegerAxiom> ret = new HashSet<>();
+		ret.addAll(originalSet);
+
+		long start = System.nanoTime();
+		Set<RI2Axiom> ri2Axioms = new HashSet<>();
+		Set<RI3Axiom> ri3Axioms = new HashSet<>();
+		Set<FunctObjectPropAxiom> functionalAxioms = new HashSet<>();
+		Set<Integer> objectPropertySet = new HashSet<>();
+		originalSet.forEach(axiom -> {
+			objectPropertySet.addAll(axiom.getObjectPropertiesInSignature());
+			if (axiom instanceof RI2Axiom) {
+				ri2Axioms.add((RI2Axiom) axiom);
+			} else if (axiom instanceof RI3Axiom) {
+				ri3Axioms.add((RI3Axiom) axiom);
+			} else if (axiom instanceof FunctObjectPropAxiom) {
+				functionalAxioms.add((FunctObjectPropAxiom) axiom);
+			}
+		});
+		Set<IntegerAnnotation> noAnnotations = Collections.emptySet();
+		objectPropertySet.forEach(objectProperty -> ri2Axioms
+				.add(this.factory.createRI2Axiom(objectProperty, objectProperty, noAnnotations)));
+		start = registerTime(sr0Name, start);
+
+		OptMap<Integer, Set<RI2Axiom>> mapBySuperProperty = new OptMapImpl<>(new HashMap<>());
+		Set<RI2Axiom> closure = applySR1AndSR2(ri2Axioms, mapBySuperProperty);
+		ret.addAll(closure);
+		start = registerTime(sr1sr2Name, start);
+
+		ri3Axioms.forEach(axiom -> ret.add(applySR3(axiom)));
+		start = registerTime(sr3Name, start);
+
+		functionalAxioms.forEach(axiom -> {
+			Optional<Set<RI2Axiom>> optSet = mapBySuperProperty.get(axiom.getProperty());
+			if (optSet.isPresent()) {
+				optSet.get().forEach(subAxiom -> ret
+						.add(this.factory.createFunctObjectPropAxiom(subAxiom.getSubProperty(), axiom.getAnnotations())));
+			}
+		});
+		registerTime(sr4Name, start);
+
+		logger.fine("sub property saturation : " + this.timeByRule);
+		return Collections.unmodifiableSet(ret);
+	}
+
+	/**
+	 * Computes the closure of a set of RI-2 axioms under rules SR-1 and SR-2.
+	 *
+	 * @param ri2Axioms
+	 *            RI-2 axioms
+	 * @param mapBySuperProperty
+	 *            map that is filled with the axioms of the closure, indexed by
+	 *            their super object property
+	 * @return the closure of a set of RI-2 axioms under rules SR-1 and SR-2
+	 */
+	private Set<RI2Axiom> applySR1AndSR2(Set<RI2Axiom> ri2Axioms, OptMap<Integer, Set<RI2Axiom>> mapBySuperProperty) {
+		Set<RI2Axiom> ret = new HashSet<>();
+		OptMap<Integer, Set<RI2Axiom>> mapBySubProperty = new OptMapImpl<>(new HashMap<>());
+		Deque<RI2Axiom> toVisit = new ArrayDeque<>(ri2Axioms);
+		while (!toVisit.isEmpty()) {
+			RI2Axiom axiom = toVisit.pop();
+			if (ret.add(axiom)) {
+				index(mapBySubProperty, axiom.getSubProperty(), axiom);
+				index(mapBySuperProperty, axiom.getSuperProperty(), axiom);
+
+				toVisit.push(this.factory.createRI2Axiom(
+						this.entityManager.createOrGetInverseObjectPropertyOf(axiom.getSubProperty()),
+						this.entityManager.createOrGetInverseObjectPropertyOf(axiom.getSuperProperty()),
+						axiom.getAnnotations()));
+
+				Optional<Set<RI2Axiom>> optRight = mapBySubProperty.get(axiom.getSuperProperty());
+				if (optRight.isPresent()) {
+					optRight.get().forEach(right -> toVisit.push(compose(axiom, right)));
+				}
+				Optional<Set<RI2Axiom>> optLeft = mapBySuperProperty.get(axiom.getSubProperty());
+				if (optLeft.isPresent()) {
+					optLeft.get().forEach(left -> toVisit.push(compose(left, axiom)));
+				}
+			}
+		}
+		return ret;
+	}
+
+	private RI3Axiom applySR3(RI3Axiom axiom) {
+		Integer invLeftSubProp = this.entityManager.createOrGetInverseObjectPropertyOf(axiom.getLeftSubProperty());
+		Integer invRightSubProp = this.entityManager.createOrGetInverseObjectPropertyOf(axiom.getRightSubProperty());
+		Integer invSuperProp = this.entityManager.createOrGetInverseObjectPropertyOf(axiom.getSuperProperty());
+		return this.factory.createRI3Axiom(invRightSubProp, invLeftSubProp, invSuperProp, axiom.getAnnotations());
+	}
+
+	private RI2Axiom compose(RI2Axiom left, RI2Axiom right) {
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		annotations.addAll(left.getAnnotations());
+		annotations.addAll(right.getAnnotations());
+		return this.factory.createRI2Axiom(left.getSubProperty(), right.getSuperProperty(), annotations);
+	}
+
+	/**
+	 * Returns the time in nanoseconds spent by each rule in the last
+	 * saturation. The keys are the names of the rules, in the order they were
+	 * applied.
+	 *
+	 * @return the time in nanoseconds spent by each rule in the last saturation
+	 */
+	public Map<String, Long> getTimeByRule() {
+		return Collections.unmodifiableMap(this.timeByRule);
+	}
+
+	private void index(OptMap<Integer, Set<RI2Axiom>> map, Integer key, RI2Axiom axiom) {
+		Optional<Set<RI2Axiom>> optSet = map.get(key);
+		if (!optSet.isPresent()) {
+			optSet = Optional.of(new HashSet<>());
+			map.put(key, optSet.get());
+		}
+		optSet.get().add(axiom);
+	}
+
+	private long registerTime(String ruleName, long start) {
+		long end = System.nanoTime();
+		this.timeByRule.put(ruleName, end - start);
+		return end;
 	}
 
 }
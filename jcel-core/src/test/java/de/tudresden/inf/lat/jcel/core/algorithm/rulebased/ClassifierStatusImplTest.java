@@ -0,0 +1,177 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.rulebased;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.tudresden.inf.lat.jcel.coreontology.axiom.ExtendedOntology;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.ExtendedOntologyImpl;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomFactory;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomFactoryImpl;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManagerImpl;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
+
+/**
+ * Tests for the classifier status.
+ * 
+ * @see ClassifierStatusImpl
+ * 
+ * @author Julian Mendez
+ */
+public class ClassifierStatusImplTest {
+
+	/**
+	 * Constructs a new set of tests for the classifier status.
+	 */
+	public ClassifierStatusImplTest() {
+	}
+
+	/**
+	 * Checks that the output of R contains the pairs of an object property
+	 * that is only indexed by its second component, before and after the sets
+	 * are replaced by their compact copies.
+	 */
+	@Test
+	public void testOutputSetRIndexedBySecond() throws IOException {
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		IntegerEntityManager entityManager = new IntegerEntityManagerImpl();
+		NormalizedIntegerAxiomFactory factory = new NormalizedIntegerAxiomFactoryImpl();
+		int a = entityManager.createNamedEntity(IntegerEntityType.CLASS, "A", false);
+		int b = entityManager.createNamedEntity(IntegerEntityType.CLASS, "B", false);
+		int c = entityManager.createNamedEntity(IntegerEntityType.CLASS, "C", false);
+		int r = entityManager.createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, "r", false);
+		int s = entityManager.createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, "s", false);
+
+		Set<NormalizedIntegerAxiom> axioms = new HashSet<>();
+		axioms.add(factory.createGCI2Axiom(a, r, b, annotations));
+		axioms.add(factory.createGCI2Axiom(b, s, c, annotations));
+		ExtendedOntology ontology = new ExtendedOntologyImpl();
+		ontology.load(axioms);
+
+		ClassifierStatusImpl status = new ClassifierStatusImpl(entityManager, ontology,
+				new EntrySchedulerImpl(SchedulingStrategy.SORTED, QueuePriority.LARGER_QUEUE, ontology),
+				property -> property == s, property -> true);
+		Arrays.asList(a, b, c).forEach(classId -> status.addToS(classId, classId));
+		status.addToR(r, a, b);
+		status.addToR(r, c, b);
+		status.addToR(s, b, c);
+
+		Set<String> expected = new TreeSet<>(Arrays.asList("A,r,B", "C,r,B", "B,s,C"));
+		StringWriter writer = new StringWriter();
+		status.outputSetR(writer);
+		List<String> lines = Arrays.asList(writer.toString().split("\\R"));
+		Assertions.assertEquals(expected.size(), lines.size());
+		Assertions.assertEquals(expected, new TreeSet<>(lines));
+
+		status.compact();
+		writer = new StringWriter();
+		status.outputSetR(writer);
+		lines = Arrays.asList(writer.toString().split("\\R"));
+		Assertions.assertEquals(expected.size(), lines.size());
+		Assertions.assertEquals(expected, new TreeSet<>(lines));
+	}
+
+	/**
+	 * Checks that the queries about the sets S and R give the same answers
+	 * after the sets are replaced by their compact copies.
+	 */
+	@Test
+	public void testQueriesAfterCompact() {
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		IntegerEntityManager entityManager = new IntegerEntityManagerImpl();
+		NormalizedIntegerAxiomFactory factory = new NormalizedIntegerAxiomFactoryImpl();
+		int a = entityManager.createNamedEntity(IntegerEntityType.CLASS, "A", false);
+		int b = entityManager.createNamedEntity(IntegerEntityType.CLASS, "B", false);
+		int c = entityManager.createNamedEntity(IntegerEntityType.CLASS, "C", false);
+		int d = entityManager.createNamedEntity(IntegerEntityType.CLASS, "D", false);
+		int r = entityManager.createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, "r", false);
+		int bottom = IntegerEntityManager.bottomClassId;
+
+		Set<NormalizedIntegerAxiom> axioms = new HashSet<>();
+		axioms.add(factory.createGCI0Axiom(a, b, annotations));
+		axioms.add(factory.createGCI2Axiom(c, r, a, annotations));
+		axioms.add(factory.createGCI0Axiom(d, bottom, annotations));
+		ExtendedOntology ontology = new ExtendedOntologyImpl();
+		ontology.load(axioms);
+
+		ClassifierStatusImpl status = new ClassifierStatusImpl(entityManager, ontology);
+		Arrays.asList(a, b, c, d).forEach(classId -> status.addToS(classId, classId));
+		status.addToS(a, b);
+		status.addToS(d, bottom);
+		status.addToR(r, c, a);
+
+		status.compact();
+		Assertions.assertTrue(status.isCompact());
+
+		Assertions.assertTrue(status.containsS(a, b));
+		Assertions.assertFalse(status.containsS(b, a));
+		Assertions.assertTrue(status.containsS(d, c));
+		Assertions.assertTrue(status.containsR(r, c, a));
+		Assertions.assertFalse(status.containsR(r, a, c));
+		Assertions.assertEquals(new TreeSet<>(Arrays.asList(c)), status.getFirstBySecond(r, a));
+		Assertions.assertEquals(new TreeSet<>(Arrays.asList(a)), status.getSecondByFirst(r, c));
+		Assertions.assertTrue(status.getObjectPropertiesByFirst(c).contains(r));
+		Assertions.assertTrue(status.getObjectPropertiesBySecond(a).contains(r));
+		Assertions.assertEquals(new TreeSet<>(Arrays.asList(a, b)), new TreeSet<>(status.getSubsumers(a)));
+		Assertions.assertTrue(status.isEquivalentToBottom(d));
+		Assertions.assertFalse(status.isEquivalentToBottom(a));
+		Assertions.assertThrows(IllegalStateException.class, () -> status.getEquivalentClasses(a));
+	}
+
+}
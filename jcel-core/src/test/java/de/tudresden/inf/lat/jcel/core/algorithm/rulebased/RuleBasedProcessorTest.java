@@ -0,0 +1,574 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.rulebased;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.tudresden.inf.lat.jcel.core.graph.IntegerHierarchicalGraph;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomFactory;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomFactoryImpl;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManagerImpl;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
+import de.tudresden.inf.lat.jcel.coreontology.expressivity.NormalizedAxiomExpressivityDetector;
+
+/**
+ * Tests for the rule-based processor.
+ * 
+ * @see RuleBasedProcessor
+ * 
+ * @author Julian Mendez
+ */
+public class RuleBasedProcessorTest {
+
+	private final Set<IntegerAnnotation> annotations = new TreeSet<>();
+	private final IntegerEntityManager entityManager = new IntegerEntityManagerImpl();
+	private final NormalizedIntegerAxiomFactory factory = new NormalizedIntegerAxiomFactoryImpl();
+
+	/**
+	 * Constructs a new set of tests for the rule-based processor.
+	 */
+	public RuleBasedProcessorTest() {
+	}
+
+	private void assertSameHierarchy(RuleBasedProcessor expected, RuleBasedProcessor actual) {
+		Assertions.assertEquals(expected.getClassHierarchy().getElements(),
+				actual.getClassHierarchy().getElements());
+		expected.getClassHierarchy().getElements()
+				.forEach(classId -> Assertions.assertEquals(expected.getClassHierarchy().getAncestors(classId),
+						actual.getClassHierarchy().getAncestors(classId)));
+	}
+
+	private void assertSameSAndR(RuleBasedProcessor expected, RuleBasedProcessor actual) {
+		Assertions.assertEquals(new TreeSet<>(expected.getClassGraph().getElements()),
+				new TreeSet<>(actual.getClassGraph().getElements()));
+		expected.getClassGraph().getElements()
+				.forEach(classId -> Assertions.assertEquals(
+						new TreeSet<>(expected.getClassGraph().getSubsumers(classId)),
+						new TreeSet<>(actual.getClassGraph().getSubsumers(classId))));
+		Assertions.assertEquals(expected.getRelationIdSet(), actual.getRelationIdSet());
+		expected.getRelationIdSet().forEach(relationId -> {
+			Assertions.assertEquals(expected.getRelation(relationId).getElements(),
+					actual.getRelation(relationId).getElements());
+			expected.getRelation(relationId).getElements().forEach(first -> {
+				Assertions.assertEquals(new TreeSet<>(expected.getRelation(relationId).getByFirst(first)),
+						new TreeSet<>(actual.getRelation(relationId).getByFirst(first)));
+				Assertions.assertEquals(new TreeSet<>(expected.getRelation(relationId).getBySecond(first)),
+						new TreeSet<>(actual.getRelation(relationId).getBySecond(first)));
+			});
+		});
+	}
+
+	private RuleBasedProcessor classify(RuleBasedProcessor processor) {
+		while (!processor.isReady()) {
+			processor.process();
+		}
+		return processor;
+	}
+
+	private int createNewClass(String name) {
+		return this.entityManager.createNamedEntity(IntegerEntityType.CLASS, name, false);
+	}
+
+	private int createNewObjectProperty(String name) {
+		return this.entityManager.createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, name, false);
+	}
+
+	private RuleBasedProcessor createProcessor(Set<NormalizedIntegerAxiom> axioms) {
+		return new RuleBasedProcessor(this.entityManager.getEntities(IntegerEntityType.OBJECT_PROPERTY, false),
+				this.entityManager.getEntities(IntegerEntityType.CLASS, false), axioms,
+				new NormalizedAxiomExpressivityDetector(axioms), this.factory, this.entityManager);
+	}
+
+	/**
+	 * Classifies the given axioms twice, once with all the optimizations and
+	 * once with the given optimization turned off, and checks that both
+	 * processors give the same class hierarchy.
+	 * 
+	 * @param axioms
+	 *            normalized axioms
+	 * @param deactivation
+	 *            turns off the optimization in a processor
+	 * @return the processor with all the optimizations, followed by the
+	 *         processor without the given optimization
+	 */
+	private List<RuleBasedProcessor> classifyWithAndWithout(Set<NormalizedIntegerAxiom> axioms,
+			Consumer<RuleBasedProcessor> deactivation) {
+		RuleBasedProcessor optimized = classify(createProcessor(axioms));
+		RuleBasedProcessor plain = createProcessor(axioms);
+		deactivation.accept(plain);
+		classify(plain);
+		assertSameHierarchy(optimized, plain);
+		return Arrays.asList(optimized, plain);
+	}
+
+	private String getConfigurationValue(RuleBasedProcessor processor, String key) {
+		return processor.getConfigurationInfo().stream().filter(entry -> entry.getKey().equals(key))
+				.map(Map.Entry::getValue).findFirst().get();
+	}
+
+	private long getStatusValue(RuleBasedProcessor processor, String... keys) {
+		Set<String> keySet = new HashSet<>(Arrays.asList(keys));
+		return processor.getStatusInfo().stream().filter(entry -> keySet.contains(entry.getKey()))
+				.mapToLong(entry -> Long.parseLong(entry.getValue())).sum();
+	}
+
+	/**
+	 * <ol>
+	 * <li>A<sub>i</sub> \u2291 &exist; r <i>.</i> A<sub>i+1</sub> , for i = 0,
+	 * ..., n-1</li>
+	 * <li>A<sub>i</sub> \u2291 &exist; s <i>.</i> B ,</li>
+	 * <li>B \u2291 C ,</li>
+	 * <li>&exist; s <i>.</i> C \u2291 D ,</li>
+	 * <li>A<sub>n</sub> \u2291 E ,</li>
+	 * <li>A<sub>n</sub> \u2291 F ,</li>
+	 * <li>E \u2293 F \u2291 \u22A5</li>
+	 * </ol>
+	 * &vDash;
+	 * <ul>
+	 * <li>A<sub>i</sub> \u2291 \u22A5 , for i = 0, ..., n</li>
+	 * </ul>
+	 * Bottom is propagated backwards along the chain of r-successors, and the
+	 * pending entries of the classes that become equivalent to bottom are
+	 * dropped.
+	 */
+	@Test
+	public void testBottomPropagation() {
+		int length = 30;
+		int[] chain = new int[length + 1];
+		for (int index = 0; index <= length; index++) {
+			chain[index] = createNewClass("A" + index);
+		}
+		int b = createNewClass("B");
+		int c = createNewClass("C");
+		int d = createNewClass("D");
+		int e = createNewClass("E");
+		int f = createNewClass("F");
+		int r = createNewObjectProperty("r");
+		int s = createNewObjectProperty("s");
+
+		Set<NormalizedIntegerAxiom> axioms = new HashSet<>();
+		for (int index = 0; index < length; index++) {
+			axioms.add(this.factory.createGCI2Axiom(chain[index], r, chain[index + 1], this.annotations));
+			axioms.add(this.factory.createGCI2Axiom(chain[index], s, b, this.annotations));
+		}
+		axioms.add(this.factory.createGCI0Axiom(b, c, this.annotations));
+		axioms.add(this.factory.createGCI3Axiom(s, c, d, this.annotations));
+		axioms.add(this.factory.createGCI0Axiom(chain[length], e, this.annotations));
+		axioms.add(this.factory.createGCI0Axiom(chain[length], f, this.annotations));
+		axioms.add(this.factory.createGCI1Axiom(e, f, IntegerEntityManager.bottomClassId, this.annotations));
+
+		List<RuleBasedProcessor> processors = classifyWithAndWithout(axioms,
+				RuleBasedProcessor::deactivateBottomPruning);
+		Set<Integer> bottomClasses = processors.get(0).getClassHierarchy()
+				.getEquivalents(IntegerEntityManager.bottomClassId);
+		Arrays.stream(chain).forEach(classId -> Assertions.assertTrue(bottomClasses.contains(classId)));
+		Assertions.assertFalse(bottomClasses.contains(d));
+
+		String[] keys = { "bottom propagated", "filtered Q_R (bottom)", "discarded Q_S (bottom)",
+				"discarded Q_R (bottom)" };
+		Assertions.assertTrue(getStatusValue(processors.get(0), keys) > 0);
+		Assertions.assertEquals(0, getStatusValue(processors.get(1), keys));
+	}
+
+	/**
+	 * <ol>
+	 * <li>A \u2291 B ,</li>
+	 * <li>A \u2291 C ,</li>
+	 * <li>B \u2291 D ,</li>
+	 * <li>C \u2291 D ,</li>
+	 * <li>B \u2291 &exist; r <i>.</i> E ,</li>
+	 * <li>D \u2291 &exist; r <i>.</i> E ,</li>
+	 * <li>E \u2291 F ,</li>
+	 * <li>&exist; r <i>.</i> F \u2291 G</li>
+	 * </ol>
+	 * The same entries are derived through B and through D, so the second
+	 * derivation of each one is filtered before it is added to the queues.
+	 */
+	@Test
+	public void testDuplicateFilter() {
+		int a = createNewClass("A");
+		int b = createNewClass("B");
+		int c = createNewClass("C");
+		int d = createNewClass("D");
+		int e = createNewClass("E");
+		int f = createNewClass("F");
+		int g = createNewClass("G");
+		int r = createNewObjectProperty("r");
+
+		Set<NormalizedIntegerAxiom> axioms = new HashSet<>();
+		axioms.add(this.factory.createGCI0Axiom(a, b, this.annotations));
+		axioms.add(this.factory.createGCI0Axiom(a, c, this.annotations));
+		axioms.add(this.factory.createGCI0Axiom(b, d, this.annotations));
+		axioms.add(this.factory.createGCI0Axiom(c, d, this.annotations));
+		axioms.add(this.factory.createGCI2Axiom(b, r, e, this.annotations));
+		axioms.add(this.factory.createGCI2Axiom(d, r, e, this.annotations));
+		axioms.add(this.factory.createGCI0Axiom(e, f, this.annotations));
+		axioms.add(this.factory.createGCI3Axiom(r, f, g, this.annotations));
+
+		List<RuleBasedProcessor> processors = classifyWithAndWithout(axioms,
+				RuleBasedProcessor::deactivateDuplicateFilter);
+		assertSameSAndR(processors.get(0), processors.get(1));
+		Assertions.assertTrue(processors.get(0).getClassHierarchy().getAncestors(a).contains(g));
+
+		String[] keys = { "filtered Q_S (seen)", "filtered Q_R (seen)", "filtered Q_S (in S)",
+				"filtered Q_R (in R)" };
+		Assertions.assertTrue(getStatusValue(processors.get(0), keys) > 0);
+		Assertions.assertEquals(0, getStatusValue(processors.get(1), keys));
+	}
+
+	/**
+	 * <ol>
+	 * <li>A \u2291 &exist; r <i>.</i> B ,</li>
+	 * <li>&exist; r <i>.</i> B \u2291 C ,</li>
+	 * <li>C \u2291 A ,</li>
+	 * <li>C \u2291 &exist; s <i>.</i> D ,</li>
+	 * <li>&exist; s <i>.</i> D \u2291 E ,</li>
+	 * <li>E \u2291 C ,</li>
+	 * <li>A \u2291 F ,</li>
+	 * <li>X \u2291 E</li>
+	 * </ol>
+	 * &vDash;
+	 * <ul>
+	 * <li>A \u2261 C \u2261 E ,</li>
+	 * <li>X \u2291 F</li>
+	 * </ul>
+	 * The equivalences are only found during the saturation, and the second
+	 * one is merged into the first one.
+	 */
+	@Test
+	public void testEquivalenceCollapsing() {
+		int a = createNewClass("A");
+		int b = createNewClass("B");
+		int c = createNewClass("C");
+		int d = createNewClass("D");
+		int e = createNewClass("E");
+		int f = createNewClass("F");
+		int x = createNewClass("X");
+		int r = createNewObjectProperty("r");
+		int s = createNewObjectProperty("s");
+
+		Set<NormalizedIntegerAxiom> axioms = new HashSet<>();
+		axioms.add(this.factory.createGCI2Axiom(a, r, b, this.annotations));
+		axioms.add(this.factory.createGCI3Axiom(r, b, c, this.annotations));
+		axioms.add(this.factory.createGCI0Axiom(c, a, this.annotations));
+		axioms.add(this.factory.createGCI2Axiom(c, s, d, this.annotations));
+		axioms.add(this.factory.createGCI3Axiom(s, d, e, this.annotations));
+		axioms.add(this.factory.createGCI0Axiom(e, c, this.annotations));
+		axioms.add(this.factory.createGCI0Axiom(a, f, this.annotations));
+		axioms.add(this.factory.createGCI0Axiom(x, e, this.annotations));
+
+		List<RuleBasedProcessor> processors = classifyWithAndWithout(axioms,
+				RuleBasedProcessor::deactivateEquivalenceCollapsing);
+		Set<Integer> expectedEquivalents = new TreeSet<>(Arrays.asList(a, c, e));
+		Assertions.assertEquals(expectedEquivalents,
+				new TreeSet<>(processors.get(0).getClassHierarchy().getEquivalents(a)));
+		Assertions.assertTrue(processors.get(0).getClassHierarchy().getAncestors(x).contains(f));
+
+		Assertions.assertTrue(getStatusValue(processors.get(0), "collapsed classes") > 0);
+		Assertions.assertEquals(0, getStatusValue(processors.get(1), "collapsed classes"));
+	}
+
+	/**
+	 * <ol>
+	 * <li>f is functional ,</li>
+	 * <li>A \u2291 &exist; f <i>.</i> P ,</li>
+	 * <li>B \u2291 &exist; f <i>.</i> Q ,</li>
+	 * <li>C \u2291 &exist; f <i>.</i> R ,</li>
+	 * <li>P \u2293 Q \u2291 G ,</li>
+	 * <li>G \u2293 R \u2291 H ,</li>
+	 * <li>&exist; f <i>.</i> G \u2291 K ,</li>
+	 * <li>&exist; f <i>.</i> H \u2291 L ,</li>
+	 * <li>X<sub>1</sub> \u2291 A , X<sub>1</sub> \u2291 B ,</li>
+	 * <li>X<sub>2</sub> \u2291 A , X<sub>2</sub> \u2291 B , X<sub>2</sub>
+	 * \u2291 C ,</li>
+	 * <li>X<sub>3</sub> \u2291 B , X<sub>3</sub> \u2291 C</li>
+	 * </ol>
+	 * &vDash;
+	 * <ul>
+	 * <li>X<sub>1</sub> \u2291 K ,</li>
+	 * <li>X<sub>2</sub> \u2291 K ,</li>
+	 * <li>X<sub>2</sub> \u2291 L</li>
+	 * </ul>
+	 * The f-successors of each class X<sub>i</sub> are merged into one node.
+	 */
+	@Test
+	public void testFunctionalSuccessorMerging() {
+		int a = createNewClass("A");
+		int b = createNewClass("B");
+		int c = createNewClass("C");
+		int p = createNewClass("P");
+		int q = createNewClass("Q");
+		int r = createNewClass("R");
+		int g = createNewClass("G");
+		int h = createNewClass("H");
+		int k = createNewClass("K");
+		int l = createNewClass("L");
+		int x1 = createNewClass("X1");
+		int x2 = createNewClass("X2");
+		int x3 = createNewClass("X3");
+		int f = createNewObjectProperty("f");
+
+		Set<NormalizedIntegerAxiom> axioms = new HashSet<>();
+		axioms.add(this.factory.createFunctObjectPropAxiom(f, this.annotations));
+		axioms.add(this.factory.createGCI2Axiom(a, f, p, this.annotations));
+		axioms.add(this.factory.createGCI2Axiom(b, f, q, this.annotations));
+		axioms.add(this.factory.createGCI2Axiom(c, f, r, this.annotations));
+		axioms.add(this.factory.createGCI1Axiom(p, q, g, this.annotations));
+		axioms.add(this.factory.createGCI1Axiom(g, r, h, this.annotations));
+		axioms.add(this.factory.createGCI3Axiom(f, g, k, this.annotations));
+		axioms.add(this.factory.createGCI3Axiom(f, h, l, this.annotations));
+		axioms.add(this.factory.createGCI0Axiom(x1, a, this.annotations));
+		axioms.add(this.factory.createGCI0Axiom(x1, b, this.annotations));
+		axioms.add(this.factory.createGCI0Axiom(x2, a, this.annotations));
+		axioms.add(this.factory.createGCI0Axiom(x2, b, this.annotations));
+		axioms.add(this.factory.createGCI0Axiom(x2, c, this.annotations));
+		axioms.add(this.factory.createGCI0Axiom(x3, b, this.annotations));
+		axioms.add(this.factory.createGCI0Axiom(x3, c, this.annotations));
+
+		List<RuleBasedProcessor> processors = classifyWithAndWithout(axioms,
+				RuleBasedProcessor::deactivateSuccessorMerging);
+		IntegerHierarchicalGraph hierarchy = processors.get(0).getClassHierarchy();
+		Assertions.assertTrue(hierarchy.getAncestors(x1).contains(k));
+		Assertions.assertFalse(hierarchy.getAncestors(x1).contains(l));
+		Assertions.assertTrue(hierarchy.getAncestors(x2).contains(k));
+		Assertions.assertTrue(hierarchy.getAncestors(x2).contains(l));
+		Assertions.assertFalse(hierarchy.getAncestors(x3).contains(k));
+
+		long mergedWith = getStatusValue(processors.get(0), "merged successors");
+		long mergedWithout = getStatusValue(processors.get(1), "merged successors");
+		Assertions.assertTrue(mergedWith > 0);
+		Assertions.assertTrue(mergedWith <= mergedWithout);
+	}
+
+	/**
+	 * <ol>
+	 * <li>A \u2291 &exist; r <i>.</i> B ,</li>
+	 * <li>&exist; r <i>.</i> B \u2291 C ,</li>
+	 * <li>D \u2291 A</li>
+	 * </ol>
+	 * The object property r is only read by its second component, so the set
+	 * R does not index it by its first component. The output of R still
+	 * contains its pairs.
+	 */
+	@Test
+	public void testOutputSetRIndexedBySecond() throws IOException {
+		int a = createNewClass("A");
+		int b = createNewClass("B");
+		int c = createNewClass("C");
+		int d = createNewClass("D");
+		int r = createNewObjectProperty("r");
+
+		Set<NormalizedIntegerAxiom> axioms = new HashSet<>();
+		axioms.add(this.factory.createGCI2Axiom(a, r, b, this.annotations));
+		axioms.add(this.factory.createGCI3Axiom(r, b, c, this.annotations));
+		axioms.add(this.factory.createGCI0Axiom(d, a, this.annotations));
+
+		RuleBasedProcessor processor = classify(createProcessor(axioms));
+		Assertions.assertTrue(processor.getClassHierarchy().getAncestors(d).contains(c));
+
+		StringWriter writer = new StringWriter();
+		processor.outputSetR(writer);
+		Set<String> expected = new TreeSet<>(Arrays.asList("A,r,B", "D,r,B"));
+		List<String> lines = Arrays.asList(writer.toString().split("\\R"));
+		Assertions.assertEquals(expected.size(), lines.size());
+		Assertions.assertEquals(expected, new TreeSet<>(lines));
+	}
+
+	/**
+	 * <ol>
+	 * <li>Z \u2291 Y ,</li>
+	 * <li>Y \u2291 X ,</li>
+	 * <li>X \u2291 Y ,</li>
+	 * <li>W \u2291 &exist; r <i>.</i> Z ,</li>
+	 * <li>&exist; s <i>.</i> X \u2291 V ,</li>
+	 * <li>r \u2291 s ,</li>
+	 * <li>U \u2291 W</li>
+	 * </ol>
+	 * The classes are created in reverse order, so that the told hierarchy
+	 * order is different from the order of the identifiers. The sets S and R
+	 * stored with dense identifiers are translated back to the same sets as
+	 * without renumbering.
+	 */
+	@Test
+	public void testRenumbering() {
+		int z = createNewClass("Z");
+		int y = createNewClass("Y");
+		int x = createNewClass("X");
+		int w = createNewClass("W");
+		int v = createNewClass("V");
+		int u = createNewClass("U");
+		int r = createNewObjectProperty("r");
+		int s = createNewObjectProperty("s");
+
+		Set<NormalizedIntegerAxiom> axioms = new HashSet<>();
+		axioms.add(this.factory.createGCI0Axiom(z, y, this.annotations));
+		axioms.add(this.factory.createGCI0Axiom(y, x, this.annotations));
+		axioms.add(this.factory.createGCI0Axiom(x, y, this.annotations));
+		axioms.add(this.factory.createGCI2Axiom(w, r, z, this.annotations));
+		axioms.add(this.factory.createGCI3Axiom(s, x, v, this.annotations));
+		axioms.add(this.factory.createRI2Axiom(r, s, this.annotations));
+		axioms.add(this.factory.createGCI0Axiom(u, w, this.annotations));
+
+		RuleBasedProcessor plain = classify(createProcessor(axioms));
+		RuleBasedProcessor renumbered = createProcessor(axioms);
+		renumbered.activateRenumbering();
+		classify(renumbered);
+
+		Assertions.assertEquals("" + false, getConfigurationValue(plain, "told hierarchy renumbering"));
+		Assertions.assertEquals("" + true, getConfigurationValue(renumbered, "told hierarchy renumbering"));
+		Assertions.assertTrue(renumbered.getClassHierarchy().getAncestors(u).contains(v));
+		assertSameHierarchy(plain, renumbered);
+		assertSameSAndR(plain, renumbered);
+	}
+
+	/**
+	 * <ol>
+	 * <li>r \u2218 r \u2291 r ,</li>
+	 * <li>s \u2291 r ,</li>
+	 * <li>r \u2218 t \u2291 u ,</li>
+	 * <li>A \u2291 &exist; s <i>.</i> B ,</li>
+	 * <li>B \u2291 &exist; r <i>.</i> C ,</li>
+	 * <li>C \u2291 &exist; t <i>.</i> D ,</li>
+	 * <li>&exist; u <i>.</i> D \u2291 E ,</li>
+	 * <li>&exist; r <i>.</i> C \u2291 F</li>
+	 * </ol>
+	 * &vDash;
+	 * <ul>
+	 * <li>A \u2291 E , B \u2291 E ,</li>
+	 * <li>A \u2291 F , B \u2291 F</li>
+	 * </ul>
+	 * The transitive object property is combined with a role chain and a
+	 * sub-property.
+	 */
+	@Test
+	public void testTransitivePropertyWithRoleChain() {
+		int a = createNewClass("A");
+		int b = createNewClass("B");
+		int c = createNewClass("C");
+		int d = createNewClass("D");
+		int e = createNewClass("E");
+		int f = createNewClass("F");
+		int r = createNewObjectProperty("r");
+		int s = createNewObjectProperty("s");
+		int t = createNewObjectProperty("t");
+		int u = createNewObjectProperty("u");
+
+		Set<NormalizedIntegerAxiom> axioms = new HashSet<>();
+		axioms.add(this.factory.createRI3Axiom(r, r, r, this.annotations));
+		axioms.add(this.factory.createRI2Axiom(s, r, this.annotations));
+		axioms.add(this.factory.createRI3Axiom(r, t, u, this.annotations));
+		axioms.add(this.factory.createGCI2Axiom(a, s, b, this.annotations));
+		axioms.add(this.factory.createGCI2Axiom(b, r, c, this.annotations));
+		axioms.add(this.factory.createGCI2Axiom(c, t, d, this.annotations));
+		axioms.add(this.factory.createGCI3Axiom(u, d, e, this.annotations));
+		axioms.add(this.factory.createGCI3Axiom(r, c, f, this.annotations));
+
+		IntegerHierarchicalGraph hierarchy = classify(createProcessor(axioms)).getClassHierarchy();
+		Assertions.assertTrue(hierarchy.getAncestors(a).contains(e));
+		Assertions.assertTrue(hierarchy.getAncestors(b).contains(e));
+		Assertions.assertFalse(hierarchy.getAncestors(c).contains(e));
+		Assertions.assertTrue(hierarchy.getAncestors(a).contains(f));
+		Assertions.assertTrue(hierarchy.getAncestors(b).contains(f));
+		Assertions.assertFalse(hierarchy.getAncestors(c).contains(f));
+	}
+
+	/**
+	 * <ol>
+	 * <li>r \u2218 r \u2291 r ,</li>
+	 * <li>s \u2291 r ,</li>
+	 * <li>A \u2291 &exist; s <i>.</i> B ,</li>
+	 * <li>B \u2291 &exist; r <i>.</i> C ,</li>
+	 * <li>C \u2291 &exist; s <i>.</i> D ,</li>
+	 * <li>&exist; r <i>.</i> D \u2291 E</li>
+	 * </ol>
+	 * &vDash;
+	 * <ul>
+	 * <li>A \u2291 E , B \u2291 E , C \u2291 E</li>
+	 * </ul>
+	 * Without role chains, the transitive object property is kept closed in
+	 * R, also for the pairs of its sub-property.
+	 */
+	@Test
+	public void testTransitivePropertyWithSubProperty() {
+		int a = createNewClass("A");
+		int b = createNewClass("B");
+		int c = createNewClass("C");
+		int d = createNewClass("D");
+		int e = createNewClass("E");
+		int r = createNewObjectProperty("r");
+		int s = createNewObjectProperty("s");
+
+		Set<NormalizedIntegerAxiom> axioms = new HashSet<>();
+		axioms.add(this.factory.createRI3Axiom(r, r, r, this.annotations));
+		axioms.add(this.factory.createRI2Axiom(s, r, this.annotations));
+		axioms.add(this.factory.createGCI2Axiom(a, s, b, this.annotations));
+		axioms.add(this.factory.createGCI2Axiom(b, r, c, this.annotations));
+		axioms.add(this.factory.createGCI2Axiom(c, s, d, this.annotations));
+		axioms.add(this.factory.createGCI3Axiom(r, d, e, this.annotations));
+
+		IntegerHierarchicalGraph hierarchy = classify(createProcessor(axioms)).getClassHierarchy();
+		Assertions.assertTrue(hierarchy.getAncestors(a).contains(e));
+		Assertions.assertTrue(hierarchy.getAncestors(b).contains(e));
+		Assertions.assertTrue(hierarchy.getAncestors(c).contains(e));
+		Assertions.assertFalse(hierarchy.getAncestors(d).contains(e));
+	}
+
+}
@@ -0,0 +1,235 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.rulebased;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.tudresden.inf.lat.jcel.core.algorithm.common.Processor;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomFactory;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomFactoryImpl;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManagerImpl;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.OntologyExpressivity;
+import de.tudresden.inf.lat.jcel.coreontology.expressivity.NormalizedAxiomExpressivityDetector;
+
+/**
+ * Tests for the processors that start from a saturated base layer.
+ * 
+ * @see SaturatedLayer
+ * 
+ * @author Julian Mendez
+ */
+public class SaturatedLayerTest {
+
+	/**
+	 * Constructs a new set of tests for the processors that start from a
+	 * saturated base layer.
+	 */
+	public SaturatedLayerTest() {
+	}
+
+	private void assertSameHierarchy(Processor expected, Processor actual, Set<Integer> classes) {
+		classes.forEach(classId -> Assertions.assertEquals(expected.getClassHierarchy().getAncestors(classId),
+				actual.getClassHierarchy().getAncestors(classId)));
+	}
+
+	private void classify(Processor processor) {
+		while (!processor.isReady()) {
+			processor.process();
+		}
+	}
+
+	private RuleBasedProcessor classifyWithBaseLayer(Set<NormalizedIntegerAxiom> baseAxioms,
+			Set<NormalizedIntegerAxiom> axioms, IntegerEntityManager entityManager,
+			NormalizedIntegerAxiomFactory factory) {
+		Set<NormalizedIntegerAxiom> union = new HashSet<>(baseAxioms);
+		union.addAll(axioms);
+		OntologyExpressivity expressivity = new NormalizedAxiomExpressivityDetector(union);
+		Set<Integer> originalObjectProperties = entityManager.getEntities(IntegerEntityType.OBJECT_PROPERTY, false);
+		Set<Integer> originalClasses = entityManager.getEntities(IntegerEntityType.CLASS, false);
+		SaturatedLayer layer = new SaturatedLayer(originalObjectProperties, originalClasses, baseAxioms, expressivity,
+				factory, entityManager);
+		RuleBasedProcessor ret = new RuleBasedProcessor(originalObjectProperties, originalClasses, axioms,
+				expressivity, factory, entityManager, layer);
+		classify(ret);
+		return ret;
+	}
+
+	private RuleBasedProcessor classifyWithoutBaseLayer(Set<NormalizedIntegerAxiom> baseAxioms,
+			Set<NormalizedIntegerAxiom> axioms, IntegerEntityManager entityManager,
+			NormalizedIntegerAxiomFactory factory) {
+		Set<NormalizedIntegerAxiom> union = new HashSet<>(baseAxioms);
+		union.addAll(axioms);
+		RuleBasedProcessor ret = new RuleBasedProcessor(
+				entityManager.getEntities(IntegerEntityType.OBJECT_PROPERTY, false),
+				entityManager.getEntities(IntegerEntityType.CLASS, false), union,
+				new NormalizedAxiomExpressivityDetector(union), factory, entityManager);
+		classify(ret);
+		return ret;
+	}
+
+	private Integer createNewClass(IntegerEntityManager entityManager, String name) {
+		return entityManager.createNamedEntity(IntegerEntityType.CLASS, name, false);
+	}
+
+	private Integer createNewObjectProperty(IntegerEntityManager entityManager, String name) {
+		return entityManager.createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, name, false);
+	}
+
+	private boolean isBaseLayerActive(RuleBasedProcessor processor) {
+		return processor.getConfigurationInfo().stream().filter(entry -> entry.getKey().equals("base layer"))
+				.map(Map.Entry::getValue).findFirst().get().equals("" + true);
+	}
+
+	/**
+	 * Base layer:
+	 * <ol>
+	 * <li>A \u2291 B ,</li>
+	 * <li>B \u2291 &exist; r <i>.</i> C</li>
+	 * </ol>
+	 * Other axioms:
+	 * <ol>
+	 * <li>&exist; r <i>.</i> C \u2291 D ,</li>
+	 * <li>D \u2291 E ,</li>
+	 * <li>F \u2291 A</li>
+	 * </ol>
+	 * &vDash;
+	 * <ul>
+	 * <li>B \u2291 E ,</li>
+	 * <li>F \u2291 E</li>
+	 * </ul>
+	 * The rule for the existential restriction on the left is applied to an
+	 * entry of the base layer.
+	 */
+	@Test
+	public void testBaseLayer() {
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		NormalizedIntegerAxiomFactory factory = new NormalizedIntegerAxiomFactoryImpl();
+		IntegerEntityManager entityManager = new IntegerEntityManagerImpl();
+		Integer r = createNewObjectProperty(entityManager, "r");
+		Integer a = createNewClass(entityManager, "A");
+		Integer b = createNewClass(entityManager, "B");
+		Integer c = createNewClass(entityManager, "C");
+		Integer d = createNewClass(entityManager, "D");
+		Integer e = createNewClass(entityManager, "E");
+		Integer f = createNewClass(entityManager, "F");
+
+		Set<NormalizedIntegerAxiom> baseAxioms = new HashSet<>();
+		baseAxioms.add(factory.createGCI0Axiom(a, b, annotations));
+		baseAxioms.add(factory.createGCI2Axiom(b, r, c, annotations));
+
+		Set<NormalizedIntegerAxiom> axioms = new HashSet<>();
+		axioms.add(factory.createGCI3Axiom(r, c, d, annotations));
+		axioms.add(factory.createGCI0Axiom(d, e, annotations));
+		axioms.add(factory.createGCI0Axiom(f, a, annotations));
+
+		RuleBasedProcessor processor = classifyWithBaseLayer(baseAxioms, axioms, entityManager, factory);
+		Assertions.assertTrue(isBaseLayerActive(processor));
+		Assertions.assertTrue(processor.getClassHierarchy().getAncestors(b).contains(e));
+		Assertions.assertTrue(processor.getClassHierarchy().getAncestors(f).contains(e));
+
+		Set<Integer> classes = new HashSet<>();
+		classes.add(a);
+		classes.add(b);
+		classes.add(c);
+		classes.add(d);
+		classes.add(e);
+		classes.add(f);
+		assertSameHierarchy(classifyWithoutBaseLayer(baseAxioms, axioms, entityManager, factory), processor,
+				classes);
+	}
+
+	/**
+	 * Base layer:
+	 * <ol>
+	 * <li>A \u2291 &exist; r <i>.</i> B</li>
+	 * </ol>
+	 * Other axioms:
+	 * <ol>
+	 * <li>r \u2291 s ,</li>
+	 * <li>&exist; s <i>.</i> B \u2291 C</li>
+	 * </ol>
+	 * &vDash;
+	 * <ul>
+	 * <li>A \u2291 C</li>
+	 * </ul>
+	 * The object property axiom changes the object property hierarchy of the
+	 * base layer, so the processor does not start from the base layer.
+	 */
+	@Test
+	public void testObjectPropertyAxiomOutsideBaseLayer() {
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		NormalizedIntegerAxiomFactory factory = new NormalizedIntegerAxiomFactoryImpl();
+		IntegerEntityManager entityManager = new IntegerEntityManagerImpl();
+		Integer r = createNewObjectProperty(entityManager, "r");
+		Integer s = createNewObjectProperty(entityManager, "s");
+		Integer a = createNewClass(entityManager, "A");
+		Integer b = createNewClass(entityManager, "B");
+		Integer c = createNewClass(entityManager, "C");
+
+		Set<NormalizedIntegerAxiom> baseAxioms = new HashSet<>();
+		baseAxioms.add(factory.createGCI2Axiom(a, r, b, annotations));
+
+		Set<NormalizedIntegerAxiom> axioms = new HashSet<>();
+		axioms.add(factory.createRI2Axiom(r, s, annotations));
+		axioms.add(factory.createGCI3Axiom(s, b, c, annotations));
+
+		RuleBasedProcessor processor = classifyWithBaseLayer(baseAxioms, axioms, entityManager, factory);
+		Assertions.assertFalse(isBaseLayerActive(processor));
+		Assertions.assertTrue(processor.getClassHierarchy().getAncestors(a).contains(c));
+	}
+
+}
@@ -0,0 +1,137 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.rulebased;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.tudresden.inf.lat.jcel.coreontology.axiom.ExtendedOntology;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.ExtendedOntologyImpl;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomFactory;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomFactoryImpl;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManagerImpl;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
+import de.tudresden.inf.lat.util.map.OptMap;
+
+/**
+ * Tests for the told class hierarchy.
+ * 
+ * @see ToldHierarchy
+ * 
+ * @author Julian Mendez
+ */
+public class ToldHierarchyTest {
+
+	/**
+	 * Constructs a new set of tests for the told class hierarchy.
+	 */
+	public ToldHierarchyTest() {
+	}
+
+	private Integer createNewClass(IntegerEntityManager entityManager, String name) {
+		return entityManager.createNamedEntity(IntegerEntityType.CLASS, name, false);
+	}
+
+	/**
+	 * <ol>
+	 * <li>A \u2291 B ,</li>
+	 * <li>B \u2291 C ,</li>
+	 * <li>C \u2291 B ,</li>
+	 * <li>D \u2291 A</li>
+	 * </ol>
+	 * The rank, the told subsumers and the order are derived from the same
+	 * told hierarchy, where B and C are in the same strongly connected
+	 * component.
+	 */
+	@Test
+	public void testToldHierarchy() {
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		IntegerEntityManager entityManager = new IntegerEntityManagerImpl();
+		NormalizedIntegerAxiomFactory factory = new NormalizedIntegerAxiomFactoryImpl();
+
+		Integer a = createNewClass(entityManager, "A");
+		Integer b = createNewClass(entityManager, "B");
+		Integer c = createNewClass(entityManager, "C");
+		Integer d = createNewClass(entityManager, "D");
+
+		Set<NormalizedIntegerAxiom> axioms = new HashSet<>();
+		axioms.add(factory.createGCI0Axiom(a, b, annotations));
+		axioms.add(factory.createGCI0Axiom(b, c, annotations));
+		axioms.add(factory.createGCI0Axiom(c, b, annotations));
+		axioms.add(factory.createGCI0Axiom(d, a, annotations));
+		ExtendedOntology ontology = new ExtendedOntologyImpl();
+		ontology.load(axioms);
+
+		ToldHierarchy hierarchy = new ToldHierarchy(ontology);
+
+		OptMap<Integer, Integer> rank = hierarchy.computeRank();
+		Assertions.assertEquals(rank.get(b), rank.get(c));
+		Assertions.assertTrue(rank.get(b).get() < rank.get(a).get());
+		Assertions.assertTrue(rank.get(a).get() < rank.get(d).get());
+		Assertions.assertFalse(rank.containsKey(IntegerEntityManager.topClassId));
+
+		OptMap<Integer, int[]> toldSubsumers = hierarchy.computeToldSubsumers();
+		Assertions.assertArrayEquals(new int[] { IntegerEntityManager.topClassId, a, b, c, d },
+				toldSubsumers.get(d).get());
+		Assertions.assertArrayEquals(new int[] { IntegerEntityManager.topClassId, b, c }, toldSubsumers.get(c).get());
+		Assertions.assertSame(toldSubsumers.get(b).get(), toldSubsumers.get(c).get());
+		Assertions.assertFalse(toldSubsumers.containsKey(IntegerEntityManager.topClassId));
+
+		Assertions.assertEquals(
+				Arrays.asList(IntegerEntityManager.bottomClassId, IntegerEntityManager.topClassId, a, d, b, c),
+				hierarchy.computeOrder());
+	}
+
+}
@@ -0,0 +1,139 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.rulebased;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManagerImpl;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerNamePool;
+
+/**
+ * Tests for the name pool and the Turtle renderer.
+ *
+ * @author Julian Mendez
+ */
+public class TurtleRendererTest {
+
+	public TurtleRendererTest() {
+	}
+
+	@Test
+	public void testNamePool() {
+		IntegerNamePool pool = new IntegerNamePool();
+		List<String> names = Arrays.asList("http://example.org/onto#A", "http://example.org/onto#B",
+				"http://example.org/other/C", "D", "http://example.org/onto#Ärger", "http://example.org/onto#");
+		for (int index = 0; index < names.size(); index++) {
+			pool.put(2 * index, names.get(index));
+		}
+		pool.put(100, "http://example.org/onto#A");
+
+		Assertions.assertEquals(7, pool.size());
+		Assertions.assertEquals(3, pool.getNumberOfNamespaces());
+		for (int index = 0; index < names.size(); index++) {
+			Assertions.assertEquals(Optional.of(names.get(index)), pool.getName(2 * index));
+			Assertions.assertEquals(Optional.of(2 * index), pool.getIdentifier(names.get(index)));
+		}
+		Assertions.assertEquals(Optional.of("http://example.org/onto#A"), pool.getName(100));
+		Assertions.assertEquals(pool.getNamespaceId(0), pool.getNamespaceId(2));
+		Assertions.assertEquals("Ärger", pool.getLocalName(8));
+		Assertions.assertEquals("", pool.getLocalName(10));
+		Assertions.assertEquals(Optional.empty(), pool.getName(1));
+		Assertions.assertEquals(Optional.empty(), pool.getIdentifier("http://example.org/onto#E"));
+		Assertions.assertEquals(Optional.empty(), pool.getIdentifier("http://example.org/none#A"));
+		Assertions.assertThrows(IllegalStateException.class, () -> pool.put(0, "E"));
+		Assertions.assertThrows(IndexOutOfBoundsException.class, () -> pool.getLocalName(1));
+	}
+
+	@Test
+	public void testRenderByIdentifier() throws IOException {
+		IntegerEntityManager entityManager = new IntegerEntityManagerImpl();
+		List<Integer> identifiers = Arrays.asList(
+				entityManager.createNamedEntity(IntegerEntityType.CLASS, "http://example.org/onto#A", false),
+				entityManager.createNamedEntity(IntegerEntityType.CLASS, "http://example.org/other/B", false),
+				entityManager.createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, "http://example.org/onto#r", false),
+				entityManager.createNamedEntity(IntegerEntityType.CLASS, "C", false),
+				entityManager.createNamedEntity(IntegerEntityType.CLASS, "http://example.org/onto#x%20y", false),
+				entityManager.createNamedEntity(IntegerEntityType.CLASS, "http://example.org/onto#B C", false),
+				entityManager.createNamedEntity(IntegerEntityType.CLASS, "http://example.org/onto#D>E", false),
+				entityManager.createAnonymousEntity(IntegerEntityType.CLASS, true));
+
+		StringWriter expected = new StringWriter();
+		TurtleRenderer byName = new TurtleRenderer(expected);
+		byName.loadPrefixes(Arrays.asList("http://example.org/onto#A", "http://example.org/other/B"));
+		byName.renderPrefixes();
+
+		StringWriter actual = new StringWriter();
+		TurtleRenderer byIdentifier = new TurtleRenderer(actual);
+		byIdentifier.loadPrefixes(entityManager.getNamePool(), identifiers.subList(0, 2));
+		byIdentifier.renderPrefixes();
+
+		for (int subject : identifiers) {
+			for (int object : identifiers) {
+				byName.renderTriple(entityManager.getName(identifiers.get(2)), entityManager.getName(subject),
+						entityManager.getName(object));
+				byIdentifier.renderTriple(entityManager, identifiers.get(2), subject, object);
+				byName.renderTriple(Renderer.subClassOf, entityManager.getName(subject),
+						entityManager.getName(object));
+				byIdentifier.renderTriple(entityManager, Renderer.subClassOf, subject, object);
+			}
+		}
+		Assertions.assertEquals(expected.toString(), actual.toString());
+		Assertions.assertTrue(actual.toString().contains("p0:A"));
+		Assertions.assertFalse(actual.toString().contains("p0:B C"));
+		Assertions.assertFalse(actual.toString().contains("p0:D>E"));
+	}
+
+}
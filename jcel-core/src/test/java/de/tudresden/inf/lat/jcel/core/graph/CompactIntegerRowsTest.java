@@ -0,0 +1,136 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for compact rows and the compact copies of binary relations.
+ *
+ * @author Julian Mendez
+ */
+public class CompactIntegerRowsTest {
+
+	public CompactIntegerRowsTest() {
+	}
+
+	@Test
+	public void testCompactRelation() {
+		IntegerBinaryRelationImpl original = new IntegerBinaryRelationImpl(false, true);
+		IntStream.range(0, 0x40).forEach(i -> {
+			original.add(i, (i * 3) % 0x40);
+			original.add(i, (i * 5 + 1) % 0x40);
+		});
+		CompactIntegerBinaryRelation compact = new CompactIntegerBinaryRelation(original, false, true);
+
+		Assertions.assertEquals(original.getElements(), compact.getElements());
+		IntStream.range(0, 0x40).forEach(i -> {
+			Assertions.assertEquals(new TreeSet<>(original.getByFirst(i)), compact.getByFirst(i));
+			Assertions.assertEquals(new TreeSet<>(original.getBySecond(i)), compact.getBySecond(i));
+			IntStream.range(0, 0x40)
+					.forEach(j -> Assertions.assertEquals(original.contains(i, j), compact.contains(i, j)));
+		});
+	}
+
+	@Test
+	public void testRenumberedRows() {
+		IntegerRenumbering renumbering = new IntegerRenumbering(Arrays.asList(40, 7, 300, 7, 2));
+		Assertions.assertEquals(4, renumbering.size());
+		Assertions.assertEquals(1, renumbering.getDenseId(7));
+		Assertions.assertEquals(300, renumbering.getOriginalId(2));
+		Assertions.assertFalse(renumbering.contains(3));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> renumbering.getDenseId(3));
+
+		CompactIntegerRows rows = new CompactIntegerRows(Arrays.asList(2, 300),
+				key -> (key == 2) ? Arrays.asList(2, 7, 40) : Arrays.asList(300), renumbering);
+		Assertions.assertEquals(Arrays.asList(300, 2), new ArrayList<>(rows.getKeys()));
+		Assertions.assertEquals(Arrays.asList(40, 7, 2), new ArrayList<>(rows.get(2)));
+		Assertions.assertTrue(rows.contains(2, 7));
+		Assertions.assertFalse(rows.contains(2, 300));
+		Assertions.assertFalse(rows.contains(2, 3));
+		Assertions.assertFalse(rows.containsKey(40));
+		Assertions.assertFalse(rows.containsKey(3));
+		Assertions.assertThrows(IllegalArgumentException.class,
+				() -> new CompactIntegerRows(Arrays.asList(2), key -> Arrays.asList(3), renumbering));
+	}
+
+	@Test
+	public void testRows() {
+		Set<Integer> large = new TreeSet<>(Arrays.asList(0, 1, 0x7F, 0x80, 0x3FFF, 0x4000, Integer.MAX_VALUE));
+		CompactIntegerRows rows = new CompactIntegerRows(Arrays.asList(9, 3, 5),
+				key -> (key == 3) ? large : (key == 5) ? Collections.emptySet() : Arrays.asList(8, 2, 8));
+
+		Assertions.assertEquals(new TreeSet<>(Arrays.asList(3, 5, 9)), rows.getKeys());
+		Assertions.assertEquals(Arrays.asList(3, 5, 9), new ArrayList<>(rows.getKeys()));
+		Assertions.assertEquals(large, rows.get(3));
+		Assertions.assertEquals(Collections.emptySet(), rows.get(5));
+		Assertions.assertEquals(new TreeSet<>(Arrays.asList(2, 8)), rows.get(9));
+		Assertions.assertEquals(Collections.emptySet(), rows.get(4));
+		Assertions.assertEquals(large.size() + 2, rows.getDeepSize());
+
+		Assertions.assertTrue(rows.containsKey(5));
+		Assertions.assertFalse(rows.containsKey(4));
+		large.forEach(elem -> Assertions.assertTrue(rows.contains(3, elem)));
+		Assertions.assertFalse(rows.contains(3, 2));
+		Assertions.assertFalse(rows.contains(9, 5));
+		Assertions.assertFalse(rows.contains(4, 2));
+
+		Collection<Integer> negative = Arrays.asList(-1);
+		Assertions.assertThrows(IllegalArgumentException.class,
+				() -> new CompactIntegerRows(Arrays.asList(1), key -> negative));
+	}
+
+}
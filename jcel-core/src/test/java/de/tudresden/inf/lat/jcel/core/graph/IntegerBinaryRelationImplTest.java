@@ -0,0 +1,107 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.graph;
+
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for binary relations that keep only some of their indexes.
+ * 
+ * @author Julian Mendez
+ */
+public class IntegerBinaryRelationImplTest {
+
+	public IntegerBinaryRelationImplTest() {
+	}
+
+	private void fill(IntegerBinaryRelationImpl relation) {
+		IntStream.range(0, 0x40).forEach(i -> {
+			Assertions.assertTrue(relation.add(i, (i * 3) % 0x40));
+			Assertions.assertTrue(relation.add(i, (i * 5 + 1) % 0x40));
+			Assertions.assertFalse(relation.add(i, (i * 3) % 0x40));
+		});
+	}
+
+	@Test
+	public void testIndexes() {
+		IntegerBinaryRelationImpl both = new IntegerBinaryRelationImpl();
+		IntegerBinaryRelationImpl byFirst = new IntegerBinaryRelationImpl(true, false);
+		IntegerBinaryRelationImpl bySecond = new IntegerBinaryRelationImpl(false, true);
+		fill(both);
+		fill(byFirst);
+		fill(bySecond);
+
+		Assertions.assertEquals(both.getElements(), byFirst.getElements());
+		Assertions.assertEquals(both.getElements(), bySecond.getElements());
+		Assertions.assertEquals(both.getDeepSize(), 2 * byFirst.getDeepSize());
+		Assertions.assertEquals(byFirst.getDeepSize(), bySecond.getDeepSize());
+
+		IntStream.range(0, 0x40).forEach(i -> {
+			Set<Integer> expectedByFirst = new TreeSet<>(both.getByFirst(i));
+			Set<Integer> expectedBySecond = new TreeSet<>(both.getBySecond(i));
+			Assertions.assertEquals(expectedByFirst, new TreeSet<>(byFirst.getByFirst(i)));
+			Assertions.assertEquals(expectedByFirst, new TreeSet<>(bySecond.getByFirst(i)));
+			Assertions.assertEquals(expectedBySecond, new TreeSet<>(byFirst.getBySecond(i)));
+			Assertions.assertEquals(expectedBySecond, new TreeSet<>(bySecond.getBySecond(i)));
+			IntStream.range(0, 0x40).forEach(j -> {
+				Assertions.assertEquals(both.contains(i, j), byFirst.contains(i, j));
+				Assertions.assertEquals(both.contains(i, j), bySecond.contains(i, j));
+			});
+		});
+	}
+
+	@Test
+	public void testNoIndex() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new IntegerBinaryRelationImpl(false, false));
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.graph;
+
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the union-find structure.
+ * 
+ * @author Julian Mendez
+ */
+public class IntegerUnionFindTest {
+
+	public IntegerUnionFindTest() {
+	}
+
+	@Test
+	public void testUnion() {
+		IntegerUnionFind unionFind = new IntegerUnionFind();
+		IntStream.range(0, 0x100).forEach(i -> {
+			Assertions.assertEquals(i, unionFind.find(i));
+			Assertions.assertEquals(1, unionFind.getMembers(i).size());
+		});
+
+		IntStream.range(0, 0x100).forEach(i -> unionFind.union(i, (i + 0x10) % 0x100));
+		Assertions.assertEquals(0x10, unionFind.getRepresentatives().size());
+
+		IntStream.range(0, 0x100).forEach(i -> {
+			Assertions.assertEquals(i % 0x10, unionFind.find(i));
+			Assertions.assertTrue(unionFind.isSameSet(i, i % 0x10));
+			Assertions.assertFalse(unionFind.isSameSet(i, (i + 1) % 0x100));
+			Set<Integer> members = new TreeSet<>(unionFind.getMembers(i));
+			Assertions.assertEquals(0x10, members.size());
+			Assertions.assertTrue(members.stream().allMatch(member -> (member % 0x10) == (i % 0x10)));
+		});
+
+		Assertions.assertFalse(unionFind.union(0x20, 0x40));
+		Assertions.assertTrue(unionFind.union(0x21, 0x40));
+		Assertions.assertEquals(0, unionFind.find(0x21));
+		Assertions.assertEquals(0x20, unionFind.getMembers(1).size());
+	}
+
+}
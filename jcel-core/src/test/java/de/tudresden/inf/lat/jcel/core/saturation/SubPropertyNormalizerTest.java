@@ -0,0 +1,134 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.saturation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotationImpl;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomFactory;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomFactoryImpl;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManagerImpl;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
+
+/**
+ * Test class for the normalizer of sub object properties.
+ * 
+ * @see SubPropertyNormalizer
+ * 
+ * @author Julian Mendez
+ */
+public class SubPropertyNormalizerTest {
+
+	/**
+	 * Constructs a new test class for the normalizer of sub object
+	 * properties.
+	 */
+	public SubPropertyNormalizerTest() {
+	}
+
+	/**
+	 * <ul>
+	 * <li>r \u2291 s</li>
+	 * <li>s \u2291 t</li>
+	 * <li>r \u2218 s \u2291 t</li>
+	 * <li>f(t)</li>
+	 * <li>u<sup>-</sup> \u2291 r</li>
+	 * <li>A \u2291 &exist; u <i>.</i> B</li>
+	 * </ul>
+	 */
+	@Test
+	public void testSameResultAsRuleChain() {
+		IntegerEntityManager entityManager = new IntegerEntityManagerImpl();
+		NormalizedIntegerAxiomFactory factory = new NormalizedIntegerAxiomFactoryImpl();
+		Set<IntegerAnnotation> annotations = Collections.emptySet();
+		Set<IntegerAnnotation> otherAnnotations = new TreeSet<>();
+		otherAnnotations.add(new IntegerAnnotationImpl(1, 2));
+
+		Integer a = entityManager.createNamedEntity(IntegerEntityType.CLASS, "A", false);
+		Integer b = entityManager.createNamedEntity(IntegerEntityType.CLASS, "B", false);
+		Integer r = entityManager.createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, "r", false);
+		Integer s = entityManager.createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, "s", false);
+		Integer t = entityManager.createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, "t", false);
+		Integer u = entityManager.createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, "u", false);
+		Integer uMinus = entityManager.createOrGetInverseObjectPropertyOf(u);
+
+		Set<NormalizedIntegerAxiom> ontology = new HashSet<>();
+		ontology.add(factory.createRI2Axiom(r, s, annotations));
+		ontology.add(factory.createRI2Axiom(s, t, otherAnnotations));
+		ontology.add(factory.createRI3Axiom(r, s, t, annotations));
+		ontology.add(factory.createFunctObjectPropAxiom(t, annotations));
+		ontology.add(factory.createRI2Axiom(uMinus, r, annotations));
+		ontology.add(factory.createGCI2Axiom(a, u, b, annotations));
+
+		Set<NormalizedIntegerAxiom> expected = ontology;
+		for (SaturationRule rule : Arrays.asList(new SR0Rule(factory), new SR1AndSR2Rules(factory, entityManager),
+				new SR3Rule(factory, entityManager), new SR4Rule(factory))) {
+			expected = rule.apply(expected);
+		}
+
+		SubPropertyNormalizer normalizer = new SubPropertyNormalizer(factory, entityManager);
+		Set<NormalizedIntegerAxiom> saturated = normalizer.apply(ontology);
+
+		Assertions.assertEquals(expected, saturated);
+		Assertions.assertTrue(saturated.contains(factory.createFunctObjectPropAxiom(uMinus, annotations)));
+		Assertions.assertTrue(saturated.contains(factory.createRI2Axiom(uMinus, t, otherAnnotations)));
+		Assertions.assertEquals(Arrays.asList(SubPropertyNormalizer.sr0Name, SubPropertyNormalizer.sr1sr2Name,
+				SubPropertyNormalizer.sr3Name, SubPropertyNormalizer.sr4Name),
+				Arrays.asList(normalizer.getTimeByRule().keySet().toArray()));
+	}
+
+}
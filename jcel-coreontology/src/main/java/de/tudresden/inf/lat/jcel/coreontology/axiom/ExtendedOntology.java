@@ -47,6 +47,7 @@
 package de.tudresden.inf.lat.jcel.coreontology.axiom;
 
 import java.util.Set;
+import java.util.function.IntConsumer;
 
 /**
  * This is the interface of an extended ontology provides methods to efficiently
@@ -77,6 +78,69 @@ public interface ExtendedOntology {
 	 */
 	void clear();
 
+	/**
+	 * Performs the given operation on the super class of each axiom GCI0 in
+	 * the ontology such that the given class occurs in the left part of the
+	 * axiom.
+	 * 
+	 * @param classId
+	 *            class identifier occurring in the left part of the axiom
+	 * @param consumer
+	 *            operation that receives the super class
+	 */
+	void forEachGCI0SuperClass(int classId, IntConsumer consumer);
+
+	/**
+	 * Performs the given operation on each axiom GCI1 in the ontology such
+	 * that the given class occurs in the left part of the axiom. The operation
+	 * receives the other class in the left part of the axiom and the super
+	 * class.
+	 * 
+	 * @param classId
+	 *            class identifier occurring in the left part of the axiom
+	 * @param consumer
+	 *            operation that receives the other class in the left part and
+	 *            the super class
+	 */
+	void forEachGCI1Operands(int classId, IntegerPairConsumer consumer);
+
+	/**
+	 * Performs the given operation on each axiom GCI2 in the ontology such
+	 * that the given class occurs in the left part of the axiom. The operation
+	 * receives the object property and the class in the right part of the
+	 * axiom.
+	 * 
+	 * @param classId
+	 *            class identifier occurring in the left part of the axiom
+	 * @param consumer
+	 *            operation that receives the object property and the class in
+	 *            the right part
+	 */
+	void forEachGCI2Operands(int classId, IntegerPairConsumer consumer);
+
+	/**
+	 * Performs the given operation on the super class of each axiom GCI3 in
+	 * the ontology such that the given object property and class occur in the
+	 * left part of the axiom.
+	 * 
+	 * @param objectPropertyId
+	 *            object property identifier occurring in the left part of the
+	 *            axiom
+	 * @param leftClassId
+	 *            class identifier occurring in the left part of the axiom
+	 * @param consumer
+	 *            operation that receives the super class
+	 */
+	void forEachGCI3rASuperClass(int objectPropertyId, int leftClassId, IntConsumer consumer);
+
+	/**
+	 * Makes the ontology read-only for the lookups of the
+	 * <code>forEach</code> methods, which are then served from arrays of
+	 * operands instead of sets of axioms. Loading axioms or clearing the
+	 * ontology undoes this.
+	 */
+	void freeze();
+
 	/**
 	 * Returns the set of all classes in the ontology.
 	 * 
@@ -244,6 +308,13 @@ public interface ExtendedOntology {
 	 */
 	Set<Integer> getTransitiveObjectProperties();
 
+	/**
+	 * Tells whether the ontology is frozen.
+	 * 
+	 * @return <code>true</code> if and only if the ontology is frozen
+	 */
+	boolean isFrozen();
+
 	/**
 	 * Loads a set of normalized axioms.
 	 * 
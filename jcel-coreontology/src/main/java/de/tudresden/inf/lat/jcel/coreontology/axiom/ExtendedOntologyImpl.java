@@ -52,6 +52,7 @@ import java.util.HashSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.IntConsumer;
 
 import de.tudresden.inf.lat.util.map.OptMap;
 import de.tudresden.inf.lat.util.map.OptMapImpl;
@@ -80,6 +81,11 @@ public class ExtendedOntologyImpl implements ExtendedOntology, NormalizedInteger
 	private final Set<Integer> setOfFunctionalObjectProperties = new HashSet<>();
 	private final Set<Integer> setOfReflexiveObjectProperties = new HashSet<>();
 	private final Set<Integer> setOfTransitiveObjectProperties = new HashSet<>();
+	private volatile boolean frozen = false;
+	private PackedAxiomIndex packedGCI0 = null;
+	private PackedAxiomIndex packedGCI1 = null;
+	private PackedAxiomIndex packedGCI2 = null;
+	private PackedAxiomIndex packedGCI3r = null;
 
 	/**
 	 * Constructs an empty ontology.
@@ -170,6 +176,7 @@ public class ExtendedOntologyImpl implements ExtendedOntology, NormalizedInteger
 
 	@Override
 	public void clear() {
+		unfreeze();
 		this.setOfClasses.clear();
 		this.setOfAllObjectProperties.clear();
 		this.mapOfGCI0.clear();
@@ -189,6 +196,64 @@ public class ExtendedOntologyImpl implements ExtendedOntology, NormalizedInteger
 		this.setOfReflexiveObjectProperties.clear();
 	}
 
+	@Override
+	public void forEachGCI0SuperClass(int classId, IntConsumer consumer) {
+		Objects.requireNonNull(consumer);
+		if (this.frozen) {
+			this.packedGCI0.forEach(classId, consumer);
+		} else {
+			getGCI0Axioms(classId).forEach(axiom -> consumer.accept(axiom.getSuperClass()));
+		}
+	}
+
+	@Override
+	public void forEachGCI1Operands(int classId, IntegerPairConsumer consumer) {
+		Objects.requireNonNull(consumer);
+		if (this.frozen) {
+			this.packedGCI1.forEach(classId, consumer);
+		} else {
+			getGCI1Axioms(classId).forEach(
+					axiom -> consumer.accept(getOtherSubClass(classId, axiom), axiom.getSuperClass()));
+		}
+	}
+
+	@Override
+	public void forEachGCI2Operands(int classId, IntegerPairConsumer consumer) {
+		Objects.requireNonNull(consumer);
+		if (this.frozen) {
+			this.packedGCI2.forEach(classId, consumer);
+		} else {
+			getGCI2Axioms(classId).forEach(
+					axiom -> consumer.accept(axiom.getPropertyInSuperClass(), axiom.getClassInSuperClass()));
+		}
+	}
+
+	@Override
+	public void forEachGCI3rASuperClass(int objectPropertyId, int leftClassId, IntConsumer consumer) {
+		Objects.requireNonNull(consumer);
+		if (this.frozen) {
+			this.packedGCI3r.forEachWithFirst(objectPropertyId, leftClassId, consumer);
+		} else {
+			getGCI3rAAxioms(objectPropertyId, leftClassId).forEach(axiom -> consumer.accept(axiom.getSuperClass()));
+		}
+	}
+
+	@Override
+	public synchronized void freeze() {
+		if (!this.frozen) {
+			this.packedGCI0 = PackedAxiomIndex.createSingle(this.mapOfGCI0.asMap(),
+					(classId, axiom) -> axiom.getSuperClass());
+			this.packedGCI1 = PackedAxiomIndex.createPair(this.mapOfGCI1.asMap(),
+					(classId, axiom) -> getOtherSubClass(classId, axiom), (classId, axiom) -> axiom.getSuperClass());
+			this.packedGCI2 = PackedAxiomIndex.createPair(this.mapOfGCI2.asMap(),
+					(classId, axiom) -> axiom.getPropertyInSuperClass(),
+					(classId, axiom) -> axiom.getClassInSuperClass());
+			this.packedGCI3r = PackedAxiomIndex.createPair(this.mapOfGCI3r.asMap(),
+					(propertyId, axiom) -> axiom.getClassInSubClass(), (propertyId, axiom) -> axiom.getSuperClass());
+			this.frozen = true;
+		}
+	}
+
 	@Override
 	public Set<Integer> getClassSet() {
 		return Collections.unmodifiableSet(this.setOfClasses);
@@ -262,6 +327,21 @@ public class ExtendedOntologyImpl implements ExtendedOntology, NormalizedInteger
 		return Collections.unmodifiableSet(this.setOfAllObjectProperties);
 	}
 
+	/**
+	 * Returns the class in the left part of an axiom GCI1 that is not the
+	 * given one. If both classes are the given one, it returns the given one.
+	 * 
+	 * @param classId
+	 *            class identifier occurring in the left part of the axiom
+	 * @param axiom
+	 *            axiom GCI1
+	 * @return the class in the left part of an axiom GCI1 that is not the
+	 *         given one
+	 */
+	private int getOtherSubClass(int classId, GCI1Axiom axiom) {
+		return (classId == axiom.getRightSubClass()) ? axiom.getLeftSubClass() : axiom.getRightSubClass();
+	}
+
 	@Override
 	public Set<Integer> getReflexiveObjectProperties() {
 		return Collections.unmodifiableSet(this.setOfReflexiveObjectProperties);
@@ -308,9 +388,15 @@ public class ExtendedOntologyImpl implements ExtendedOntology, NormalizedInteger
 		return Collections.unmodifiableSet(this.setOfTransitiveObjectProperties);
 	}
 
+	@Override
+	public boolean isFrozen() {
+		return this.frozen;
+	}
+
 	@Override
 	public void load(Set<NormalizedIntegerAxiom> axiomSet) {
 		Objects.requireNonNull(axiomSet);
+		unfreeze();
 		axiomSet.forEach(axiom -> {
 			axiom.accept(this);
 			addEntities(axiom);
@@ -333,6 +419,14 @@ public class ExtendedOntologyImpl implements ExtendedOntology, NormalizedInteger
 		return sbuf.toString();
 	}
 
+	private synchronized void unfreeze() {
+		this.frozen = false;
+		this.packedGCI0 = null;
+		this.packedGCI1 = null;
+		this.packedGCI2 = null;
+		this.packedGCI3r = null;
+	}
+
 	@Override
 	public Boolean visit(FunctObjectPropAxiom axiom) {
 		Objects.requireNonNull(axiom);
@@ -0,0 +1,240 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.coreontology.axiom;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+/**
+ * An object of this class is an immutable index of axiom operands, stored in
+ * compressed sparse row layout. Each key, which is a class or an object
+ * property identifier, has a row of entries in a single array, and each entry
+ * holds one or two operands of an axiom. The rows start at the positions
+ * given by an array of offsets indexed by key, so a lookup neither boxes the
+ * key nor touches the axiom objects. The entries of each row are sorted.
+ *
+ * @author Julian Mendez
+ */
+final class PackedAxiomIndex {
+
+	/**
+	 * Returns a new index where each entry has one operand.
+	 *
+	 * @param map
+	 *            map of axioms
+	 * @param operand
+	 *            function that returns the operand of an axiom stored with a
+	 *            given key
+	 * @param <T>
+	 *            type of axioms
+	 * @return a new index where each entry has one operand
+	 */
+	static <T> PackedAxiomIndex createSingle(Map<Integer, Set<T>> map, KeyedOperand<T> operand) {
+		return create(map, 1, (key, axiom) -> operand.apply(key, axiom));
+	}
+
+	/**
+	 * Returns a new index where each entry has two operands. The entries of
+	 * each row are sorted by the first operand.
+	 *
+	 * @param map
+	 *            map of axioms
+	 * @param first
+	 *            function that returns the first operand of an axiom stored
+	 *            with a given key
+	 * @param second
+	 *            function that returns the second operand of an axiom stored
+	 *            with a given key
+	 * @param <T>
+	 *            type of axioms
+	 * @return a new index where each entry has two operands
+	 */
+	static <T> PackedAxiomIndex createPair(Map<Integer, Set<T>> map, KeyedOperand<T> first, KeyedOperand<T> second) {
+		return create(map, 2, (key, axiom) -> (((long) first.apply(key, axiom)) << Integer.SIZE)
+				| (second.apply(key, axiom) & 0xFFFFFFFFL));
+	}
+
+	private static <T> PackedAxiomIndex create(Map<Integer, Set<T>> map, int width, KeyedEntry<T> entry) {
+		Objects.requireNonNull(map);
+		int maxKey = map.keySet().stream().mapToInt(key -> key).max().orElse(-1);
+		int[] offsets = new int[maxKey + 2];
+		map.forEach((key, axioms) -> offsets[key + 1] = axioms.size());
+		for (int index = 1; index < offsets.length; index++) {
+			offsets[index] += offsets[index - 1];
+		}
+		int[] values = new int[width * offsets[offsets.length - 1]];
+		map.forEach((key, axioms) -> {
+			long[] row = axioms.stream().mapToLong(axiom -> entry.apply(key, axiom)).sorted().toArray();
+			int position = width * offsets[key];
+			for (long elem : row) {
+				if (width == 1) {
+					values[position] = (int) elem;
+				} else {
+					values[position] = (int) (elem >> Integer.SIZE);
+					values[position + 1] = (int) elem;
+				}
+				position += width;
+			}
+		});
+		return new PackedAxiomIndex(width, offsets, values);
+	}
+
+	/**
+	 * Function that returns an operand of an axiom stored with a given key.
+	 *
+	 * @param <T>
+	 *            type of axioms
+	 */
+	@FunctionalInterface
+	interface KeyedOperand<T> {
+
+		int apply(int key, T axiom);
+
+	}
+
+	@FunctionalInterface
+	private interface KeyedEntry<T> {
+
+		long apply(int key, T axiom);
+
+	}
+
+	private final int[] offsets;
+	private final int[] values;
+	private final int width;
+
+	private PackedAxiomIndex(int width, int[] offsets, int[] values) {
+		this.width = width;
+		this.offsets = offsets;
+		this.values = values;
+	}
+
+	/**
+	 * Performs the given operation on each entry of the row of a key. This
+	 * index must have one operand per entry.
+	 *
+	 * @param key
+	 *            key
+	 * @param consumer
+	 *            operation
+	 */
+	void forEach(int key, IntConsumer consumer) {
+		if (0 <= key && key + 1 < this.offsets.length) {
+			int end = this.offsets[key + 1];
+			for (int index = this.offsets[key]; index < end; index++) {
+				consumer.accept(this.values[index]);
+			}
+		}
+	}
+
+	/**
+	 * Performs the given operation on each entry of the row of a key. This
+	 * index must have two operands per entry.
+	 *
+	 * @param key
+	 *            key
+	 * @param consumer
+	 *            operation
+	 */
+	void forEach(int key, IntegerPairConsumer consumer) {
+		if (0 <= key && key + 1 < this.offsets.length) {
+			int end = 2 * this.offsets[key + 1];
+			for (int index = 2 * this.offsets[key]; index < end; index += 2) {
+				consumer.accept(this.values[index], this.values[index + 1]);
+			}
+		}
+	}
+
+	/**
+	 * Performs the given operation on the second operand of each entry of the
+	 * row of a key whose first operand is the given one. This index must have
+	 * two operands per entry.
+	 *
+	 * @param key
+	 *            key
+	 * @param first
+	 *            first operand
+	 * @param consumer
+	 *            operation
+	 */
+	void forEachWithFirst(int key, int first, IntConsumer consumer) {
+		if (0 <= key && key + 1 < this.offsets.length) {
+			int low = this.offsets[key];
+			int high = this.offsets[key + 1];
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (this.values[2 * middle] < first) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			int end = this.offsets[key + 1];
+			for (int index = low; index < end && this.values[2 * index] == first; index++) {
+				consumer.accept(this.values[2 * index + 1]);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of entries in this index.
+	 *
+	 * @return the number of entries in this index
+	 */
+	int size() {
+		return this.values.length / this.width;
+	}
+
+	@Override
+	public String toString() {
+		return "offsets=" + Arrays.toString(this.offsets) + " values=" + Arrays.toString(this.values);
+	}
+
+}
@@ -194,6 +194,14 @@ public interface IntegerEntityManager {
 	 */
 	String getName(Integer identifier);
 
+	/**
+	 * Returns the pool containing the names of the named entities. Anonymous
+	 * and auxiliary entities do not have a name in the pool.
+	 *
+	 * @return the pool containing the names of the named entities
+	 */
+	IntegerNamePool getNamePool();
+
 	/**
 	 * Returns the entity type for the given identifier
 	 *
@@ -46,43 +46,180 @@
 
 package de.tudresden.inf.lat.jcel.coreontology.datatype;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeSet;
-
-import de.tudresden.inf.lat.util.map.OptMap;
-import de.tudresden.inf.lat.util.map.OptMapImpl;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
 
 /**
  * An object of this class generates new identification numbers for object
- * properties and classes.
+ * properties and classes. Since the identifiers are consecutive numbers, the
+ * entities are kept in arrays indexed by identifier: a byte for the type and
+ * the flags of each entity, an identifier linking each entity to its inverse
+ * object property or to its nominal, and a name. The auxiliary inverse object
+ * properties, the auxiliary nominals and the individuals are few, so they are
+ * also kept in lists, and the sets of them iterate over these lists instead of
+ * scanning all the identifiers. The sets returned by this manager are
+ * read-only views of these arrays. <br>
+ * This manager can be shared by processors running in different threads. The
+ * methods that create or link entities are synchronized, but the other methods
+ * do not take the lock. The arrays are replaced by larger copies when they
+ * grow, and the entity counter, which is volatile, is written after a new
+ * entity is registered. A reader that reads the entity counter first sees
+ * every entity below it. The views are weakly consistent: an iteration covers
+ * at least the entities created before it starts.
  * 
  * @author Julian Mendez
  */
 public class IntegerEntityManagerImpl implements IntegerEntityManager {
 
+	/**
+	 * Read-only view of the entities whose flags, restricted to a mask, have a
+	 * given value.
+	 */
+	private class EntityView extends AbstractSet<Integer> {
+
+		private final int mask;
+		private final IntSupplier sizeFunction;
+		private final int value;
+
+		EntityView(int mask, int value, IntSupplier sizeFunction) {
+			this.mask = mask;
+			this.value = value;
+			this.sizeFunction = sizeFunction;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			boolean ret = false;
+			if (o instanceof Integer) {
+				int identifier = (Integer) o;
+				int limit = entityCounter;
+				ret = (identifier >= 0) && (identifier < limit) && matches(flags, identifier);
+			}
+			return ret;
+		}
+
+		@Override
+		public Iterator<Integer> iterator() {
+			int limit = entityCounter;
+			byte[] flagArray = flags;
+			return new Iterator<Integer>() {
+
+				private int next = find(0);
+
+				private int find(int start) {
+					int ret = start;
+					while (ret < limit && !matches(flagArray, ret)) {
+						ret++;
+					}
+					return ret;
+				}
+
+				@Override
+				public boolean hasNext() {
+					return this.next < limit;
+				}
+
+				@Override
+				public Integer next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					int ret = this.next;
+					this.next = find(ret + 1);
+					return ret;
+				}
+
+			};
+		}
+
+		private boolean matches(byte[] flagArray, int identifier) {
+			return (flagArray[identifier] & this.mask) == this.value;
+		}
+
+		@Override
+		public int size() {
+			return this.sizeFunction.getAsInt();
+		}
+
+	}
+
+	/**
+	 * Read-only view of the entities that have a given flag and that are also
+	 * kept in a list.
+	 */
+	private class SparseEntityView extends AbstractSet<Integer> {
+
+		private final int flag;
+		private final Supplier<int[]> listFunction;
+		private final IntSupplier sizeFunction;
+
+		SparseEntityView(int flag, Supplier<int[]> listFunction, IntSupplier sizeFunction) {
+			this.flag = flag;
+			this.listFunction = listFunction;
+			this.sizeFunction = sizeFunction;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			boolean ret = false;
+			if (o instanceof Integer) {
+				ret = hasFlag((Integer) o, this.flag);
+			}
+			return ret;
+		}
+
+		@Override
+		public Iterator<Integer> iterator() {
+			int[] snapshot = this.listFunction.get();
+			Arrays.sort(snapshot);
+			return Arrays.stream(snapshot).iterator();
+		}
+
+		@Override
+		public int size() {
+			return this.sizeFunction.getAsInt();
+		}
+
+	}
+
 	public static final String anonymousEntity = "AnonymousEntity";
 	public static final String auxiliaryEntity = "AuxiliaryEntity";
 
-	private final OptMap<IntegerEntityType, Set<Integer>> auxEntityMap = new OptMapImpl<>(new HashMap<>());
-	private final Set<Integer> auxEntitySet = new HashSet<>();
-	private final Set<Integer> auxInverseObjectPropertySet = new HashSet<>();
-	private final OptMap<Integer, Integer> auxNominalInvMap = new OptMapImpl<>(new HashMap<>());
-	private final OptMap<Integer, Integer> auxNominalMap = new OptMapImpl<>(new HashMap<>());
-	private int entityCounter = firstUsableIdentifier;
-	private final OptMap<Integer, IntegerEntityType> entityTypeMap = new OptMapImpl<>(new HashMap<>());
-	private final OptMap<Integer, Integer> inverseObjectPropertyMap = new OptMapImpl<>(new HashMap<>());
-	private final OptMap<Integer, String> nameMap = new OptMapImpl<>(new HashMap<>());
-	private final OptMap<IntegerEntityType, Set<Integer>> nonAuxEntityMap = new OptMapImpl<>(new HashMap<>());
+	private static final int auxiliaryFlag = 0x08;
+	private static final int auxiliaryInverseFlag = 0x10;
+	private static final int auxiliaryNominalFlag = 0x80;
+	private static final int initialCapacity = 0x40;
+	private static final int inverseFlag = 0x20;
+	private static final int nominalIndividualFlag = 0x40;
+	private static final int noLink = -1;
+	private static final int typeMask = 0x07;
+	private static final IntegerEntityType[] types = IntegerEntityType.values();
+
+	private final AtomicIntegerArray auxEntityCount = new AtomicIntegerArray(types.length);
+	private volatile int auxInverseObjectPropertyCount = 0;
+	private volatile int[] auxInverseObjectPropertyList = new int[initialCapacity];
+	private volatile int auxNominalCount = 0;
+	private volatile int[] auxNominalList = new int[initialCapacity];
+	private volatile int entityCounter = firstUsableIdentifier;
+	private volatile byte[] flags = new byte[initialCapacity];
+	private volatile int[] individualList = new int[initialCapacity];
+	private volatile int[] links = new int[initialCapacity];
+	private final IntegerNamePool namePool = new IntegerNamePool();
+	private final AtomicIntegerArray nonAuxEntityCount = new AtomicIntegerArray(types.length);
 
 	/**
 	 * Constructs a new identifier generator.
 	 */
 	public IntegerEntityManagerImpl() {
+		Arrays.fill(this.links, noLink);
 		registerProperty(bottomClassId, IntegerEntityType.CLASS, false);
 		registerProperty(topClassId, IntegerEntityType.CLASS, false);
 		registerProperty(bottomObjectPropertyId, IntegerEntityType.OBJECT_PROPERTY, false);
@@ -91,48 +228,76 @@ public class IntegerEntityManagerImpl implements IntegerEntityManager {
 		registerProperty(topDataPropertyId, IntegerEntityType.DATA_PROPERTY, false);
 	}
 
+	private static int[] append(int[] list, int size, int elem) {
+		int[] ret = list;
+		if (size == ret.length) {
+			ret = Arrays.copyOf(ret, 2 * ret.length);
+		}
+		ret[size] = elem;
+		return ret;
+	}
+
 	@Override
-	public Integer createAnonymousEntity(IntegerEntityType type, boolean auxiliary) {
+	public synchronized Integer createAnonymousEntity(IntegerEntityType type, boolean auxiliary) {
 		Objects.requireNonNull(type);
-		Integer ret = this.entityCounter;
-		this.entityCounter++;
+		int ret = this.entityCounter;
 		registerProperty(ret, type, auxiliary);
-		this.entityTypeMap.put(ret, type);
+		this.entityCounter = ret + 1;
 		return ret;
 	}
 
 	@Override
-	public Integer createNamedEntity(IntegerEntityType type, String name, boolean auxiliary) {
+	public synchronized Integer createNamedEntity(IntegerEntityType type, String name, boolean auxiliary) {
 		Objects.requireNonNull(type);
 		Objects.requireNonNull(name);
-		Integer ret = createAnonymousEntity(type, auxiliary);
-		this.nameMap.put(ret, name);
+		int ret = this.entityCounter;
+		registerProperty(ret, type, auxiliary);
+		this.namePool.put(ret, name);
+		this.entityCounter = ret + 1;
 		return ret;
 	}
 
 	@Override
-	public Integer createOrGetClassIdForIndividual(Integer individual) {
+	public synchronized Integer createOrGetClassIdForIndividual(Integer individual) {
 		Objects.requireNonNull(individual);
-		Optional<Integer> optId = this.auxNominalMap.get(individual);
-		if (!optId.isPresent()) {
-			optId = Optional.of(createAnonymousEntity(IntegerEntityType.CLASS, true));
-			this.auxNominalInvMap.put(optId.get(), individual);
-			this.auxNominalMap.put(individual, optId.get());
+		ensureCapacity(individual + 1);
+		if (!hasFlag(individual, nominalIndividualFlag)) {
+			int classId = createAnonymousEntity(IntegerEntityType.CLASS, true);
+			this.links[classId] = individual;
+			setFlag(classId, auxiliaryNominalFlag);
+			this.links[individual] = classId;
+			setFlag(individual, nominalIndividualFlag);
+			this.auxNominalList = append(this.auxNominalList, this.auxNominalCount, classId);
+			this.individualList = append(this.individualList, this.auxNominalCount, individual);
+			this.auxNominalCount++;
 		}
-		return optId.get();
+		return this.links[individual];
 	}
 
 	@Override
-	public Integer createOrGetInverseObjectPropertyOf(Integer propertyId) throws IndexOutOfBoundsException {
+	public synchronized Integer createOrGetInverseObjectPropertyOf(Integer propertyId) throws IndexOutOfBoundsException {
 		Objects.requireNonNull(propertyId);
-		Optional<Integer> optId = this.inverseObjectPropertyMap.get(propertyId);
-		if (!optId.isPresent()) {
-			optId = Optional.of(createAnonymousEntity(IntegerEntityType.OBJECT_PROPERTY, true));
-			this.auxInverseObjectPropertySet.add(optId.get());
-			this.inverseObjectPropertyMap.put(propertyId, optId.get());
-			this.inverseObjectPropertyMap.put(optId.get(), propertyId);
+		ensureCapacity(propertyId + 1);
+		if (!hasFlag(propertyId, inverseFlag)) {
+			int inverseProperty = createAnonymousEntity(IntegerEntityType.OBJECT_PROPERTY, true);
+			setFlag(inverseProperty, auxiliaryInverseFlag);
+			this.auxInverseObjectPropertyList = append(this.auxInverseObjectPropertyList,
+					this.auxInverseObjectPropertyCount, inverseProperty);
+			this.auxInverseObjectPropertyCount++;
+			link(propertyId, inverseProperty);
+		}
+		return this.links[propertyId];
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity > this.flags.length) {
+			int newCapacity = Math.max(capacity, 2 * this.flags.length);
+			int oldCapacity = this.flags.length;
+			int[] newLinks = Arrays.copyOf(this.links, newCapacity);
+			Arrays.fill(newLinks, oldCapacity, newCapacity, noLink);
+			this.links = newLinks;
+			this.flags = Arrays.copyOf(this.flags, newCapacity);
 		}
-		return optId.get();
 	}
 
 	@Override
@@ -140,157 +305,194 @@ public class IntegerEntityManagerImpl implements IntegerEntityManager {
 		boolean ret = (this == o);
 		if (!ret && (o instanceof IntegerEntityManagerImpl)) {
 			IntegerEntityManagerImpl other = (IntegerEntityManagerImpl) o;
-			ret = (this.entityCounter == other.entityCounter) && this.auxEntityMap.equals(other.auxEntityMap)
-					&& this.nonAuxEntityMap.equals(other.nonAuxEntityMap)
-					&& this.auxNominalMap.equals(other.auxNominalMap)
-					&& this.auxNominalInvMap.equals(other.auxNominalInvMap)
-					&& this.auxInverseObjectPropertySet.equals(other.inverseObjectPropertyMap)
-					&& this.nameMap.equals(other.nameMap)
-					&& this.inverseObjectPropertyMap.equals(other.inverseObjectPropertyMap);
+			ret = (this.entityCounter == other.entityCounter);
+			int capacity = Math.max(this.flags.length, other.flags.length);
+			for (int identifier = 0; ret && identifier < capacity; identifier++) {
+				ret = (getFlags(identifier) == other.getFlags(identifier))
+						&& (getLink(identifier) == other.getLink(identifier))
+						&& Objects.equals(getStoredName(identifier), other.getStoredName(identifier));
+			}
 		}
-
 		return ret;
 	}
 
 	@Override
 	public Set<Integer> getAuxiliaryInverseObjectProperties() {
-		return Collections.unmodifiableSet(this.auxInverseObjectPropertySet);
+		return new SparseEntityView(auxiliaryInverseFlag, () -> {
+			int count = this.auxInverseObjectPropertyCount;
+			return Arrays.copyOf(this.auxInverseObjectPropertyList, count);
+		}, () -> this.auxInverseObjectPropertyCount);
 	}
 
 	@Override
 	public Optional<Integer> getAuxiliaryNominal(Integer individual) {
 		Objects.requireNonNull(individual);
-		return this.auxNominalMap.get(individual);
+		return getLink(individual, nominalIndividualFlag);
 	}
 
 	@Override
 	public Set<Integer> getAuxiliaryNominals() {
-		return Collections.unmodifiableSet(this.auxNominalInvMap.keySet());
+		return new SparseEntityView(auxiliaryNominalFlag, () -> {
+			int count = this.auxNominalCount;
+			return Arrays.copyOf(this.auxNominalList, count);
+		}, () -> this.auxNominalCount);
 	}
 
 	@Override
 	public Set<Integer> getEntities(IntegerEntityType type) {
 		Objects.requireNonNull(type);
-		Set<Integer> ret = new TreeSet<>();
-		if (this.nonAuxEntityMap.get(type).isPresent()) {
-			ret.addAll(this.nonAuxEntityMap.get(type).get());
-		}
-		if (this.auxEntityMap.get(type).isPresent()) {
-			ret.addAll(this.auxEntityMap.get(type).get());
-		}
-		ret = Collections.unmodifiableSet(ret);
-		return ret;
+		int ordinal = type.ordinal();
+		return new EntityView(typeMask, ordinal + 1,
+				() -> this.nonAuxEntityCount.get(ordinal) + this.auxEntityCount.get(ordinal));
 	}
 
 	@Override
 	public Set<Integer> getEntities(IntegerEntityType type, boolean auxiliary) {
 		Objects.requireNonNull(type);
-		Optional<Set<Integer>> optSet;
+		int ordinal = type.ordinal();
+		Set<Integer> ret;
 		if (auxiliary) {
-			optSet = this.auxEntityMap.get(type);
+			ret = new EntityView(typeMask | auxiliaryFlag, (ordinal + 1) | auxiliaryFlag,
+					() -> this.auxEntityCount.get(ordinal));
 		} else {
-			optSet = this.nonAuxEntityMap.get(type);
+			ret = new EntityView(typeMask | auxiliaryFlag, ordinal + 1, () -> this.nonAuxEntityCount.get(ordinal));
 		}
-		if (!optSet.isPresent()) {
-			optSet = Optional.of(Collections.emptySet());
-		} else {
-			optSet = Optional.of(Collections.unmodifiableSet(optSet.get()));
-		}
-		return optSet.get();
+		return ret;
 	}
 
 	@Override
 	public Optional<Integer> getIndividual(Integer auxNominal) {
 		Objects.requireNonNull(auxNominal);
-		return this.auxNominalInvMap.get(auxNominal);
+		return getLink(auxNominal, auxiliaryNominalFlag);
 	}
 
 	@Override
 	public Set<Integer> getIndividuals() {
-		return Collections.unmodifiableSet(this.auxNominalMap.keySet());
+		return new SparseEntityView(nominalIndividualFlag, () -> {
+			int count = this.auxNominalCount;
+			return Arrays.copyOf(this.individualList, count);
+		}, () -> this.auxNominalCount);
+	}
+
+	private int getFlags(int identifier) {
+		byte[] flagArray = this.flags;
+		return (identifier < flagArray.length) ? flagArray[identifier] : 0;
+	}
+
+	private int getLink(int identifier) {
+		int[] linkArray = this.links;
+		return (identifier < linkArray.length) ? linkArray[identifier] : noLink;
+	}
+
+	private Optional<Integer> getLink(int identifier, int flag) {
+		Optional<Integer> ret = Optional.empty();
+		if (hasFlag(identifier, flag)) {
+			int link = this.links[identifier];
+			if (link != noLink) {
+				ret = Optional.of(link);
+			}
+		}
+		return ret;
 	}
 
 	@Override
 	public String getName(Integer identifier) {
 		Objects.requireNonNull(identifier);
-		if (!this.entityTypeMap.containsKey(identifier)) {
-			throw new IndexOutOfBoundsException("Invalid identifier : " + identifier);
-		}
-
-		Optional<String> optName = this.nameMap.get(identifier);
-		if (!optName.isPresent()) {
-			if (this.auxEntitySet.contains(identifier)) {
-				optName = Optional.of(auxiliaryEntity + identifier);
+		int flagValue = getValidFlags(identifier);
+		Optional<String> ret = this.namePool.getName(identifier);
+		if (!ret.isPresent()) {
+			if ((flagValue & auxiliaryFlag) != 0) {
+				ret = Optional.of(auxiliaryEntity + identifier);
 			} else {
-				optName = Optional.of(anonymousEntity + identifier);
+				ret = Optional.of(anonymousEntity + identifier);
 			}
 		}
-		return optName.get();
+		return ret.get();
+	}
+
+	@Override
+	public IntegerNamePool getNamePool() {
+		return this.namePool;
+	}
+
+	private String getStoredName(int identifier) {
+		return this.namePool.getName(identifier).orElse(null);
 	}
 
 	@Override
 	public IntegerEntityType getType(Integer identifier) {
 		Objects.requireNonNull(identifier);
-		Optional<IntegerEntityType> optType = this.entityTypeMap.get(identifier);
-		if (!optType.isPresent()) {
+		return types[(getValidFlags(identifier) & typeMask) - 1];
+	}
+
+	private int getValidFlags(int identifier) {
+		if (!isEntity(identifier)) {
 			throw new IndexOutOfBoundsException("Invalid identifier : " + identifier);
 		}
-		return optType.get();
+		return this.flags[identifier];
+	}
+
+	private boolean hasFlag(int identifier, int flag) {
+		byte[] flagArray = this.flags;
+		return (identifier >= 0) && (identifier < flagArray.length) && ((flagArray[identifier] & flag) != 0);
 	}
 
 	@Override
 	public int hashCode() {
-		return this.entityCounter + (31 * this.nonAuxEntityMap.hashCode());
+		int ret = this.entityCounter;
+		for (int ordinal = 0; ordinal < types.length; ordinal++) {
+			ret = 31 * ret + this.nonAuxEntityCount.get(ordinal);
+		}
+		return ret;
 	}
 
 	@Override
 	public boolean isAuxiliary(Integer identifier) {
 		Objects.requireNonNull(identifier);
-		if (!this.entityTypeMap.containsKey(identifier)) {
-			throw new IndexOutOfBoundsException("Invalid identifier : " + identifier);
-		}
-		return this.auxEntitySet.contains(identifier);
+		return (getValidFlags(identifier) & auxiliaryFlag) != 0;
 	}
 
 	@Override
 	public boolean isEntity(Integer identifier) {
 		Objects.requireNonNull(identifier);
-		return this.entityTypeMap.containsKey(identifier);
+		int id = identifier;
+		return (id >= 0) && (id < this.entityCounter) && ((this.flags[id] & typeMask) != 0);
+	}
+
+	private void link(int firstProperty, int secondProperty) {
+		this.links[firstProperty] = secondProperty;
+		this.links[secondProperty] = firstProperty;
+		setFlag(firstProperty, inverseFlag);
+		setFlag(secondProperty, inverseFlag);
 	}
 
 	@Override
-	public boolean proposeInverseObjectPropertyOf(Integer firstProperty, Integer secondProperty) {
+	public synchronized boolean proposeInverseObjectPropertyOf(Integer firstProperty, Integer secondProperty) {
 		Objects.requireNonNull(firstProperty);
 		Objects.requireNonNull(secondProperty);
 		boolean ret = false;
-		Optional<Integer> optInvFirstProperty = this.inverseObjectPropertyMap.get(firstProperty);
-		Optional<Integer> optInvSecondProperty = this.inverseObjectPropertyMap.get(secondProperty);
-		if (!optInvFirstProperty.isPresent() && !optInvSecondProperty.isPresent()) {
-			this.inverseObjectPropertyMap.put(firstProperty, secondProperty);
-			this.inverseObjectPropertyMap.put(secondProperty, firstProperty);
+		ensureCapacity(Math.max(firstProperty, secondProperty) + 1);
+		if (!hasFlag(firstProperty, inverseFlag) && !hasFlag(secondProperty, inverseFlag)) {
+			link(firstProperty, secondProperty);
 			ret = true;
 		}
 		return ret;
 	}
 
-	private void registerProperty(Integer identifier, IntegerEntityType type, boolean auxiliary) {
+	private void registerProperty(int identifier, IntegerEntityType type, boolean auxiliary) {
+		ensureCapacity(identifier + 1);
+		int ordinal = type.ordinal();
 		if (auxiliary) {
-			this.auxEntitySet.add(identifier);
-			Optional<Set<Integer>> optSet = this.auxEntityMap.get(type);
-			if (!optSet.isPresent()) {
-				optSet = Optional.of(new HashSet<>());
-				this.auxEntityMap.put(type, optSet.get());
-			}
-			optSet.get().add(identifier);
+			this.auxEntityCount.incrementAndGet(ordinal);
+			this.flags[identifier] = (byte) ((ordinal + 1) | auxiliaryFlag);
 		} else {
-			Optional<Set<Integer>> optSet = this.nonAuxEntityMap.get(type);
-			if (!optSet.isPresent()) {
-				optSet = Optional.of(new HashSet<>());
-				this.nonAuxEntityMap.put(type, optSet.get());
-			}
-			optSet.get().add(identifier);
+			this.nonAuxEntityCount.incrementAndGet(ordinal);
+			this.flags[identifier] = (byte) (ordinal + 1);
 		}
-		this.entityTypeMap.put(identifier, type);
+	}
+
+	private void setFlag(int identifier, int flag) {
+		this.flags[identifier] = (byte) (this.flags[identifier] | flag);
 	}
 
 	@Override
@@ -304,13 +506,17 @@ public class IntegerEntityManagerImpl implements IntegerEntityManager {
 		sbuf.append("[\n  entities: ");
 		sbuf.append(this.entityCounter);
 		sbuf.append("\n  names: ");
-		sbuf.append(this.nameMap);
-		sbuf.append("\n  non-auxiliary entities: ");
-		sbuf.append(this.nonAuxEntityMap);
-		sbuf.append("\n  auxiliary entities: ");
-		sbuf.append(this.auxEntityMap);
+		sbuf.append(this.namePool);
+		for (IntegerEntityType type : types) {
+			if (this.nonAuxEntityCount.get(type.ordinal()) + this.auxEntityCount.get(type.ordinal()) > 0) {
+				sbuf.append("\n  " + type + ": ");
+				sbuf.append(getEntities(type, false));
+				sbuf.append(" auxiliary: ");
+				sbuf.append(getEntities(type, true));
+			}
+		}
 		sbuf.append("\n  auxiliary inverse object properties: ");
-		sbuf.append(this.auxInverseObjectPropertySet);
+		sbuf.append(getAuxiliaryInverseObjectProperties());
 		sbuf.append("\n]\n");
 		return sbuf.toString();
 	}
@@ -0,0 +1,378 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.coreontology.datatype;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import de.tudresden.inf.lat.util.map.OptMap;
+import de.tudresden.inf.lat.util.map.OptMapImpl;
+
+/**
+ * An object of this class keeps the names of entities indexed by their
+ * identifiers. Each name is split into a namespace, which is everything up to
+ * the last <code>#</code> or <code>/</code>, and a local name. Each namespace
+ * is stored only once and gets a namespace identifier. The local names are
+ * stored in UTF-8 in a single array of bytes. A hash table of identifiers
+ * allows finding an identifier by its name without keeping any string per
+ * entity. <br>
+ * The names can be read while another thread adds names, as long as the
+ * writers are serialized and the identifier was published by them, as the
+ * {@link IntegerEntityManagerImpl} does. The arrays are replaced by larger
+ * copies when they grow, and the entries of an identifier are never modified
+ * after they are written.
+ *
+ * @author Julian Mendez
+ */
+public class IntegerNamePool {
+
+	private static final int absent = -1;
+	private static final int initialArenaCapacity = 0x400;
+	private static final int initialCapacity = 0x40;
+
+	private volatile byte[] arena = new byte[initialArenaCapacity];
+	private int arenaSize = 0;
+	private volatile int[] localLengths = new int[initialCapacity];
+	private volatile int[] localStarts = new int[initialCapacity];
+	private volatile int[] namespaceIds = new int[initialCapacity];
+	private final OptMap<String, Integer> namespaceMap = new OptMapImpl<>(new HashMap<>());
+	private final List<String> namespaces = new CopyOnWriteArrayList<>();
+	private int size = 0;
+	private int[] table = new int[initialCapacity];
+
+	/**
+	 * Constructs an empty name pool.
+	 */
+	public IntegerNamePool() {
+		Arrays.fill(this.namespaceIds, absent);
+		Arrays.fill(this.table, absent);
+	}
+
+	/**
+	 * Tells whether the given identifier has a name.
+	 *
+	 * @param identifier
+	 *            identifier
+	 * @return <code>true</code> if and only if the given identifier has a name
+	 */
+	public boolean contains(int identifier) {
+		return (identifier >= 0) && (identifier < this.namespaceIds.length)
+				&& (this.namespaceIds[identifier] != absent);
+	}
+
+	private void ensureArenaCapacity(int capacity) {
+		if (capacity > this.arena.length) {
+			this.arena = Arrays.copyOf(this.arena, Math.max(capacity, 2 * this.arena.length));
+		}
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity > this.namespaceIds.length) {
+			int oldCapacity = this.namespaceIds.length;
+			int newCapacity = Math.max(capacity, 2 * oldCapacity);
+			this.localStarts = Arrays.copyOf(this.localStarts, newCapacity);
+			this.localLengths = Arrays.copyOf(this.localLengths, newCapacity);
+			int[] newNamespaceIds = Arrays.copyOf(this.namespaceIds, newCapacity);
+			Arrays.fill(newNamespaceIds, oldCapacity, newCapacity, absent);
+			this.namespaceIds = newNamespaceIds;
+		}
+	}
+
+	private int find(int namespaceId, byte[] localName) {
+		int mask = this.table.length - 1;
+		int position = hash(namespaceId, localName, 0, localName.length) & mask;
+		int ret = absent;
+		while (ret == absent && this.table[position] != absent) {
+			int candidate = this.table[position];
+			if (this.namespaceIds[candidate] == namespaceId && this.localLengths[candidate] == localName.length
+					&& matches(this.localStarts[candidate], localName)) {
+				ret = candidate;
+			}
+			position = (position + 1) & mask;
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the number of bytes used by the local names.
+	 *
+	 * @return the number of bytes used by the local names
+	 */
+	public int getArenaSize() {
+		return this.arenaSize;
+	}
+
+	/**
+	 * Returns an identifier that has the given name.
+	 *
+	 * @param name
+	 *            name
+	 * @return an identifier that has the given name, or an empty optional if
+	 *         there is none
+	 */
+	public Optional<Integer> getIdentifier(String name) {
+		Objects.requireNonNull(name);
+		Optional<Integer> ret = Optional.empty();
+		int separator = getNamespaceLength(name);
+		Optional<Integer> optNamespaceId = this.namespaceMap.get(name.substring(0, separator));
+		if (optNamespaceId.isPresent()) {
+			int identifier = find(optNamespaceId.get(), name.substring(separator).getBytes(StandardCharsets.UTF_8));
+			if (identifier != absent) {
+				ret = Optional.of(identifier);
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the local name of the given identifier, i.e. its name without
+	 * the namespace.
+	 *
+	 * @param identifier
+	 *            identifier
+	 * @return the local name of the given identifier
+	 * @throws IndexOutOfBoundsException
+	 *             if the identifier does not have a name
+	 */
+	public String getLocalName(int identifier) {
+		if (!contains(identifier)) {
+			throw new IndexOutOfBoundsException("Identifier without name : " + identifier);
+		}
+		return new String(this.arena, this.localStarts[identifier], this.localLengths[identifier],
+				StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Returns the name of the given identifier.
+	 *
+	 * @param identifier
+	 *            identifier
+	 * @return the name of the given identifier, or an empty optional if it
+	 *         does not have a name
+	 */
+	public Optional<String> getName(int identifier) {
+		Optional<String> ret = Optional.empty();
+		if (contains(identifier)) {
+			ret = Optional.of(getNamespace(this.namespaceIds[identifier]) + getLocalName(identifier));
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the namespace with the given namespace identifier.
+	 *
+	 * @param namespaceId
+	 *            namespace identifier
+	 * @return the namespace with the given namespace identifier
+	 */
+	public String getNamespace(int namespaceId) {
+		return this.namespaces.get(namespaceId);
+	}
+
+	/**
+	 * Returns the namespace identifier of the name of the given identifier.
+	 *
+	 * @param identifier
+	 *            identifier
+	 * @return the namespace identifier of the name of the given identifier
+	 * @throws IndexOutOfBoundsException
+	 *             if the identifier does not have a name
+	 */
+	public int getNamespaceId(int identifier) {
+		if (!contains(identifier)) {
+			throw new IndexOutOfBoundsException("Identifier without name : " + identifier);
+		}
+		return this.namespaceIds[identifier];
+	}
+
+	private int getNamespaceLength(String name) {
+		return Math.max(name.lastIndexOf('#'), name.lastIndexOf('/')) + 1;
+	}
+
+	/**
+	 * Returns the number of namespaces.
+	 *
+	 * @return the number of namespaces
+	 */
+	public int getNumberOfNamespaces() {
+		return this.namespaces.size();
+	}
+
+	private int hash(int namespaceId, byte[] bytes, int start, int length) {
+		int ret = namespaceId;
+		for (int index = start; index < start + length; index++) {
+			ret = 31 * ret + bytes[index];
+		}
+		return ret ^ (ret >>> 16);
+	}
+
+	private void insert(int identifier) {
+		int mask = this.table.length - 1;
+		int position = hash(this.namespaceIds[identifier], this.arena, this.localStarts[identifier],
+				this.localLengths[identifier]) & mask;
+		while (this.table[position] != absent) {
+			position = (position + 1) & mask;
+		}
+		this.table[position] = identifier;
+	}
+
+	private boolean matches(int start, byte[] localName) {
+		boolean ret = true;
+		for (int index = 0; ret && index < localName.length; index++) {
+			ret = (this.arena[start + index] == localName[index]);
+		}
+		return ret;
+	}
+
+	/**
+	 * Assigns a name to an identifier that does not have a name yet.
+	 *
+	 * @param identifier
+	 *            identifier
+	 * @param name
+	 *            name
+	 * @throws IllegalArgumentException
+	 *             if the identifier is negative
+	 * @throws IllegalStateException
+	 *             if the identifier already has a name
+	 */
+	public void put(int identifier, String name) {
+		Objects.requireNonNull(name);
+		if (identifier < 0) {
+			throw new IllegalArgumentException("Invalid identifier : " + identifier);
+		}
+		if (contains(identifier)) {
+			throw new IllegalStateException("Identifier already has a name : " + identifier);
+		}
+		ensureCapacity(identifier + 1);
+		int separator = getNamespaceLength(name);
+		String namespace = name.substring(0, separator);
+		Optional<Integer> optNamespaceId = this.namespaceMap.get(namespace);
+		if (!optNamespaceId.isPresent()) {
+			optNamespaceId = Optional.of(this.namespaces.size());
+			this.namespaces.add(namespace);
+			this.namespaceMap.put(namespace, optNamespaceId.get());
+		}
+		byte[] localName = name.substring(separator).getBytes(StandardCharsets.UTF_8);
+		boolean isNew = (find(optNamespaceId.get(), localName) == absent);
+
+		ensureArenaCapacity(this.arenaSize + localName.length);
+		System.arraycopy(localName, 0, this.arena, this.arenaSize, localName.length);
+		this.localStarts[identifier] = this.arenaSize;
+		this.localLengths[identifier] = localName.length;
+		this.namespaceIds[identifier] = optNamespaceId.get();
+		this.arenaSize += localName.length;
+		this.size++;
+
+		if (isNew) {
+			if (2 * this.size > this.table.length) {
+				rehash();
+			}
+			insert(identifier);
+		}
+	}
+
+	private void rehash() {
+		int[] oldTable = this.table;
+		this.table = new int[2 * oldTable.length];
+		Arrays.fill(this.table, absent);
+		for (int identifier : oldTable) {
+			if (identifier != absent) {
+				insert(identifier);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of identifiers that have a name.
+	 *
+	 * @return the number of identifiers that have a name
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	@Override
+	public String toString() {
+		StringBuffer sbuf = new StringBuffer();
+		sbuf.append("{");
+		for (int identifier = 0; identifier < this.namespaceIds.length; identifier++) {
+			if (contains(identifier)) {
+				sbuf.append(" " + identifier + "=" + getName(identifier).get());
+			}
+		}
+		sbuf.append(" }");
+		return sbuf.toString();
+	}
+
+	/**
+	 * Writes the name of the given identifier, without creating a string for
+	 * the complete name.
+	 *
+	 * @param identifier
+	 *            identifier
+	 * @param writer
+	 *            writer
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 * @throws IndexOutOfBoundsException
+	 *             if the identifier does not have a name
+	 */
+	public void writeName(int identifier, Writer writer) throws IOException {
+		Objects.requireNonNull(writer);
+		writer.write(getNamespace(getNamespaceId(identifier)));
+		writer.write(getLocalName(identifier));
+	}
+
+}
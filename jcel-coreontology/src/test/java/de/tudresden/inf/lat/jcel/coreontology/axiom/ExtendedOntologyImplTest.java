@@ -0,0 +1,207 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package de.tudresden.inf.lat.jcel.coreontology.axiom;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ExtendedOntologyImpl}.
+ *
+ * @author Julian Mendez
+ */
+public class ExtendedOntologyImplTest {
+
+	private static final int a = 10;
+	private static final int b = 11;
+	private static final int c = 12;
+	private static final int d = 13;
+	private static final int e = 14;
+	private static final int r = 20;
+	private static final int s = 21;
+
+	private final Set<IntegerAnnotation> annotations = new TreeSet<>();
+	private final NormalizedIntegerAxiomFactory factory = new NormalizedIntegerAxiomFactoryImpl();
+
+	/**
+	 * Constructs a new test.
+	 */
+	public ExtendedOntologyImplTest() {
+	}
+
+	/**
+	 * Checks that the lookups of the <code>forEach</code> methods give the
+	 * same operands as the axioms returned by the set-based getters, each one
+	 * exactly once.
+	 */
+	private void assertLookupsMatchAxioms(ExtendedOntology ontology) {
+		for (int classId : Arrays.asList(a, b, c, d, e)) {
+			List<String> expected = new ArrayList<>();
+			ontology.getGCI0Axioms(classId).forEach(axiom -> expected.add("" + axiom.getSuperClass()));
+			List<String> actual = new ArrayList<>();
+			ontology.forEachGCI0SuperClass(classId, superClass -> actual.add("" + superClass));
+			assertSameElements(expected, actual);
+
+			expected.clear();
+			ontology.getGCI1Axioms(classId).forEach(axiom -> {
+				int other = (classId == axiom.getRightSubClass()) ? axiom.getLeftSubClass()
+						: axiom.getRightSubClass();
+				expected.add(other + "," + axiom.getSuperClass());
+			});
+			actual.clear();
+			ontology.forEachGCI1Operands(classId, (other, superClass) -> actual.add(other + "," + superClass));
+			assertSameElements(expected, actual);
+
+			expected.clear();
+			ontology.getGCI2Axioms(classId).forEach(
+					axiom -> expected.add(axiom.getPropertyInSuperClass() + "," + axiom.getClassInSuperClass()));
+			actual.clear();
+			ontology.forEachGCI2Operands(classId, (property, filler) -> actual.add(property + "," + filler));
+			assertSameElements(expected, actual);
+
+			for (int propertyId : Arrays.asList(r, s)) {
+				expected.clear();
+				ontology.getGCI3rAAxioms(propertyId, classId)
+						.forEach(axiom -> expected.add("" + axiom.getSuperClass()));
+				actual.clear();
+				ontology.forEachGCI3rASuperClass(propertyId, classId, superClass -> actual.add("" + superClass));
+				assertSameElements(expected, actual);
+			}
+		}
+	}
+
+	private void assertSameElements(List<String> expected, List<String> actual) {
+		List<String> sortedExpected = new ArrayList<>(expected);
+		Collections.sort(sortedExpected);
+		List<String> sortedActual = new ArrayList<>(actual);
+		Collections.sort(sortedActual);
+		Assertions.assertEquals(sortedExpected, sortedActual);
+	}
+
+	private Set<NormalizedIntegerAxiom> createAxioms() {
+		Set<NormalizedIntegerAxiom> ret = new HashSet<>();
+		ret.add(this.factory.createGCI0Axiom(a, b, this.annotations));
+		ret.add(this.factory.createGCI0Axiom(a, c, this.annotations));
+		ret.add(this.factory.createGCI0Axiom(b, c, this.annotations));
+		ret.add(this.factory.createGCI1Axiom(a, b, d, this.annotations));
+		ret.add(this.factory.createGCI1Axiom(c, d, e, this.annotations));
+		ret.add(this.factory.createGCI2Axiom(a, r, b, this.annotations));
+		ret.add(this.factory.createGCI2Axiom(a, s, c, this.annotations));
+		ret.add(this.factory.createGCI2Axiom(d, r, e, this.annotations));
+		ret.add(this.factory.createGCI3Axiom(r, b, c, this.annotations));
+		ret.add(this.factory.createGCI3Axiom(r, b, d, this.annotations));
+		ret.add(this.factory.createGCI3Axiom(s, c, e, this.annotations));
+		return ret;
+	}
+
+	/**
+	 * Checks that the lookups of a frozen ontology give the same results as
+	 * the set-based getters.
+	 */
+	@Test
+	public void testForEachAfterFreeze() {
+		ExtendedOntology ontology = new ExtendedOntologyImpl();
+		ontology.load(createAxioms());
+		Assertions.assertFalse(ontology.isFrozen());
+		assertLookupsMatchAxioms(ontology);
+
+		ontology.freeze();
+		Assertions.assertTrue(ontology.isFrozen());
+		assertLookupsMatchAxioms(ontology);
+
+		Set<Integer> superClasses = new TreeSet<>();
+		ontology.forEachGCI0SuperClass(a, superClasses::add);
+		Assertions.assertEquals(new TreeSet<>(Arrays.asList(b, c)), superClasses);
+		Set<Integer> gci3SuperClasses = new TreeSet<>();
+		ontology.forEachGCI3rASuperClass(r, b, gci3SuperClasses::add);
+		Assertions.assertEquals(new TreeSet<>(Arrays.asList(c, d)), gci3SuperClasses);
+	}
+
+	/**
+	 * Checks that loading axioms into a frozen ontology unfreezes it, and
+	 * that the lookups include the new axioms before and after freezing it
+	 * again.
+	 */
+	@Test
+	public void testLoadAfterFreeze() {
+		ExtendedOntology ontology = new ExtendedOntologyImpl();
+		ontology.load(createAxioms());
+		ontology.freeze();
+
+		Set<NormalizedIntegerAxiom> newAxioms = new HashSet<>();
+		newAxioms.add(this.factory.createGCI0Axiom(a, e, this.annotations));
+		newAxioms.add(this.factory.createGCI1Axiom(b, e, a, this.annotations));
+		newAxioms.add(this.factory.createGCI2Axiom(e, s, a, this.annotations));
+		newAxioms.add(this.factory.createGCI3Axiom(s, a, b, this.annotations));
+		ontology.load(newAxioms);
+		Assertions.assertFalse(ontology.isFrozen());
+		assertLookupsMatchAxioms(ontology);
+
+		Set<Integer> superClasses = new TreeSet<>();
+		ontology.forEachGCI0SuperClass(a, superClasses::add);
+		Assertions.assertTrue(superClasses.contains(e));
+
+		ontology.freeze();
+		Assertions.assertTrue(ontology.isFrozen());
+		assertLookupsMatchAxioms(ontology);
+
+		superClasses.clear();
+		ontology.forEachGCI0SuperClass(a, superClasses::add);
+		Assertions.assertTrue(superClasses.contains(e));
+		Set<Integer> gci3SuperClasses = new TreeSet<>();
+		ontology.forEachGCI3rASuperClass(s, a, gci3SuperClasses::add);
+		Assertions.assertEquals(new TreeSet<>(Arrays.asList(b)), gci3SuperClasses);
+	}
+
+}
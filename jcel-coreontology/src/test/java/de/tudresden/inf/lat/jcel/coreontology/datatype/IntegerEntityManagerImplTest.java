@@ -0,0 +1,192 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.coreontology.datatype;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link IntegerEntityManagerImpl}.
+ *
+ * @author Julian Mendez
+ */
+public class IntegerEntityManagerImplTest {
+
+	private static final int numberOfEntitiesPerWriter = 2000;
+	private static final int numberOfWriters = 4;
+
+	/**
+	 * Constructs a new test.
+	 */
+	public IntegerEntityManagerImplTest() {
+	}
+
+	private void assertAscending(Set<Integer> set) {
+		int previous = -1;
+		for (int identifier : set) {
+			Assertions.assertTrue(previous < identifier);
+			previous = identifier;
+		}
+	}
+
+	private void checkViews(IntegerEntityManager manager) {
+		Set<Integer> classes = manager.getEntities(IntegerEntityType.CLASS);
+		assertAscending(classes);
+		for (int identifier : classes) {
+			Assertions.assertEquals(IntegerEntityType.CLASS, manager.getType(identifier));
+			Assertions.assertTrue(manager.isEntity(identifier));
+		}
+		for (int identifier : manager.getEntities(IntegerEntityType.CLASS, false)) {
+			Assertions.assertFalse(manager.isAuxiliary(identifier));
+			if (identifier >= IntegerEntityManager.firstUsableIdentifier) {
+				Assertions.assertTrue(manager.getName(identifier).startsWith("http://example.org/onto#A"));
+			}
+		}
+
+		Set<Integer> individuals = manager.getIndividuals();
+		assertAscending(individuals);
+		for (int individual : individuals) {
+			Assertions.assertEquals(IntegerEntityType.INDIVIDUAL, manager.getType(individual));
+			Optional<Integer> nominal = manager.getAuxiliaryNominal(individual);
+			Assertions.assertTrue(nominal.isPresent());
+			Assertions.assertEquals(Optional.of(individual), manager.getIndividual(nominal.get()));
+		}
+
+		Set<Integer> nominals = manager.getAuxiliaryNominals();
+		assertAscending(nominals);
+		for (int nominal : nominals) {
+			Assertions.assertEquals(IntegerEntityType.CLASS, manager.getType(nominal));
+			Assertions.assertTrue(manager.isAuxiliary(nominal));
+			Assertions.assertTrue(manager.getIndividual(nominal).isPresent());
+		}
+	}
+
+	private List<Integer> createEntities(IntegerEntityManager manager, int writer) {
+		List<Integer> ret = new ArrayList<>();
+		for (int index = 0; index < numberOfEntitiesPerWriter; index++) {
+			String suffix = writer + "_" + index;
+			ret.add(manager.createNamedEntity(IntegerEntityType.CLASS, "http://example.org/onto#A" + suffix, false));
+			Integer individual = manager.createNamedEntity(IntegerEntityType.INDIVIDUAL,
+					"http://example.org/data/a" + suffix, false);
+			ret.add(individual);
+			ret.add(manager.createOrGetClassIdForIndividual(individual));
+		}
+		return ret;
+	}
+
+	/**
+	 * Tests that the views of the entity manager are consistent while other
+	 * threads create entities, and that they are equal to the expected sets
+	 * when the threads finish.
+	 * 
+	 * @throws ExecutionException
+	 *             if a thread has thrown an exception
+	 * @throws InterruptedException
+	 *             if the test is interrupted
+	 */
+	@Test
+	public void testViewsWhileCreatingEntities() throws ExecutionException, InterruptedException {
+		IntegerEntityManager manager = new IntegerEntityManagerImpl();
+		Set<Integer> expectedClasses = new HashSet<>(manager.getEntities(IntegerEntityType.CLASS));
+		Set<Integer> expectedIndividuals = new HashSet<>();
+		Set<Integer> expectedNominals = new HashSet<>();
+
+		ExecutorService executor = Executors.newFixedThreadPool(numberOfWriters + 1);
+		AtomicBoolean finished = new AtomicBoolean(false);
+		try {
+			Future<Integer> reader = executor.submit(() -> {
+				int ret = 0;
+				while (!finished.get()) {
+					checkViews(manager);
+					ret++;
+				}
+				return ret;
+			});
+			List<Future<List<Integer>>> writers = new ArrayList<>();
+			for (int writer = 0; writer < numberOfWriters; writer++) {
+				int currentWriter = writer;
+				writers.add(executor.submit(() -> createEntities(manager, currentWriter)));
+			}
+
+			for (Future<List<Integer>> writer : writers) {
+				List<Integer> created = writer.get();
+				for (int index = 0; index < created.size(); index += 3) {
+					expectedClasses.add(created.get(index));
+					expectedIndividuals.add(created.get(index + 1));
+					expectedNominals.add(created.get(index + 2));
+				}
+			}
+			finished.set(true);
+			Assertions.assertTrue(reader.get() > 0);
+		} finally {
+			finished.set(true);
+			executor.shutdown();
+		}
+
+		expectedClasses.addAll(expectedNominals);
+		checkViews(manager);
+		Assertions.assertEquals(expectedClasses, manager.getEntities(IntegerEntityType.CLASS));
+		Assertions.assertEquals(expectedClasses.size(), manager.getEntities(IntegerEntityType.CLASS).size());
+		Assertions.assertEquals(expectedNominals, manager.getAuxiliaryNominals());
+		Assertions.assertEquals(expectedNominals, manager.getEntities(IntegerEntityType.CLASS, true));
+		Assertions.assertEquals(expectedIndividuals, manager.getIndividuals());
+		Assertions.assertEquals(expectedIndividuals, manager.getEntities(IntegerEntityType.INDIVIDUAL));
+		Assertions.assertEquals(numberOfWriters * numberOfEntitiesPerWriter, manager.getIndividuals().size());
+	}
+
+}
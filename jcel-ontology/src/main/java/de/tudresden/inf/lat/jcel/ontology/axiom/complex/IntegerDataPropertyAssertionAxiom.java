@@ -52,6 +52,7 @@ import java.util.Objects;
 import java.util.Set;
 
 import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerSignatureSet;
 
 /**
  * This class models an assertion that relates a data property and a pair of
@@ -91,7 +92,7 @@ public class IntegerDataPropertyAssertionAxiom implements ComplexIntegerAxiom {
 		Set<Integer> individualsInSignature = new HashSet<>();
 		individualsInSignature.add(this.subject);
 		individualsInSignature.add(this.object);
-		this.individualsInSignature = Collections.unmodifiableSet(individualsInSignature);
+		this.individualsInSignature = new IntegerSignatureSet(individualsInSignature);
 		this.annotations = annotations;
 		this.hashCode = this.property
 				+ 0x1F * (this.subject + 0x1F * (this.object + 0x1F * this.annotations.hashCode()));
@@ -131,7 +132,7 @@ public class IntegerDataPropertyAssertionAxiom implements ComplexIntegerAxiom {
 
 	@Override
 	public Set<Integer> getIndividualsInSignature() {
-		return Collections.unmodifiableSet(this.individualsInSignature);
+		return this.individualsInSignature;
 	}
 
 	/**
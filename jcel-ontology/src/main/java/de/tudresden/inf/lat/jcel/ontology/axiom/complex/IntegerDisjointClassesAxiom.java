@@ -53,6 +53,7 @@ import java.util.Set;
 
 import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
 import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerClassExpression;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerSignatureSet;
 
 /**
  * This class models an axiom stating that the contained classes are pairwise
@@ -86,12 +87,12 @@ public class IntegerDisjointClassesAxiom implements ComplexIntegerAxiom {
 
 		Set<Integer> classesInSignature = new HashSet<>();
 		this.classExpressions.forEach(expression -> classesInSignature.addAll(expression.getClassesInSignature()));
-		this.classesInSignature = Collections.unmodifiableSet(classesInSignature);
+		this.classesInSignature = new IntegerSignatureSet(classesInSignature);
 
 		Set<Integer> objectPropertiesInSignature = new HashSet<>();
 		this.classExpressions
 				.forEach(expression -> objectPropertiesInSignature.addAll(expression.getObjectPropertiesInSignature()));
-		this.objectPropertiesInSignature = Collections.unmodifiableSet(objectPropertiesInSignature);
+		this.objectPropertiesInSignature = new IntegerSignatureSet(objectPropertiesInSignature);
 		this.annotations = annotations;
 		this.hashCode = this.classExpressions.hashCode() + 0x1F * this.annotations.hashCode();
 	}
@@ -115,7 +116,7 @@ public class IntegerDisjointClassesAxiom implements ComplexIntegerAxiom {
 
 	@Override
 	public Set<Integer> getClassesInSignature() {
-		return Collections.unmodifiableSet(this.classesInSignature);
+		return this.classesInSignature;
 	}
 
 	/**
@@ -144,7 +145,7 @@ public class IntegerDisjointClassesAxiom implements ComplexIntegerAxiom {
 
 	@Override
 	public Set<Integer> getObjectPropertiesInSignature() {
-		return Collections.unmodifiableSet(this.objectPropertiesInSignature);
+		return this.objectPropertiesInSignature;
 	}
 
 	@Override
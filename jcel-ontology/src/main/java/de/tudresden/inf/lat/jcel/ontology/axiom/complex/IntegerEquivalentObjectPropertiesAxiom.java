@@ -53,6 +53,7 @@ import java.util.Set;
 
 import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
 import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerObjectPropertyExpression;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerSignatureSet;
 
 /**
  * This class models an axiom stating that the contained properties are
@@ -86,7 +87,7 @@ public class IntegerEquivalentObjectPropertiesAxiom implements ComplexIntegerAxi
 		Set<Integer> objectPropertiesInSignature = new HashSet<>();
 		this.objectProperties
 				.forEach(expression -> objectPropertiesInSignature.addAll(expression.getObjectPropertiesInSignature()));
-		this.objectPropertiesInSignature = Collections.unmodifiableSet(objectPropertiesInSignature);
+		this.objectPropertiesInSignature = new IntegerSignatureSet(objectPropertiesInSignature);
 		this.annotations = annotations;
 		this.hashCode = this.objectProperties.hashCode() + 0x1F * this.annotations.hashCode();
 	}
@@ -129,7 +130,7 @@ public class IntegerEquivalentObjectPropertiesAxiom implements ComplexIntegerAxi
 
 	@Override
 	public Set<Integer> getObjectPropertiesInSignature() {
-		return Collections.unmodifiableSet(this.objectPropertiesInSignature);
+		return this.objectPropertiesInSignature;
 	}
 
 	/**
@@ -53,6 +53,7 @@ import java.util.Set;
 
 import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
 import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerObjectPropertyExpression;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerSignatureSet;
 
 /**
  * This class models an axiom stating that one object property is the inverse of
@@ -91,7 +92,7 @@ public class IntegerInverseObjectPropertiesAxiom implements ComplexIntegerAxiom
 		Set<Integer> objectPropertiesInSignature = new HashSet<>();
 		objectPropertiesInSignature.addAll(this.firstProperty.getObjectPropertiesInSignature());
 		objectPropertiesInSignature.addAll(this.secondProperty.getObjectPropertiesInSignature());
-		this.objectPropertiesInSignature = Collections.unmodifiableSet(objectPropertiesInSignature);
+		this.objectPropertiesInSignature = new IntegerSignatureSet(objectPropertiesInSignature);
 		this.annotations = annotations;
 		this.hashCode = this.firstProperty.hashCode()
 				+ 0x1F * (this.secondProperty.hashCode() + 0x1F * this.annotations.hashCode());
@@ -146,7 +147,7 @@ public class IntegerInverseObjectPropertiesAxiom implements ComplexIntegerAxiom
 
 	@Override
 	public Set<Integer> getObjectPropertiesInSignature() {
-		return Collections.unmodifiableSet(this.objectPropertiesInSignature);
+		return this.objectPropertiesInSignature;
 	}
 
 	/**
@@ -53,6 +53,7 @@ import java.util.Set;
 
 import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
 import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerObjectPropertyExpression;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerSignatureSet;
 
 /**
  * This class models an assertion that negatively relates an object property and
@@ -93,7 +94,7 @@ public class IntegerNegativeObjectPropertyAssertionAxiom implements ComplexInteg
 		Set<Integer> individuals = new HashSet<>();
 		individuals.add(this.subject);
 		individuals.add(this.object);
-		this.individuals = Collections.unmodifiableSet(individuals);
+		this.individuals = new IntegerSignatureSet(individuals);
 		this.annotations = annotations;
 		this.hashCode = this.property.hashCode()
 				+ 0x1F * (this.subject + 0x1F * (this.object + 0x1F * this.annotations.hashCode()));
@@ -133,7 +134,7 @@ public class IntegerNegativeObjectPropertyAssertionAxiom implements ComplexInteg
 
 	@Override
 	public Set<Integer> getIndividualsInSignature() {
-		return Collections.unmodifiableSet(this.individuals);
+		return this.individuals;
 	}
 
 	/**
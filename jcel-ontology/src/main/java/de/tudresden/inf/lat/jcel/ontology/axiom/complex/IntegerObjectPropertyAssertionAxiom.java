@@ -53,6 +53,7 @@ import java.util.Set;
 
 import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
 import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerObjectPropertyExpression;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerSignatureSet;
 
 /**
  * This class models an assertion that relates an object property and a pair of
@@ -93,7 +94,7 @@ public class IntegerObjectPropertyAssertionAxiom implements ComplexIntegerAxiom
 		Set<Integer> individualsInSignature = new HashSet<>();
 		individualsInSignature.add(this.subject);
 		individualsInSignature.add(this.object);
-		this.individualsInSignature = Collections.unmodifiableSet(individualsInSignature);
+		this.individualsInSignature = new IntegerSignatureSet(individualsInSignature);
 		this.annotations = annotations;
 		this.hashCode = this.property.hashCode()
 				+ 0x1F * (this.subject + 0x1F * (this.object + 0x1F * this.annotations.hashCode()));
@@ -133,7 +134,7 @@ public class IntegerObjectPropertyAssertionAxiom implements ComplexIntegerAxiom
 
 	@Override
 	public Set<Integer> getIndividualsInSignature() {
-		return Collections.unmodifiableSet(this.individualsInSignature);
+		return this.individualsInSignature;
 	}
 
 	/**
@@ -54,6 +54,7 @@ import java.util.Set;
 import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
 import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerClassExpression;
 import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerObjectPropertyExpression;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerSignatureSet;
 
 /**
  * This class models an axiom stating that the range of a particular object
@@ -91,12 +92,12 @@ public class IntegerPropertyRangeAxiom implements ComplexIntegerAxiom {
 
 		Set<Integer> classesInSignature = new HashSet<>();
 		classesInSignature.addAll(this.range.getClassesInSignature());
-		this.classesInSignature = Collections.unmodifiableSet(classesInSignature);
+		this.classesInSignature = new IntegerSignatureSet(classesInSignature);
 
 		Set<Integer> objectPropertiesInSignature = new HashSet<>();
 		objectPropertiesInSignature.addAll(this.range.getObjectPropertiesInSignature());
 		objectPropertiesInSignature.addAll(this.property.getObjectPropertiesInSignature());
-		this.objectPropertiesInSignature = Collections.unmodifiableSet(objectPropertiesInSignature);
+		this.objectPropertiesInSignature = new IntegerSignatureSet(objectPropertiesInSignature);
 		this.annotations = annotations;
 		this.hashCode = this.property.hashCode() + 0x1F * (this.range.hashCode() + 0x1F * this.annotations.hashCode());
 	}
@@ -120,7 +121,7 @@ public class IntegerPropertyRangeAxiom implements ComplexIntegerAxiom {
 
 	@Override
 	public Set<Integer> getClassesInSignature() {
-		return Collections.unmodifiableSet(this.classesInSignature);
+		return this.classesInSignature;
 	}
 
 	@Override
@@ -140,7 +141,7 @@ public class IntegerPropertyRangeAxiom implements ComplexIntegerAxiom {
 
 	@Override
 	public Set<Integer> getObjectPropertiesInSignature() {
-		return Collections.unmodifiableSet(this.objectPropertiesInSignature);
+		return this.objectPropertiesInSignature;
 	}
 
 	/**
@@ -53,6 +53,7 @@ import java.util.Set;
 
 import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
 import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerClassExpression;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerSignatureSet;
 
 /**
  * This class models an axiom stating that one class is a subclass of another
@@ -91,12 +92,12 @@ public class IntegerSubClassOfAxiom implements ComplexIntegerAxiom {
 		Set<Integer> classesInSignature = new HashSet<>();
 		classesInSignature.addAll(this.subClass.getClassesInSignature());
 		classesInSignature.addAll(this.superClass.getClassesInSignature());
-		this.classesInSignature = Collections.unmodifiableSet(classesInSignature);
+		this.classesInSignature = new IntegerSignatureSet(classesInSignature);
 
 		Set<Integer> objectPropertiesInSignature = new HashSet<>();
 		objectPropertiesInSignature.addAll(this.subClass.getObjectPropertiesInSignature());
 		objectPropertiesInSignature.addAll(this.superClass.getObjectPropertiesInSignature());
-		this.objectPropertiesInSignature = Collections.unmodifiableSet(objectPropertiesInSignature);
+		this.objectPropertiesInSignature = new IntegerSignatureSet(objectPropertiesInSignature);
 		this.annotations = annotations;
 		this.hashCode = this.subClass.hashCode()
 				+ 0x1F * (this.superClass.hashCode() + 0x1F * this.annotations.hashCode());
@@ -121,7 +122,7 @@ public class IntegerSubClassOfAxiom implements ComplexIntegerAxiom {
 
 	@Override
 	public Set<Integer> getClassesInSignature() {
-		return Collections.unmodifiableSet(this.classesInSignature);
+		return this.classesInSignature;
 	}
 
 	@Override
@@ -141,7 +142,7 @@ public class IntegerSubClassOfAxiom implements ComplexIntegerAxiom {
 
 	@Override
 	public Set<Integer> getObjectPropertiesInSignature() {
-		return Collections.unmodifiableSet(this.objectPropertiesInSignature);
+		return this.objectPropertiesInSignature;
 	}
 
 	/**
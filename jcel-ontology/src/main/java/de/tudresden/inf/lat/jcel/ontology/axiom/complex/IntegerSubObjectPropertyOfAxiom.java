@@ -53,6 +53,7 @@ import java.util.Set;
 
 import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
 import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerObjectPropertyExpression;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerSignatureSet;
 
 /**
  * This class models an axiom stating that one object property is a subproperty
@@ -90,7 +91,7 @@ public class IntegerSubObjectPropertyOfAxiom implements ComplexIntegerAxiom {
 		Set<Integer> objectPropertiesInSignature = new HashSet<>();
 		objectPropertiesInSignature.addAll(this.subObjectProperty.getObjectPropertiesInSignature());
 		objectPropertiesInSignature.addAll(this.superObjectProperty.getObjectPropertiesInSignature());
-		this.objectPropertiesInSignature = Collections.unmodifiableSet(objectPropertiesInSignature);
+		this.objectPropertiesInSignature = new IntegerSignatureSet(objectPropertiesInSignature);
 		this.annotations = annotations;
 		this.hashCode = this.subObjectProperty.hashCode()
 				+ 0x1F * (this.superObjectProperty.hashCode() + 0x1F * this.annotations.hashCode());
@@ -135,7 +136,7 @@ public class IntegerSubObjectPropertyOfAxiom implements ComplexIntegerAxiom {
 
 	@Override
 	public Set<Integer> getObjectPropertiesInSignature() {
-		return Collections.unmodifiableSet(this.objectPropertiesInSignature);
+		return this.objectPropertiesInSignature;
 	}
 
 	/**
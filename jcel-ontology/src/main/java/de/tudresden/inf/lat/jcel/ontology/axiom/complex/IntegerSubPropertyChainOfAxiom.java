@@ -54,6 +54,7 @@ import java.util.Set;
 
 import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
 import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerObjectPropertyExpression;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerSignatureSet;
 
 /**
  * This class models an axiom stating that the contained properties form a
@@ -92,7 +93,7 @@ public class IntegerSubPropertyChainOfAxiom implements ComplexIntegerAxiom {
 		getPropertyChain().forEach(
 				propertyExpr -> objectPropertiesInSignature.addAll(propertyExpr.getObjectPropertiesInSignature()));
 		objectPropertiesInSignature.addAll(getSuperProperty().getObjectPropertiesInSignature());
-		this.objectPropertiesInSignature = Collections.unmodifiableSet(objectPropertiesInSignature);
+		this.objectPropertiesInSignature = new IntegerSignatureSet(objectPropertiesInSignature);
 		this.annotations = annotations;
 		this.hashCode = this.propertyChain.hashCode()
 				+ 0x1F * (this.superProperty.hashCode() + 0x1F * this.annotations.hashCode());
@@ -138,7 +139,7 @@ public class IntegerSubPropertyChainOfAxiom implements ComplexIntegerAxiom {
 
 	@Override
 	public Set<Integer> getObjectPropertiesInSignature() {
-		return Collections.unmodifiableSet(this.objectPropertiesInSignature);
+		return this.objectPropertiesInSignature;
 	}
 
 	public List<IntegerObjectPropertyExpression> getPropertyChain() {
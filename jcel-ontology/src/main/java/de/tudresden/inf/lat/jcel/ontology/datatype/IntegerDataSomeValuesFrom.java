@@ -47,7 +47,7 @@
 package de.tudresden.inf.lat.jcel.ontology.datatype;
 
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.Set;
 
@@ -61,9 +61,12 @@ import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerClassExpressionWor
  */
 public class IntegerDataSomeValuesFrom implements IntegerClassExpression {
 
+	private final Set<Integer> classesInSignature;
+	private final Set<Integer> dataPropertiesInSignature;
 	private final IntegerClassExpression filler;
 	private final int hashCode;
 	private final boolean normalized;
+	private final Set<Integer> objectPropertiesInSignature;
 	private final int property;
 
 	/**
@@ -80,6 +83,12 @@ public class IntegerDataSomeValuesFrom implements IntegerClassExpression {
 		this.filler = classExpression;
 		this.normalized = classExpression.isLiteral();
 		this.hashCode = propertyId + (31 * classExpression.hashCode());
+		this.classesInSignature = IntegerSignatureSet
+				.union(Collections.singletonList(classExpression.getClassesInSignature()));
+		this.dataPropertiesInSignature = IntegerSignatureSet.union(
+				Arrays.asList(classExpression.getDataPropertiesInSignature(), Collections.singleton(propertyId)));
+		this.objectPropertiesInSignature = IntegerSignatureSet
+				.union(Collections.singletonList(classExpression.getObjectPropertiesInSignature()));
 	}
 
 	@Override
@@ -105,17 +114,12 @@ public class IntegerDataSomeValuesFrom implements IntegerClassExpression {
 
 	@Override
 	public Set<Integer> getClassesInSignature() {
-		Set<Integer> ret = new HashSet<>();
-		ret.addAll(getFiller().getClassesInSignature());
-		return Collections.unmodifiableSet(ret);
+		return this.classesInSignature;
 	}
 
 	@Override
 	public Set<Integer> getDataPropertiesInSignature() {
-		Set<Integer> ret = new HashSet<>();
-		ret.addAll(getFiller().getDataPropertiesInSignature());
-		ret.add(getProperty());
-		return Collections.unmodifiableSet(ret);
+		return this.dataPropertiesInSignature;
 	}
 
 	@Override
@@ -139,9 +143,7 @@ public class IntegerDataSomeValuesFrom implements IntegerClassExpression {
 
 	@Override
 	public Set<Integer> getObjectPropertiesInSignature() {
-		Set<Integer> ret = new HashSet<>();
-		ret.addAll(getFiller().getObjectPropertiesInSignature());
-		return Collections.unmodifiableSet(ret);
+		return this.objectPropertiesInSignature;
 	}
 
 	/**
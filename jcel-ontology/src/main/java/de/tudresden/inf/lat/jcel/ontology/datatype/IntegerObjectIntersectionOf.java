@@ -47,10 +47,10 @@
 package de.tudresden.inf.lat.jcel.ontology.datatype;
 
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerClassExpressionWord;
 
@@ -63,8 +63,10 @@ import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerClassExpressionWor
  */
 public class IntegerObjectIntersectionOf implements IntegerClassExpression {
 
+	private final Set<Integer> classesInSignature;
 	private final int hashCode;
 	private final boolean normalized;
+	private final Set<Integer> objectPropertiesInSignature;
 	private final Set<IntegerClassExpression> operands;
 	private final boolean withBottom;
 
@@ -90,6 +92,10 @@ public class IntegerObjectIntersectionOf implements IntegerClassExpression {
 		}
 		this.normalized = normalized;
 		this.withBottom = withBottom;
+		this.classesInSignature = IntegerSignatureSet.union(this.operands.stream()
+				.map(IntegerClassExpression::getClassesInSignature).collect(Collectors.toList()));
+		this.objectPropertiesInSignature = IntegerSignatureSet.union(this.operands.stream()
+				.map(IntegerClassExpression::getObjectPropertiesInSignature).collect(Collectors.toList()));
 	}
 
 	@Override
@@ -115,9 +121,7 @@ public class IntegerObjectIntersectionOf implements IntegerClassExpression {
 
 	@Override
 	public Set<Integer> getClassesInSignature() {
-		Set<Integer> ret = new HashSet<>();
-		getOperands().forEach(expression -> ret.addAll(expression.getClassesInSignature()));
-		return Collections.unmodifiableSet(ret);
+		return this.classesInSignature;
 	}
 
 	@Override
@@ -137,9 +141,7 @@ public class IntegerObjectIntersectionOf implements IntegerClassExpression {
 
 	@Override
 	public Set<Integer> getObjectPropertiesInSignature() {
-		Set<Integer> ret = new HashSet<>();
-		getOperands().forEach(expression -> ret.addAll(expression.getObjectPropertiesInSignature()));
-		return Collections.unmodifiableSet(ret);
+		return this.objectPropertiesInSignature;
 	}
 
 	/**
@@ -47,7 +47,7 @@
 package de.tudresden.inf.lat.jcel.ontology.datatype;
 
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.Set;
 
@@ -62,9 +62,11 @@ import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerClassExpressionWor
  */
 public class IntegerObjectSomeValuesFrom implements IntegerClassExpression {
 
+	private final Set<Integer> classesInSignature;
 	private final IntegerClassExpression filler;
 	private final int hashCode;
 	private final boolean normalized;
+	private final Set<Integer> objectPropertiesInSignature;
 	private final IntegerObjectPropertyExpression property;
 
 	/**
@@ -83,6 +85,10 @@ public class IntegerObjectSomeValuesFrom implements IntegerClassExpression {
 		this.filler = classExpression;
 		this.normalized = classExpression.isLiteral();
 		this.hashCode = propertyExpression.hashCode() + (31 * classExpression.hashCode());
+		this.classesInSignature = IntegerSignatureSet
+				.union(Collections.singletonList(classExpression.getClassesInSignature()));
+		this.objectPropertiesInSignature = IntegerSignatureSet.union(Arrays.asList(
+				classExpression.getObjectPropertiesInSignature(), propertyExpression.getObjectPropertiesInSignature()));
 	}
 
 	@Override
@@ -108,9 +114,7 @@ public class IntegerObjectSomeValuesFrom implements IntegerClassExpression {
 
 	@Override
 	public Set<Integer> getClassesInSignature() {
-		Set<Integer> ret = new HashSet<>();
-		ret.addAll(getFiller().getClassesInSignature());
-		return Collections.unmodifiableSet(ret);
+		return this.classesInSignature;
 	}
 
 	@Override
@@ -139,10 +143,7 @@ public class IntegerObjectSomeValuesFrom implements IntegerClassExpression {
 
 	@Override
 	public Set<Integer> getObjectPropertiesInSignature() {
-		Set<Integer> ret = new HashSet<>();
-		ret.addAll(getFiller().getObjectPropertiesInSignature());
-		ret.addAll(getProperty().getObjectPropertiesInSignature());
-		return Collections.unmodifiableSet(ret);
+		return this.objectPropertiesInSignature;
 	}
 
 	public IntegerObjectPropertyExpression getProperty() {
@@ -0,0 +1,188 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.ontology.datatype;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An object of this class is an immutable set of identifiers used as the
+ * signature of a class expression or an axiom. The identifiers are kept in a
+ * sorted array, so that the signature is computed only once and can be
+ * returned without copying.
+ *
+ * @author Julian Mendez
+ */
+public class IntegerSignatureSet extends AbstractSet<Integer> {
+
+	private class SignatureIterator implements Iterator<Integer> {
+
+		private int index = 0;
+
+		@Override
+		public boolean hasNext() {
+			return this.index < IntegerSignatureSet.this.elements.length;
+		}
+
+		@Override
+		public Integer next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			int ret = IntegerSignatureSet.this.elements[this.index];
+			this.index++;
+			return ret;
+		}
+
+	}
+
+	private static final IntegerSignatureSet emptySignature = new IntegerSignatureSet(new int[0], 0);
+
+	/**
+	 * Returns the union of the given sets of identifiers. If there is only one
+	 * set and it is already a signature set, that set is returned.
+	 *
+	 * @param sets
+	 *            sets of identifiers
+	 * @return the union of the given sets of identifiers
+	 */
+	public static IntegerSignatureSet union(Collection<? extends Collection<Integer>> sets) {
+		Objects.requireNonNull(sets);
+		IntegerSignatureSet ret = emptySignature;
+		if (sets.size() == 1 && sets.iterator().next() instanceof IntegerSignatureSet) {
+			ret = (IntegerSignatureSet) sets.iterator().next();
+		} else {
+			int size = sets.stream().mapToInt(Collection::size).sum();
+			if (size > 0) {
+				int[] array = new int[size];
+				int position = 0;
+				for (Collection<Integer> set : sets) {
+					if (set instanceof IntegerSignatureSet) {
+						int[] other = ((IntegerSignatureSet) set).elements;
+						System.arraycopy(other, 0, array, position, other.length);
+						position += other.length;
+					} else {
+						for (int elem : set) {
+							array[position] = elem;
+							position++;
+						}
+					}
+				}
+				ret = new IntegerSignatureSet(array, position);
+			}
+		}
+		return ret;
+	}
+
+	private final int[] elements;
+	private final int hashCode;
+
+	/**
+	 * Constructs a new signature set containing the given identifiers.
+	 *
+	 * @param collection
+	 *            identifiers
+	 */
+	public IntegerSignatureSet(Collection<Integer> collection) {
+		this(collection.stream().mapToInt(Integer::intValue).toArray(), collection.size());
+	}
+
+	private IntegerSignatureSet(int[] array, int length) {
+		Arrays.sort(array, 0, length);
+		int size = 0;
+		for (int index = 0; index < length; index++) {
+			if (size == 0 || array[size - 1] != array[index]) {
+				array[size] = array[index];
+				size++;
+			}
+		}
+		this.elements = (size == array.length) ? array : Arrays.copyOf(array, size);
+		this.hashCode = Arrays.stream(this.elements).sum();
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return (o instanceof Integer) && Arrays.binarySearch(this.elements, (Integer) o) >= 0;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		boolean ret = (this == o);
+		if (!ret && (o instanceof IntegerSignatureSet)) {
+			ret = Arrays.equals(this.elements, ((IntegerSignatureSet) o).elements);
+		} else if (!ret) {
+			ret = super.equals(o);
+		}
+		return ret;
+	}
+
+	@Override
+	public int hashCode() {
+		return this.hashCode;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.elements.length == 0;
+	}
+
+	@Override
+	public Iterator<Integer> iterator() {
+		return this.elements.length == 0 ? Collections.emptyIterator() : new SignatureIterator();
+	}
+
+	@Override
+	public int size() {
+		return this.elements.length;
+	}
+
+}
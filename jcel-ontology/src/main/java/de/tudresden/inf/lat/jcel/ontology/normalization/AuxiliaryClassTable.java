@@ -0,0 +1,115 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.ontology.normalization;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerClassExpression;
+
+/**
+ * An object of this class assigns auxiliary classes to class expressions, in
+ * such a way that structurally equal class expressions get the same auxiliary
+ * class. The normalization rules use this table instead of creating a new
+ * auxiliary class each time they split a class expression.
+ * <p>
+ * Reusing an auxiliary class A for a class expression C is sound, because all
+ * the axioms where A replaces C follow from A \u2261 C, and this equivalence
+ * is a conservative extension of the ontology.
+ * </p>
+ * This class can be used by several threads.
+ * 
+ * @author Julian Mendez
+ */
+public class AuxiliaryClassTable {
+
+	private final IntegerEntityManager entityManager;
+	private final Map<IntegerClassExpression, Integer> map = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a new table of auxiliary classes.
+	 * 
+	 * @param entityManager
+	 *            entity manager used to create the auxiliary classes
+	 */
+	public AuxiliaryClassTable(IntegerEntityManager entityManager) {
+		Objects.requireNonNull(entityManager);
+		this.entityManager = entityManager;
+	}
+
+	/**
+	 * Returns the auxiliary class for the given class expression. If there is
+	 * no such class, a new one is created.
+	 * 
+	 * @param classExpression
+	 *            class expression
+	 * @return the auxiliary class for the given class expression
+	 */
+	public Integer getOrCreateAuxiliaryClass(IntegerClassExpression classExpression) {
+		Objects.requireNonNull(classExpression);
+		return this.map.computeIfAbsent(classExpression,
+				key -> this.entityManager.createAnonymousEntity(IntegerEntityType.CLASS, true));
+	}
+
+	/**
+	 * Returns the number of class expressions that have an auxiliary class.
+	 * 
+	 * @return the number of class expressions that have an auxiliary class
+	 */
+	public int size() {
+		return this.map.size();
+	}
+
+	@Override
+	public String toString() {
+		return this.map.toString();
+	}
+
+}
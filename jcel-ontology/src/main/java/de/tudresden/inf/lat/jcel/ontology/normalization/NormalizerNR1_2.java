@@ -52,7 +52,6 @@ import java.util.Objects;
 import java.util.Set;
 
 import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerAxiom;
-import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
 import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerPropertyRangeAxiom;
 import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactory;
 import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerObjectPropertyExpression;
@@ -68,6 +67,7 @@ import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerObjectPropertyExpressi
  */
 public class NormalizerNR1_2 implements NormalizationRule {
 
+	private final AuxiliaryClassTable auxiliaryClassTable;
 	private final IntegerOntologyObjectFactory ontologyObjectFactory;
 
 	/**
@@ -77,8 +77,22 @@ public class NormalizerNR1_2 implements NormalizationRule {
 	 *            factory
 	 */
 	public NormalizerNR1_2(IntegerOntologyObjectFactory factory) {
+		this(factory, new AuxiliaryClassTable(factory.getEntityManager()));
+	}
+
+	/**
+	 * Constructs a new normalizer of rule NR-1.2.
+	 * 
+	 * @param factory
+	 *            factory
+	 * @param auxiliaryClassTable
+	 *            table of auxiliary classes
+	 */
+	public NormalizerNR1_2(IntegerOntologyObjectFactory factory, AuxiliaryClassTable auxiliaryClassTable) {
 		Objects.requireNonNull(factory);
+		Objects.requireNonNull(auxiliaryClassTable);
 		this.ontologyObjectFactory = factory;
+		this.auxiliaryClassTable = auxiliaryClassTable;
 	}
 
 	@Override
@@ -95,8 +109,7 @@ public class NormalizerNR1_2 implements NormalizationRule {
 		Set<IntegerAxiom> ret = Collections.emptySet();
 		if (!rangeAxiom.getRange().isLiteral()) {
 			ret = new HashSet<>();
-			Integer newClassId = getOntologyObjectFactory().getEntityManager()
-					.createAnonymousEntity(IntegerEntityType.CLASS, true);
+			Integer newClassId = getAuxiliaryClassTable().getOrCreateAuxiliaryClass(rangeAxiom.getRange());
 			ret.add(getOntologyObjectFactory().getNormalizedAxiomFactory().createRangeAxiom(
 					getObjectPropertyId(rangeAxiom.getProperty()), newClassId, rangeAxiom.getAnnotations()));
 			ret.add(getOntologyObjectFactory().getComplexAxiomFactory().createSubClassOfAxiom(
@@ -110,6 +123,10 @@ public class NormalizerNR1_2 implements NormalizationRule {
 		return propExpr.accept(new ObjectPropertyIdFinder(getOntologyObjectFactory().getEntityManager()));
 	}
 
+	private AuxiliaryClassTable getAuxiliaryClassTable() {
+		return this.auxiliaryClassTable;
+	}
+
 	private IntegerOntologyObjectFactory getOntologyObjectFactory() {
 		return this.ontologyObjectFactory;
 	}
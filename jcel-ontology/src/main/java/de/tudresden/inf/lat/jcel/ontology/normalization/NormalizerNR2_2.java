@@ -53,7 +53,6 @@ import java.util.Set;
 
 import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
 import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerAxiom;
-import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
 import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerSubClassOfAxiom;
 import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactory;
 import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerClass;
@@ -76,6 +75,7 @@ import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerObjectIntersectionOf;
  */
 public class NormalizerNR2_2 implements NormalizationRule {
 
+	private final AuxiliaryClassTable auxiliaryClassTable;
 	private final IntegerOntologyObjectFactory ontologyObjectFactory;
 
 	/**
@@ -85,8 +85,22 @@ public class NormalizerNR2_2 implements NormalizationRule {
 	 *            factory
 	 */
 	public NormalizerNR2_2(IntegerOntologyObjectFactory factory) {
+		this(factory, new AuxiliaryClassTable(factory.getEntityManager()));
+	}
+
+	/**
+	 * Constructs a new normalizer rule NR-2.2.
+	 * 
+	 * @param factory
+	 *            factory
+	 * @param auxiliaryClassTable
+	 *            table of auxiliary classes
+	 */
+	public NormalizerNR2_2(IntegerOntologyObjectFactory factory, AuxiliaryClassTable auxiliaryClassTable) {
 		Objects.requireNonNull(factory);
+		Objects.requireNonNull(auxiliaryClassTable);
 		this.ontologyObjectFactory = factory;
+		this.auxiliaryClassTable = auxiliaryClassTable;
 	}
 
 	@Override
@@ -129,8 +143,7 @@ public class NormalizerNR2_2 implements NormalizationRule {
 			} else {
 				applied[0] = true;
 				IntegerClass newClass = getOntologyObjectFactory().getDataTypeFactory()
-						.createClass(getOntologyObjectFactory().getEntityManager()
-								.createAnonymousEntity(IntegerEntityType.CLASS, true));
+						.createClass(getAuxiliaryClassTable().getOrCreateAuxiliaryClass(classExpression));
 				ret.add(getOntologyObjectFactory().getComplexAxiomFactory().createSubClassOfAxiom(classExpression,
 						newClass, annotations));
 				newOperands.add(newClass);
@@ -145,6 +158,10 @@ public class NormalizerNR2_2 implements NormalizationRule {
 		return ret;
 	}
 
+	private AuxiliaryClassTable getAuxiliaryClassTable() {
+		return this.auxiliaryClassTable;
+	}
+
 	private IntegerOntologyObjectFactory getOntologyObjectFactory() {
 		return this.ontologyObjectFactory;
 	}
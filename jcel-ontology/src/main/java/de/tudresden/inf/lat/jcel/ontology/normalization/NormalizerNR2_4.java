@@ -54,7 +54,6 @@ import java.util.Set;
 
 import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
 import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerAxiom;
-import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
 import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerSubClassOfAxiom;
 import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactory;
 import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerClass;
@@ -73,6 +72,7 @@ import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerObjectIntersectionOf;
  */
 public class NormalizerNR2_4 implements NormalizationRule {
 
+	private final AuxiliaryClassTable auxiliaryClassTable;
 	private final IntegerOntologyObjectFactory ontologyObjectFactory;
 
 	/**
@@ -82,8 +82,22 @@ public class NormalizerNR2_4 implements NormalizationRule {
 	 *            factory
 	 */
 	public NormalizerNR2_4(IntegerOntologyObjectFactory factory) {
+		this(factory, new AuxiliaryClassTable(factory.getEntityManager()));
+	}
+
+	/**
+	 * Constructs a new normalizer rule NR-2.4.
+	 * 
+	 * @param factory
+	 *            factory
+	 * @param auxiliaryClassTable
+	 *            table of auxiliary classes
+	 */
+	public NormalizerNR2_4(IntegerOntologyObjectFactory factory, AuxiliaryClassTable auxiliaryClassTable) {
 		Objects.requireNonNull(factory);
+		Objects.requireNonNull(auxiliaryClassTable);
 		this.ontologyObjectFactory = factory;
+		this.auxiliaryClassTable = auxiliaryClassTable;
 	}
 
 	@Override
@@ -124,14 +138,13 @@ public class NormalizerNR2_4 implements NormalizationRule {
 
 		if (optional.isPresent()) {
 			IntegerClassExpression aLiteral = optional.get();
-			IntegerClass newClass = getOntologyObjectFactory().getDataTypeFactory().createClass(
-					getOntologyObjectFactory().getEntityManager().createAnonymousEntity(IntegerEntityType.CLASS, true));
-
 			Set<IntegerClassExpression> newOperands = new HashSet<>();
 			newOperands.addAll(operands);
 			newOperands.remove(aLiteral);
 			IntegerObjectIntersectionOf newIntersection = getOntologyObjectFactory().getDataTypeFactory()
 					.createObjectIntersectionOf(newOperands);
+			IntegerClass newClass = getOntologyObjectFactory().getDataTypeFactory()
+					.createClass(getAuxiliaryClassTable().getOrCreateAuxiliaryClass(newIntersection));
 			ret.add(getOntologyObjectFactory().getComplexAxiomFactory().createSubClassOfAxiom(newIntersection, newClass,
 					annotations));
 
@@ -146,6 +159,10 @@ public class NormalizerNR2_4 implements NormalizationRule {
 		return ret;
 	}
 
+	private AuxiliaryClassTable getAuxiliaryClassTable() {
+		return this.auxiliaryClassTable;
+	}
+
 	private IntegerOntologyObjectFactory getOntologyObjectFactory() {
 		return this.ontologyObjectFactory;
 	}
@@ -52,7 +52,6 @@ import java.util.Objects;
 import java.util.Set;
 
 import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerAxiom;
-import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
 import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerSubClassOfAxiom;
 import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactory;
 import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerClass;
@@ -77,6 +76,7 @@ import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerObjectSomeValuesFrom;
  */
 public class NormalizerNR3_1 implements NormalizationRule {
 
+	private final AuxiliaryClassTable auxiliaryClassTable;
 	private final IntegerOntologyObjectFactory ontologyObjectFactory;
 
 	/**
@@ -86,8 +86,22 @@ public class NormalizerNR3_1 implements NormalizationRule {
 	 *            factory
 	 */
 	public NormalizerNR3_1(IntegerOntologyObjectFactory factory) {
+		this(factory, new AuxiliaryClassTable(factory.getEntityManager()));
+	}
+
+	/**
+	 * Constructs a new normalizer rule NR-3.1.
+	 * 
+	 * @param factory
+	 *            factory
+	 * @param auxiliaryClassTable
+	 *            table of auxiliary classes
+	 */
+	public NormalizerNR3_1(IntegerOntologyObjectFactory factory, AuxiliaryClassTable auxiliaryClassTable) {
 		Objects.requireNonNull(factory);
+		Objects.requireNonNull(auxiliaryClassTable);
 		this.ontologyObjectFactory = factory;
+		this.auxiliaryClassTable = auxiliaryClassTable;
 	}
 
 	@Override
@@ -107,7 +121,7 @@ public class NormalizerNR3_1 implements NormalizationRule {
 		if (!subClass.isLiteral() && (superClass instanceof IntegerObjectSomeValuesFrom)) {
 			ret = new HashSet<>();
 			IntegerClass newClass = getOntologyObjectFactory().getDataTypeFactory().createClass(
-					getOntologyObjectFactory().getEntityManager().createAnonymousEntity(IntegerEntityType.CLASS, true));
+					getAuxiliaryClassTable().getOrCreateAuxiliaryClass(subClass));
 			ret.add(getOntologyObjectFactory().getComplexAxiomFactory().createSubClassOfAxiom(subClass, newClass,
 					classAxiom.getAnnotations()));
 			ret.add(getOntologyObjectFactory().getComplexAxiomFactory().createSubClassOfAxiom(newClass, superClass,
@@ -116,6 +130,10 @@ public class NormalizerNR3_1 implements NormalizationRule {
 		return ret;
 	}
 
+	private AuxiliaryClassTable getAuxiliaryClassTable() {
+		return this.auxiliaryClassTable;
+	}
+
 	private IntegerOntologyObjectFactory getOntologyObjectFactory() {
 		return this.ontologyObjectFactory;
 	}
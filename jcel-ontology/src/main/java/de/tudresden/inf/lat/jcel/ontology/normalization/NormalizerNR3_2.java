@@ -52,7 +52,6 @@ import java.util.Objects;
 import java.util.Set;
 
 import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerAxiom;
-import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
 import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerSubClassOfAxiom;
 import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactory;
 import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerClass;
@@ -72,6 +71,7 @@ import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerObjectSomeValuesFrom;
  */
 public class NormalizerNR3_2 implements NormalizationRule {
 
+	private final AuxiliaryClassTable auxiliaryClassTable;
 	private final IntegerOntologyObjectFactory ontologyObjectFactory;
 
 	/**
@@ -81,8 +81,22 @@ public class NormalizerNR3_2 implements NormalizationRule {
 	 *            factory
 	 */
 	public NormalizerNR3_2(IntegerOntologyObjectFactory factory) {
+		this(factory, new AuxiliaryClassTable(factory.getEntityManager()));
+	}
+
+	/**
+	 * Constructs a new normalizer rule NR-3.2.
+	 * 
+	 * @param factory
+	 *            factory
+	 * @param auxiliaryClassTable
+	 *            table of auxiliary classes
+	 */
+	public NormalizerNR3_2(IntegerOntologyObjectFactory factory, AuxiliaryClassTable auxiliaryClassTable) {
 		Objects.requireNonNull(factory);
+		Objects.requireNonNull(auxiliaryClassTable);
 		this.ontologyObjectFactory = factory;
+		this.auxiliaryClassTable = auxiliaryClassTable;
 	}
 
 	@Override
@@ -106,8 +120,7 @@ public class NormalizerNR3_2 implements NormalizationRule {
 			if (!filler.isLiteral()) {
 				ret = new HashSet<>();
 				IntegerClass newClass = getOntologyObjectFactory().getDataTypeFactory()
-						.createClass(getOntologyObjectFactory().getEntityManager()
-								.createAnonymousEntity(IntegerEntityType.CLASS, true));
+						.createClass(getAuxiliaryClassTable().getOrCreateAuxiliaryClass(filler));
 				IntegerObjectSomeValuesFrom newExistential = getOntologyObjectFactory().getDataTypeFactory()
 						.createObjectSomeValuesFrom(propertyExpression, newClass);
 				ret.add(getOntologyObjectFactory().getComplexAxiomFactory().createSubClassOfAxiom(subClass,
@@ -119,6 +132,10 @@ public class NormalizerNR3_2 implements NormalizationRule {
 		return ret;
 	}
 
+	private AuxiliaryClassTable getAuxiliaryClassTable() {
+		return this.auxiliaryClassTable;
+	}
+
 	private IntegerOntologyObjectFactory getOntologyObjectFactory() {
 		return this.ontologyObjectFactory;
 	}
@@ -46,10 +46,14 @@
 
 package de.tudresden.inf.lat.jcel.ontology.normalization;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
 import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerAxiom;
@@ -83,14 +87,134 @@ import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectF
  * <li>NR-3.3 : B \u2291 C \u2293 D \u219D B \u2291 C, B \u2291 D</li>
  * </ul>
  * 
+ * The normalization proceeds in rounds. Each round normalizes once every axiom
+ * produced by the previous round, and the axioms of a round are split among
+ * the threads of a fork/join pool. The auxiliary entities are created by the
+ * entity manager, which can be shared by several threads. Therefore, the
+ * normalized axioms do not depend on the number of threads, except for the
+ * identifiers of the auxiliary entities.
+ * 
  * @author Julian Mendez
  */
 public class OntologyNormalizer {
 
 	/**
-	 * Constructs a new ontology normalizer.
+	 * Number of axioms below which a round is normalized in a single task.
+	 */
+	public static final int batchSize = 1024;
+
+	/**
+	 * Returns the default number of threads, which is the number of available
+	 * processors.
+	 * 
+	 * @return the default number of threads
+	 */
+	public static int getDefaultNumberOfThreads() {
+		return Runtime.getRuntime().availableProcessors();
+	}
+
+	/**
+	 * An object of this class normalizes once the axioms of a range in a
+	 * round, and keeps the normalized axioms apart from the axioms that need
+	 * another round.
+	 */
+	private static class NormalizationTask extends RecursiveTask<NormalizationTask> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final List<IntegerAxiom> axioms;
+		private final int end;
+		private final Set<IntegerAxiom> nextAxiomSet = new HashSet<>();
+		private final Set<NormalizedIntegerAxiom> normalizedAxiomSet = new HashSet<>();
+		private final SimpleNormalizer normalizer;
+		private final int start;
+
+		NormalizationTask(List<IntegerAxiom> axioms, int start, int end, SimpleNormalizer normalizer) {
+			this.axioms = axioms;
+			this.start = start;
+			this.end = end;
+			this.normalizer = normalizer;
+		}
+
+		@Override
+		protected NormalizationTask compute() {
+			if (this.end - this.start <= batchSize) {
+				computeSequentially();
+			} else {
+				int middle = (this.start + this.end) >>> 1;
+				NormalizationTask left = new NormalizationTask(this.axioms, this.start, middle, this.normalizer);
+				NormalizationTask right = new NormalizationTask(this.axioms, middle, this.end, this.normalizer);
+				left.fork();
+				merge(right.compute());
+				merge(left.join());
+			}
+			return this;
+		}
+
+		/**
+		 * Normalizes the axioms of the range in the current thread, without
+		 * forking any task.
+		 * 
+		 * @return this task
+		 */
+		NormalizationTask computeSequentially() {
+			this.axioms.subList(this.start, this.end).forEach(axiom -> {
+				if (axiom instanceof NormalizedIntegerAxiom) {
+					this.normalizedAxiomSet.add((NormalizedIntegerAxiom) axiom);
+				} else {
+					this.nextAxiomSet.addAll(this.normalizer.normalize(axiom));
+				}
+			});
+			return this;
+		}
+
+		Set<IntegerAxiom> getNextAxiomSet() {
+			return this.nextAxiomSet;
+		}
+
+		Set<NormalizedIntegerAxiom> getNormalizedAxiomSet() {
+			return this.normalizedAxiomSet;
+		}
+
+		private void merge(NormalizationTask other) {
+			this.normalizedAxiomSet.addAll(other.normalizedAxiomSet);
+			this.nextAxiomSet.addAll(other.nextAxiomSet);
+		}
+
+	}
+
+	private final int numberOfThreads;
+
+	/**
+	 * Constructs a new ontology normalizer that uses as many threads as
+	 * available processors.
 	 */
 	public OntologyNormalizer() {
+		this(getDefaultNumberOfThreads());
+	}
+
+	/**
+	 * Constructs a new ontology normalizer.
+	 * 
+	 * @param numberOfThreads
+	 *            maximum number of threads
+	 * @throws IllegalArgumentException
+	 *             if the number of threads is not positive
+	 */
+	public OntologyNormalizer(int numberOfThreads) {
+		if (numberOfThreads < 1) {
+			throw new IllegalArgumentException("Invalid number of threads: '" + numberOfThreads + "'.");
+		}
+		this.numberOfThreads = numberOfThreads;
+	}
+
+	/**
+	 * Returns the maximum number of threads used by this normalizer.
+	 * 
+	 * @return the maximum number of threads used by this normalizer
+	 */
+	public int getNumberOfThreads() {
+		return this.numberOfThreads;
 	}
 
 	/**
@@ -126,17 +250,27 @@ public class OntologyNormalizer {
 			currentAxiomSet.addAll(normalizer.getAxiomsForInverseObjectProperties(propId, inversePropId));
 		}
 
-		while (currentAxiomSet.size() > 0) {
-			Set<IntegerAxiom> nextAxiomSet = new HashSet<>();
-			for (IntegerAxiom axiom : currentAxiomSet) {
-				if (axiom instanceof NormalizedIntegerAxiom) {
-					ret.add((NormalizedIntegerAxiom) axiom);
+		ForkJoinPool pool = null;
+		try {
+			while (currentAxiomSet.size() > 0) {
+				List<IntegerAxiom> currentAxiomList = new ArrayList<>(currentAxiomSet);
+				NormalizationTask task = new NormalizationTask(currentAxiomList, 0, currentAxiomList.size(),
+						normalizer);
+				if (this.numberOfThreads == 1 || currentAxiomList.size() <= batchSize) {
+					task.computeSequentially();
 				} else {
-					Set<IntegerAxiom> newSet = normalizer.normalize(axiom);
-					nextAxiomSet.addAll(newSet);
+					if (Objects.isNull(pool)) {
+						pool = new ForkJoinPool(this.numberOfThreads);
+					}
+					pool.invoke(task);
 				}
+				ret.addAll(task.getNormalizedAxiomSet());
+				currentAxiomSet = task.getNextAxiomSet();
+			}
+		} finally {
+			if (Objects.nonNull(pool)) {
+				pool.shutdown();
 			}
-			currentAxiomSet = nextAxiomSet;
 		}
 
 		return Collections.unmodifiableSet(ret);
@@ -101,6 +101,7 @@ import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerObjectSomeValuesFrom;
  */
 public class SimpleNormalizer implements ComplexIntegerAxiomVisitor<Set<IntegerAxiom>> {
 
+	private final AuxiliaryClassTable auxiliaryClassTable;
 	private final List<NormalizationRule> norChainOfSubClass;
 	private final NormalizationRule norDisjoint;
 	private final NormalizationRule norEquivProperties;
@@ -120,14 +121,15 @@ public class SimpleNormalizer implements ComplexIntegerAxiomVisitor<Set<IntegerA
 	public SimpleNormalizer(IntegerOntologyObjectFactory factory) {
 		Objects.requireNonNull(factory);
 		this.ontologyObjectFactory = factory;
+		this.auxiliaryClassTable = new AuxiliaryClassTable(factory.getEntityManager());
 
 		this.norChainOfSubClass = new ArrayList<>();
 		this.norChainOfSubClass.add(new NormalizerNR1_7(getOntologyObjectFactory()));
-		this.norChainOfSubClass.add(new NormalizerNR2_2(getOntologyObjectFactory()));
-		this.norChainOfSubClass.add(new NormalizerNR2_3(getOntologyObjectFactory()));
-		this.norChainOfSubClass.add(new NormalizerNR2_4(getOntologyObjectFactory()));
-		this.norChainOfSubClass.add(new NormalizerNR3_1(getOntologyObjectFactory()));
-		this.norChainOfSubClass.add(new NormalizerNR3_2(getOntologyObjectFactory()));
+		this.norChainOfSubClass.add(new NormalizerNR2_2(getOntologyObjectFactory(), getAuxiliaryClassTable()));
+		this.norChainOfSubClass.add(new NormalizerNR2_3(getOntologyObjectFactory(), getAuxiliaryClassTable()));
+		this.norChainOfSubClass.add(new NormalizerNR2_4(getOntologyObjectFactory(), getAuxiliaryClassTable()));
+		this.norChainOfSubClass.add(new NormalizerNR3_1(getOntologyObjectFactory(), getAuxiliaryClassTable()));
+		this.norChainOfSubClass.add(new NormalizerNR3_2(getOntologyObjectFactory(), getAuxiliaryClassTable()));
 		this.norChainOfSubClass.add(new NormalizerNR3_3(getOntologyObjectFactory()));
 		this.norChainOfSubClass.add(new NormalizerNR4_1(getOntologyObjectFactory()));
 		this.norChainOfSubClass.add(new NormalizerNR4_2(getOntologyObjectFactory()));
@@ -137,11 +139,22 @@ public class SimpleNormalizer implements ComplexIntegerAxiomVisitor<Set<IntegerA
 		this.norEquivProperties = new NormalizerEquivProperties(getOntologyObjectFactory());
 		this.norSubPropertyChainOf = new NormalizerSubPropertyChainOf(getOntologyObjectFactory());
 		this.norNR1_5 = new NormalizerNR1_5(getOntologyObjectFactory());
-		this.norNR1_2 = new NormalizerNR1_2(getOntologyObjectFactory());
+		this.norNR1_2 = new NormalizerNR1_2(getOntologyObjectFactory(), getAuxiliaryClassTable());
 		this.norNR2_1 = new NormalizerNR2_1(getOntologyObjectFactory());
 		this.norNR1_6 = new NormalizerNR1_6();
 	}
 
+	/**
+	 * Returns the table of auxiliary classes shared by the normalization rules.
+	 * Structurally equal class expressions are replaced by the same auxiliary
+	 * class.
+	 * 
+	 * @return the table of auxiliary classes shared by the normalization rules
+	 */
+	public AuxiliaryClassTable getAuxiliaryClassTable() {
+		return this.auxiliaryClassTable;
+	}
+
 	/**
 	 * Returns a set of normalized axioms that relates two object properties
 	 * such that one is the inverse of the other one.
@@ -0,0 +1,101 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.ontology.datatype;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for signature sets and the signatures of class expressions.
+ *
+ * @author Julian Mendez
+ */
+public class IntegerSignatureSetTest {
+
+	public IntegerSignatureSetTest() {
+	}
+
+	@Test
+	public void testSignatureOfClassExpressions() {
+		IntegerDataTypeFactory factory = new IntegerDataTypeFactoryImpl();
+		IntegerClassExpression existential = factory.createObjectSomeValuesFrom(factory.createObjectProperty(7),
+				factory.createObjectIntersectionOf(new HashSet<>(Arrays.asList(factory.createClass(12),
+						factory.createObjectSomeValuesFrom(factory.createObjectProperty(8), factory.createClass(10))))));
+		IntegerClassExpression intersection = factory.createObjectIntersectionOf(
+				new HashSet<>(Arrays.asList(existential, factory.createClass(10), factory.createClass(11))));
+
+		Assertions.assertEquals(new HashSet<>(Arrays.asList(10, 11, 12)), intersection.getClassesInSignature());
+		Assertions.assertEquals(new HashSet<>(Arrays.asList(7, 8)), intersection.getObjectPropertiesInSignature());
+		Assertions.assertSame(intersection.getClassesInSignature(), intersection.getClassesInSignature());
+		Assertions.assertThrows(UnsupportedOperationException.class,
+				() -> intersection.getClassesInSignature().add(13));
+	}
+
+	@Test
+	public void testUnion() {
+		Set<Integer> first = new TreeSet<>(Arrays.asList(9, 3, 1));
+		IntegerSignatureSet second = new IntegerSignatureSet(Arrays.asList(4, 3, 4, Integer.MIN_VALUE));
+		IntegerSignatureSet union = IntegerSignatureSet.union(Arrays.asList(first, second, Collections.emptySet()));
+
+		Assertions.assertEquals(Arrays.asList(Integer.MIN_VALUE, 1, 3, 4, 9), new ArrayList<>(union));
+		Assertions.assertEquals(new HashSet<>(union), union);
+		Assertions.assertEquals(new HashSet<>(union).hashCode(), union.hashCode());
+		Assertions.assertTrue(union.contains(4));
+		Assertions.assertFalse(union.contains(5));
+		Assertions.assertFalse(union.contains("4"));
+		Assertions.assertSame(second, IntegerSignatureSet.union(Collections.singletonList(second)));
+		Assertions.assertTrue(IntegerSignatureSet.union(Collections.emptyList()).isEmpty());
+	}
+
+}
@@ -46,20 +46,25 @@
 
 package de.tudresden.inf.lat.jcel.ontology.normalization;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
 import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManagerImpl;
 import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
 import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiom;
 import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactory;
 import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactoryImpl;
 import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerClass;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerClassExpression;
 import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerObjectProperty;
 
 /**
@@ -71,6 +76,36 @@ import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerObjectProperty;
  */
 public class OntologyNormalizerTest {
 
+	/**
+	 * Factory that records the threads that create auxiliary classes.
+	 */
+	private static class ThreadRecordingFactory extends IntegerOntologyObjectFactoryImpl {
+
+		private final Set<Thread> threads = Collections.synchronizedSet(new HashSet<>());
+
+		private final IntegerEntityManager entityManager = new IntegerEntityManagerImpl() {
+
+			@Override
+			public synchronized Integer createAnonymousEntity(IntegerEntityType type, boolean auxiliary) {
+				if (auxiliary && type.equals(IntegerEntityType.CLASS)) {
+					threads.add(Thread.currentThread());
+				}
+				return super.createAnonymousEntity(type, auxiliary);
+			}
+
+		};
+
+		@Override
+		public IntegerEntityManager getEntityManager() {
+			return this.entityManager;
+		}
+
+		Set<Thread> getThreads() {
+			return this.threads;
+		}
+
+	}
+
 	/**
 	 * Constructs a new ontology normalizer.
 	 */
@@ -87,6 +122,96 @@ public class OntologyNormalizerTest {
 				factory.getEntityManager().createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, name, false));
 	}
 
+	private Set<ComplexIntegerAxiom> createOntology(IntegerOntologyObjectFactory factory, int size) {
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		IntegerObjectProperty r = createNewObjectProperty(factory, "r");
+		Set<ComplexIntegerAxiom> ret = new HashSet<>();
+		for (int index = 0; index < size; index++) {
+			Set<IntegerClassExpression> operands = new HashSet<>();
+			operands.add(createNewClass(factory, "A" + index));
+			operands.add(createNewClass(factory, "B" + index));
+			IntegerClass c = createNewClass(factory, "C" + index);
+			ret.add(factory.getComplexAxiomFactory().createSubClassOfAxiom(factory.getDataTypeFactory()
+					.createObjectSomeValuesFrom(r, factory.getDataTypeFactory().createObjectIntersectionOf(operands)),
+					c, annotations));
+		}
+		return ret;
+	}
+
+	private Set<NormalizedIntegerAxiom> getAxiomsWithoutAuxiliaryEntities(IntegerOntologyObjectFactory factory,
+			Set<NormalizedIntegerAxiom> axioms) {
+		return axioms.stream()
+				.filter(axiom -> axiom.getClassesInSignature().stream()
+						.noneMatch(id -> factory.getEntityManager().isAuxiliary(id))
+						&& axiom.getObjectPropertiesInSignature().stream()
+								.noneMatch(id -> factory.getEntityManager().isAuxiliary(id)))
+				.collect(Collectors.toSet());
+	}
+
+	@Test
+	public void testConcurrentNormalization() {
+		int size = 4 * OntologyNormalizer.batchSize;
+
+		ThreadRecordingFactory sequentialFactory = new ThreadRecordingFactory();
+		Set<NormalizedIntegerAxiom> sequentialSet = new OntologyNormalizer(1)
+				.normalize(createOntology(sequentialFactory, size), sequentialFactory);
+		Assertions.assertEquals(Collections.singleton(Thread.currentThread()), sequentialFactory.getThreads());
+
+		ThreadRecordingFactory concurrentFactory = new ThreadRecordingFactory();
+		Set<NormalizedIntegerAxiom> concurrentSet = new OntologyNormalizer(4)
+				.normalize(createOntology(concurrentFactory, size), concurrentFactory);
+		Assertions.assertFalse(concurrentFactory.getThreads().contains(Thread.currentThread()));
+
+		Assertions.assertEquals(sequentialSet.size(), concurrentSet.size());
+		Assertions.assertEquals(
+				sequentialFactory.getEntityManager().getEntities(IntegerEntityType.CLASS, true).size(),
+				concurrentFactory.getEntityManager().getEntities(IntegerEntityType.CLASS, true).size());
+		Assertions.assertEquals(getAxiomsWithoutAuxiliaryEntities(sequentialFactory, sequentialSet),
+				getAxiomsWithoutAuxiliaryEntities(concurrentFactory, concurrentSet));
+	}
+
+	@Test
+	public void testSharedAuxiliaryClass() {
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		IntegerOntologyObjectFactory factory = new IntegerOntologyObjectFactoryImpl();
+
+		IntegerClass a = createNewClass(factory, "A");
+		IntegerClass b = createNewClass(factory, "B");
+		IntegerClass c = createNewClass(factory, "C");
+		IntegerClass d = createNewClass(factory, "D");
+		IntegerObjectProperty r = createNewObjectProperty(factory, "r");
+
+		Set<IntegerClassExpression> operands = new HashSet<>();
+		operands.add(b);
+		operands.add(c);
+		IntegerClassExpression restriction = factory.getDataTypeFactory().createObjectSomeValuesFrom(r,
+				factory.getDataTypeFactory().createObjectIntersectionOf(operands));
+
+		Set<ComplexIntegerAxiom> ontology = new HashSet<>();
+		ontology.add(factory.getComplexAxiomFactory().createSubClassOfAxiom(a, restriction, annotations));
+		ontology.add(factory.getComplexAxiomFactory().createSubClassOfAxiom(d, restriction, annotations));
+
+		OntologyNormalizer normalizer = new OntologyNormalizer();
+
+		Set<NormalizedIntegerAxiom> normalizedSet = normalizer.normalize(ontology, factory);
+
+		Set<Integer> auxiliaryClasses = factory.getEntityManager().getEntities(IntegerEntityType.CLASS, true);
+		Assertions.assertEquals(1, auxiliaryClasses.size());
+		Integer x = auxiliaryClasses.iterator().next();
+
+		Set<NormalizedIntegerAxiom> expectedSet = new HashSet<>();
+		expectedSet.add(factory.getNormalizedAxiomFactory().createGCI2Axiom(a.getId(), r.getId(), x, annotations));
+		expectedSet.add(factory.getNormalizedAxiomFactory().createGCI2Axiom(d.getId(), r.getId(), x, annotations));
+		expectedSet.add(factory.getNormalizedAxiomFactory().createGCI0Axiom(x, b.getId(), annotations));
+		expectedSet.add(factory.getNormalizedAxiomFactory().createGCI0Axiom(x, c.getId(), annotations));
+
+		Assertions.assertEquals(expectedSet,
+				normalizedSet.stream()
+						.filter(axiom -> !axiom.getObjectPropertiesInSignature().stream()
+								.anyMatch(id -> factory.getEntityManager().isAuxiliary(id)))
+						.collect(Collectors.toSet()));
+	}
+
 	@Test
 	public void testGCI3InverseObjectProperties() {
 		Set<IntegerAnnotation> annotations = new TreeSet<>();
@@ -139,4 +264,9 @@ public class OntologyNormalizerTest {
 		Assertions.assertEquals(expectedSet, normalizedSet);
 	}
 
+	@Test
+	public void testInvalidNumberOfThreads() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new OntologyNormalizer(0));
+	}
+
 }
@@ -282,7 +282,7 @@ public class JcelReasoner implements OWLReasoner, OWLOntologyChangeListener {
 
 	Set<IntegerClass> getRegisteredClasses(Set<IntegerClass> set) {
 		Set<IntegerClass> ret = new HashSet<>();
-		set.stream().filter(cls -> getTranslator().getTranslationRepository().getOptOWLClass(cls.getId()).isPresent())
+		set.stream().filter(cls -> getTranslator().getTranslationRepository().hasOWLClass(cls.getId()))
 				.forEach(cls -> ret.add(cls));
 		return ret;
 	}
@@ -46,6 +46,7 @@
 
 package de.tudresden.inf.lat.jcel.owlapi.translator;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Objects;
 import java.util.Optional;
@@ -58,6 +59,7 @@ import org.semanticweb.owlapi.model.OWLDataProperty;
 import org.semanticweb.owlapi.model.OWLIndividual;
 import org.semanticweb.owlapi.model.OWLLiteral;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObject;
 import org.semanticweb.owlapi.model.OWLObjectProperty;
 import org.semanticweb.owlapi.model.OWLOntology;
 
@@ -69,7 +71,9 @@ import de.tudresden.inf.lat.util.map.OptMapImpl;
 /**
  * An object of this class is a repository used for the translation between OWL
  * API objects and the integer numbers. Each entity is identified by an integer
- * number.
+ * number. Since the identifiers are given by the entity manager and are dense,
+ * the OWL API objects are kept in an array indexed by identifier, and the type
+ * of each identifier is the one registered in the entity manager.
  * 
  * @author Julian Mendez
  */
@@ -78,21 +82,17 @@ public class TranslationRepository {
 	private final OWLClass bottomClass;
 	private final OWLDataProperty bottomDataProperty;
 	private final OWLObjectProperty bottomObjectProperty;
+	private static final int initialCapacity = 0x100;
+
 	private final OptMap<OWLClass, Integer> classInvMap = new OptMapImpl<>(new HashMap<>());
-	private final OptMap<Integer, OWLClass> classMap = new OptMapImpl<>(new HashMap<>());
 	private final OptMap<OWLDataProperty, Integer> dataPropertyInvMap = new OptMapImpl<>(new HashMap<>());
-	private final OptMap<Integer, OWLDataProperty> dataPropertyMap = new OptMapImpl<>(new HashMap<>());
 	private final IntegerEntityManager entityManager;
 	private final OptMap<OWLNamedIndividual, Integer> individualInvMap = new OptMapImpl<>(new HashMap<>());
-	private final OptMap<Integer, OWLNamedIndividual> individualMap = new OptMapImpl<>(new HashMap<>());
 	private final OptMap<OWLLiteral, Integer> literalInvMap = new OptMapImpl<>(new HashMap<>());
-	private final OptMap<Integer, OWLLiteral> literalMap = new OptMapImpl<>(new HashMap<>());
 	private final OptMap<OWLObjectProperty, Integer> objectPropertyInvMap = new OptMapImpl<>(new HashMap<>());
-	private final OptMap<Integer, OWLObjectProperty> objectPropertyMap = new OptMapImpl<>(new HashMap<>());
 	private final OptMap<OWLAnnotationProperty, Integer> annotationPropertyInvMap = new OptMapImpl<>(new HashMap<>());
-	private final OptMap<Integer, OWLAnnotationProperty> annotationPropertyMap = new OptMapImpl<>(new HashMap<>());
 	private final OptMap<OWLAnnotationValue, Integer> annotationValueInvMap = new OptMapImpl<>(new HashMap<>());
-	private final OptMap<Integer, OWLAnnotationValue> annotationValueMap = new OptMapImpl<>(new HashMap<>());
+	private OWLObject[] owlObjects = new OWLObject[initialCapacity];
 	private final OWLClass topClass;
 	private final OWLDataProperty topDataProperty;
 	private final OWLObjectProperty topObjectProperty;
@@ -158,7 +158,7 @@ public class TranslationRepository {
 		boolean ret = false;
 		if (!this.classInvMap.containsKey(cls)) {
 			Integer id = this.entityManager.createNamedEntity(IntegerEntityType.CLASS, cls.toStringID(), false);
-			this.classMap.put(id, cls);
+			putOWLObject(id, cls);
 			this.classInvMap.put(cls, id);
 			ret = true;
 		}
@@ -178,7 +178,7 @@ public class TranslationRepository {
 		if (!this.dataPropertyInvMap.containsKey(dataProp)) {
 			Integer id = this.entityManager.createNamedEntity(IntegerEntityType.DATA_PROPERTY, dataProp.toStringID(),
 					false);
-			this.dataPropertyMap.put(id, dataProp);
+			putOWLObject(id, dataProp);
 			this.dataPropertyInvMap.put(dataProp, id);
 			ret = true;
 		}
@@ -197,7 +197,7 @@ public class TranslationRepository {
 		boolean ret = false;
 		if (!this.literalInvMap.containsKey(lit)) {
 			Integer id = this.entityManager.createNamedEntity(IntegerEntityType.LITERAL, lit.getLiteral(), false);
-			this.literalMap.put(id, lit);
+			putOWLObject(id, lit);
 			this.literalInvMap.put(lit, id);
 			ret = true;
 		}
@@ -216,7 +216,7 @@ public class TranslationRepository {
 		boolean ret = false;
 		if (!this.individualInvMap.containsKey(indiv)) {
 			Integer id = this.entityManager.createNamedEntity(IntegerEntityType.INDIVIDUAL, indiv.toStringID(), false);
-			this.individualMap.put(id, indiv);
+			putOWLObject(id, indiv);
 			this.individualInvMap.put(indiv, id);
 			ret = true;
 		}
@@ -236,7 +236,7 @@ public class TranslationRepository {
 		if (!this.objectPropertyInvMap.containsKey(objProp)) {
 			Integer id = this.entityManager.createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, objProp.toStringID(),
 					false);
-			this.objectPropertyMap.put(id, objProp);
+			putOWLObject(id, objProp);
 			this.objectPropertyInvMap.put(objProp, id);
 			ret = true;
 		}
@@ -256,7 +256,7 @@ public class TranslationRepository {
 		if (!this.annotationPropertyInvMap.containsKey(annProp)) {
 			Integer id = this.entityManager.createNamedEntity(IntegerEntityType.ANNOTATION_PROPERTY,
 					annProp.toStringID(), false);
-			this.annotationPropertyMap.put(id, annProp);
+			putOWLObject(id, annProp);
 			this.annotationPropertyInvMap.put(annProp, id);
 			ret = true;
 		}
@@ -277,7 +277,7 @@ public class TranslationRepository {
 			if (annValue.asLiteral().isPresent()) {
 				Integer id = this.entityManager.createNamedEntity(IntegerEntityType.ANNOTATION_VALUE,
 						annValue.asLiteral().get().getLiteral(), false);
-				this.annotationValueMap.put(id, annValue);
+				putOWLObject(id, annValue);
 				this.annotationValueInvMap.put(annValue, id);
 				ret = true;
 			}
@@ -354,58 +354,52 @@ public class TranslationRepository {
 		return ret.get();
 	}
 
-	public OWLClass getOWLClass(Integer index) {
-		Objects.requireNonNull(index);
-		Optional<OWLClass> ret = this.classMap.get(index);
-		if (!ret.isPresent()) {
-			throw TranslationException.newIncompleteMapException(index.toString());
+	public OWLClass getOWLClass(int index) {
+		OWLObject ret = getOWLObject(index, IntegerEntityType.CLASS);
+		if (Objects.isNull(ret)) {
+			throw TranslationException.newIncompleteMapException(Integer.toString(index));
 		}
-		return ret.get();
+		return (OWLClass) ret;
 	}
 
-	public OWLDataProperty getOWLDataProperty(Integer index) {
-		Objects.requireNonNull(index);
-		Optional<OWLDataProperty> ret = this.dataPropertyMap.get(index);
-		if (!ret.isPresent()) {
-			throw TranslationException.newIncompleteMapException(index.toString());
+	public OWLDataProperty getOWLDataProperty(int index) {
+		OWLObject ret = getOWLObject(index, IntegerEntityType.DATA_PROPERTY);
+		if (Objects.isNull(ret)) {
+			throw TranslationException.newIncompleteMapException(Integer.toString(index));
 		}
-		return ret.get();
+		return (OWLDataProperty) ret;
 	}
 
-	public OWLNamedIndividual getOWLNamedIndividual(Integer index) {
-		Objects.requireNonNull(index);
-		Optional<OWLNamedIndividual> ret = this.individualMap.get(index);
-		if (!ret.isPresent()) {
-			throw TranslationException.newIncompleteMapException(index.toString());
+	public OWLNamedIndividual getOWLNamedIndividual(int index) {
+		OWLObject ret = getOWLObject(index, IntegerEntityType.INDIVIDUAL);
+		if (Objects.isNull(ret)) {
+			throw TranslationException.newIncompleteMapException(Integer.toString(index));
 		}
-		return ret.get();
+		return (OWLNamedIndividual) ret;
 	}
 
-	public OWLObjectProperty getOWLObjectProperty(Integer index) {
-		Objects.requireNonNull(index);
-		Optional<OWLObjectProperty> ret = this.objectPropertyMap.get(index);
-		if (!ret.isPresent()) {
-			throw TranslationException.newIncompleteMapException(index.toString());
+	public OWLObjectProperty getOWLObjectProperty(int index) {
+		OWLObject ret = getOWLObject(index, IntegerEntityType.OBJECT_PROPERTY);
+		if (Objects.isNull(ret)) {
+			throw TranslationException.newIncompleteMapException(Integer.toString(index));
 		}
-		return ret.get();
+		return (OWLObjectProperty) ret;
 	}
 
-	public OWLAnnotationProperty getOWLAnnotationProperty(Integer index) {
-		Objects.requireNonNull(index);
-		Optional<OWLAnnotationProperty> ret = this.annotationPropertyMap.get(index);
-		if (!ret.isPresent()) {
-			throw TranslationException.newIncompleteMapException(index.toString());
+	public OWLAnnotationProperty getOWLAnnotationProperty(int index) {
+		OWLObject ret = getOWLObject(index, IntegerEntityType.ANNOTATION_PROPERTY);
+		if (Objects.isNull(ret)) {
+			throw TranslationException.newIncompleteMapException(Integer.toString(index));
 		}
-		return ret.get();
+		return (OWLAnnotationProperty) ret;
 	}
 
-	public OWLAnnotationValue getOWLAnnotationValue(Integer index) {
-		Objects.requireNonNull(index);
-		Optional<OWLAnnotationValue> ret = this.annotationValueMap.get(index);
-		if (!ret.isPresent()) {
-			throw TranslationException.newIncompleteMapException(index.toString());
+	public OWLAnnotationValue getOWLAnnotationValue(int index) {
+		OWLObject ret = getOWLObject(index, IntegerEntityType.ANNOTATION_VALUE);
+		if (Objects.isNull(ret)) {
+			throw TranslationException.newIncompleteMapException(Integer.toString(index));
 		}
-		return ret.get();
+		return (OWLAnnotationValue) ret;
 	}
 
 	public Optional<Integer> getOptId(OWLClass owlClass) {
@@ -452,72 +446,108 @@ public class TranslationRepository {
 		return ret;
 	}
 
-	public Optional<OWLClass> getOptOWLClass(Integer index) {
-		Objects.requireNonNull(index);
-		return this.classMap.get(index);
+	public Optional<OWLClass> getOptOWLClass(int index) {
+		return Optional.ofNullable((OWLClass) getOWLObject(index, IntegerEntityType.CLASS));
+	}
+
+	public Optional<OWLDataProperty> getOptOWLDataProperty(int index) {
+		return Optional.ofNullable((OWLDataProperty) getOWLObject(index, IntegerEntityType.DATA_PROPERTY));
 	}
 
-	public Optional<OWLDataProperty> getOptOWLDataProperty(Integer index) {
-		Objects.requireNonNull(index);
-		return this.dataPropertyMap.get(index);
+	public Optional<OWLNamedIndividual> getOptOWLNamedIndividual(int index) {
+		return Optional.ofNullable((OWLNamedIndividual) getOWLObject(index, IntegerEntityType.INDIVIDUAL));
 	}
 
-	public Optional<OWLNamedIndividual> getOptOWLNamedIndividual(Integer index) {
-		Objects.requireNonNull(index);
-		return this.individualMap.get(index);
+	public Optional<OWLObjectProperty> getOptOWLObjectProperty(int index) {
+		return Optional.ofNullable((OWLObjectProperty) getOWLObject(index, IntegerEntityType.OBJECT_PROPERTY));
 	}
 
-	public Optional<OWLObjectProperty> getOptOWLObjectProperty(Integer index) {
-		Objects.requireNonNull(index);
-		return this.objectPropertyMap.get(index);
+	public Optional<OWLAnnotationProperty> getOptOWLAnnotationProperty(int index) {
+		return Optional.ofNullable((OWLAnnotationProperty) getOWLObject(index, IntegerEntityType.ANNOTATION_PROPERTY));
 	}
 
-	public Optional<OWLAnnotationProperty> getOptOWLAnnotationProperty(Integer index) {
-		Objects.requireNonNull(index);
-		return this.annotationPropertyMap.get(index);
+	public Optional<OWLAnnotationValue> getOptOWLAnnotationValue(int index) {
+		return Optional.ofNullable((OWLAnnotationValue) getOWLObject(index, IntegerEntityType.ANNOTATION_VALUE));
 	}
 
-	public Optional<OWLAnnotationValue> getOptOWLAnnotationValue(Integer index) {
-		Objects.requireNonNull(index);
-		return this.annotationValueMap.get(index);
+	private void ensureCapacity(int capacity) {
+		if (capacity > this.owlObjects.length) {
+			this.owlObjects = Arrays.copyOf(this.owlObjects, Math.max(capacity, 2 * this.owlObjects.length));
+		}
+	}
+
+	/**
+	 * Returns the OWL API object with the given identifier, or
+	 * <code>null</code> if there is no object of the given type with that
+	 * identifier. This method does not allocate any object.
+	 * 
+	 * @param index
+	 *            identifier
+	 * @param type
+	 *            entity type
+	 * @return the OWL API object with the given identifier, or
+	 *         <code>null</code> if there is no object of the given type with
+	 *         that identifier
+	 */
+	private OWLObject getOWLObject(int index, IntegerEntityType type) {
+		OWLObject ret = null;
+		if ((index >= 0) && (index < this.owlObjects.length) && Objects.nonNull(this.owlObjects[index])
+				&& this.entityManager.getType(index).equals(type)) {
+			ret = this.owlObjects[index];
+		}
+		return ret;
+	}
+
+	/**
+	 * Tells whether there is a class with the given identifier.
+	 * 
+	 * @param index
+	 *            identifier
+	 * @return <code>true</code> if and only if there is a class with the given
+	 *         identifier
+	 */
+	public boolean hasOWLClass(int index) {
+		return Objects.nonNull(getOWLObject(index, IntegerEntityType.CLASS));
 	}
 
 	private void initializeMaps() {
 
-		this.classMap.put(IntegerEntityManager.bottomClassId, this.bottomClass);
+		putOWLObject(IntegerEntityManager.bottomClassId, this.bottomClass);
 		this.classInvMap.put(this.bottomClass, IntegerEntityManager.bottomClassId);
-		this.classMap.put(IntegerEntityManager.topClassId, this.topClass);
+		putOWLObject(IntegerEntityManager.topClassId, this.topClass);
 		this.classInvMap.put(this.topClass, IntegerEntityManager.topClassId);
 
-		this.objectPropertyMap.put(IntegerEntityManager.bottomObjectPropertyId, this.bottomObjectProperty);
+		putOWLObject(IntegerEntityManager.bottomObjectPropertyId, this.bottomObjectProperty);
 		this.objectPropertyInvMap.put(this.bottomObjectProperty, IntegerEntityManager.bottomObjectPropertyId);
-		this.objectPropertyMap.put(IntegerEntityManager.topObjectPropertyId, this.topObjectProperty);
+		putOWLObject(IntegerEntityManager.topObjectPropertyId, this.topObjectProperty);
 		this.objectPropertyInvMap.put(this.topObjectProperty, IntegerEntityManager.topObjectPropertyId);
 
-		this.dataPropertyMap.put(IntegerEntityManager.bottomDataPropertyId, this.bottomDataProperty);
+		putOWLObject(IntegerEntityManager.bottomDataPropertyId, this.bottomDataProperty);
 		this.dataPropertyInvMap.put(this.bottomDataProperty, IntegerEntityManager.bottomDataPropertyId);
-		this.dataPropertyMap.put(IntegerEntityManager.topDataPropertyId, this.topDataProperty);
+		putOWLObject(IntegerEntityManager.topDataPropertyId, this.topDataProperty);
 		this.dataPropertyInvMap.put(this.topDataProperty, IntegerEntityManager.topDataPropertyId);
 	}
 
+	private void putOWLObject(int index, OWLObject owlObject) {
+		ensureCapacity(index + 1);
+		this.owlObjects[index] = owlObject;
+	}
+
 	@Override
 	public String toString() {
 		StringBuffer sbuf = new StringBuffer();
 		sbuf.append("\n");
-		sbuf.append(this.classMap.toString());
-		sbuf.append("\n");
-		sbuf.append(this.objectPropertyMap.toString());
-		sbuf.append("\n");
-		sbuf.append(this.individualMap.toString());
-		sbuf.append("\n");
-		sbuf.append(this.dataPropertyMap.toString());
-		sbuf.append("\n");
-		sbuf.append(this.literalMap.toString());
-		sbuf.append("\n");
-		sbuf.append(this.annotationPropertyMap.toString());
-		sbuf.append("\n");
-		sbuf.append(this.annotationValueMap.toString());
-		sbuf.append("\n");
+		for (IntegerEntityType type : IntegerEntityType.values()) {
+			sbuf.append("{");
+			for (int index = 0; index < this.owlObjects.length; index++) {
+				OWLObject owlObject = getOWLObject(index, type);
+				if (Objects.nonNull(owlObject)) {
+					sbuf.append(" " + index + "=" + owlObject);
+				}
+			}
+			sbuf.append(" }");
+			sbuf.append("\n");
+		}
 		return sbuf.toString();
 	}
 
@@ -59,6 +59,7 @@ import org.semanticweb.owlapi.model.OWLNamedIndividual;
 import org.semanticweb.owlapi.model.OWLObjectPropertyExpression;
 import org.semanticweb.owlapi.reasoner.Node;
 import org.semanticweb.owlapi.reasoner.NodeSet;
+import org.semanticweb.owlapi.reasoner.impl.DefaultNode;
 import org.semanticweb.owlapi.reasoner.impl.NodeFactory;
 import org.semanticweb.owlapi.reasoner.impl.OWLClassNodeSet;
 import org.semanticweb.owlapi.reasoner.impl.OWLNamedIndividualNodeSet;
@@ -177,11 +178,12 @@ public class Translator {
 
 	public Node<OWLClass> translateSC(Set<IntegerClass> integerObject) {
 		Objects.requireNonNull(integerObject);
-		Set<OWLClass> set = new HashSet<>();
+		TranslationRepository repository = getTranslationRepository();
+		DefaultNode<OWLClass> ret = NodeFactory.getOWLClassNode();
 		integerObject.forEach(cls -> {
-			set.add(translateC(cls));
+			ret.add(repository.getOWLClass(cls.getId()));
 		});
-		return NodeFactory.getOWLClassNode(set);
+		return ret;
 	}
 
 	public Set<IntegerNamedIndividual> translateSI(Node<OWLNamedIndividual> owlObject) {
@@ -230,11 +232,11 @@ public class Translator {
 
 	public NodeSet<OWLClass> translateSSC(Set<Set<IntegerClass>> integerObject) {
 		Objects.requireNonNull(integerObject);
-		Set<Node<OWLClass>> setOfNodes = new HashSet<>();
+		OWLClassNodeSet ret = new OWLClassNodeSet();
 		integerObject.forEach(intSet -> {
-			setOfNodes.add(translateSC(intSet));
+			ret.addNode(translateSC(intSet));
 		});
-		return new OWLClassNodeSet(setOfNodes);
+		return ret;
 	}
 
 	public Set<Set<IntegerNamedIndividual>> translateSSI(NodeSet<OWLNamedIndividual> owlObject) {
@@ -0,0 +1,162 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.reasoner.main;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import de.tudresden.inf.lat.jcel.core.graph.IntegerHierarchicalGraph;
+
+/**
+ * An object of this class keeps the class hierarchies of classified modules,
+ * indexed by the signature used to extract each module. When the cache is
+ * full, the least recently used hierarchy is discarded. This class is not
+ * thread-safe.
+ *
+ * @author Julian Mendez
+ */
+public class ClassifiedModuleCache {
+
+	public static final int defaultCapacity = 64;
+
+	private final int capacity;
+	private final Map<Set<Integer>, IntegerHierarchicalGraph> map;
+
+	/**
+	 * Constructs a new cache of classified modules using the default capacity.
+	 */
+	public ClassifiedModuleCache() {
+		this(defaultCapacity);
+	}
+
+	/**
+	 * Constructs a new cache of classified modules.
+	 *
+	 * @param capacity
+	 *            maximum number of class hierarchies kept in the cache
+	 */
+	public ClassifiedModuleCache(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Invalid capacity: '" + capacity + "'.");
+		}
+		this.capacity = capacity;
+		this.map = new LinkedHashMap<Set<Integer>, IntegerHierarchicalGraph>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Set<Integer>, IntegerHierarchicalGraph> eldest) {
+				return size() > ClassifiedModuleCache.this.capacity;
+			}
+		};
+	}
+
+	/**
+	 * Removes all the class hierarchies from the cache.
+	 */
+	public void clear() {
+		this.map.clear();
+	}
+
+	/**
+	 * Returns the class hierarchy of the module extracted for the given
+	 * signature, if it is in the cache.
+	 *
+	 * @param signature
+	 *            signature
+	 * @return the class hierarchy of the module extracted for the given
+	 *         signature, if it is in the cache
+	 */
+	public Optional<IntegerHierarchicalGraph> get(Set<Integer> signature) {
+		Objects.requireNonNull(signature);
+		return Optional.ofNullable(this.map.get(signature));
+	}
+
+	/**
+	 * Returns the maximum number of class hierarchies kept in the cache.
+	 *
+	 * @return the maximum number of class hierarchies kept in the cache
+	 */
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * Stores the class hierarchy of the module extracted for the given
+	 * signature.
+	 *
+	 * @param signature
+	 *            signature
+	 * @param classHierarchy
+	 *            class hierarchy of the classified module
+	 */
+	public void put(Set<Integer> signature, IntegerHierarchicalGraph classHierarchy) {
+		Objects.requireNonNull(signature);
+		Objects.requireNonNull(classHierarchy);
+		this.map.put(Collections.unmodifiableSet(new TreeSet<>(signature)), classHierarchy);
+	}
+
+	/**
+	 * Returns the number of class hierarchies in the cache.
+	 *
+	 * @return the number of class hierarchies in the cache
+	 */
+	public int size() {
+		return this.map.size();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "(" + size() + "/" + getCapacity() + ")";
+	}
+
+}
@@ -55,12 +55,16 @@ import java.util.Set;
 import java.util.logging.Logger;
 
 import de.tudresden.inf.lat.jcel.core.algorithm.common.Processor;
+import de.tudresden.inf.lat.jcel.core.algorithm.module.DefaultModuleExtractor;
+import de.tudresden.inf.lat.jcel.core.algorithm.module.Module;
 import de.tudresden.inf.lat.jcel.core.algorithm.rulebased.RuleBasedProcessor;
 import de.tudresden.inf.lat.jcel.core.graph.IntegerHierarchicalGraph;
 import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
 import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
 import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
 import de.tudresden.inf.lat.jcel.coreontology.datatype.OntologyExpressivity;
+import de.tudresden.inf.lat.jcel.coreontology.expressivity.NormalizedAxiomExpressivityDetector;
 import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiom;
 import de.tudresden.inf.lat.jcel.ontology.axiom.extension.ComplexAxiomExpressivityDetector;
 import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactory;
@@ -77,48 +81,140 @@ import de.tudresden.inf.lat.util.map.OptMap;
 import de.tudresden.inf.lat.util.map.OptMapImpl;
 
 /**
- * This class models a rule-based reasoner.
+ * This class models a rule-based reasoner. <br>
+ * If the ontology has not been classified, queries about the subsumers of a
+ * class are answered by classifying only the module relevant for that class.
+ * The class hierarchies of these modules are kept in a cache. This is not done
+ * for ontologies with individuals, nominals or inverse object properties,
+ * because the subsumers of a class could depend on axioms outside its module.
  * 
  * @author Julian Mendez
  */
 public class RuleBasedReasoner implements IntegerReasoner {
 
+	private static final Integer bottomClassId = IntegerEntityManager.bottomClassId;
 	private static final Logger logger = Logger.getLogger(RuleBasedReasoner.class.getName());
 
 	private final OptMap<IntegerClassExpression, Integer> auxClassInvMap = new OptMapImpl<>(new HashMap<>());
 	private final OptMap<Integer, IntegerClassExpression> auxClassMap = new OptMapImpl<>(new HashMap<>());
 	private boolean classified = false;
+	private final RuleBasedReasonerConfiguration configuration;
 	private final OntologyEntailmentChecker entailmentChecker = new OntologyEntailmentChecker(this);
 	private final IntegerOntologyObjectFactory factory;
 	private boolean interruptRequested = false;
+	private final ClassifiedModuleCache moduleCache = new ClassifiedModuleCache();
+	private DefaultModuleExtractor moduleExtractor = null;
+	private final Set<NormalizedIntegerAxiom> normalizedAxiomSet = new HashSet<>();
+	private OntologyExpressivity ontologyExpressivity = null;
 	private RuleBasedProcessor processor = null;
 	private final long timeOut = 0;
 
 	public RuleBasedReasoner(Set<ComplexIntegerAxiom> ontology, IntegerOntologyObjectFactory factory) {
+		this(ontology, factory, new RuleBasedReasonerConfiguration());
+	}
+
+	/**
+	 * Constructs a new rule-based reasoner using the given configuration.
+	 * 
+	 * @param ontology
+	 *            ontology
+	 * @param factory
+	 *            ontology object factory
+	 * @param configuration
+	 *            configuration of the reasoner
+	 */
+	public RuleBasedReasoner(Set<ComplexIntegerAxiom> ontology, IntegerOntologyObjectFactory factory,
+			RuleBasedReasonerConfiguration configuration) {
 		Objects.requireNonNull(ontology);
 		Objects.requireNonNull(factory);
+		Objects.requireNonNull(configuration);
 		this.factory = factory;
+		this.configuration = configuration;
 		this.processor = createProcessor(ontology);
 	}
 
+	/**
+	 * Adds normalized axioms to the axioms used to extract modules. The module
+	 * index is rebuilt and the classified modules are discarded, because the
+	 * new axioms can change the module of any class.
+	 * 
+	 * @param axioms
+	 *            normalized axioms
+	 */
+	private void addNormalizedAxioms(Set<NormalizedIntegerAxiom> axioms) {
+		this.normalizedAxiomSet.addAll(axioms);
+		this.moduleExtractor = null;
+		this.moduleCache.clear();
+	}
+
 	@Override
 	public void classify() {
 		if (!this.classified) {
 			logger.fine("starting classification ...");
 			flush();
 
-			while (this.processor.process()) {
-				if (this.interruptRequested) {
-					this.interruptRequested = false;
-					throw new RuntimeException("Classification interrupted.");
-				}
-			}
+			runProcessor(this.processor);
 			logger.fine("classification finished.");
 		}
 
 		this.classified = true;
 	}
 
+	/**
+	 * Classifies the module relevant for the given class, and returns its
+	 * class hierarchy. The index used to extract the modules is created the
+	 * first time a module is needed. The completion rules are selected using
+	 * the expressivity of the module.
+	 * 
+	 * @param classId
+	 *            class
+	 * @return the class hierarchy of the module relevant for the given class
+	 */
+	private IntegerHierarchicalGraph classifyModule(Integer classId) {
+		Set<Integer> signature = Collections.singleton(classId);
+		Optional<IntegerHierarchicalGraph> optClassHierarchy = this.moduleCache.get(signature);
+		if (!optClassHierarchy.isPresent()) {
+			if (Objects.isNull(this.moduleExtractor)) {
+				this.moduleExtractor = new DefaultModuleExtractor(this.normalizedAxiomSet);
+			}
+			Module module = this.moduleExtractor.extractModule(signature);
+			logger.fine("classifying module of class " + classId + " with " + module.getAxioms().size()
+					+ " axioms ...");
+
+			Set<Integer> moduleClassSet = new HashSet<>();
+			Set<Integer> moduleObjectPropertySet = new HashSet<>();
+			moduleClassSet.add(classId);
+			module.getAxioms().forEach(axiom -> {
+				moduleClassSet.addAll(axiom.getClassesInSignature());
+				moduleObjectPropertySet.addAll(axiom.getObjectPropertiesInSignature());
+			});
+
+			OntologyExpressivity moduleExpressivity = new NormalizedAxiomExpressivityDetector(module.getAxioms());
+			RuleBasedProcessor moduleProcessor = new RuleBasedProcessor(moduleObjectPropertySet, moduleClassSet,
+					module.getAxioms(), moduleExpressivity, this.factory.getNormalizedAxiomFactory(),
+					this.factory.getEntityManager(), this.configuration.getSchedulingStrategy(),
+					this.configuration.getQueuePriority());
+			configureProcessor(moduleProcessor);
+			runProcessor(moduleProcessor);
+			optClassHierarchy = Optional.of(moduleProcessor.getClassHierarchy());
+			this.moduleCache.put(signature, optClassHierarchy.get());
+			logger.fine("module classified.");
+		}
+		return optClassHierarchy.get();
+	}
+
+	/**
+	 * Applies the options of the configuration to a processor.
+	 * 
+	 * @param processor
+	 *            processor
+	 */
+	private void configureProcessor(RuleBasedProcessor processor) {
+		if (this.configuration.isRenumberingActive()) {
+			processor.activateRenumbering();
+		}
+	}
+
 	private RuleBasedProcessor createProcessor(Set<ComplexIntegerAxiom> ontology) {
 		logger.fine("creating processor (phase 1) ...");
 
@@ -141,10 +237,14 @@ public class RuleBasedReasoner implements IntegerReasoner {
 		logger.fine("normalizing ontology ...");
 		OntologyNormalizer axiomNormalizer = new OntologyNormalizer();
 		Set<NormalizedIntegerAxiom> normalizedAxiomSet = axiomNormalizer.normalize(ontology, this.factory);
+		addNormalizedAxioms(normalizedAxiomSet);
+		this.ontologyExpressivity = expressivity;
 
 		logger.fine("creating processor (phase 2) ...");
 		RuleBasedProcessor ret = new RuleBasedProcessor(originalObjectPropertySet, originalClassSet, normalizedAxiomSet,
-				expressivity, this.factory.getNormalizedAxiomFactory(), this.factory.getEntityManager());
+				expressivity, this.factory.getNormalizedAxiomFactory(), this.factory.getEntityManager(),
+				this.configuration.getSchedulingStrategy(), this.configuration.getQueuePriority());
+		configureProcessor(ret);
 		logger.fine("processor created.");
 		return ret;
 	}
@@ -180,6 +280,7 @@ public class RuleBasedReasoner implements IntegerReasoner {
 						this.factory);
 
 				this.processor.addAxioms(extendedNormalizedAxiomSet);
+				addNormalizedAxioms(extendedNormalizedAxiomSet);
 
 				this.classified = false;
 			} else {
@@ -216,6 +317,40 @@ public class RuleBasedReasoner implements IntegerReasoner {
 		return toIntegerObjectPropertyExpression(graph.getEquivalents(graph.getBottomElement()));
 	}
 
+	/**
+	 * Returns a class hierarchy that has the subsumers and equivalent classes
+	 * of the given class. This is the class hierarchy of the module of the
+	 * class, if the ontology has not been classified and the module can be
+	 * used, and the class hierarchy of the ontology otherwise. The module
+	 * cannot be used for unsatisfiable classes, because they are equivalent
+	 * to classes that are not in the module.
+	 * 
+	 * @param classId
+	 *            class
+	 * @return a class hierarchy that has the subsumers and equivalent classes
+	 *         of the given class
+	 */
+	private IntegerHierarchicalGraph getClassHierarchyForSubsumers(Integer classId) {
+		IntegerHierarchicalGraph ret = null;
+		if (!this.classified && isModuleExtractionApplicable() && !classId.equals(bottomClassId)) {
+			ret = classifyModule(classId);
+		}
+		if (Objects.isNull(ret) || ret.getEquivalents(classId).contains(bottomClassId)) {
+			classify();
+			ret = getProcessor().getClassHierarchy();
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the configuration of this reasoner.
+	 * 
+	 * @return the configuration of this reasoner
+	 */
+	public RuleBasedReasonerConfiguration getConfiguration() {
+		return this.configuration;
+	}
+
 	@Override
 	public Set<Set<IntegerClass>> getDataPropertyDomains(IntegerDataProperty pe, boolean direct) {
 		Objects.requireNonNull(pe);
@@ -269,8 +404,7 @@ public class RuleBasedReasoner implements IntegerReasoner {
 	public Set<IntegerClass> getEquivalentClasses(IntegerClassExpression ce) {
 		Objects.requireNonNull(ce);
 		IntegerClass cls = flattenClassExpression(ce);
-		classify();
-		IntegerHierarchicalGraph graph = getProcessor().getClassHierarchy();
+		IntegerHierarchicalGraph graph = getClassHierarchyForSubsumers(cls.getId());
 		return toIntegerClass(graph.getEquivalents(cls.getId()));
 	}
 
@@ -435,8 +569,7 @@ public class RuleBasedReasoner implements IntegerReasoner {
 	public Set<Set<IntegerClass>> getSuperClasses(IntegerClassExpression ce, boolean direct) {
 		Objects.requireNonNull(ce);
 		IntegerClass cls = flattenClassExpression(ce);
-		classify();
-		IntegerHierarchicalGraph graph = getProcessor().getClassHierarchy();
+		IntegerHierarchicalGraph graph = getClassHierarchyForSubsumers(cls.getId());
 		Set<Integer> set = null;
 		if (direct) {
 			set = graph.getParents(cls.getId());
@@ -536,6 +669,18 @@ public class RuleBasedReasoner implements IntegerReasoner {
 		this.interruptRequested = true;
 	}
 
+	/**
+	 * Tells whether the subsumers of a class only depend on the module of the
+	 * class.
+	 * 
+	 * @return <code>true</code> if and only if the subsumers of a class only
+	 *         depend on the module of the class
+	 */
+	private boolean isModuleExtractionApplicable() {
+		return !this.ontologyExpressivity.hasIndividual() && !this.ontologyExpressivity.hasNominal()
+				&& !this.ontologyExpressivity.hasInverseObjectProperty();
+	}
+
 	public boolean isClassified() {
 		return this.classified;
 	}
@@ -570,6 +715,15 @@ public class RuleBasedReasoner implements IntegerReasoner {
 		return !getUnsatisfiableClasses().contains(cls);
 	}
 
+	private void runProcessor(Processor currentProcessor) {
+		while (currentProcessor.process()) {
+			if (this.interruptRequested) {
+				this.interruptRequested = false;
+				throw new RuntimeException("Classification interrupted.");
+			}
+		}
+	}
+
 	private Set<IntegerClass> toIntegerClass(Set<Integer> set) {
 		Set<IntegerClass> ret = new HashSet<>();
 		set.forEach(elem -> ret.add(getDataTypeFactory().createClass(elem)));
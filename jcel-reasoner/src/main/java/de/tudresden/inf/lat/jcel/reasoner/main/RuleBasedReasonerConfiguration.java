@@ -0,0 +1,157 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package de.tudresden.inf.lat.jcel.reasoner.main;
+
+import java.util.Objects;
+
+import de.tudresden.inf.lat.jcel.core.algorithm.rulebased.QueuePriority;
+import de.tudresden.inf.lat.jcel.core.algorithm.rulebased.SchedulingStrategy;
+
+/**
+ * An object of this class keeps the options of a rule-based reasoner. The
+ * options are read when the reasoner creates its processors, so they should
+ * be set before the reasoner is constructed. The default options give the
+ * same behavior as a reasoner constructed without configuration.
+ *
+ * @author Julian Mendez
+ */
+public class RuleBasedReasonerConfiguration {
+
+	private QueuePriority queuePriority = QueuePriority.LARGER_QUEUE;
+	private boolean renumberingActive = false;
+	private SchedulingStrategy schedulingStrategy = SchedulingStrategy.SORTED;
+
+	/**
+	 * Constructs a new configuration with the default options.
+	 */
+	public RuleBasedReasonerConfiguration() {
+	}
+
+	/**
+	 * Returns the policy used by the processors to choose between S-entries
+	 * and R-entries. The default is {@link QueuePriority#LARGER_QUEUE}.
+	 *
+	 * @return the policy used to choose between S-entries and R-entries
+	 */
+	public QueuePriority getQueuePriority() {
+		return this.queuePriority;
+	}
+
+	/**
+	 * Returns the strategy used by the processors to order the entries to be
+	 * processed. The default is {@link SchedulingStrategy#SORTED}.
+	 *
+	 * @return the strategy used to order the entries to be processed
+	 */
+	public SchedulingStrategy getSchedulingStrategy() {
+		return this.schedulingStrategy;
+	}
+
+	/**
+	 * Tells whether the processors store the sets S and R, once the
+	 * classification is finished, with dense class identifiers assigned in the
+	 * order of the told hierarchy.
+	 *
+	 * @return <code>true</code> if and only if the classes are renumbered in
+	 *         told hierarchy order
+	 */
+	public boolean isRenumberingActive() {
+		return this.renumberingActive;
+	}
+
+	/**
+	 * Sets the policy used by the processors to choose between S-entries and
+	 * R-entries. The policy changes the order in which the entries are
+	 * processed, but not the classification.
+	 *
+	 * @param queuePriority
+	 *            policy used to choose between S-entries and R-entries
+	 */
+	public void setQueuePriority(QueuePriority queuePriority) {
+		Objects.requireNonNull(queuePriority);
+		this.queuePriority = queuePriority;
+	}
+
+	/**
+	 * Sets whether the processors store the sets S and R, once the
+	 * classification is finished, with dense class identifiers assigned in the
+	 * order of the told hierarchy. This does not change the identifiers
+	 * returned by the reasoner.
+	 *
+	 * @param renumberingActive
+	 *            <code>true</code> to renumber the classes in told hierarchy
+	 *            order
+	 */
+	public void setRenumberingActive(boolean renumberingActive) {
+		this.renumberingActive = renumberingActive;
+	}
+
+	/**
+	 * Sets the strategy used by the processors to order the entries to be
+	 * processed. The strategy changes the order in which the entries are
+	 * processed, but not the classification.
+	 *
+	 * @param schedulingStrategy
+	 *            strategy used to order the entries to be processed
+	 */
+	public void setSchedulingStrategy(SchedulingStrategy schedulingStrategy) {
+		Objects.requireNonNull(schedulingStrategy);
+		this.schedulingStrategy = schedulingStrategy;
+	}
+
+	@Override
+	public String toString() {
+		StringBuffer sbuf = new StringBuffer();
+		sbuf.append("scheduler=");
+		sbuf.append(this.schedulingStrategy);
+		sbuf.append(" priority=");
+		sbuf.append(this.queuePriority);
+		sbuf.append(" renumbering=");
+		sbuf.append(this.renumberingActive);
+		return sbuf.toString();
+	}
+
+}
@@ -76,26 +76,38 @@ import de.tudresden.inf.lat.util.map.OptMap;
 import de.tudresden.inf.lat.util.map.OptMapImpl;
 
 /**
- * An object of this class classifies an ontology. It divides a set of axioms in
- * subsets such that they have disjoint sets of classes. These subsets are
- * called modules. If two classes share at least one axiom, they are in the same
- * module. Axioms without classes are in all the modules. <br>
- * After classifying each module, the processor creates a set of axioms which is
- * the result of the classification. After classifying all modules, it
- * classifies the accumulated set of axioms.
+ * An object of this class classifies an ontology. It first separates a base
+ * layer, which is the &perp;-module of the object properties, the data
+ * properties and the given upper-level classes. The base layer has, for
+ * example, the object property axioms, the domains, the assertions, and the
+ * axioms that relate the upper-level classes among themselves. Every other
+ * axiom is &perp;-local with respect to the signature of the base layer. <br>
+ * The remaining axioms are divided in subsets such that they have disjoint
+ * sets of classes outside the base layer. These subsets are called modules. If
+ * two of those classes share at least one axiom, they are in the same module.
+ * Since the axioms of the other modules are &perp;-local with respect to the
+ * signature of a module together with the base layer, each module together
+ * with the base layer has the same entailments over its signature as the
+ * whole ontology. <br>
+ * The base layer is shared by the modules. It is given to the processor
+ * factory separately, so that it can be saturated only once and be the
+ * starting point of the processor of each module. The modules are classified
+ * concurrently. After classifying each module, the processor creates a set of
+ * axioms which is the result of the classification. After classifying all
+ * modules, it classifies the accumulated set of axioms.
  *
  * @author Julian Mendez
  *
  */
 public class ClassModuleProcessor implements Processor {
 
-	private static final Integer bottomClassId = IntegerEntityManager.bottomClassId;
 	private static final Logger logger = Logger.getLogger(ClassModuleProcessor.class.getName());
-	private static final Integer topClassId = IntegerEntityManager.topClassId;
 
 	private Set<ComplexIntegerAxiom> accumulatedAxiomSet = null;
 	private final IntegerOntologyObjectFactory axiomFactory;
+	private final Set<ComplexIntegerAxiom> baseAxiomSet = new HashSet<>();
 	private IntegerHierarchicalGraph classHierarchy = null;
+	private ConcurrentModuleClassifier classifier = null;
 	private final OptMap<Integer, Set<ComplexIntegerAxiom>> classToAxiom = new OptMapImpl<>(new HashMap<>());
 	private final OptMap<Integer, Set<Integer>> classToClass = new OptMapImpl<>(new HashMap<>());
 	private IntegerHierarchicalGraphImpl dataPropertyHierarchy = null;
@@ -104,15 +116,16 @@ public class ClassModuleProcessor implements Processor {
 	private boolean isReady = false;
 	private Integer moduleIndex = 0;
 	private List<Set<ComplexIntegerAxiom>> moduleList = null;
+	private final int numberOfThreads;
 	private IntegerHierarchicalGraph objectPropertyHierarchy = null;
 	private Processor processor = null;
 	private final ModuleProcessorFactory processorFactory;
 	private OptMap<Integer, Set<Integer>> sameIndividualMap = null;
-	private final Set<ComplexIntegerAxiom> sharedAxioms = new HashSet<>();
+	private final Set<Integer> upperLevelClasses;
 
 	/**
 	 * Constructs a class module processor. It uses an auxiliary processor to
-	 * classify each module.
+	 * classify each module, and uses as many threads as available processors.
 	 *
 	 * @param axiomSet
 	 *            set of axioms
@@ -123,11 +136,60 @@ public class ClassModuleProcessor implements Processor {
 	 */
 	public ClassModuleProcessor(Set<ComplexIntegerAxiom> axiomSet, IntegerOntologyObjectFactory axFactory,
 			ModuleProcessorFactory procFactory) {
+		this(axiomSet, axFactory, procFactory, ConcurrentModuleClassifier.getDefaultNumberOfThreads());
+	}
+
+	/**
+	 * Constructs a class module processor. It uses an auxiliary processor to
+	 * classify each module.
+	 *
+	 * @param axiomSet
+	 *            set of axioms
+	 * @param axFactory
+	 *            ontology object factory
+	 * @param procFactory
+	 *            factory to create the auxiliary processor
+	 * @param numberOfThreads
+	 *            maximum number of modules classified at the same time
+	 * @throws IllegalArgumentException
+	 *             if the number of threads is not positive
+	 */
+	public ClassModuleProcessor(Set<ComplexIntegerAxiom> axiomSet, IntegerOntologyObjectFactory axFactory,
+			ModuleProcessorFactory procFactory, int numberOfThreads) {
+		this(axiomSet, axFactory, procFactory, numberOfThreads, Collections.emptySet());
+	}
+
+	/**
+	 * Constructs a class module processor. It uses an auxiliary processor to
+	 * classify each module. The given upper-level classes are part of the base
+	 * layer, and they do not join the modules of their subclasses.
+	 *
+	 * @param axiomSet
+	 *            set of axioms
+	 * @param axFactory
+	 *            ontology object factory
+	 * @param procFactory
+	 *            factory to create the auxiliary processor
+	 * @param numberOfThreads
+	 *            maximum number of modules classified at the same time
+	 * @param upperLevelClasses
+	 *            classes of the base layer
+	 * @throws IllegalArgumentException
+	 *             if the number of threads is not positive
+	 */
+	public ClassModuleProcessor(Set<ComplexIntegerAxiom> axiomSet, IntegerOntologyObjectFactory axFactory,
+			ModuleProcessorFactory procFactory, int numberOfThreads, Set<Integer> upperLevelClasses) {
 		Objects.requireNonNull(axiomSet);
 		Objects.requireNonNull(axFactory);
 		Objects.requireNonNull(procFactory);
+		Objects.requireNonNull(upperLevelClasses);
+		if (numberOfThreads < 1) {
+			throw new IllegalArgumentException("Invalid number of threads: '" + numberOfThreads + "'.");
+		}
 		this.axiomFactory = axFactory;
 		this.processorFactory = procFactory;
+		this.numberOfThreads = numberOfThreads;
+		this.upperLevelClasses = Collections.unmodifiableSet(new HashSet<>(upperLevelClasses));
 		preProcess(axiomSet);
 	}
 
@@ -178,16 +240,27 @@ public class ClassModuleProcessor implements Processor {
 		return ret;
 	}
 
-	private void createMaps(Set<ComplexIntegerAxiom> axiomSet) {
+	/**
+	 * Indexes the given axioms by their classes outside the base layer. The
+	 * axioms that do not have such classes are added to the base layer.
+	 *
+	 * @param axiomSet
+	 *            axioms that are not in the base layer
+	 * @param baseSignature
+	 *            signature of the base layer
+	 */
+	private void createMaps(Set<ComplexIntegerAxiom> axiomSet, Set<Integer> baseSignature) {
 
 		this.classToAxiom.clear();
 		this.classToClass.clear();
-		this.sharedAxioms.clear();
 
 		axiomSet.forEach(axiom -> {
-			Set<Integer> classSet = axiom.getClassesInSignature();
+			Set<Integer> classSet = new HashSet<>();
+			axiom.getClassesInSignature().stream()
+					.filter(classId -> classId >= IntegerEntityManager.firstUsableIdentifier)
+					.filter(classId -> !baseSignature.contains(classId)).forEach(classId -> classSet.add(classId));
 			if (classSet.isEmpty()) {
-				this.sharedAxioms.add(axiom);
+				this.baseAxiomSet.add(axiom);
 			} else {
 				classSet.forEach(classId -> {
 
@@ -208,15 +281,36 @@ public class ClassModuleProcessor implements Processor {
 				});
 			}
 		});
+	}
 
+	/**
+	 * Finds the base layer, which is the &perp;-module of the object
+	 * properties, the data properties and the upper-level classes.
+	 *
+	 * @param axiomSet
+	 *            set of axioms
+	 */
+	private void findBaseAxioms(Set<ComplexIntegerAxiom> axiomSet) {
+		Set<Integer> seedSignature = new HashSet<>(this.upperLevelClasses);
+		axiomSet.forEach(axiom -> {
+			seedSignature.addAll(axiom.getObjectPropertiesInSignature());
+			seedSignature.addAll(axiom.getDataPropertiesInSignature());
+		});
+		this.baseAxiomSet.clear();
+		this.baseAxiomSet.addAll(new SyntacticLocalityModuleExtractor().extractModule(axiomSet, seedSignature));
 	}
 
 	private List<Set<ComplexIntegerAxiom>> findModules(Set<ComplexIntegerAxiom> axiomSet) {
 
-		createMaps(axiomSet);
+		findBaseAxioms(axiomSet);
+		Set<Integer> baseSignature = new HashSet<>(this.upperLevelClasses);
+		this.baseAxiomSet.forEach(axiom -> baseSignature.addAll(axiom.getClassesInSignature()));
+		Set<ComplexIntegerAxiom> remainingAxioms = new HashSet<>(axiomSet);
+		remainingAxioms.removeAll(this.baseAxiomSet);
+		createMaps(remainingAxioms, baseSignature);
 
 		List<Set<ComplexIntegerAxiom>> ret = new ArrayList<>();
-		List<Set<Integer>> clustersOfClasses = getClustersOfClasses(axiomSet);
+		List<Set<Integer>> clustersOfClasses = getClustersOfClasses();
 		clustersOfClasses.forEach(classSet -> {
 			Set<ComplexIntegerAxiom> currentModule = new HashSet<>();
 			classSet.forEach(classId -> {
@@ -225,9 +319,11 @@ public class ClassModuleProcessor implements Processor {
 					currentModule.addAll(optReachable.get());
 				}
 			});
-			currentModule.addAll(this.sharedAxioms);
 			ret.add(currentModule);
 		});
+		if (ret.isEmpty() && !this.baseAxiomSet.isEmpty()) {
+			ret.add(new HashSet<>());
+		}
 
 		return ret;
 	}
@@ -244,19 +340,16 @@ public class ClassModuleProcessor implements Processor {
 		return this.classHierarchy;
 	}
 
-	private List<Set<Integer>> getClustersOfClasses(Set<ComplexIntegerAxiom> axiomSet) {
+	private List<Set<Integer>> getClustersOfClasses() {
 
 		List<Set<Integer>> ret = new ArrayList<>();
 
-		Set<Integer> allClasses = new TreeSet<>();
-		axiomSet.forEach(axiom -> allClasses.addAll(axiom.getClassesInSignature()));
-		allClasses.remove(bottomClassId);
-		allClasses.remove(topClassId);
+		Set<Integer> allClasses = new TreeSet<>(this.classToAxiom.keySet());
 
 		while (!allClasses.isEmpty()) {
 			Integer representativeId = allClasses.iterator().next();
 			allClasses.remove(representativeId);
-			Set<Integer> classSet = getReachableClasses(representativeId, axiomSet);
+			Set<Integer> classSet = getReachableClasses(representativeId);
 			allClasses.removeAll(classSet);
 			ret.add(classSet);
 		}
@@ -292,7 +385,7 @@ public class ClassModuleProcessor implements Processor {
 		return this.objectPropertyHierarchy;
 	}
 
-	private Set<Integer> getReachableClasses(Integer firstClassId, Set<ComplexIntegerAxiom> axiomSet) {
+	private Set<Integer> getReachableClasses(Integer firstClassId) {
 		Set<Integer> ret = new HashSet<>();
 		Set<Integer> toVisit = new HashSet<>();
 		toVisit.add(firstClassId);
@@ -332,6 +425,7 @@ public class ClassModuleProcessor implements Processor {
 				IntegerEntityManager.bottomDataPropertyId, IntegerEntityManager.topDataPropertyId));
 
 		this.moduleList = findModules(axioms);
+		logger.fine("base layer has " + this.baseAxiomSet.size() + " axioms");
 		logger.fine("modules found : " + this.moduleList.size());
 		IntStream.range(0, this.moduleList.size()).forEach(index -> {
 			logger.fine("module " + index + " has " + this.moduleList.get(index).size() + " axioms");
@@ -344,40 +438,40 @@ public class ClassModuleProcessor implements Processor {
 
 		logger.fine("");
 		logger.fine("");
-		logger.fine("classifying module " + this.moduleIndex + " ...");
+		logger.fine("classifying modules using " + this.numberOfThreads + " threads ...");
 
-		this.processor = this.processorFactory.createProcessor(this.moduleList.get(this.moduleIndex));
+		this.classifier = new ConcurrentModuleClassifier(this.baseAxiomSet, this.moduleList, this.processorFactory,
+				this.numberOfThreads);
 	}
 
 	@Override
 	public boolean process() {
 		if (!this.isReady) {
-			boolean hasMoreEntries = this.processor.process();
-			if (!hasMoreEntries) {
-				if (this.finalClassification) {
+			if (this.finalClassification) {
+				boolean hasMoreEntries = this.processor.process();
+				if (!hasMoreEntries) {
 					this.classHierarchy = this.processor.getClassHierarchy();
 					this.objectPropertyHierarchy = this.processor.getObjectPropertyHierarchy();
 					this.isReady = true;
+				}
 
-				} else {
-					hasMoreEntries = true;
-					this.directTypes.putAll(this.processor.getDirectTypes());
-					this.sameIndividualMap.putAll(this.processor.getSameIndividualMap());
-					this.accumulatedAxiomSet.addAll(convertClassHierarchyToAxioms(this.processor.getClassHierarchy()));
+			} else {
+				if (this.classifier.hasNext()) {
+					Processor moduleProcessor = this.classifier.next();
+					this.directTypes.putAll(moduleProcessor.getDirectTypes());
+					this.sameIndividualMap.putAll(moduleProcessor.getSameIndividualMap());
+					this.accumulatedAxiomSet.addAll(convertClassHierarchyToAxioms(moduleProcessor.getClassHierarchy()));
 					this.accumulatedAxiomSet.addAll(
-							convertObjectPropertyHierarchyToAxioms(this.processor.getObjectPropertyHierarchy()));
-					this.processor = null;
+							convertObjectPropertyHierarchyToAxioms(moduleProcessor.getObjectPropertyHierarchy()));
 					logger.fine("module " + this.moduleIndex + " has been classified.");
 					logger.fine("");
 					this.moduleIndex++;
-					if (this.moduleIndex < this.moduleList.size()) {
-						logger.fine("classifying module " + this.moduleIndex + " ...");
-						this.processor = this.processorFactory.createProcessor(this.moduleList.get(this.moduleIndex));
-					} else {
-						this.finalClassification = true;
-						logger.fine("classifying integration module ...");
-						this.processor = this.processorFactory.createProcessor(this.accumulatedAxiomSet);
-					}
+				}
+				if (!this.classifier.hasNext()) {
+					this.classifier = null;
+					this.finalClassification = true;
+					logger.fine("classifying integration module ...");
+					this.processor = this.processorFactory.createProcessor(this.accumulatedAxiomSet);
 				}
 			}
 		}
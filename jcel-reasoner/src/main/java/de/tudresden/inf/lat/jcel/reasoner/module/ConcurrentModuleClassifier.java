@@ -0,0 +1,207 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.reasoner.module;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import de.tudresden.inf.lat.jcel.core.algorithm.common.Processor;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiom;
+
+/**
+ * An object of this class classifies a list of independent modules
+ * concurrently. Each module is classified to completion by its own processor,
+ * on a pool with a bounded number of threads. The modules are submitted from
+ * the largest to the smallest one, so that the largest modules do not start
+ * last. <br>
+ * The classified processors are returned by this iterator in the order of the
+ * module list, which keeps the merge of the results in a single thread and
+ * independent of the order in which the modules are finished. <br>
+ * The processors are created by the threads of the pool, so the factory must
+ * be thread-safe, as required by {@link ModuleProcessorFactory}.
+ *
+ * @author Julian Mendez
+ */
+public class ConcurrentModuleClassifier implements Iterator<Processor> {
+
+	/**
+	 * Returns the default number of threads, which is the number of available
+	 * processors.
+	 *
+	 * @return the default number of threads
+	 */
+	public static int getDefaultNumberOfThreads() {
+		return Runtime.getRuntime().availableProcessors();
+	}
+
+	private final ExecutorService executor;
+	private final List<Future<Processor>> futureList = new ArrayList<>();
+	private int nextIndex = 0;
+
+	/**
+	 * Constructs a new concurrent module classifier and starts the
+	 * classification of the modules.
+	 *
+	 * @param moduleList
+	 *            list of modules
+	 * @param factory
+	 *            thread-safe factory to create the processor of each module
+	 * @param numberOfThreads
+	 *            maximum number of threads
+	 * @throws IllegalArgumentException
+	 *             if the number of threads is not positive
+	 */
+	public ConcurrentModuleClassifier(List<Set<ComplexIntegerAxiom>> moduleList, ModuleProcessorFactory factory,
+			int numberOfThreads) {
+		this(Collections.emptySet(), moduleList, factory, numberOfThreads);
+	}
+
+	/**
+	 * Constructs a new concurrent module classifier and starts the
+	 * classification of the modules. Every module is classified together with
+	 * the given base axioms.
+	 *
+	 * @param baseAxioms
+	 *            set of base axioms, which are shared by all the modules
+	 * @param moduleList
+	 *            list of modules
+	 * @param factory
+	 *            thread-safe factory to create the processor of each module
+	 * @param numberOfThreads
+	 *            maximum number of threads
+	 * @throws IllegalArgumentException
+	 *             if the number of threads is not positive
+	 * @see ModuleProcessorFactory#createProcessor(Set, Set)
+	 */
+	public ConcurrentModuleClassifier(Set<ComplexIntegerAxiom> baseAxioms, List<Set<ComplexIntegerAxiom>> moduleList,
+			ModuleProcessorFactory factory, int numberOfThreads) {
+		Objects.requireNonNull(baseAxioms);
+		Objects.requireNonNull(moduleList);
+		Objects.requireNonNull(factory);
+		if (numberOfThreads < 1) {
+			throw new IllegalArgumentException("Invalid number of threads: '" + numberOfThreads + "'.");
+		}
+
+		this.executor = Executors.newFixedThreadPool(Math.max(1, Math.min(numberOfThreads, moduleList.size())),
+				runnable -> {
+					Thread thread = new Thread(runnable, ConcurrentModuleClassifier.class.getSimpleName());
+					thread.setDaemon(true);
+					return thread;
+				});
+
+		List<Integer> submissionOrder = IntStream.range(0, moduleList.size()).boxed().collect(Collectors.toList());
+		submissionOrder.sort(Comparator.comparing((Integer index) -> moduleList.get(index).size()).reversed());
+
+		moduleList.forEach(module -> this.futureList.add(null));
+		submissionOrder.forEach(index -> {
+			Set<ComplexIntegerAxiom> module = moduleList.get(index);
+			this.futureList.set(index, this.executor.submit(() -> {
+				Processor processor = baseAxioms.isEmpty() ? factory.createProcessor(module)
+						: factory.createProcessor(baseAxioms, module);
+				while (processor.process()) {
+				}
+				return processor;
+			}));
+		});
+		this.executor.shutdown();
+	}
+
+	@Override
+	public boolean hasNext() {
+		return this.nextIndex < this.futureList.size();
+	}
+
+	/**
+	 * Returns the processor of the next module in the module list, after
+	 * waiting for its classification to finish.
+	 *
+	 * @return the processor of the next module in the module list
+	 */
+	@Override
+	public Processor next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		Future<Processor> future = this.futureList.get(this.nextIndex);
+		this.futureList.set(this.nextIndex, null);
+		this.nextIndex++;
+		Processor ret;
+		try {
+			ret = future.get();
+
+		} catch (InterruptedException e) {
+			this.executor.shutdownNow();
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Classification interrupted.", e);
+
+		} catch (ExecutionException e) {
+			this.executor.shutdownNow();
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			} else {
+				throw new RuntimeException(cause);
+			}
+		}
+		return ret;
+	}
+
+}
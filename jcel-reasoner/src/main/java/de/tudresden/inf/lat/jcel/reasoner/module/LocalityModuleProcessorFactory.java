@@ -0,0 +1,122 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.reasoner.module;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import de.tudresden.inf.lat.jcel.core.algorithm.common.Processor;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiom;
+
+/**
+ * An object of this class creates processors that only process a module of
+ * the given axioms. The module is extracted using syntactic locality for a
+ * fixed seed signature, and then it is given to another processor factory. The
+ * processors created in this way classify the seed signature as the whole set
+ * of axioms would, but the other entities may be missing or incomplete. <br>
+ * This factory is thread-safe as long as the given processor factory is
+ * thread-safe, because its own state is not modified after construction.
+ * 
+ * @author Julian Mendez
+ * 
+ */
+public class LocalityModuleProcessorFactory implements ModuleProcessorFactory {
+
+	private final ModuleProcessorFactory processorFactory;
+	private final Set<Integer> seedSignature;
+	private final SyntacticLocalityModuleExtractor extractor;
+
+	/**
+	 * Constructs a new factory that extracts &perp;-modules.
+	 * 
+	 * @param factory
+	 *            factory that creates the processors for the modules
+	 * @param seedSignature
+	 *            signature of the modules
+	 */
+	public LocalityModuleProcessorFactory(ModuleProcessorFactory factory, Set<Integer> seedSignature) {
+		this(factory, seedSignature, LocalityModuleType.BOTTOM);
+	}
+
+	/**
+	 * Constructs a new factory.
+	 * 
+	 * @param factory
+	 *            factory that creates the processors for the modules
+	 * @param seedSignature
+	 *            signature of the modules
+	 * @param moduleType
+	 *            kind of module
+	 */
+	public LocalityModuleProcessorFactory(ModuleProcessorFactory factory, Set<Integer> seedSignature,
+			LocalityModuleType moduleType) {
+		Objects.requireNonNull(factory);
+		Objects.requireNonNull(seedSignature);
+		Objects.requireNonNull(moduleType);
+		this.processorFactory = factory;
+		this.seedSignature = Collections.unmodifiableSet(new HashSet<>(seedSignature));
+		this.extractor = new SyntacticLocalityModuleExtractor(moduleType);
+	}
+
+	@Override
+	public Processor createProcessor(Set<ComplexIntegerAxiom> axioms) {
+		Objects.requireNonNull(axioms);
+		return this.processorFactory.createProcessor(this.extractor.extractModule(axioms, this.seedSignature));
+	}
+
+	/**
+	 * Returns the signature of the modules.
+	 * 
+	 * @return the signature of the modules
+	 */
+	public Set<Integer> getSeedSignature() {
+		return this.seedSignature;
+	}
+
+}
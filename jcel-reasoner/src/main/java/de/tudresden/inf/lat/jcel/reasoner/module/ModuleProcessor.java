@@ -52,6 +52,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Logger;
 import java.util.stream.IntStream;
@@ -61,6 +62,7 @@ import de.tudresden.inf.lat.jcel.core.algorithm.common.UnclassifiedOntologyExcep
 import de.tudresden.inf.lat.jcel.core.graph.IntegerHierarchicalGraph;
 import de.tudresden.inf.lat.jcel.core.graph.IntegerHierarchicalGraphImpl;
 import de.tudresden.inf.lat.jcel.core.graph.IntegerSubsumerGraphImpl;
+import de.tudresden.inf.lat.jcel.core.graph.IntegerUnionFind;
 import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
 import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiom;
 import de.tudresden.inf.lat.util.map.OptMap;
@@ -69,8 +71,10 @@ import de.tudresden.inf.lat.util.map.OptMapImpl;
 /**
  * An object of this class classifies an ontology. It divides a set of axioms in
  * subsets such that they have disjoint sets of classes and properties. Then, it
- * uses the default processor to classify each subset. The resulting class and
- * property hierarchies are the union of the partial ones.
+ * uses the default processor to classify each subset. The subsets are
+ * classified concurrently, and each step of this processor merges the result
+ * of the next subset. The resulting class and property hierarchies are the
+ * union of the partial ones.
  * 
  * @author Julian Mendez
  */
@@ -79,19 +83,20 @@ public class ModuleProcessor implements Processor {
 	private static final Logger logger = Logger.getLogger(ModuleProcessor.class.getName());
 
 	private IntegerHierarchicalGraphImpl classHierarchy = null;
+	private ConcurrentModuleClassifier classifier = null;
 	private IntegerHierarchicalGraphImpl dataPropertyHierarchy = null;
 	private OptMap<Integer, Set<Integer>> directTypes = null;
 	private boolean isReady = false;
 	private Integer moduleIndex = 0;
 	private List<Set<ComplexIntegerAxiom>> moduleList = null;
+	private final int numberOfThreads;
 	private IntegerHierarchicalGraphImpl objectPropertyHierarchy = null;
-	private Processor processor = null;
 	private final ModuleProcessorFactory processorFactory;
 	private OptMap<Integer, Set<Integer>> sameIndividualMap = null;
 
 	/**
 	 * Constructs a new module processor. It uses an auxiliary processor to
-	 * classify each module.
+	 * classify each module, and uses as many threads as available processors.
 	 * 
 	 * @param axiomSet
 	 *            set of axioms
@@ -99,69 +104,77 @@ public class ModuleProcessor implements Processor {
 	 *            factory to create the auxiliary processor
 	 */
 	public ModuleProcessor(Set<ComplexIntegerAxiom> axiomSet, ModuleProcessorFactory factory) {
+		this(axiomSet, factory, ConcurrentModuleClassifier.getDefaultNumberOfThreads());
+	}
+
+	/**
+	 * Constructs a new module processor. It uses an auxiliary processor to
+	 * classify each module.
+	 * 
+	 * @param axiomSet
+	 *            set of axioms
+	 * @param factory
+	 *            factory to create the auxiliary processor
+	 * @param numberOfThreads
+	 *            maximum number of modules classified at the same time
+	 * @throws IllegalArgumentException
+	 *             if the number of threads is not positive
+	 */
+	public ModuleProcessor(Set<ComplexIntegerAxiom> axiomSet, ModuleProcessorFactory factory, int numberOfThreads) {
 		Objects.requireNonNull(axiomSet);
 		Objects.requireNonNull(factory);
+		if (numberOfThreads < 1) {
+			throw new IllegalArgumentException("Invalid number of threads: '" + numberOfThreads + "'.");
+		}
 		this.processorFactory = factory;
+		this.numberOfThreads = numberOfThreads;
 		preProcess(axiomSet);
 	}
 
-	private boolean containsAnyClass(Set<Integer> a, Set<Integer> b) {
-		return b.stream()
-				.filter(elem -> (!elem.equals(IntegerEntityManager.bottomClassId)
-						&& !elem.equals(IntegerEntityManager.topClassId))) //
-				.anyMatch(elem -> a.contains(elem));
-	}
-
-	private boolean containsAnyProperty(Set<Integer> a, Set<Integer> b) {
-		return b.stream()
-				.filter(elem -> (!elem.equals(IntegerEntityManager.bottomObjectPropertyId)
-						&& !elem.equals(IntegerEntityManager.topObjectPropertyId))) //
-				.anyMatch(elem -> a.contains(elem));
-	}
-
 	/**
 	 * Divides a set of axioms in subsets that have disjoint sets of classes and
-	 * properties.
+	 * properties. The top and bottom classes and the top and bottom object
+	 * properties do not connect axioms. The classes and object properties are
+	 * first joined in a single pass over the axioms using union-find, and then
+	 * each axiom is put in the subset of its component. The subsets are listed
+	 * in the order in which their first axiom is found.
 	 * 
 	 * @param axiomSet
 	 *            the set of axioms
 	 * @return the subsets with disjoint symbols
 	 */
-	private List<Set<ComplexIntegerAxiom>> findModules(Set<ComplexIntegerAxiom> axiomSet) {
-		List<Set<ComplexIntegerAxiom>> ret = new ArrayList<>();
+	static List<Set<ComplexIntegerAxiom>> findModules(Set<ComplexIntegerAxiom> axiomSet) {
 		Set<ComplexIntegerAxiom> toBeGrouped = new HashSet<>();
 		toBeGrouped.addAll(axiomSet);
-		while (!toBeGrouped.isEmpty()) {
-			ComplexIntegerAxiom firstAxiom = toBeGrouped.iterator().next();
-			toBeGrouped.remove(firstAxiom);
-			Set<ComplexIntegerAxiom> group = new HashSet<>();
-			group.add(firstAxiom);
 
-			Set<Integer> classSet = new HashSet<>();
-			classSet.addAll(firstAxiom.getClassesInSignature());
-			Set<Integer> propertySet = new HashSet<>();
-			propertySet.addAll(firstAxiom.getObjectPropertiesInSignature());
+		IntegerUnionFind components = new IntegerUnionFind();
+		OptMap<ComplexIntegerAxiom, Integer> firstSymbol = new OptMapImpl<>(new HashMap<>());
+		toBeGrouped.forEach(axiom -> {
+			List<Integer> symbols = getSymbols(axiom);
+			if (!symbols.isEmpty()) {
+				int first = symbols.get(0);
+				firstSymbol.put(axiom, first);
+				symbols.forEach(symbol -> components.union(first, symbol));
+			}
+		});
 
-			boolean found = true;
-			while (found) {
-				found = false;
-				Set<ComplexIntegerAxiom> toVisit = new HashSet<>();
-				toVisit.addAll(toBeGrouped);
-				for (ComplexIntegerAxiom currentAxiom : toVisit) {
-					Set<Integer> classesInSignature = currentAxiom.getClassesInSignature();
-					Set<Integer> propertiesInSignature = currentAxiom.getObjectPropertiesInSignature();
-					if (containsAnyClass(classSet, classesInSignature)
-							|| containsAnyProperty(propertySet, propertiesInSignature)) {
-						toBeGrouped.remove(currentAxiom);
-						propertySet.addAll(propertiesInSignature);
-						classSet.addAll(classesInSignature);
-						group.add(currentAxiom);
-						found = true;
-					}
+		List<Set<ComplexIntegerAxiom>> ret = new ArrayList<>();
+		OptMap<Integer, Set<ComplexIntegerAxiom>> moduleMap = new OptMapImpl<>(new HashMap<>());
+		toBeGrouped.forEach(axiom -> {
+			Optional<Integer> optSymbol = firstSymbol.get(axiom);
+			Optional<Set<ComplexIntegerAxiom>> optModule = Optional.empty();
+			if (optSymbol.isPresent()) {
+				optModule = moduleMap.get(components.find(optSymbol.get()));
+			}
+			if (!optModule.isPresent()) {
+				optModule = Optional.of(new HashSet<>());
+				ret.add(optModule.get());
+				if (optSymbol.isPresent()) {
+					moduleMap.put(components.find(optSymbol.get()), optModule.get());
 				}
 			}
-			ret.add(group);
-		}
+			optModule.get().add(axiom);
+		});
 		return ret;
 	}
 
@@ -210,6 +223,29 @@ public class ModuleProcessor implements Processor {
 		return ret;
 	}
 
+	/**
+	 * Returns the classes and object properties of an axiom that connect it to
+	 * other axioms, i.e. all except the top and bottom classes and the top and
+	 * bottom object properties.
+	 * 
+	 * @param axiom
+	 *            axiom
+	 * @return the classes and object properties of an axiom that connect it
+	 *         to other axioms
+	 */
+	private static List<Integer> getSymbols(ComplexIntegerAxiom axiom) {
+		List<Integer> ret = new ArrayList<>();
+		axiom.getClassesInSignature().stream()
+				.filter(elem -> (!elem.equals(IntegerEntityManager.bottomClassId)
+						&& !elem.equals(IntegerEntityManager.topClassId))) //
+				.forEach(elem -> ret.add(elem));
+		axiom.getObjectPropertiesInSignature().stream()
+				.filter(elem -> (!elem.equals(IntegerEntityManager.bottomObjectPropertyId)
+						&& !elem.equals(IntegerEntityManager.topObjectPropertyId))) //
+				.forEach(elem -> ret.add(elem));
+		return ret;
+	}
+
 	@Override
 	public boolean isReady() {
 		return this.isReady;
@@ -240,32 +276,27 @@ public class ModuleProcessor implements Processor {
 
 		logger.fine("");
 		logger.fine("");
-		logger.fine("classifying module " + this.moduleIndex + " ...");
+		logger.fine("classifying modules using " + this.numberOfThreads + " threads ...");
 
-		this.processor = this.processorFactory.createProcessor(this.moduleList.get(this.moduleIndex));
+		this.classifier = new ConcurrentModuleClassifier(this.moduleList, this.processorFactory, this.numberOfThreads);
 	}
 
 	@Override
 	public boolean process() {
 		if (!this.isReady) {
-			boolean hasMoreEntries = this.processor.process();
-			if (!hasMoreEntries) {
-				this.classHierarchy.disjointUnion(this.processor.getClassHierarchy());
-				this.objectPropertyHierarchy.disjointUnion(this.processor.getObjectPropertyHierarchy());
-				this.directTypes.putAll(this.processor.getDirectTypes());
-				this.sameIndividualMap.putAll(this.processor.getSameIndividualMap());
-				this.processor = null;
+			if (this.classifier.hasNext()) {
+				Processor moduleProcessor = this.classifier.next();
+				this.classHierarchy.disjointUnion(moduleProcessor.getClassHierarchy());
+				this.objectPropertyHierarchy.disjointUnion(moduleProcessor.getObjectPropertyHierarchy());
+				this.directTypes.putAll(moduleProcessor.getDirectTypes());
+				this.sameIndividualMap.putAll(moduleProcessor.getSameIndividualMap());
 				logger.fine("module " + this.moduleIndex + " has been classified.");
 				logger.fine("");
 				this.moduleIndex++;
-				if (this.moduleIndex < this.moduleList.size()) {
-					hasMoreEntries = true;
-					logger.fine("classifying module " + this.moduleIndex + " ...");
-					this.processor = this.processorFactory.createProcessor(this.moduleList.get(this.moduleIndex));
-				}
-				if (!hasMoreEntries) {
-					this.isReady = true;
-				}
+			}
+			if (!this.classifier.hasNext()) {
+				this.classifier = null;
+				this.isReady = true;
 			}
 		}
 		return !this.isReady;
@@ -46,13 +46,18 @@
 
 package de.tudresden.inf.lat.jcel.reasoner.module;
 
+import java.util.HashSet;
 import java.util.Set;
 
 import de.tudresden.inf.lat.jcel.core.algorithm.common.Processor;
 import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiom;
 
 /**
- * This interface provides a method to create a processor.
+ * This interface provides a method to create a processor. <br>
+ * The methods of a factory are called concurrently by the threads of a
+ * {@link ConcurrentModuleClassifier}, one call for each module. Therefore,
+ * implementations must be thread-safe. The processors themselves are not
+ * shared, so each one is only used by the thread that created it.
  * 
  * @author Julian Mendez
  * 
@@ -60,7 +65,8 @@ import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiom;
 public interface ModuleProcessorFactory {
 
 	/**
-	 * Creates a new processor.
+	 * Creates a new processor. This method can be called concurrently from
+	 * several threads.
 	 * 
 	 * @param axioms
 	 *            set of axioms to process
@@ -68,4 +74,23 @@ public interface ModuleProcessorFactory {
 	 */
 	public Processor createProcessor(Set<ComplexIntegerAxiom> axioms);
 
+	/**
+	 * Creates a new processor for a module that consists of a set of base
+	 * axioms and the axioms of the module. The set of base axioms is the same
+	 * for all the modules of a classification, so a factory can saturate them
+	 * only once, but then the saturation must be guarded against concurrent
+	 * calls. By default, the processor is created for the union of both sets.
+	 * 
+	 * @param baseAxioms
+	 *            set of base axioms, which are shared by all the modules
+	 * @param axioms
+	 *            set of axioms of the module
+	 * @return a new processor
+	 */
+	default Processor createProcessor(Set<ComplexIntegerAxiom> baseAxioms, Set<ComplexIntegerAxiom> axioms) {
+		Set<ComplexIntegerAxiom> module = new HashSet<>(baseAxioms);
+		module.addAll(axioms);
+		return createProcessor(module);
+	}
+
 }
@@ -0,0 +1,234 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.reasoner.module;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import de.tudresden.inf.lat.jcel.core.algorithm.common.Processor;
+import de.tudresden.inf.lat.jcel.core.algorithm.rulebased.CompletionRuleChainSelector;
+import de.tudresden.inf.lat.jcel.core.algorithm.rulebased.RuleBasedProcessor;
+import de.tudresden.inf.lat.jcel.core.algorithm.rulebased.SaturatedLayer;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.OntologyExpressivity;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.extension.ComplexAxiomExpressivityDetector;
+import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactory;
+import de.tudresden.inf.lat.jcel.ontology.normalization.OntologyNormalizer;
+
+/**
+ * An object of this class creates a rule-based processor for each module. The
+ * expressivity is detected for each module, and so are the completion rules.
+ * Therefore, a module in EL or EL+ is classified with the basic completion
+ * rules, even if other modules have inverse or functional object properties
+ * and need the extended completion rules. <br>
+ * The base axioms shared by the modules are normalized once, and saturated
+ * once for each set of completion rules. The processor of each module starts
+ * from that saturated base layer, unless the module needs the extended
+ * completion rules. <br>
+ * This factory is thread-safe. The base layers are computed and cached under
+ * the lock of the factory, and each processor is created and normalized on
+ * the calling thread.
+ * 
+ * @author Julian Mendez
+ * 
+ */
+public class RuleBasedModuleProcessorFactory implements ModuleProcessorFactory {
+
+	private static final Logger logger = Logger.getLogger(RuleBasedModuleProcessorFactory.class.getName());
+
+	private Set<ComplexIntegerAxiom> baseAxiomSet = null;
+	private final Set<Integer> baseClassSet = new HashSet<>();
+	private final List<SaturatedLayer> baseLayers = new ArrayList<>();
+	private final Set<NormalizedIntegerAxiom> baseNormalizedAxiomSet = new HashSet<>();
+	private final Set<Integer> baseObjectPropertySet = new HashSet<>();
+	private final IntegerOntologyObjectFactory factory;
+
+	/**
+	 * Constructs a new factory of rule-based processors.
+	 * 
+	 * @param factory
+	 *            factory of integer ontology objects, which is shared by all
+	 *            the processors
+	 */
+	public RuleBasedModuleProcessorFactory(IntegerOntologyObjectFactory factory) {
+		Objects.requireNonNull(factory);
+		this.factory = factory;
+	}
+
+	private void collectSignature(Set<ComplexIntegerAxiom> axioms, Set<Integer> classSet,
+			Set<Integer> objectPropertySet) {
+		axioms.forEach(axiom -> {
+			classSet.addAll(axiom.getClassesInSignature());
+			objectPropertySet.addAll(axiom.getObjectPropertiesInSignature());
+		});
+	}
+
+	/**
+	 * Creates a normalizer that runs on the calling thread. The processors
+	 * are created by the threads that classify the modules concurrently, so
+	 * a normalizer with its own pool of threads in each of them would start
+	 * as many threads as the number of modules classified at the same time
+	 * multiplied by the number of processors.
+	 * 
+	 * @return a normalizer that runs on the calling thread
+	 */
+	private OntologyNormalizer createNormalizer() {
+		return new OntologyNormalizer(1);
+	}
+
+	@Override
+	public Processor createProcessor(Set<ComplexIntegerAxiom> axioms) {
+		Objects.requireNonNull(axioms);
+		OntologyExpressivity expressivity = new ComplexAxiomExpressivityDetector(axioms);
+		logger.fine("description logic family of module : " + expressivity.toString() + " .");
+
+		Set<Integer> originalClassSet = new HashSet<>();
+		Set<Integer> originalObjectPropertySet = new HashSet<>();
+		collectSignature(axioms, originalClassSet, originalObjectPropertySet);
+
+		OntologyNormalizer axiomNormalizer = createNormalizer();
+		Set<NormalizedIntegerAxiom> normalizedAxiomSet = axiomNormalizer.normalize(axioms, this.factory);
+
+		return new RuleBasedProcessor(originalObjectPropertySet, originalClassSet, normalizedAxiomSet, expressivity,
+				this.factory.getNormalizedAxiomFactory(), this.factory.getEntityManager());
+	}
+
+	/**
+	 * Creates a new processor for a module that starts from the saturated
+	 * base axioms. If the module needs the extended completion rules, the
+	 * processor classifies the union of both sets instead.
+	 * 
+	 * @param baseAxioms
+	 *            set of base axioms, which are shared by all the modules
+	 * @param axioms
+	 *            set of axioms of the module
+	 * @return a new processor
+	 */
+	@Override
+	public Processor createProcessor(Set<ComplexIntegerAxiom> baseAxioms, Set<ComplexIntegerAxiom> axioms) {
+		Objects.requireNonNull(baseAxioms);
+		Objects.requireNonNull(axioms);
+		Set<ComplexIntegerAxiom> module = new HashSet<>(baseAxioms);
+		module.addAll(axioms);
+		OntologyExpressivity expressivity = new ComplexAxiomExpressivityDetector(module);
+
+		Processor ret = null;
+		if (baseAxioms.isEmpty() || new CompletionRuleChainSelector(expressivity).isExtendedRulesActive()) {
+			ret = createProcessor(module);
+
+		} else {
+			logger.fine("description logic family of module : " + expressivity.toString() + " .");
+			SaturatedLayer baseLayer = getBaseLayer(baseAxioms, expressivity);
+
+			Set<Integer> originalClassSet = new HashSet<>();
+			Set<Integer> originalObjectPropertySet = new HashSet<>();
+			collectSignature(axioms, originalClassSet, originalObjectPropertySet);
+
+			OntologyNormalizer axiomNormalizer = createNormalizer();
+			Set<NormalizedIntegerAxiom> normalizedAxiomSet = axiomNormalizer.normalize(axioms, this.factory);
+
+			ret = new RuleBasedProcessor(originalObjectPropertySet, originalClassSet, normalizedAxiomSet,
+					expressivity, this.factory.getNormalizedAxiomFactory(), this.factory.getEntityManager(),
+					baseLayer);
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the base layer of the given base axioms saturated with the
+	 * completion rules of the given expressivity. The layers are kept, with
+	 * an unmodifiable copy of the base axioms, until a set of base axioms
+	 * that is not equal to that copy is given.
+	 * 
+	 * @param baseAxioms
+	 *            set of base axioms
+	 * @param expressivity
+	 *            expressivity of the module
+	 * @return the base layer of the given base axioms
+	 */
+	synchronized SaturatedLayer getBaseLayer(Set<ComplexIntegerAxiom> baseAxioms, OntologyExpressivity expressivity) {
+		if (Objects.isNull(this.baseAxiomSet) || !this.baseAxiomSet.equals(baseAxioms)) {
+			this.baseAxiomSet = Collections.unmodifiableSet(new HashSet<>(baseAxioms));
+			this.baseLayers.clear();
+			this.baseClassSet.clear();
+			this.baseObjectPropertySet.clear();
+			collectSignature(baseAxioms, this.baseClassSet, this.baseObjectPropertySet);
+			this.baseNormalizedAxiomSet.clear();
+			this.baseNormalizedAxiomSet.addAll(createNormalizer().normalize(baseAxioms, this.factory));
+		}
+
+		CompletionRuleChainSelector selector = new CompletionRuleChainSelector(expressivity);
+		Optional<SaturatedLayer> optLayer = this.baseLayers.stream()
+				.filter(layer -> layer.getChainSelector().usesSameRules(selector)).findFirst();
+		if (!optLayer.isPresent()) {
+			logger.fine("saturating base layer of " + baseAxioms.size() + " axioms ...");
+			optLayer = Optional.of(new SaturatedLayer(this.baseObjectPropertySet, this.baseClassSet,
+					this.baseNormalizedAxiomSet, expressivity, this.factory.getNormalizedAxiomFactory(),
+					this.factory.getEntityManager()));
+			this.baseLayers.add(optLayer.get());
+			logger.fine("base layer saturated.");
+		}
+		return optLayer.get();
+	}
+
+	/**
+	 * Returns the factory of integer ontology objects.
+	 * 
+	 * @return the factory of integer ontology objects
+	 */
+	public IntegerOntologyObjectFactory getOntologyObjectFactory() {
+		return this.factory;
+	}
+
+}
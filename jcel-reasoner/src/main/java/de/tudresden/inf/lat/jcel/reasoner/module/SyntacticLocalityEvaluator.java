@@ -0,0 +1,400 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.reasoner.module;
+
+import java.util.Objects;
+import java.util.Set;
+
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiomVisitor;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerClassAssertionAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerClassDeclarationAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerDataPropertyAssertionAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerDataPropertyDeclarationAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerDifferentIndividualsAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerDisjointClassesAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerEquivalentClassesAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerEquivalentObjectPropertiesAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerFunctionalObjectPropertyAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerInverseFunctionalObjectPropertyAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerInverseObjectPropertiesAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerNamedIndividualDeclarationAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerNegativeObjectPropertyAssertionAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerObjectPropertyAssertionAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerObjectPropertyDeclarationAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerPropertyRangeAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerReflexiveObjectPropertyAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerSameIndividualAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerSubClassOfAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerSubObjectPropertyOfAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerSubPropertyChainOfAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerTransitiveObjectPropertyAxiom;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerClass;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerClassExpression;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerClassExpressionVisitor;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerDataHasValue;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerDataSomeValuesFrom;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerNamedIndividual;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerObjectIntersectionOf;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerObjectOneOf;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerObjectPropertyExpression;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerObjectSomeValuesFrom;
+
+/**
+ * An object of this class tells whether a complex axiom is syntactically local
+ * with respect to a signature. An axiom is &perp;-local if it is a tautology
+ * after replacing every class and property outside the signature by the bottom
+ * class or bottom property, and it is &#8868;-local if it is a tautology after
+ * replacing them by the top class or top property. The top and bottom classes
+ * and properties are always considered part of the signature. The signature is
+ * read each time an axiom is visited, so it can grow between visits.
+ * 
+ * @author Julian Mendez
+ */
+class SyntacticLocalityEvaluator implements ComplexIntegerAxiomVisitor<Boolean> {
+
+	/**
+	 * Kind of syntactic locality.
+	 * <ul>
+	 * <li>BOTTOM : entities outside the signature are replaced by bottom</li>
+	 * <li>TOP : entities outside the signature are replaced by top</li>
+	 * </ul>
+	 */
+	enum Locality {
+		BOTTOM, TOP
+	}
+
+	private static final Integer bottomClassId = IntegerEntityManager.bottomClassId;
+	private static final Integer topClassId = IntegerEntityManager.topClassId;
+
+	private final BottomEquivalenceEvaluator bottomEvaluator = new BottomEquivalenceEvaluator();
+	private final Locality locality;
+	private final Set<Integer> signature;
+	private final TopEquivalenceEvaluator topEvaluator = new TopEquivalenceEvaluator();
+
+	/**
+	 * Constructs a new syntactic locality evaluator.
+	 * 
+	 * @param signature
+	 *            signature
+	 * @param locality
+	 *            kind of syntactic locality
+	 */
+	SyntacticLocalityEvaluator(Set<Integer> signature, Locality locality) {
+		Objects.requireNonNull(signature);
+		Objects.requireNonNull(locality);
+		this.signature = signature;
+		this.locality = locality;
+	}
+
+	private boolean isBottomEquivalent(IntegerClassExpression classExpression) {
+		return classExpression.accept(this.bottomEvaluator);
+	}
+
+	private boolean isBottomLocality() {
+		return this.locality.equals(Locality.BOTTOM);
+	}
+
+	private boolean isInSignature(IntegerObjectPropertyExpression propertyExpression) {
+		return propertyExpression.getObjectPropertiesInSignature().stream().anyMatch(this::isInSignature);
+	}
+
+	private boolean isInSignature(Integer entity) {
+		return entity < IntegerEntityManager.firstUsableIdentifier || this.signature.contains(entity);
+	}
+
+	private boolean isTopEquivalent(IntegerClassExpression classExpression) {
+		return classExpression.accept(this.topEvaluator);
+	}
+
+	@Override
+	public Boolean visit(IntegerClassAssertionAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		return isTopEquivalent(axiom.getClassExpression());
+	}
+
+	@Override
+	public Boolean visit(IntegerClassDeclarationAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		return true;
+	}
+
+	@Override
+	public Boolean visit(IntegerDataPropertyAssertionAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		return !isBottomLocality() && !isInSignature(axiom.getProperty());
+	}
+
+	@Override
+	public Boolean visit(IntegerDataPropertyDeclarationAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		return true;
+	}
+
+	@Override
+	public Boolean visit(IntegerDifferentIndividualsAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		return false;
+	}
+
+	@Override
+	public Boolean visit(IntegerDisjointClassesAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		return axiom.getClassExpressions().stream().filter(operand -> !isBottomEquivalent(operand)).count() <= 1;
+	}
+
+	@Override
+	public Boolean visit(IntegerEquivalentClassesAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		Set<IntegerClassExpression> operands = axiom.getClassExpressions();
+		return operands.stream().allMatch(this::isBottomEquivalent)
+				|| operands.stream().allMatch(this::isTopEquivalent);
+	}
+
+	@Override
+	public Boolean visit(IntegerEquivalentObjectPropertiesAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		return axiom.getProperties().stream().noneMatch(this::isInSignature);
+	}
+
+	@Override
+	public Boolean visit(IntegerFunctionalObjectPropertyAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		return isBottomLocality() && !isInSignature(axiom.getProperty());
+	}
+
+	@Override
+	public Boolean visit(IntegerInverseFunctionalObjectPropertyAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		return isBottomLocality() && !isInSignature(axiom.getProperty());
+	}
+
+	@Override
+	public Boolean visit(IntegerInverseObjectPropertiesAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		return !isInSignature(axiom.getFirstProperty()) && !isInSignature(axiom.getSecondProperty());
+	}
+
+	@Override
+	public Boolean visit(IntegerNamedIndividualDeclarationAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		return true;
+	}
+
+	@Override
+	public Boolean visit(IntegerNegativeObjectPropertyAssertionAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		return isBottomLocality() && !isInSignature(axiom.getProperty());
+	}
+
+	@Override
+	public Boolean visit(IntegerObjectPropertyAssertionAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		return !isBottomLocality() && !isInSignature(axiom.getProperty());
+	}
+
+	@Override
+	public Boolean visit(IntegerObjectPropertyDeclarationAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		return true;
+	}
+
+	@Override
+	public Boolean visit(IntegerPropertyRangeAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		return (isBottomLocality() && !isInSignature(axiom.getProperty())) || isTopEquivalent(axiom.getRange());
+	}
+
+	@Override
+	public Boolean visit(IntegerReflexiveObjectPropertyAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		return !isBottomLocality() && !isInSignature(axiom.getProperty());
+	}
+
+	@Override
+	public Boolean visit(IntegerSameIndividualAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		return false;
+	}
+
+	@Override
+	public Boolean visit(IntegerSubClassOfAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		return isBottomEquivalent(axiom.getSubClass()) || isTopEquivalent(axiom.getSuperClass());
+	}
+
+	@Override
+	public Boolean visit(IntegerSubObjectPropertyOfAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		boolean ret = false;
+		if (isBottomLocality()) {
+			ret = !isInSignature(axiom.getSubProperty());
+		} else {
+			ret = !isInSignature(axiom.getSuperProperty());
+		}
+		return ret;
+	}
+
+	@Override
+	public Boolean visit(IntegerSubPropertyChainOfAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		boolean ret = false;
+		if (isBottomLocality()) {
+			ret = !axiom.getPropertyChain().stream().allMatch(this::isInSignature);
+		} else {
+			ret = !isInSignature(axiom.getSuperProperty());
+		}
+		return ret;
+	}
+
+	@Override
+	public Boolean visit(IntegerTransitiveObjectPropertyAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		return !isInSignature(axiom.getProperty());
+	}
+
+	/**
+	 * An object of this class tells whether a class expression is equivalent
+	 * to the bottom class after replacing the entities outside the signature.
+	 */
+	private class BottomEquivalenceEvaluator implements IntegerClassExpressionVisitor<Boolean> {
+
+		BottomEquivalenceEvaluator() {
+		}
+
+		@Override
+		public Boolean visit(IntegerClass classExpression) {
+			Integer classId = classExpression.getId();
+			return classId.equals(bottomClassId)
+					|| (isBottomLocality() && !classId.equals(topClassId) && !isInSignature(classId));
+		}
+
+		@Override
+		public Boolean visit(IntegerDataHasValue classExpression) {
+			return isBottomLocality() && !isInSignature(classExpression.getProperty());
+		}
+
+		@Override
+		public Boolean visit(IntegerDataSomeValuesFrom classExpression) {
+			return (isBottomLocality() && !isInSignature(classExpression.getProperty()))
+					|| isBottomEquivalent(classExpression.getFiller());
+		}
+
+		@Override
+		public Boolean visit(IntegerNamedIndividual namedIndividual) {
+			return false;
+		}
+
+		@Override
+		public Boolean visit(IntegerObjectIntersectionOf classExpression) {
+			return classExpression.getOperands().stream().anyMatch(operand -> isBottomEquivalent(operand));
+		}
+
+		@Override
+		public Boolean visit(IntegerObjectOneOf classExpression) {
+			return false;
+		}
+
+		@Override
+		public Boolean visit(IntegerObjectSomeValuesFrom classExpression) {
+			return (isBottomLocality() && !isInSignature(classExpression.getProperty()))
+					|| isBottomEquivalent(classExpression.getFiller());
+		}
+
+	}
+
+	/**
+	 * An object of this class tells whether a class expression is equivalent
+	 * to the top class after replacing the entities outside the signature.
+	 */
+	private class TopEquivalenceEvaluator implements IntegerClassExpressionVisitor<Boolean> {
+
+		TopEquivalenceEvaluator() {
+		}
+
+		@Override
+		public Boolean visit(IntegerClass classExpression) {
+			Integer classId = classExpression.getId();
+			return classId.equals(topClassId)
+					|| (!isBottomLocality() && !classId.equals(bottomClassId) && !isInSignature(classId));
+		}
+
+		@Override
+		public Boolean visit(IntegerDataHasValue classExpression) {
+			return false;
+		}
+
+		@Override
+		public Boolean visit(IntegerDataSomeValuesFrom classExpression) {
+			return !isBottomLocality() && !isInSignature(classExpression.getProperty())
+					&& isTopEquivalent(classExpression.getFiller());
+		}
+
+		@Override
+		public Boolean visit(IntegerNamedIndividual namedIndividual) {
+			return false;
+		}
+
+		@Override
+		public Boolean visit(IntegerObjectIntersectionOf classExpression) {
+			return classExpression.getOperands().stream().allMatch(operand -> isTopEquivalent(operand));
+		}
+
+		@Override
+		public Boolean visit(IntegerObjectOneOf classExpression) {
+			return false;
+		}
+
+		@Override
+		public Boolean visit(IntegerObjectSomeValuesFrom classExpression) {
+			return !isBottomLocality() && !isInSignature(classExpression.getProperty())
+					&& isTopEquivalent(classExpression.getFiller());
+		}
+
+	}
+
+}
@@ -0,0 +1,208 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.reasoner.module;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerDeclarationAxiom;
+import de.tudresden.inf.lat.jcel.reasoner.module.SyntacticLocalityEvaluator.Locality;
+import de.tudresden.inf.lat.util.map.OptMap;
+import de.tudresden.inf.lat.util.map.OptMapImpl;
+
+/**
+ * An object of this class extracts modules based on syntactic locality, i.e.
+ * subsets of axioms that have the same entailments over a given signature as
+ * the whole set of axioms. <br>
+ * Each axiom is indexed by the entities in its signature. The locality of an
+ * axiom can only change when one of its entities is added to the signature of
+ * the module, so only the axioms indexed by the new entities are checked
+ * again. The declarations of the entities in the signature of the module are
+ * added at the end.
+ * 
+ * @author Julian Mendez
+ */
+public class SyntacticLocalityModuleExtractor {
+
+	private final LocalityModuleType moduleType;
+
+	/**
+	 * Constructs a new extractor of &perp;-modules.
+	 */
+	public SyntacticLocalityModuleExtractor() {
+		this(LocalityModuleType.BOTTOM);
+	}
+
+	/**
+	 * Constructs a new module extractor.
+	 * 
+	 * @param moduleType
+	 *            kind of module
+	 */
+	public SyntacticLocalityModuleExtractor(LocalityModuleType moduleType) {
+		Objects.requireNonNull(moduleType);
+		this.moduleType = moduleType;
+	}
+
+	private void addToModule(ComplexIntegerAxiom axiom, Set<ComplexIntegerAxiom> module, Set<Integer> signature,
+			Deque<Integer> entitiesToVisit) {
+		module.add(axiom);
+		getEntities(axiom).forEach(entity -> {
+			if (signature.add(entity)) {
+				entitiesToVisit.push(entity);
+			}
+		});
+	}
+
+	private OptMap<Integer, Set<ComplexIntegerAxiom>> buildMapOfAxioms(Set<ComplexIntegerAxiom> axioms) {
+		OptMap<Integer, Set<ComplexIntegerAxiom>> map = new OptMapImpl<>(new HashMap<>());
+		axioms.forEach(axiom -> getEntities(axiom).forEach(entity -> {
+			Optional<Set<ComplexIntegerAxiom>> optValue = map.get(entity);
+			if (!optValue.isPresent()) {
+				optValue = Optional.of(new HashSet<>());
+				map.put(entity, optValue.get());
+			}
+			optValue.get().add(axiom);
+		}));
+		return map;
+	}
+
+	/**
+	 * Returns a module of the given axioms for the given signature.
+	 * 
+	 * @param axioms
+	 *            set of axioms
+	 * @param seedSignature
+	 *            signature of the module
+	 * @return a module of the given axioms for the given signature
+	 */
+	public Set<ComplexIntegerAxiom> extractModule(Set<ComplexIntegerAxiom> axioms, Set<Integer> seedSignature) {
+		Objects.requireNonNull(axioms);
+		Objects.requireNonNull(seedSignature);
+
+		Set<ComplexIntegerAxiom> ret = extractModuleWithoutDeclarations(axioms, seedSignature);
+		Set<Integer> signature = new HashSet<>(seedSignature);
+		ret.forEach(axiom -> signature.addAll(getEntities(axiom)));
+		axioms.stream().filter(axiom -> axiom instanceof IntegerDeclarationAxiom)
+				.filter(axiom -> signature.contains(((IntegerDeclarationAxiom) axiom).getEntity()))
+				.forEach(axiom -> ret.add(axiom));
+		return ret;
+	}
+
+	private Set<ComplexIntegerAxiom> extractModule(Set<ComplexIntegerAxiom> axioms, Set<Integer> seedSignature,
+			Locality locality) {
+		Set<ComplexIntegerAxiom> ret = new HashSet<>();
+		Set<Integer> signature = new HashSet<>(seedSignature);
+		SyntacticLocalityEvaluator evaluator = new SyntacticLocalityEvaluator(signature, locality);
+		OptMap<Integer, Set<ComplexIntegerAxiom>> map = buildMapOfAxioms(axioms);
+		Deque<Integer> entitiesToVisit = new ArrayDeque<>();
+
+		axioms.forEach(axiom -> {
+			if (!ret.contains(axiom) && !axiom.accept(evaluator)) {
+				addToModule(axiom, ret, signature, entitiesToVisit);
+			}
+		});
+
+		while (!entitiesToVisit.isEmpty()) {
+			Integer entity = entitiesToVisit.pop();
+			Optional<Set<ComplexIntegerAxiom>> optAxioms = map.get(entity);
+			if (optAxioms.isPresent()) {
+				optAxioms.get().forEach(axiom -> {
+					if (!ret.contains(axiom) && !axiom.accept(evaluator)) {
+						addToModule(axiom, ret, signature, entitiesToVisit);
+					}
+				});
+			}
+		}
+		return ret;
+	}
+
+	private Set<ComplexIntegerAxiom> extractModuleWithoutDeclarations(Set<ComplexIntegerAxiom> axioms,
+			Set<Integer> seedSignature) {
+		Set<ComplexIntegerAxiom> ret = extractModule(axioms, seedSignature, Locality.BOTTOM);
+		if (this.moduleType.equals(LocalityModuleType.TOP_BOTTOM_STAR)) {
+			int size = 0;
+			do {
+				size = ret.size();
+				ret = extractModule(ret, seedSignature, Locality.TOP);
+				ret = extractModule(ret, seedSignature, Locality.BOTTOM);
+			} while (ret.size() < size);
+		}
+		return ret;
+	}
+
+	private Set<Integer> getEntities(ComplexIntegerAxiom axiom) {
+		Set<Integer> ret = new HashSet<>();
+		ret.addAll(axiom.getClassesInSignature());
+		ret.addAll(axiom.getObjectPropertiesInSignature());
+		ret.addAll(axiom.getDataPropertiesInSignature());
+		ret.addAll(axiom.getIndividualsInSignature());
+		ret.addAll(axiom.getDatatypesInSignature());
+		return ret;
+	}
+
+	/**
+	 * Returns the kind of module extracted.
+	 * 
+	 * @return the kind of module extracted
+	 */
+	public LocalityModuleType getModuleType() {
+		return this.moduleType;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "(" + this.moduleType + ")";
+	}
+
+}
@@ -0,0 +1,202 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package de.tudresden.inf.lat.jcel.reasoner.main;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import de.tudresden.inf.lat.jcel.core.algorithm.rulebased.QueuePriority;
+import de.tudresden.inf.lat.jcel.core.algorithm.rulebased.RuleBasedProcessor;
+import de.tudresden.inf.lat.jcel.core.algorithm.rulebased.SchedulingStrategy;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactory;
+import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactoryImpl;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerClass;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerObjectProperty;
+
+/**
+ * Tests for the options of the rule-based reasoner.
+ * 
+ * @see RuleBasedReasonerConfiguration
+ * 
+ * @author Julian Mendez
+ */
+public class RuleBasedReasonerConfigurationTest {
+
+	/**
+	 * Constructs a new set of tests for the options of the rule-based
+	 * reasoner.
+	 */
+	public RuleBasedReasonerConfigurationTest() {
+	}
+
+	/**
+	 * Classifies a small ontology with the given configuration, and returns
+	 * the names of the superclasses of each class.
+	 * <ol>
+	 * <li>F \u2291 E ,</li>
+	 * <li>E \u2291 D ,</li>
+	 * <li>D \u2291 E ,</li>
+	 * <li>C \u2291 &exist; r <i>.</i> F ,</li>
+	 * <li>&exist; s <i>.</i> D \u2291 B ,</li>
+	 * <li>r \u2291 s ,</li>
+	 * <li>A \u2291 C</li>
+	 * </ol>
+	 * 
+	 * @param configuration
+	 *            configuration of the reasoner
+	 * @return the names of the superclasses of each class
+	 */
+	private List<Set<String>> classify(RuleBasedReasonerConfiguration configuration) {
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		IntegerOntologyObjectFactory factory = new IntegerOntologyObjectFactoryImpl();
+
+		List<IntegerClass> classes = new ArrayList<>();
+		for (String name : new String[] { "F", "E", "D", "C", "B", "A" }) {
+			classes.add(createNewClass(factory, name));
+		}
+		IntegerClass f = classes.get(0);
+		IntegerClass e = classes.get(1);
+		IntegerClass d = classes.get(2);
+		IntegerClass c = classes.get(3);
+		IntegerClass b = classes.get(4);
+		IntegerClass a = classes.get(5);
+		IntegerObjectProperty r = createNewObjectProperty(factory, "r");
+		IntegerObjectProperty s = createNewObjectProperty(factory, "s");
+
+		Set<ComplexIntegerAxiom> ontology = new HashSet<>();
+		ontology.add(factory.getComplexAxiomFactory().createSubClassOfAxiom(f, e, annotations));
+		ontology.add(factory.getComplexAxiomFactory().createSubClassOfAxiom(e, d, annotations));
+		ontology.add(factory.getComplexAxiomFactory().createSubClassOfAxiom(d, e, annotations));
+		ontology.add(factory.getComplexAxiomFactory().createSubClassOfAxiom(c,
+				factory.getDataTypeFactory().createObjectSomeValuesFrom(r, f), annotations));
+		ontology.add(factory.getComplexAxiomFactory()
+				.createSubClassOfAxiom(factory.getDataTypeFactory().createObjectSomeValuesFrom(s, d), b, annotations));
+		ontology.add(factory.getComplexAxiomFactory().createSubObjectPropertyOfAxiom(r, s, annotations));
+		ontology.add(factory.getComplexAxiomFactory().createSubClassOfAxiom(a, c, annotations));
+
+		RuleBasedReasoner reasoner = new RuleBasedReasoner(ontology, factory, configuration);
+		reasoner.classify();
+		Assertions.assertSame(configuration, reasoner.getConfiguration());
+		Assertions.assertEquals("" + configuration.isRenumberingActive(),
+				getConfigurationValue(reasoner, "told hierarchy renumbering"));
+		Assertions.assertTrue(getConfigurationValue(reasoner, "scheduler")
+				.startsWith(configuration.getSchedulingStrategy() + " " + configuration.getQueuePriority()));
+
+		List<Set<String>> ret = new ArrayList<>();
+		classes.forEach(classExpr -> {
+			Set<String> names = new TreeSet<>();
+			reasoner.getSuperClasses(classExpr, false).forEach(node -> node.forEach(
+					superClass -> names.add(factory.getEntityManager().getName(superClass.getId()))));
+			ret.add(names);
+		});
+		return ret;
+	}
+
+	private IntegerClass createNewClass(IntegerOntologyObjectFactory factory, String name) {
+		return factory.getDataTypeFactory()
+				.createClass(factory.getEntityManager().createNamedEntity(IntegerEntityType.CLASS, name, false));
+	}
+
+	private IntegerObjectProperty createNewObjectProperty(IntegerOntologyObjectFactory factory, String name) {
+		return factory.getDataTypeFactory().createObjectProperty(
+				factory.getEntityManager().createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, name, false));
+	}
+
+	private String getConfigurationValue(RuleBasedReasoner reasoner, String key) {
+		return ((RuleBasedProcessor) reasoner.getProcessor()).getConfigurationInfo().stream()
+				.filter(entry -> entry.getKey().equals(key)).map(Map.Entry::getValue).findFirst().get();
+	}
+
+	@Test
+	public void testRenumbering() {
+		RuleBasedReasonerConfiguration configuration = new RuleBasedReasonerConfiguration();
+		Assertions.assertFalse(configuration.isRenumberingActive());
+		List<Set<String>> expected = classify(configuration);
+		Assertions.assertTrue(expected.get(5).contains("B"));
+
+		RuleBasedReasonerConfiguration renumberingConfiguration = new RuleBasedReasonerConfiguration();
+		renumberingConfiguration.setRenumberingActive(true);
+		Assertions.assertEquals(expected, classify(renumberingConfiguration));
+	}
+
+	/**
+	 * Tests that every scheduling strategy, combined with every queue
+	 * priority, gives the same classification as the default options.
+	 * 
+	 * @return one test for each scheduling strategy and queue priority
+	 */
+	@TestFactory
+	public Stream<DynamicTest> testSchedulingStrategies() {
+		RuleBasedReasonerConfiguration defaultConfiguration = new RuleBasedReasonerConfiguration();
+		Assertions.assertEquals(SchedulingStrategy.SORTED, defaultConfiguration.getSchedulingStrategy());
+		Assertions.assertEquals(QueuePriority.LARGER_QUEUE, defaultConfiguration.getQueuePriority());
+		List<Set<String>> expected = classify(defaultConfiguration);
+
+		return Arrays.stream(SchedulingStrategy.values())
+				.flatMap(strategy -> Arrays.stream(QueuePriority.values())
+						.map(priority -> DynamicTest.dynamicTest(strategy + " " + priority, () -> {
+							RuleBasedReasonerConfiguration configuration = new RuleBasedReasonerConfiguration();
+							configuration.setSchedulingStrategy(strategy);
+							configuration.setQueuePriority(priority);
+							Assertions.assertEquals(expected, classify(configuration));
+						})));
+	}
+
+}
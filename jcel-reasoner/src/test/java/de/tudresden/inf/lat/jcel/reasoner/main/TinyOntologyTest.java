@@ -46,6 +46,7 @@
 
 package de.tudresden.inf.lat.jcel.reasoner.main;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.TreeSet;
@@ -387,6 +388,121 @@ public class TinyOntologyTest {
 		verifyBottomAndTop(factory, reasoner);
 	}
 
+	/**
+	 * <ol>
+	 * <li>A \u2291 &exist; r <i>.</i> A ,</li>
+	 * <li>A \u2291 B ,</li>
+	 * <li>r \u2291 s ,</li>
+	 * <li>&exist; s <i>.</i> B \u2291 C ,</li>
+	 * <li>D \u2291 E ,</li>
+	 * <li>F \u2291 &perp; ,</li>
+	 * <li>G \u2291 F</li>
+	 * </ol>
+	 * &vDash;
+	 * <ul>
+	 * <li>A \u2291 C</li>
+	 * <li>G &equiv; F</li>
+	 * </ul>
+	 * The queries are answered before classifying the ontology.
+	 */
+	@Test
+	public void testTinyOntology6() {
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		IntegerOntologyObjectFactory factory = new IntegerOntologyObjectFactoryImpl();
+
+		Set<ComplexIntegerAxiom> ontology = new HashSet<>();
+		IntegerClass a = createNewClass(factory, "A");
+		IntegerClass b = createNewClass(factory, "B");
+		IntegerClass c = createNewClass(factory, "C");
+		IntegerClass d = createNewClass(factory, "D");
+		IntegerClass e = createNewClass(factory, "E");
+		IntegerClass f = createNewClass(factory, "F");
+		IntegerClass g = createNewClass(factory, "G");
+		IntegerObjectProperty r = createNewObjectProperty(factory, "r");
+		IntegerObjectProperty s = createNewObjectProperty(factory, "s");
+
+		// 1
+		ontology.add(factory.getComplexAxiomFactory().createSubClassOfAxiom(a,
+				factory.getDataTypeFactory().createObjectSomeValuesFrom(r, a), annotations));
+
+		// 2
+		ontology.add(factory.getComplexAxiomFactory().createSubClassOfAxiom(a, b, annotations));
+
+		// 3
+		ontology.add(factory.getComplexAxiomFactory().createSubObjectPropertyOfAxiom(r, s, annotations));
+
+		// 4
+		ontology.add(factory.getComplexAxiomFactory()
+				.createSubClassOfAxiom(factory.getDataTypeFactory().createObjectSomeValuesFrom(s, b), c, annotations));
+
+		// 5
+		ontology.add(factory.getComplexAxiomFactory().createSubClassOfAxiom(d, e, annotations));
+
+		// 6
+		ontology.add(factory.getComplexAxiomFactory().createSubClassOfAxiom(f,
+				factory.getDataTypeFactory().getBottomClass(), annotations));
+
+		// 7
+		ontology.add(factory.getComplexAxiomFactory().createSubClassOfAxiom(g, f, annotations));
+
+		RuleBasedReasoner reasoner = new RuleBasedReasoner(ontology, factory);
+
+		Set<IntegerClass> superClassesOfA = flatten(reasoner.getSuperClasses(a, false));
+		Assertions.assertTrue(superClassesOfA.contains(c));
+		Assertions.assertFalse(superClassesOfA.contains(e));
+		Assertions.assertFalse(reasoner.isClassified());
+
+		Set<IntegerClass> equivalentsOfF = reasoner.getEquivalentClasses(f);
+		Assertions.assertTrue(equivalentsOfF.contains(g));
+
+		verifyBottomAndTop(factory, reasoner);
+	}
+
+	/**
+	 * <ol>
+	 * <li>A \u2261 B \u2293 C</li>
+	 * </ol>
+	 * A query about a complex class expression after a query about a class
+	 * needs to discard the module of the class, since the auxiliary class for
+	 * the class expression becomes equivalent to it.
+	 */
+	@Test
+	public void testTinyOntology7() {
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		IntegerOntologyObjectFactory factory = new IntegerOntologyObjectFactoryImpl();
+
+		Set<ComplexIntegerAxiom> ontology = new HashSet<>();
+		IntegerClass a = createNewClass(factory, "A");
+		IntegerClass b = createNewClass(factory, "B");
+		IntegerClass c = createNewClass(factory, "C");
+
+		Set<IntegerClassExpression> operands = new HashSet<>();
+		operands.add(b);
+		operands.add(c);
+		IntegerClassExpression intersection = factory.getDataTypeFactory().createObjectIntersectionOf(operands);
+		Set<IntegerClassExpression> equivalents = new HashSet<>();
+		equivalents.add(a);
+		equivalents.add(intersection);
+
+		// 1
+		ontology.add(factory.getComplexAxiomFactory().createEquivalentClassesAxiom(equivalents, annotations));
+
+		RuleBasedReasoner reasoner = new RuleBasedReasoner(ontology, factory);
+
+		Assertions.assertEquals(Collections.singleton(a), reasoner.getEquivalentClasses(a));
+
+		Set<IntegerClass> equivalentsOfIntersection = reasoner.getEquivalentClasses(intersection);
+		Assertions.assertTrue(equivalentsOfIntersection.contains(a));
+		IntegerClass auxClass = reasoner.flattenClassExpression(intersection);
+
+		Set<IntegerClass> equivalentsOfA = reasoner.getEquivalentClasses(a);
+		Assertions.assertTrue(equivalentsOfA.contains(auxClass));
+		Assertions.assertEquals(equivalentsOfIntersection, equivalentsOfA);
+		Assertions.assertFalse(reasoner.isClassified());
+
+		verifyBottomAndTop(factory, reasoner);
+	}
+
 	private void verifyBottomAndTop(IntegerOntologyObjectFactory factory, IntegerReasoner reasoner) {
 
 		IntegerClass top = factory.getDataTypeFactory().getTopClass();
@@ -0,0 +1,217 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.reasoner.module;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.tudresden.inf.lat.jcel.core.algorithm.common.Processor;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactory;
+import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactoryImpl;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerClass;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerObjectProperty;
+
+/**
+ * Tests for the class module processor.
+ * 
+ * @see ClassModuleProcessor
+ * 
+ * @author Julian Mendez
+ */
+public class ClassModuleProcessorTest {
+
+	/**
+	 * An object of this class creates rule-based processors and records the
+	 * base axioms given for each module.
+	 */
+	private static class RecordingProcessorFactory implements ModuleProcessorFactory {
+
+		private final List<Set<ComplexIntegerAxiom>> baseAxiomSets = new ArrayList<>();
+		private final RuleBasedModuleProcessorFactory processorFactory;
+
+		RecordingProcessorFactory(IntegerOntologyObjectFactory factory) {
+			this.processorFactory = new RuleBasedModuleProcessorFactory(factory);
+		}
+
+		@Override
+		public Processor createProcessor(Set<ComplexIntegerAxiom> axioms) {
+			return this.processorFactory.createProcessor(axioms);
+		}
+
+		@Override
+		public Processor createProcessor(Set<ComplexIntegerAxiom> baseAxioms, Set<ComplexIntegerAxiom> axioms) {
+			synchronized (this.baseAxiomSets) {
+				this.baseAxiomSets.add(baseAxioms);
+			}
+			return this.processorFactory.createProcessor(baseAxioms, axioms);
+		}
+
+		List<Set<ComplexIntegerAxiom>> getBaseAxiomSets() {
+			return this.baseAxiomSets;
+		}
+
+	}
+
+	/**
+	 * Constructs a new set of tests for the class module processor.
+	 */
+	public ClassModuleProcessorTest() {
+	}
+
+	private void classify(Processor processor) {
+		while (processor.process()) {
+		}
+	}
+
+	private IntegerClass createNewClass(IntegerOntologyObjectFactory factory, String name) {
+		return factory.getDataTypeFactory()
+				.createClass(factory.getEntityManager().createNamedEntity(IntegerEntityType.CLASS, name, false));
+	}
+
+	private IntegerObjectProperty createNewObjectProperty(IntegerOntologyObjectFactory factory, String name) {
+		return factory.getDataTypeFactory().createObjectProperty(
+				factory.getEntityManager().createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, name, false));
+	}
+
+	/**
+	 * <ol>
+	 * <li>V \u2291 U ,</li>
+	 * <li>&exist; r <i>.</i> V \u2291 W ,</li>
+	 * <li>A1 \u2291 V ,</li>
+	 * <li>A2 \u2291 A1 ,</li>
+	 * <li>B1 \u2291 V ,</li>
+	 * <li>B2 \u2291 &exist; r <i>.</i> B1</li>
+	 * </ol>
+	 * &vDash;
+	 * <ul>
+	 * <li>A2 \u2291 U ,</li>
+	 * <li>B2 \u2291 W</li>
+	 * </ul>
+	 * With U and V as upper-level classes, the axioms 1 and 2 are the base
+	 * layer, and A1 and B1 are in different modules. Without upper-level
+	 * classes, the base layer is empty and V joins both modules.
+	 */
+	@Test
+	public void testUpperLevelClasses() {
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		IntegerOntologyObjectFactory factory = new IntegerOntologyObjectFactoryImpl();
+
+		IntegerClass u = createNewClass(factory, "U");
+		IntegerClass v = createNewClass(factory, "V");
+		IntegerClass w = createNewClass(factory, "W");
+		IntegerClass a1 = createNewClass(factory, "A1");
+		IntegerClass a2 = createNewClass(factory, "A2");
+		IntegerClass b1 = createNewClass(factory, "B1");
+		IntegerClass b2 = createNewClass(factory, "B2");
+		IntegerObjectProperty r = createNewObjectProperty(factory, "r");
+
+		Set<ComplexIntegerAxiom> ontology = new HashSet<>();
+
+		// 1
+		ComplexIntegerAxiom axiom1 = factory.getComplexAxiomFactory().createSubClassOfAxiom(v, u, annotations);
+		ontology.add(axiom1);
+
+		// 2
+		ComplexIntegerAxiom axiom2 = factory.getComplexAxiomFactory().createSubClassOfAxiom(
+				factory.getDataTypeFactory().createObjectSomeValuesFrom(r, v), w, annotations);
+		ontology.add(axiom2);
+
+		// 3
+		ontology.add(factory.getComplexAxiomFactory().createSubClassOfAxiom(a1, v, annotations));
+
+		// 4
+		ontology.add(factory.getComplexAxiomFactory().createSubClassOfAxiom(a2, a1, annotations));
+
+		// 5
+		ontology.add(factory.getComplexAxiomFactory().createSubClassOfAxiom(b1, v, annotations));
+
+		// 6
+		ontology.add(factory.getComplexAxiomFactory().createSubClassOfAxiom(b2,
+				factory.getDataTypeFactory().createObjectSomeValuesFrom(r, b1), annotations));
+
+		Set<Integer> upperLevelClasses = new HashSet<>();
+		upperLevelClasses.add(u.getId());
+		upperLevelClasses.add(v.getId());
+		RecordingProcessorFactory processorFactory = new RecordingProcessorFactory(factory);
+		ClassModuleProcessor processor = new ClassModuleProcessor(ontology, factory, processorFactory, 2,
+				upperLevelClasses);
+		classify(processor);
+
+		Assertions.assertTrue(processor.getClassHierarchy().getAncestors(a2.getId()).contains(u.getId()));
+		Assertions.assertTrue(processor.getClassHierarchy().getAncestors(b2.getId()).contains(w.getId()));
+		Assertions.assertFalse(processor.getClassHierarchy().getAncestors(a2.getId()).contains(w.getId()));
+
+		Assertions.assertEquals(2, processorFactory.getBaseAxiomSets().size());
+		processorFactory.getBaseAxiomSets().forEach(baseAxioms -> {
+			Assertions.assertTrue(baseAxioms.contains(axiom1));
+			Assertions.assertTrue(baseAxioms.contains(axiom2));
+		});
+
+		RecordingProcessorFactory otherProcessorFactory = new RecordingProcessorFactory(factory);
+		ClassModuleProcessor otherProcessor = new ClassModuleProcessor(ontology, factory, otherProcessorFactory, 2,
+				Collections.emptySet());
+		classify(otherProcessor);
+
+		Assertions.assertEquals(0, otherProcessorFactory.getBaseAxiomSets().size());
+		Set<Integer> classes = new HashSet<>();
+		ontology.forEach(axiom -> classes.addAll(axiom.getClassesInSignature()));
+		classes.forEach(classId -> Assertions.assertEquals(
+				otherProcessor.getClassHierarchy().getAncestors(classId),
+				processor.getClassHierarchy().getAncestors(classId)));
+	}
+
+}
@@ -0,0 +1,253 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package de.tudresden.inf.lat.jcel.reasoner.module;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiomFactory;
+import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactory;
+import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactoryImpl;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerClass;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerDataTypeFactory;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerObjectProperty;
+
+/**
+ * Tests for the module processor.
+ * 
+ * @see ModuleProcessor
+ * 
+ * @author Julian Mendez
+ */
+public class ModuleProcessorTest {
+
+	/**
+	 * Constructs a new set of tests for the module processor.
+	 */
+	public ModuleProcessorTest() {
+	}
+
+	private boolean containsAnyClass(Set<Integer> a, Set<Integer> b) {
+		return b.stream()
+				.filter(elem -> (!elem.equals(IntegerEntityManager.bottomClassId)
+						&& !elem.equals(IntegerEntityManager.topClassId))) //
+				.anyMatch(elem -> a.contains(elem));
+	}
+
+	private boolean containsAnyProperty(Set<Integer> a, Set<Integer> b) {
+		return b.stream()
+				.filter(elem -> (!elem.equals(IntegerEntityManager.bottomObjectPropertyId)
+						&& !elem.equals(IntegerEntityManager.topObjectPropertyId))) //
+				.anyMatch(elem -> a.contains(elem));
+	}
+
+	private IntegerClass createNewClass(IntegerOntologyObjectFactory factory, String name) {
+		return factory.getDataTypeFactory()
+				.createClass(factory.getEntityManager().createNamedEntity(IntegerEntityType.CLASS, name, false));
+	}
+
+	private IntegerObjectProperty createNewObjectProperty(IntegerOntologyObjectFactory factory, String name) {
+		return factory.getDataTypeFactory().createObjectProperty(
+				factory.getEntityManager().createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, name, false));
+	}
+
+	/**
+	 * Divides a set of axioms in subsets that have disjoint sets of classes and
+	 * properties, growing one subset at a time until no other axiom shares a
+	 * symbol with it. This is the algorithm that the module processor used
+	 * before the union-find partition.
+	 * 
+	 * @param axiomSet
+	 *            the set of axioms
+	 * @return the subsets with disjoint symbols
+	 */
+	private List<Set<ComplexIntegerAxiom>> findModulesOneByOne(Set<ComplexIntegerAxiom> axiomSet) {
+		List<Set<ComplexIntegerAxiom>> ret = new ArrayList<>();
+		Set<ComplexIntegerAxiom> toBeGrouped = new HashSet<>();
+		toBeGrouped.addAll(axiomSet);
+		while (!toBeGrouped.isEmpty()) {
+			ComplexIntegerAxiom firstAxiom = toBeGrouped.iterator().next();
+			toBeGrouped.remove(firstAxiom);
+			Set<ComplexIntegerAxiom> group = new HashSet<>();
+			group.add(firstAxiom);
+
+			Set<Integer> classSet = new HashSet<>();
+			classSet.addAll(firstAxiom.getClassesInSignature());
+			Set<Integer> propertySet = new HashSet<>();
+			propertySet.addAll(firstAxiom.getObjectPropertiesInSignature());
+
+			boolean found = true;
+			while (found) {
+				found = false;
+				Set<ComplexIntegerAxiom> toVisit = new HashSet<>();
+				toVisit.addAll(toBeGrouped);
+				for (ComplexIntegerAxiom currentAxiom : toVisit) {
+					Set<Integer> classesInSignature = currentAxiom.getClassesInSignature();
+					Set<Integer> propertiesInSignature = currentAxiom.getObjectPropertiesInSignature();
+					if (containsAnyClass(classSet, classesInSignature)
+							|| containsAnyProperty(propertySet, propertiesInSignature)) {
+						toBeGrouped.remove(currentAxiom);
+						propertySet.addAll(propertiesInSignature);
+						classSet.addAll(classesInSignature);
+						group.add(currentAxiom);
+						found = true;
+					}
+				}
+			}
+			ret.add(group);
+		}
+		return ret;
+	}
+
+	/**
+	 * <ol>
+	 * <li>A \u2291 &exist; r <i>.</i> B ,</li>
+	 * <li>C \u2291 &exist; r <i>.</i> D ,</li>
+	 * <li>D \u2291 E ,</li>
+	 * <li>&exist; s <i>.</i> F \u2291 G ,</li>
+	 * <li>H \u2291 &exist; s <i>.</i> I ,</li>
+	 * <li>s is transitive ,</li>
+	 * <li>t \u2291 u ,</li>
+	 * <li>J \u2291 &exist; u <i>.</i> K ,</li>
+	 * <li>v \u2218 w \u2291 t ,</li>
+	 * <li>L \u2291 &exist; w <i>.</i> M ,</li>
+	 * <li>N \u2291 \u22A5 ,</li>
+	 * <li>O \u2291 \u22A5 ,</li>
+	 * <li>\u22A4 \u2291 P ,</li>
+	 * <li>\u22A5 \u2291 \u22A4</li>
+	 * </ol>
+	 * The axioms that only share an object property are in the same module,
+	 * and the top and bottom classes do not join modules. The partition is the
+	 * same as the one found by growing one module at a time, also in the
+	 * order of the modules.
+	 */
+	@Test
+	public void testPartitionWithSharedProperties() {
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		IntegerOntologyObjectFactory factory = new IntegerOntologyObjectFactoryImpl();
+		IntegerDataTypeFactory dataTypeFactory = factory.getDataTypeFactory();
+		ComplexIntegerAxiomFactory axiomFactory = factory.getComplexAxiomFactory();
+
+		IntegerClass a = createNewClass(factory, "A");
+		IntegerClass b = createNewClass(factory, "B");
+		IntegerClass c = createNewClass(factory, "C");
+		IntegerClass d = createNewClass(factory, "D");
+		IntegerClass e = createNewClass(factory, "E");
+		IntegerClass f = createNewClass(factory, "F");
+		IntegerClass g = createNewClass(factory, "G");
+		IntegerClass h = createNewClass(factory, "H");
+		IntegerClass i = createNewClass(factory, "I");
+		IntegerClass j = createNewClass(factory, "J");
+		IntegerClass k = createNewClass(factory, "K");
+		IntegerClass l = createNewClass(factory, "L");
+		IntegerClass m = createNewClass(factory, "M");
+		IntegerClass n = createNewClass(factory, "N");
+		IntegerClass o = createNewClass(factory, "O");
+		IntegerClass p = createNewClass(factory, "P");
+		IntegerObjectProperty r = createNewObjectProperty(factory, "r");
+		IntegerObjectProperty s = createNewObjectProperty(factory, "s");
+		IntegerObjectProperty t = createNewObjectProperty(factory, "t");
+		IntegerObjectProperty u = createNewObjectProperty(factory, "u");
+		IntegerObjectProperty v = createNewObjectProperty(factory, "v");
+		IntegerObjectProperty w = createNewObjectProperty(factory, "w");
+		IntegerClass bottom = dataTypeFactory.getBottomClass();
+		IntegerClass top = dataTypeFactory.getTopClass();
+
+		Set<ComplexIntegerAxiom> module1 = new HashSet<>();
+		module1.add(axiomFactory.createSubClassOfAxiom(a, dataTypeFactory.createObjectSomeValuesFrom(r, b),
+				annotations));
+		module1.add(axiomFactory.createSubClassOfAxiom(c, dataTypeFactory.createObjectSomeValuesFrom(r, d),
+				annotations));
+		module1.add(axiomFactory.createSubClassOfAxiom(d, e, annotations));
+
+		Set<ComplexIntegerAxiom> module2 = new HashSet<>();
+		module2.add(axiomFactory.createSubClassOfAxiom(dataTypeFactory.createObjectSomeValuesFrom(s, f), g,
+				annotations));
+		module2.add(axiomFactory.createSubClassOfAxiom(h, dataTypeFactory.createObjectSomeValuesFrom(s, i),
+				annotations));
+		module2.add(axiomFactory.createTransitiveObjectPropertyAxiom(s, annotations));
+
+		Set<ComplexIntegerAxiom> module3 = new HashSet<>();
+		module3.add(axiomFactory.createSubObjectPropertyOfAxiom(t, u, annotations));
+		module3.add(axiomFactory.createSubClassOfAxiom(j, dataTypeFactory.createObjectSomeValuesFrom(u, k),
+				annotations));
+		module3.add(axiomFactory.createSubPropertyChainOfAxiom(Arrays.asList(v, w), t, annotations));
+		module3.add(axiomFactory.createSubClassOfAxiom(l, dataTypeFactory.createObjectSomeValuesFrom(w, m),
+				annotations));
+
+		Set<ComplexIntegerAxiom> ontology = new HashSet<>();
+		ontology.addAll(module1);
+		ontology.addAll(module2);
+		ontology.addAll(module3);
+		ontology.add(axiomFactory.createSubClassOfAxiom(n, bottom, annotations));
+		ontology.add(axiomFactory.createSubClassOfAxiom(o, bottom, annotations));
+		ontology.add(axiomFactory.createSubClassOfAxiom(top, p, annotations));
+		ontology.add(axiomFactory.createSubClassOfAxiom(bottom, top, annotations));
+
+		List<Set<ComplexIntegerAxiom>> modules = ModuleProcessor.findModules(ontology);
+		Assertions.assertEquals(findModulesOneByOne(ontology), modules);
+
+		Assertions.assertEquals(7, modules.size());
+		Assertions.assertTrue(modules.contains(module1));
+		Assertions.assertTrue(modules.contains(module2));
+		Assertions.assertTrue(modules.contains(module3));
+		Set<ComplexIntegerAxiom> union = new HashSet<>();
+		modules.forEach(module -> union.addAll(module));
+		Assertions.assertEquals(ontology, union);
+	}
+
+}
@@ -0,0 +1,199 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.reasoner.module;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.tudresden.inf.lat.jcel.core.algorithm.common.Processor;
+import de.tudresden.inf.lat.jcel.core.algorithm.rulebased.RuleBasedProcessor;
+import de.tudresden.inf.lat.jcel.core.algorithm.rulebased.SaturatedLayer;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.OntologyExpressivity;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.extension.ComplexAxiomExpressivityDetector;
+import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactory;
+import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactoryImpl;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerClass;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerObjectProperty;
+
+/**
+ * Tests for the factory of rule-based processors for modules.
+ * 
+ * @see RuleBasedModuleProcessorFactory
+ * 
+ * @author Julian Mendez
+ */
+public class RuleBasedModuleProcessorFactoryTest {
+
+	/**
+	 * Constructs a new set of tests for the factory of rule-based processors
+	 * for modules.
+	 */
+	public RuleBasedModuleProcessorFactoryTest() {
+	}
+
+	private IntegerClass createNewClass(IntegerOntologyObjectFactory factory, String name) {
+		return factory.getDataTypeFactory()
+				.createClass(factory.getEntityManager().createNamedEntity(IntegerEntityType.CLASS, name, false));
+	}
+
+	private IntegerObjectProperty createNewObjectProperty(IntegerOntologyObjectFactory factory, String name) {
+		return factory.getDataTypeFactory().createObjectProperty(
+				factory.getEntityManager().createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, name, false));
+	}
+
+	private String getChainS(RuleBasedProcessor processor) {
+		return processor.getConfigurationInfo().stream().filter(entry -> entry.getKey().equals("chain S"))
+				.map(Map.Entry::getValue).findFirst().get();
+	}
+
+	/**
+	 * The base layer is reused for an equal copy of the base axioms, and it is
+	 * saturated again if the set that was given before is modified.
+	 */
+	@Test
+	public void testBaseLayerCache() {
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		IntegerOntologyObjectFactory factory = new IntegerOntologyObjectFactoryImpl();
+
+		IntegerClass a = createNewClass(factory, "A");
+		IntegerClass b = createNewClass(factory, "B");
+		IntegerClass c = createNewClass(factory, "C");
+		IntegerObjectProperty r = createNewObjectProperty(factory, "r");
+
+		Set<ComplexIntegerAxiom> baseAxioms = new HashSet<>();
+		baseAxioms.add(factory.getComplexAxiomFactory().createSubClassOfAxiom(a,
+				factory.getDataTypeFactory().createObjectSomeValuesFrom(r, b), annotations));
+		OntologyExpressivity expressivity = new ComplexAxiomExpressivityDetector(baseAxioms);
+
+		RuleBasedModuleProcessorFactory processorFactory = new RuleBasedModuleProcessorFactory(factory);
+		SaturatedLayer layer = processorFactory.getBaseLayer(baseAxioms, expressivity);
+		Assertions.assertSame(layer, processorFactory.getBaseLayer(new HashSet<>(baseAxioms), expressivity));
+
+		baseAxioms.add(factory.getComplexAxiomFactory().createSubClassOfAxiom(b, c, annotations));
+		SaturatedLayer otherLayer = processorFactory.getBaseLayer(baseAxioms, expressivity);
+		Assertions.assertNotSame(layer, otherLayer);
+		Assertions.assertTrue(otherLayer.getClasses().contains(c.getId()));
+	}
+
+	/**
+	 * <ol>
+	 * <li>A \u2291 B ,</li>
+	 * <li>B \u2291 C ,</li>
+	 * <li>D \u2291 &exist; r<sup>-</sup> <i>.</i> E ,</li>
+	 * <li>&exist; r<sup>-</sup> <i>.</i> E \u2291 F</li>
+	 * </ol>
+	 * &vDash;
+	 * <ul>
+	 * <li>A \u2291 C</li>
+	 * <li>D \u2291 F</li>
+	 * </ul>
+	 * Only the module with the inverse object property uses the extended
+	 * completion rules.
+	 */
+	@Test
+	public void testRuleChainPerModule() {
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		IntegerOntologyObjectFactory factory = new IntegerOntologyObjectFactoryImpl();
+
+		IntegerClass a = createNewClass(factory, "A");
+		IntegerClass b = createNewClass(factory, "B");
+		IntegerClass c = createNewClass(factory, "C");
+		IntegerClass d = createNewClass(factory, "D");
+		IntegerClass e = createNewClass(factory, "E");
+		IntegerClass f = createNewClass(factory, "F");
+		IntegerObjectProperty r = createNewObjectProperty(factory, "r");
+
+		Set<ComplexIntegerAxiom> ontology = new HashSet<>();
+
+		// 1
+		ontology.add(factory.getComplexAxiomFactory().createSubClassOfAxiom(a, b, annotations));
+
+		// 2
+		ontology.add(factory.getComplexAxiomFactory().createSubClassOfAxiom(b, c, annotations));
+
+		// 3
+		ontology.add(factory.getComplexAxiomFactory().createSubClassOfAxiom(d, factory.getDataTypeFactory()
+				.createObjectSomeValuesFrom(factory.getDataTypeFactory().createObjectInverseOf(r), e), annotations));
+
+		// 4
+		ontology.add(factory.getComplexAxiomFactory().createSubClassOfAxiom(factory.getDataTypeFactory()
+				.createObjectSomeValuesFrom(factory.getDataTypeFactory().createObjectInverseOf(r), e), f, annotations));
+
+		List<RuleBasedProcessor> processors = new ArrayList<>();
+		RuleBasedModuleProcessorFactory processorFactory = new RuleBasedModuleProcessorFactory(factory);
+		ModuleProcessor processor = new ModuleProcessor(ontology, axioms -> {
+			Processor ret = processorFactory.createProcessor(axioms);
+			synchronized (processors) {
+				processors.add((RuleBasedProcessor) ret);
+			}
+			return ret;
+		}, 1);
+		while (processor.process()) {
+		}
+
+		Assertions.assertTrue(processor.getClassHierarchy().getAncestors(a.getId()).contains(c.getId()));
+		Assertions.assertTrue(processor.getClassHierarchy().getAncestors(d.getId()).contains(f.getId()));
+
+		Assertions.assertEquals(2, processors.size());
+		long extendedChains = processors.stream().filter(current -> getChainS(current).contains("CR3SExtRule"))
+				.count();
+		long basicChains = processors.stream().filter(current -> getChainS(current).contains("CR3SRule")).count();
+		Assertions.assertEquals(1, extendedChains);
+		Assertions.assertEquals(1, basicChains);
+	}
+
+}
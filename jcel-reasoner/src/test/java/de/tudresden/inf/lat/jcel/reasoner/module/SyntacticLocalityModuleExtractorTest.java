@@ -0,0 +1,204 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.reasoner.module;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactory;
+import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactoryImpl;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerClass;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerObjectProperty;
+
+/**
+ * Tests for the syntactic locality module extractor.
+ * 
+ * @see SyntacticLocalityModuleExtractor
+ * 
+ * @author Julian Mendez
+ */
+public class SyntacticLocalityModuleExtractorTest {
+
+	private final Set<IntegerAnnotation> annotations = new TreeSet<>();
+	private final IntegerOntologyObjectFactory factory = new IntegerOntologyObjectFactoryImpl();
+
+	/**
+	 * Constructs a new set of tests for the syntactic locality module
+	 * extractor.
+	 */
+	public SyntacticLocalityModuleExtractorTest() {
+	}
+
+	private IntegerClass createNewClass(String name) {
+		return this.factory.getDataTypeFactory()
+				.createClass(this.factory.getEntityManager().createNamedEntity(IntegerEntityType.CLASS, name, false));
+	}
+
+	private IntegerObjectProperty createNewObjectProperty(String name) {
+		return this.factory.getDataTypeFactory().createObjectProperty(
+				this.factory.getEntityManager().createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, name, false));
+	}
+
+	/**
+	 * <ol>
+	 * <li>A \u2291 B ,</li>
+	 * <li>B \u2291 C ,</li>
+	 * <li>D \u2291 E ,</li>
+	 * <li>&exist; r <i>.</i> D \u2291 A</li>
+	 * </ol>
+	 * The &perp;-module for A has axioms 1 and 2.
+	 */
+	@Test
+	public void testBottomModule() {
+		IntegerClass a = createNewClass("A");
+		IntegerClass b = createNewClass("B");
+		IntegerClass c = createNewClass("C");
+		IntegerClass d = createNewClass("D");
+		IntegerClass e = createNewClass("E");
+		IntegerObjectProperty r = createNewObjectProperty("r");
+
+		ComplexIntegerAxiom axiom1 = this.factory.getComplexAxiomFactory().createSubClassOfAxiom(a, b,
+				this.annotations);
+		ComplexIntegerAxiom axiom2 = this.factory.getComplexAxiomFactory().createSubClassOfAxiom(b, c,
+				this.annotations);
+		ComplexIntegerAxiom axiom3 = this.factory.getComplexAxiomFactory().createSubClassOfAxiom(d, e,
+				this.annotations);
+		ComplexIntegerAxiom axiom4 = this.factory.getComplexAxiomFactory().createSubClassOfAxiom(
+				this.factory.getDataTypeFactory().createObjectSomeValuesFrom(r, d), a, this.annotations);
+
+		Set<ComplexIntegerAxiom> ontology = new HashSet<>();
+		ontology.add(axiom1);
+		ontology.add(axiom2);
+		ontology.add(axiom3);
+		ontology.add(axiom4);
+
+		Set<ComplexIntegerAxiom> expected = new HashSet<>();
+		expected.add(axiom1);
+		expected.add(axiom2);
+
+		SyntacticLocalityModuleExtractor extractor = new SyntacticLocalityModuleExtractor();
+		Assertions.assertEquals(expected, extractor.extractModule(ontology, Collections.singleton(a.getId())));
+	}
+
+	/**
+	 * <ol>
+	 * <li>A \u2291 B ,</li>
+	 * <li>B \u2291 &exist; r <i>.</i> C ,</li>
+	 * <li>r \u2291 s</li>
+	 * </ol>
+	 * The &perp;-module for {A, B} has all the axioms, and the
+	 * &#8868;&perp;*-module for {A, B} only has axiom 1.
+	 */
+	@Test
+	public void testTopBottomStarModule() {
+		IntegerClass a = createNewClass("A");
+		IntegerClass b = createNewClass("B");
+		IntegerClass c = createNewClass("C");
+		IntegerObjectProperty r = createNewObjectProperty("r");
+		IntegerObjectProperty s = createNewObjectProperty("s");
+
+		ComplexIntegerAxiom axiom1 = this.factory.getComplexAxiomFactory().createSubClassOfAxiom(a, b,
+				this.annotations);
+		ComplexIntegerAxiom axiom2 = this.factory.getComplexAxiomFactory().createSubClassOfAxiom(b,
+				this.factory.getDataTypeFactory().createObjectSomeValuesFrom(r, c), this.annotations);
+		ComplexIntegerAxiom axiom3 = this.factory.getComplexAxiomFactory().createSubObjectPropertyOfAxiom(r, s,
+				this.annotations);
+
+		Set<ComplexIntegerAxiom> ontology = new HashSet<>();
+		ontology.add(axiom1);
+		ontology.add(axiom2);
+		ontology.add(axiom3);
+
+		Set<Integer> signature = new HashSet<>();
+		signature.add(a.getId());
+		signature.add(b.getId());
+
+		SyntacticLocalityModuleExtractor bottomExtractor = new SyntacticLocalityModuleExtractor(
+				LocalityModuleType.BOTTOM);
+		Assertions.assertEquals(ontology, bottomExtractor.extractModule(ontology, signature));
+
+		SyntacticLocalityModuleExtractor starExtractor = new SyntacticLocalityModuleExtractor(
+				LocalityModuleType.TOP_BOTTOM_STAR);
+		Assertions.assertEquals(Collections.singleton(axiom1), starExtractor.extractModule(ontology, signature));
+	}
+
+	/**
+	 * <ol>
+	 * <li>\u22A4 \u2291 A ,</li>
+	 * <li>B \u2291 C</li>
+	 * </ol>
+	 * The &perp;-module for an empty signature has axiom 1.
+	 */
+	@Test
+	public void testTopClassInSubClass() {
+		IntegerClass a = createNewClass("A");
+		IntegerClass b = createNewClass("B");
+		IntegerClass c = createNewClass("C");
+
+		ComplexIntegerAxiom axiom1 = this.factory.getComplexAxiomFactory()
+				.createSubClassOfAxiom(this.factory.getDataTypeFactory().getTopClass(), a, this.annotations);
+		ComplexIntegerAxiom axiom2 = this.factory.getComplexAxiomFactory().createSubClassOfAxiom(b, c,
+				this.annotations);
+
+		Set<ComplexIntegerAxiom> ontology = new HashSet<>();
+		ontology.add(axiom1);
+		ontology.add(axiom2);
+
+		SyntacticLocalityModuleExtractor extractor = new SyntacticLocalityModuleExtractor();
+		Assertions.assertEquals(Collections.singleton(axiom1),
+				extractor.extractModule(ontology, Collections.emptySet()));
+	}
+
+}